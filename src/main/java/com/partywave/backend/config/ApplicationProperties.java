@@ -13,12 +13,54 @@ public class ApplicationProperties {
 
     private final Liquibase liquibase = new Liquibase();
 
+    private final Playback playback = new Playback();
+
+    private final Events events = new Events();
+
+    private final Auth auth = new Auth();
+
+    private final Spotify spotify = new Spotify();
+
+    private final Room room = new Room();
+
+    private final Chat chat = new Chat();
+
+    private final RateLimit rateLimit = new RateLimit();
+
     // jhipster-needle-application-properties-property
 
     public Liquibase getLiquibase() {
         return liquibase;
     }
 
+    public Playback getPlayback() {
+        return playback;
+    }
+
+    public Events getEvents() {
+        return events;
+    }
+
+    public Auth getAuth() {
+        return auth;
+    }
+
+    public Spotify getSpotify() {
+        return spotify;
+    }
+
+    public Room getRoom() {
+        return room;
+    }
+
+    public Chat getChat() {
+        return chat;
+    }
+
+    public RateLimit getRateLimit() {
+        return rateLimit;
+    }
+
     // jhipster-needle-application-properties-property-getter
 
     public static class Liquibase {
@@ -33,5 +75,569 @@ public class ApplicationProperties {
             this.asyncStart = asyncStart;
         }
     }
+
+    public static class Playback {
+
+        private final AutoAdvance autoAdvance = new AutoAdvance();
+
+        private final Sync sync = new Sync();
+
+        public AutoAdvance getAutoAdvance() {
+            return autoAdvance;
+        }
+
+        public Sync getSync() {
+            return sync;
+        }
+
+        public static class AutoAdvance {
+
+            private boolean enabled = true;
+
+            private long pollIntervalMs = 250;
+
+            private int batchSize = 500;
+
+            private long leaseMs = 10000;
+
+            private int workerThreads = 8;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public long getPollIntervalMs() {
+                return pollIntervalMs;
+            }
+
+            public void setPollIntervalMs(long pollIntervalMs) {
+                this.pollIntervalMs = pollIntervalMs;
+            }
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public long getLeaseMs() {
+                return leaseMs;
+            }
+
+            public void setLeaseMs(long leaseMs) {
+                this.leaseMs = leaseMs;
+            }
+
+            public int getWorkerThreads() {
+                return workerThreads;
+            }
+
+            public void setWorkerThreads(int workerThreads) {
+                this.workerThreads = workerThreads;
+            }
+        }
+
+        public static class Sync {
+
+            private boolean enabled = true;
+
+            private int roomConcurrency = 16;
+
+            private int globalConcurrency = 128;
+
+            private long correctionThresholdMs = 250;
+
+            private int workerThreads = 8;
+
+            public boolean isEnabled() {
+                return enabled;
+            }
+
+            public void setEnabled(boolean enabled) {
+                this.enabled = enabled;
+            }
+
+            public int getRoomConcurrency() {
+                return roomConcurrency;
+            }
+
+            public void setRoomConcurrency(int roomConcurrency) {
+                this.roomConcurrency = roomConcurrency;
+            }
+
+            public int getGlobalConcurrency() {
+                return globalConcurrency;
+            }
+
+            public void setGlobalConcurrency(int globalConcurrency) {
+                this.globalConcurrency = globalConcurrency;
+            }
+
+            public long getCorrectionThresholdMs() {
+                return correctionThresholdMs;
+            }
+
+            public void setCorrectionThresholdMs(long correctionThresholdMs) {
+                this.correctionThresholdMs = correctionThresholdMs;
+            }
+
+            public int getWorkerThreads() {
+                return workerThreads;
+            }
+
+            public void setWorkerThreads(int workerThreads) {
+                this.workerThreads = workerThreads;
+            }
+        }
+    }
+
+    public static class Events {
+
+        private int localQueueCapacity = 10000;
+
+        private int dispatchBatchSize = 256;
+
+        public int getLocalQueueCapacity() {
+            return localQueueCapacity;
+        }
+
+        public void setLocalQueueCapacity(int localQueueCapacity) {
+            this.localQueueCapacity = localQueueCapacity;
+        }
+
+        public int getDispatchBatchSize() {
+            return dispatchBatchSize;
+        }
+
+        public void setDispatchBatchSize(int dispatchBatchSize) {
+            this.dispatchBatchSize = dispatchBatchSize;
+        }
+    }
+
+    public static class Auth {
+
+        private final UserCache userCache = new UserCache();
+
+        private final TokenCache tokenCache = new TokenCache();
+
+        public UserCache getUserCache() {
+            return userCache;
+        }
+
+        public TokenCache getTokenCache() {
+            return tokenCache;
+        }
+
+        public static class UserCache {
+
+            private long ttlSeconds = 30;
+
+            private long maximumSize = 10000;
+
+            public long getTtlSeconds() {
+                return ttlSeconds;
+            }
+
+            public void setTtlSeconds(long ttlSeconds) {
+                this.ttlSeconds = ttlSeconds;
+            }
+
+            public long getMaximumSize() {
+                return maximumSize;
+            }
+
+            public void setMaximumSize(long maximumSize) {
+                this.maximumSize = maximumSize;
+            }
+        }
+
+        public static class TokenCache {
+
+            private long maximumSize = 20000;
+
+            public long getMaximumSize() {
+                return maximumSize;
+            }
+
+            public void setMaximumSize(long maximumSize) {
+                this.maximumSize = maximumSize;
+            }
+        }
+    }
+
+    public static class Spotify {
+
+        private final Http http = new Http();
+
+        private final RateLimit rateLimit = new RateLimit();
+
+        private final SearchCache searchCache = new SearchCache();
+
+        private final TrackCatalog trackCatalog = new TrackCatalog();
+
+        public Http getHttp() {
+            return http;
+        }
+
+        public RateLimit getRateLimit() {
+            return rateLimit;
+        }
+
+        public SearchCache getSearchCache() {
+            return searchCache;
+        }
+
+        public TrackCatalog getTrackCatalog() {
+            return trackCatalog;
+        }
+
+        public static class Http {
+
+            private long connectTimeoutMs = 2000;
+
+            private long readTimeoutMs = 5000;
+
+            private int maxRetries = 2;
+
+            private long maxRetryAfterMs = 5000;
+
+            public long getConnectTimeoutMs() {
+                return connectTimeoutMs;
+            }
+
+            public void setConnectTimeoutMs(long connectTimeoutMs) {
+                this.connectTimeoutMs = connectTimeoutMs;
+            }
+
+            public long getReadTimeoutMs() {
+                return readTimeoutMs;
+            }
+
+            public void setReadTimeoutMs(long readTimeoutMs) {
+                this.readTimeoutMs = readTimeoutMs;
+            }
+
+            public int getMaxRetries() {
+                return maxRetries;
+            }
+
+            public void setMaxRetries(int maxRetries) {
+                this.maxRetries = maxRetries;
+            }
+
+            public long getMaxRetryAfterMs() {
+                return maxRetryAfterMs;
+            }
+
+            public void setMaxRetryAfterMs(long maxRetryAfterMs) {
+                this.maxRetryAfterMs = maxRetryAfterMs;
+            }
+        }
+
+        public static class RateLimit {
+
+            private double globalPermitsPerSecond = 50;
+
+            private int globalBurst = 100;
+
+            private double userPermitsPerSecond = 5;
+
+            private int userBurst = 10;
+
+            private long maxWaitMs = 2000;
+
+            public double getGlobalPermitsPerSecond() {
+                return globalPermitsPerSecond;
+            }
+
+            public void setGlobalPermitsPerSecond(double globalPermitsPerSecond) {
+                this.globalPermitsPerSecond = globalPermitsPerSecond;
+            }
+
+            public int getGlobalBurst() {
+                return globalBurst;
+            }
+
+            public void setGlobalBurst(int globalBurst) {
+                this.globalBurst = globalBurst;
+            }
+
+            public double getUserPermitsPerSecond() {
+                return userPermitsPerSecond;
+            }
+
+            public void setUserPermitsPerSecond(double userPermitsPerSecond) {
+                this.userPermitsPerSecond = userPermitsPerSecond;
+            }
+
+            public int getUserBurst() {
+                return userBurst;
+            }
+
+            public void setUserBurst(int userBurst) {
+                this.userBurst = userBurst;
+            }
+
+            public long getMaxWaitMs() {
+                return maxWaitMs;
+            }
+
+            public void setMaxWaitMs(long maxWaitMs) {
+                this.maxWaitMs = maxWaitMs;
+            }
+        }
+
+        public static class SearchCache {
+
+            private long localTtlSeconds = 30;
+
+            private long localMaximumSize = 5000;
+
+            private long redisTtlSeconds = 120;
+
+            public long getLocalTtlSeconds() {
+                return localTtlSeconds;
+            }
+
+            public void setLocalTtlSeconds(long localTtlSeconds) {
+                this.localTtlSeconds = localTtlSeconds;
+            }
+
+            public long getLocalMaximumSize() {
+                return localMaximumSize;
+            }
+
+            public void setLocalMaximumSize(long localMaximumSize) {
+                this.localMaximumSize = localMaximumSize;
+            }
+
+            public long getRedisTtlSeconds() {
+                return redisTtlSeconds;
+            }
+
+            public void setRedisTtlSeconds(long redisTtlSeconds) {
+                this.redisTtlSeconds = redisTtlSeconds;
+            }
+        }
+
+        public static class TrackCatalog {
+
+            private long localTtlSeconds = 3600;
+
+            private long localMaximumSize = 20000;
+
+            private long redisTtlSeconds = 604800;
+
+            public long getLocalTtlSeconds() {
+                return localTtlSeconds;
+            }
+
+            public void setLocalTtlSeconds(long localTtlSeconds) {
+                this.localTtlSeconds = localTtlSeconds;
+            }
+
+            public long getLocalMaximumSize() {
+                return localMaximumSize;
+            }
+
+            public void setLocalMaximumSize(long localMaximumSize) {
+                this.localMaximumSize = localMaximumSize;
+            }
+
+            public long getRedisTtlSeconds() {
+                return redisTtlSeconds;
+            }
+
+            public void setRedisTtlSeconds(long redisTtlSeconds) {
+                this.redisTtlSeconds = redisTtlSeconds;
+            }
+        }
+    }
+
+    public static class Room {
+
+        private final MembershipCache membershipCache = new MembershipCache();
+
+        public MembershipCache getMembershipCache() {
+            return membershipCache;
+        }
+
+        public static class MembershipCache {
+
+            private long localTtlSeconds = 10;
+
+            private long localMaximumSize = 50000;
+
+            private long redisTtlSeconds = 86400;
+
+            public long getLocalTtlSeconds() {
+                return localTtlSeconds;
+            }
+
+            public void setLocalTtlSeconds(long localTtlSeconds) {
+                this.localTtlSeconds = localTtlSeconds;
+            }
+
+            public long getLocalMaximumSize() {
+                return localMaximumSize;
+            }
+
+            public void setLocalMaximumSize(long localMaximumSize) {
+                this.localMaximumSize = localMaximumSize;
+            }
+
+            public long getRedisTtlSeconds() {
+                return redisTtlSeconds;
+            }
+
+            public void setRedisTtlSeconds(long redisTtlSeconds) {
+                this.redisTtlSeconds = redisTtlSeconds;
+            }
+        }
+    }
+
+    public static class Chat {
+
+        private final RecentMessages recentMessages = new RecentMessages();
+
+        private final Persistence persistence = new Persistence();
+
+        public RecentMessages getRecentMessages() {
+            return recentMessages;
+        }
+
+        public Persistence getPersistence() {
+            return persistence;
+        }
+
+        public static class RecentMessages {
+
+            private int capacity = 100;
+
+            private long ttlSeconds = 86400;
+
+            public int getCapacity() {
+                return capacity;
+            }
+
+            public void setCapacity(int capacity) {
+                this.capacity = capacity;
+            }
+
+            public long getTtlSeconds() {
+                return ttlSeconds;
+            }
+
+            public void setTtlSeconds(long ttlSeconds) {
+                this.ttlSeconds = ttlSeconds;
+            }
+        }
+
+        public static class Persistence {
+
+            private int batchSize = 500;
+
+            private long flushIntervalMs = 200;
+
+            private int maxBatchAttempts = 3;
+
+            public int getBatchSize() {
+                return batchSize;
+            }
+
+            public void setBatchSize(int batchSize) {
+                this.batchSize = batchSize;
+            }
+
+            public long getFlushIntervalMs() {
+                return flushIntervalMs;
+            }
+
+            public void setFlushIntervalMs(long flushIntervalMs) {
+                this.flushIntervalMs = flushIntervalMs;
+            }
+
+            public int getMaxBatchAttempts() {
+                return maxBatchAttempts;
+            }
+
+            public void setMaxBatchAttempts(int maxBatchAttempts) {
+                this.maxBatchAttempts = maxBatchAttempts;
+            }
+        }
+    }
+
+    public static class RateLimit {
+
+        private boolean localPreFilter = true;
+
+        private final Policy chat = new Policy(10, 60);
+
+        private final Policy vote = new Policy(20, 60);
+
+        private final Policy like = new Policy(60, 60);
+
+        private final Policy trackAdd = new Policy(20, 60);
+
+        public boolean isLocalPreFilter() {
+            return localPreFilter;
+        }
+
+        public void setLocalPreFilter(boolean localPreFilter) {
+            this.localPreFilter = localPreFilter;
+        }
+
+        public Policy getChat() {
+            return chat;
+        }
+
+        public Policy getVote() {
+            return vote;
+        }
+
+        public Policy getLike() {
+            return like;
+        }
+
+        public Policy getTrackAdd() {
+            return trackAdd;
+        }
+
+        public static class Policy {
+
+            private int limit;
+
+            private long periodSeconds;
+
+            public Policy() {}
+
+            public Policy(int limit, long periodSeconds) {
+                this.limit = limit;
+                this.periodSeconds = periodSeconds;
+            }
+
+            public int getLimit() {
+                return limit;
+            }
+
+            public void setLimit(int limit) {
+                this.limit = limit;
+            }
+
+            public long getPeriodSeconds() {
+                return periodSeconds;
+            }
+
+            public void setPeriodSeconds(long periodSeconds) {
+                this.periodSeconds = periodSeconds;
+            }
+        }
+    }
     // jhipster-needle-application-properties-property-class
 }
@@ -0,0 +1,86 @@
+package com.partywave.backend.config;
+
+import com.partywave.backend.security.websocket.WebSocketAuthChannelInterceptor;
+import com.partywave.backend.security.websocket.WebSocketTokenHandshakeInterceptor;
+import java.util.List;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.messaging.simp.config.ChannelRegistration;
+import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
+import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
+import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
+import tech.jhipster.config.JHipsterProperties;
+
+/**
+ * WebSocket (STOMP) configuration for real-time room events.
+ * Based on PROJECT_OVERVIEW.md section 3 and AUTHENTICATION.md section 3.
+ *
+ * - Endpoint: {@code /ws} (JWT via CONNECT "Authorization: Bearer" header or {@code ?token=})
+ * - Room events: {@code /topic/room/{roomId}} (members only)
+ *
+ * The in-memory broker runs on the servlet container's non-blocking WebSocket I/O (Undertow/XNIO).
+ * Per-session send limits keep slow consumers from buffering unbounded data, and heartbeats let
+ * dead connections be reclaimed without application threads per connection.
+ */
+@Configuration
+@EnableWebSocketMessageBroker
+public class WebsocketConfiguration implements WebSocketMessageBrokerConfigurer {
+
+    private static final long HEARTBEAT_INTERVAL_MS = 25000;
+    private static final int SEND_TIME_LIMIT_MS = 15 * 1000;
+    private static final int SEND_BUFFER_SIZE_LIMIT = 512 * 1024;
+    private static final int MESSAGE_SIZE_LIMIT = 64 * 1024;
+
+    private final JHipsterProperties jHipsterProperties;
+    private final WebSocketAuthChannelInterceptor webSocketAuthChannelInterceptor;
+
+    public WebsocketConfiguration(JHipsterProperties jHipsterProperties, WebSocketAuthChannelInterceptor webSocketAuthChannelInterceptor) {
+        this.jHipsterProperties = jHipsterProperties;
+        this.webSocketAuthChannelInterceptor = webSocketAuthChannelInterceptor;
+    }
+
+    @Override
+    public void registerStompEndpoints(StompEndpointRegistry registry) {
+        CorsConfiguration cors = jHipsterProperties.getCors();
+        registry
+            .addEndpoint("/ws")
+            .setAllowedOrigins(toArray(cors.getAllowedOrigins()))
+            .setAllowedOriginPatterns(toArray(cors.getAllowedOriginPatterns()))
+            .addInterceptors(new WebSocketTokenHandshakeInterceptor());
+    }
+
+    @Override
+    public void configureMessageBroker(MessageBrokerRegistry registry) {
+        ThreadPoolTaskScheduler heartbeatScheduler = new ThreadPoolTaskScheduler();
+        heartbeatScheduler.setPoolSize(1);
+        heartbeatScheduler.setThreadNamePrefix("partywave-ws-heartbeat-");
+        heartbeatScheduler.setDaemon(true);
+        heartbeatScheduler.initialize();
+
+        registry
+            .enableSimpleBroker("/topic")
+            .setHeartbeatValue(new long[] { HEARTBEAT_INTERVAL_MS, HEARTBEAT_INTERVAL_MS })
+            .setTaskScheduler(heartbeatScheduler);
+        registry.setApplicationDestinationPrefixes("/app");
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(webSocketAuthChannelInterceptor);
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        registration
+            .setSendTimeLimit(SEND_TIME_LIMIT_MS)
+            .setSendBufferSizeLimit(SEND_BUFFER_SIZE_LIMIT)
+            .setMessageSizeLimit(MESSAGE_SIZE_LIMIT);
+    }
+
+    private static String[] toArray(List<String> values) {
+        return values != null ? values.toArray(new String[0]) : new String[0];
+    }
+}
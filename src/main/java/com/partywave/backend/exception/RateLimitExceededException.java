@@ -0,0 +1,38 @@
+package com.partywave.backend.exception;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.ResponseStatus;
+
+/**
+ * Exception thrown when a user exceeds a rate limit policy (chat, vote, like, track add).
+ */
+@ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+public class RateLimitExceededException extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String policy;
+    private final long retryAfterMs;
+
+    public RateLimitExceededException(String policy, int limit, long periodSeconds, long retryAfterMs) {
+        super(
+            String.format(
+                "Rate limit exceeded. Maximum %d %s requests per %d seconds, retry in %d ms.",
+                limit,
+                policy,
+                periodSeconds,
+                retryAfterMs
+            )
+        );
+        this.policy = policy;
+        this.retryAfterMs = retryAfterMs;
+    }
+
+    public String getPolicy() {
+        return policy;
+    }
+
+    public long getRetryAfterMs() {
+        return retryAfterMs;
+    }
+}
@@ -41,4 +41,14 @@ public interface AppUserRepository extends JpaRepository<AppUser, UUID> {
     @EntityGraph(attributePaths = { "stats", "images" })
     @Query("SELECT u FROM AppUser u WHERE u.id = :id")
     Optional<AppUser> findByIdWithStatsAndImages(UUID id);
+
+    /**
+     * Find the Spotify account country of an AppUser.
+     * Used as the search market when the client does not pass one.
+     *
+     * @param id User ID
+     * @return Optional of the country code (empty if the user or country is unknown)
+     */
+    @Query("SELECT u.country FROM AppUser u WHERE u.id = :id")
+    Optional<String> findCountryById(UUID id);
 }
@@ -10,4 +10,4 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface AppUserStatsRepository extends JpaRepository<AppUserStats, UUID> {}
+public interface AppUserStatsRepository extends AppUserStatsRepositoryWithCounters, JpaRepository<AppUserStats, UUID> {}
@@ -0,0 +1,19 @@
+package com.partywave.backend.repository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+public interface AppUserStatsRepositoryWithCounters {
+    /**
+     * Apply a batch of like/dislike deltas to users' stats in one JDBC batch of relative updates.
+     * The batch ID is recorded in the same transaction; a batch whose ID is already recorded is skipped,
+     * so replaying a committed batch never counts its deltas twice.
+     *
+     * @param batchId Batch ID, stable across retries of the same batch
+     * @param deltas Per-user deltas (the stats row is resolved through app_user.stats_id)
+     * @return Number of stats rows updated, or -1 if the batch had already been applied
+     */
+    int applyLikeDislikeDeltas(UUID batchId, Collection<LikeDislikeDelta> deltas);
+
+    record LikeDislikeDelta(UUID userId, long likeDelta, long dislikeDelta) {}
+}
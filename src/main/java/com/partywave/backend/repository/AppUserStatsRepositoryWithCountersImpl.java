@@ -0,0 +1,72 @@
+package com.partywave.backend.repository;
+
+import com.partywave.backend.domain.AppUserStats;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.Session;
+
+/**
+ * Relative counter updates for app_user_stats.
+ * Written as one JDBC batch instead of load-modify-save per user, so concurrent flushes and
+ * hot rows never lose updates; the second-level cache region is evicted afterwards.
+ * Each batch claims its ID in applied_stats_batch first; a concurrent or replayed apply of the same
+ * batch waits on (or hits) the primary key and skips the updates.
+ */
+public class AppUserStatsRepositoryWithCountersImpl implements AppUserStatsRepositoryWithCounters {
+
+    private static final String CLAIM_BATCH_SQL =
+        "insert into applied_stats_batch (id, applied_at) values (?, now()) on conflict (id) do nothing";
+
+    private static final String PURGE_BATCHES_SQL = "delete from applied_stats_batch where applied_at < now() - interval '1 day'";
+
+    private static final String INCREMENT_COUNTERS_SQL =
+        "update app_user_stats set " +
+        "total_like = greatest(coalesce(total_like, 0) + ?, 0), " +
+        "total_dislike = greatest(coalesce(total_dislike, 0) + ?, 0) " +
+        "where id = (select u.stats_id from app_user u where u.id = ?)";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int applyLikeDislikeDeltas(UUID batchId, Collection<LikeDislikeDelta> deltas) {
+        AtomicInteger updated = new AtomicInteger();
+        entityManager
+            .unwrap(Session.class)
+            .doWork(connection -> {
+                try (PreparedStatement claim = connection.prepareStatement(CLAIM_BATCH_SQL)) {
+                    claim.setObject(1, batchId);
+                    if (claim.executeUpdate() == 0) {
+                        updated.set(-1);
+                        return;
+                    }
+                }
+                try (PreparedStatement purge = connection.prepareStatement(PURGE_BATCHES_SQL)) {
+                    purge.executeUpdate();
+                }
+                if (deltas.isEmpty()) {
+                    return;
+                }
+                try (PreparedStatement statement = connection.prepareStatement(INCREMENT_COUNTERS_SQL)) {
+                    for (LikeDislikeDelta delta : deltas) {
+                        statement.setLong(1, delta.likeDelta());
+                        statement.setLong(2, delta.dislikeDelta());
+                        statement.setObject(3, delta.userId());
+                        statement.addBatch();
+                    }
+                    for (int count : statement.executeBatch()) {
+                        updated.addAndGet(Math.max(count, 0));
+                    }
+                }
+            });
+
+        if (updated.get() > 0) {
+            entityManager.getEntityManagerFactory().getCache().evict(AppUserStats.class);
+        }
+        return updated.get();
+    }
+}
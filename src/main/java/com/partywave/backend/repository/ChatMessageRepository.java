@@ -1,6 +1,7 @@
 package com.partywave.backend.repository;
 
 import com.partywave.backend.domain.ChatMessage;
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -14,7 +15,7 @@ import org.springframework.stereotype.Repository;
  * Spring Data JPA repository for the ChatMessage entity.
  */
 @Repository
-public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID> {
+public interface ChatMessageRepository extends ChatMessageRepositoryWithBulkInsert, JpaRepository<ChatMessage, UUID> {
     default Optional<ChatMessage> findOneWithEagerRelationships(UUID id) {
         return this.findOneWithToOneRelationships(id);
     }
@@ -42,16 +43,44 @@ public interface ChatMessageRepository extends JpaRepository<ChatMessage, UUID>
     Optional<ChatMessage> findOneWithToOneRelationships(@Param("id") UUID id);
 
     /**
-     * Find chat messages for a room, ordered by sentAt descending (newest first).
-     * Used to fetch recent chat history when joining a room.
+     * Newest chat messages of a room (first page of keyset pagination).
+     * Returns a projection with the sender's display name; no count query is run.
      *
      * @param roomId Room UUID
-     * @param pageable Pagination parameters (typically Page 0, Size N for last N messages)
-     * @return Page of chat messages
+     * @param pageable Limit (page 0) or, for legacy page-number requests, an offset page
+     * @return Messages ordered by sentAt, then id, descending (newest first)
      */
     @Query(
-        value = "select chatMessage from ChatMessage chatMessage left join fetch chatMessage.sender where chatMessage.room.id = :roomId order by chatMessage.sentAt desc",
-        countQuery = "select count(chatMessage) from ChatMessage chatMessage where chatMessage.room.id = :roomId"
+        "select chatMessage.id as id, chatMessage.room.id as roomId, sender.id as senderId, sender.displayName as senderDisplayName, " +
+        "chatMessage.content as content, chatMessage.sentAt as sentAt " +
+        "from ChatMessage chatMessage join chatMessage.sender sender " +
+        "where chatMessage.room.id = :roomId " +
+        "order by chatMessage.sentAt desc, chatMessage.id desc"
     )
-    Page<ChatMessage> findByRoomIdOrderBySentAtDesc(@Param("roomId") UUID roomId, Pageable pageable);
+    List<ChatMessageView> findLatestByRoomId(@Param("roomId") UUID roomId, Pageable pageable);
+
+    /**
+     * Chat messages of a room older than a cursor (keyset pagination by (sentAt, id)).
+     * Uses the (room_id, sent_at desc, id desc) index, so deep pages cost the same as the first.
+     *
+     * @param roomId Room UUID
+     * @param sentAt sentAt of the last message of the previous page
+     * @param id id of the last message of the previous page
+     * @param pageable Limit (page 0)
+     * @return Messages before the cursor, ordered by sentAt, then id, descending
+     */
+    @Query(
+        "select chatMessage.id as id, chatMessage.room.id as roomId, sender.id as senderId, sender.displayName as senderDisplayName, " +
+        "chatMessage.content as content, chatMessage.sentAt as sentAt " +
+        "from ChatMessage chatMessage join chatMessage.sender sender " +
+        "where chatMessage.room.id = :roomId and chatMessage.sentAt <= :sentAt " +
+        "and (chatMessage.sentAt < :sentAt or chatMessage.id < :id) " +
+        "order by chatMessage.sentAt desc, chatMessage.id desc"
+    )
+    List<ChatMessageView> findByRoomIdBefore(
+        @Param("roomId") UUID roomId,
+        @Param("sentAt") Instant sentAt,
+        @Param("id") UUID id,
+        Pageable pageable
+    );
 }
@@ -0,0 +1,18 @@
+package com.partywave.backend.repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.UUID;
+
+public interface ChatMessageRepositoryWithBulkInsert {
+    /**
+     * Insert chat messages in one JDBC batch.
+     * Messages whose ID already exists are skipped, so a batch can be written more than once.
+     *
+     * @param messages Messages with server-assigned IDs
+     * @return Number of messages inserted
+     */
+    int insertMessages(Collection<ChatMessageInsert> messages);
+
+    record ChatMessageInsert(UUID id, UUID roomId, UUID senderId, String content, Instant sentAt) {}
+}
@@ -0,0 +1,54 @@
+package com.partywave.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.Session;
+
+/**
+ * Idempotent bulk insert of chat messages written behind the chat endpoint.
+ * "on conflict (id) do nothing" makes a retried batch a no-op for rows already written; messages
+ * whose room or sender no longer exists are skipped instead of failing the whole batch.
+ */
+public class ChatMessageRepositoryWithBulkInsertImpl implements ChatMessageRepositoryWithBulkInsert {
+
+    private static final String INSERT_MESSAGE_SQL =
+        "insert into chat_message (id, content, sent_at, room_id, sender_id) " +
+        "select ?, ?, ?, r.id, u.id from room r, app_user u where r.id = ? and u.id = ? " +
+        "on conflict (id) do nothing";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertMessages(Collection<ChatMessageInsert> messages) {
+        if (messages.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger inserted = new AtomicInteger();
+        entityManager
+            .unwrap(Session.class)
+            .doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_MESSAGE_SQL)) {
+                    for (ChatMessageInsert message : messages) {
+                        statement.setObject(1, message.id());
+                        statement.setString(2, message.content());
+                        // sent_at is a timestamp without time zone holding UTC (hibernate.jdbc.time_zone)
+                        statement.setObject(3, LocalDateTime.ofInstant(message.sentAt(), ZoneOffset.UTC));
+                        statement.setObject(4, message.roomId());
+                        statement.setObject(5, message.senderId());
+                        statement.addBatch();
+                    }
+                    for (int count : statement.executeBatch()) {
+                        inserted.addAndGet(Math.max(count, 0));
+                    }
+                }
+            });
+        return inserted.get();
+    }
+}
@@ -0,0 +1,22 @@
+package com.partywave.backend.repository;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Projection of a chat message with its sender's display name.
+ * Read in the same query as the message, so building chat DTOs needs no lazy loads.
+ */
+public interface ChatMessageView {
+    UUID getId();
+
+    UUID getRoomId();
+
+    UUID getSenderId();
+
+    String getSenderDisplayName();
+
+    String getContent();
+
+    Instant getSentAt();
+}
@@ -80,6 +80,16 @@ public interface RoomMemberRepository extends JpaRepository<RoomMember, UUID> {
     @Query("select rm from RoomMember rm where rm.room.id = :roomId and rm.appUser.id = :userId and rm.isActive = true")
     Optional<RoomMember> findByRoomIdAndUserIdAndIsActiveTrue(@Param("roomId") UUID roomId, @Param("userId") UUID userId);
 
+    /**
+     * Find the user IDs and roles of all active members of a room.
+     * Used to load the room membership cache in one query.
+     *
+     * @param roomId Room UUID
+     * @return Rows of [user UUID, RoomMemberRole]
+     */
+    @Query("select rm.appUser.id, rm.role from RoomMember rm where rm.room.id = :roomId and rm.isActive = true")
+    List<Object[]> findActiveMemberRoles(@Param("roomId") UUID roomId);
+
     /**
      * Find room member by room ID and user ID (including inactive).
      *
@@ -1,8 +1,12 @@
 package com.partywave.backend.repository;
 
 import com.partywave.backend.domain.Tag;
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 /**
@@ -10,4 +14,19 @@ import org.springframework.stereotype.Repository;
  */
 @SuppressWarnings("unused")
 @Repository
-public interface TagRepository extends JpaRepository<Tag, UUID> {}
+public interface TagRepository extends TagRepositoryWithBulkInsert, JpaRepository<Tag, UUID> {
+    /**
+     * Find tags by normalized name in one query (uses the unique index on lower(name)).
+     *
+     * @param names Normalized (trimmed, lower case) tag names
+     * @return Matching tags
+     */
+    @Query("select tag from Tag tag where lower(tag.name) in :names")
+    List<Tag> findAllByNormalizedNameIn(@Param("names") Collection<String> names);
+
+    /**
+     * Tags used by the most rooms first, for warming the tag dictionary.
+     */
+    @Query("select tag from Tag tag left join tag.rooms room group by tag order by count(room) desc")
+    List<Tag> findMostUsed(Pageable pageable);
+}
@@ -0,0 +1,14 @@
+package com.partywave.backend.repository;
+
+import java.util.Collection;
+
+public interface TagRepositoryWithBulkInsert {
+    /**
+     * Insert tags that do not exist yet in one JDBC batch.
+     * Names already present (including ones inserted concurrently by another transaction) are skipped.
+     *
+     * @param names Normalized (trimmed, lower case) tag names
+     * @return Number of tags inserted
+     */
+    int insertMissingTags(Collection<String> names);
+}
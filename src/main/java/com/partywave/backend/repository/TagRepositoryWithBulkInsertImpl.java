@@ -0,0 +1,46 @@
+package com.partywave.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.sql.PreparedStatement;
+import java.util.Collection;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.hibernate.Session;
+
+/**
+ * Bulk insert of tags with conflict handling.
+ * "on conflict do nothing" lets concurrent room creations add the same new tag without
+ * failing the transaction; callers re-read the tags by name afterwards to get their IDs.
+ */
+public class TagRepositoryWithBulkInsertImpl implements TagRepositoryWithBulkInsert {
+
+    private static final String INSERT_TAG_SQL = "insert into tag (id, name) values (?, ?) on conflict do nothing";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int insertMissingTags(Collection<String> names) {
+        if (names.isEmpty()) {
+            return 0;
+        }
+
+        AtomicInteger inserted = new AtomicInteger();
+        entityManager
+            .unwrap(Session.class)
+            .doWork(connection -> {
+                try (PreparedStatement statement = connection.prepareStatement(INSERT_TAG_SQL)) {
+                    for (String name : names) {
+                        statement.setObject(1, UUID.randomUUID());
+                        statement.setString(2, name);
+                        statement.addBatch();
+                    }
+                    for (int count : statement.executeBatch()) {
+                        inserted.addAndGet(Math.max(count, 0));
+                    }
+                }
+            });
+        return inserted.get();
+    }
+}
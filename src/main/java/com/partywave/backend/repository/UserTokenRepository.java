@@ -1,6 +1,7 @@
 package com.partywave.backend.repository;
 
 import com.partywave.backend.domain.UserToken;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -41,4 +42,7 @@ public interface UserTokenRepository extends JpaRepository<UserToken, UUID> {
 
     @Query("select userToken from UserToken userToken left join fetch userToken.appUser where userToken.appUser.id =:userId")
     Optional<UserToken> findByAppUserId(@Param("userId") UUID userId);
+
+    @Query("select userToken from UserToken userToken left join fetch userToken.appUser where userToken.appUser.id in :userIds")
+    List<UserToken> findAllByAppUserIdIn(@Param("userIds") Collection<UUID> userIds);
 }
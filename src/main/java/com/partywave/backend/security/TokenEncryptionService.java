@@ -1,7 +1,11 @@
 package com.partywave.backend.security;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
 import java.util.Base64;
 import javax.crypto.Cipher;
 import javax.crypto.spec.GCMParameterSpec;
@@ -14,6 +18,11 @@ import org.springframework.stereotype.Service;
 /**
  * Service for encrypting and decrypting Spotify OAuth tokens.
  * Uses AES-256-GCM encryption with the JWT secret as the encryption key.
+ *
+ * Encrypted format: IV (12 bytes) followed by ciphertext and GCM tag; the String API Base64-encodes it.
+ *
+ * The AES key is derived once at startup, IVs come from one shared SecureRandom (thread-safe),
+ * and each thread reuses its own Cipher instance, re-initialized with a fresh IV per call.
  */
 @Service
 public class TokenEncryptionService {
@@ -21,46 +30,75 @@ public class TokenEncryptionService {
     private static final Logger LOG = LoggerFactory.getLogger(TokenEncryptionService.class);
     private static final String ENCRYPTION_ALGORITHM = "AES/GCM/NoPadding";
     private static final int GCM_TAG_LENGTH = 128;
+    private static final int GCM_TAG_BYTES = GCM_TAG_LENGTH / 8;
     private static final int GCM_IV_LENGTH = 12;
 
-    @Value("${jhipster.security.authentication.jwt.base64-secret}")
-    private String jwtSecret;
+    private final SecretKeySpec keySpec;
+    private final SecureRandom secureRandom = new SecureRandom();
+    private final ThreadLocal<Cipher> ciphers = ThreadLocal.withInitial(TokenEncryptionService::newCipher);
+
+    public TokenEncryptionService(@Value("${jhipster.security.authentication.jwt.base64-secret}") String jwtSecret) {
+        this.keySpec = deriveSecretKey(jwtSecret);
+    }
 
     /**
      * Encrypts a token using AES-256-GCM.
      *
      * @param plainToken The token to encrypt
      * @return Base64-encoded encrypted token
-     * @throws Exception if encryption fails
+     * @throws RuntimeException if encryption fails
      */
     public String encrypt(String plainToken) {
         if (plainToken == null || plainToken.isEmpty()) {
             return plainToken;
         }
 
+        return Base64.getEncoder().encodeToString(encrypt(plainToken.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    /**
+     * Decrypts a token using AES-256-GCM.
+     *
+     * @param encryptedToken Base64-encoded encrypted token
+     * @return Decrypted plain token
+     * @throws RuntimeException if decryption fails
+     */
+    public String decrypt(String encryptedToken) {
+        if (encryptedToken == null || encryptedToken.isEmpty()) {
+            return encryptedToken;
+        }
+
+        byte[] encryptedWithIv;
         try {
-            // Generate a 256-bit key from the JWT secret
-            SecretKeySpec keySpec = getSecretKey();
+            encryptedWithIv = Base64.getDecoder().decode(encryptedToken);
+        } catch (IllegalArgumentException e) {
+            LOG.error("Failed to decrypt token: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to decrypt token", e);
+        }
+        return new String(decrypt(encryptedWithIv), StandardCharsets.UTF_8);
+    }
 
-            // Generate a random IV (Initialization Vector)
+    /**
+     * Encrypts bytes using AES-256-GCM.
+     * The ciphertext is written by the cipher directly after the IV in the returned array.
+     *
+     * @param plain Plain bytes
+     * @return IV followed by ciphertext and tag
+     * @throws RuntimeException if encryption fails
+     */
+    public byte[] encrypt(byte[] plain) {
+        try {
             byte[] iv = new byte[GCM_IV_LENGTH];
-            new java.security.SecureRandom().nextBytes(iv);
-
-            // Initialize cipher
-            Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.ENCRYPT_MODE, keySpec, gcmSpec);
+            secureRandom.nextBytes(iv);
 
-            // Encrypt the token
-            byte[] encryptedBytes = cipher.doFinal(plainToken.getBytes(StandardCharsets.UTF_8));
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.ENCRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
 
-            // Concatenate IV + encrypted data
-            byte[] encryptedWithIv = new byte[GCM_IV_LENGTH + encryptedBytes.length];
+            byte[] encryptedWithIv = new byte[GCM_IV_LENGTH + plain.length + GCM_TAG_BYTES];
             System.arraycopy(iv, 0, encryptedWithIv, 0, GCM_IV_LENGTH);
-            System.arraycopy(encryptedBytes, 0, encryptedWithIv, GCM_IV_LENGTH, encryptedBytes.length);
+            cipher.doFinal(plain, 0, plain.length, encryptedWithIv, GCM_IV_LENGTH);
 
-            // Return Base64-encoded result
-            return Base64.getEncoder().encodeToString(encryptedWithIv);
+            return encryptedWithIv;
         } catch (Exception e) {
             LOG.error("Failed to encrypt token: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to encrypt token", e);
@@ -68,38 +106,50 @@ public class TokenEncryptionService {
     }
 
     /**
-     * Decrypts a token using AES-256-GCM.
+     * Decrypts bytes produced by {@link #encrypt(byte[])}.
+     * IV and ciphertext are read in place, without copying them out of the input.
      *
-     * @param encryptedToken Base64-encoded encrypted token
-     * @return Decrypted plain token
-     * @throws Exception if decryption fails
+     * @param encryptedWithIv IV followed by ciphertext and tag
+     * @return Plain bytes
+     * @throws RuntimeException if decryption fails (including tag mismatch)
      */
-    public String decrypt(String encryptedToken) {
-        if (encryptedToken == null || encryptedToken.isEmpty()) {
-            return encryptedToken;
+    public byte[] decrypt(byte[] encryptedWithIv) {
+        try {
+            if (encryptedWithIv.length < GCM_IV_LENGTH + GCM_TAG_BYTES) {
+                throw new IllegalArgumentException("Encrypted token is too short");
+            }
+
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH, encryptedWithIv, 0, GCM_IV_LENGTH));
+            return cipher.doFinal(encryptedWithIv, GCM_IV_LENGTH, encryptedWithIv.length - GCM_IV_LENGTH);
+        } catch (Exception e) {
+            LOG.error("Failed to decrypt token: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to decrypt token", e);
         }
+    }
 
+    /**
+     * Decrypts from one buffer into another (e.g. direct buffers).
+     * Reads IV, ciphertext and tag from the input's remaining bytes and writes the plain bytes
+     * at the output's position.
+     *
+     * @param encryptedWithIv Input buffer positioned at the IV
+     * @param plain Output buffer with at least encryptedWithIv.remaining() - 28 bytes remaining
+     * @return Number of plain bytes written
+     * @throws RuntimeException if decryption fails
+     */
+    public int decrypt(ByteBuffer encryptedWithIv, ByteBuffer plain) {
         try {
-            // Decode Base64
-            byte[] encryptedWithIv = Base64.getDecoder().decode(encryptedToken);
+            if (encryptedWithIv.remaining() < GCM_IV_LENGTH + GCM_TAG_BYTES) {
+                throw new IllegalArgumentException("Encrypted token is too short");
+            }
 
-            // Extract IV and encrypted data
             byte[] iv = new byte[GCM_IV_LENGTH];
-            byte[] encryptedBytes = new byte[encryptedWithIv.length - GCM_IV_LENGTH];
-            System.arraycopy(encryptedWithIv, 0, iv, 0, GCM_IV_LENGTH);
-            System.arraycopy(encryptedWithIv, GCM_IV_LENGTH, encryptedBytes, 0, encryptedBytes.length);
+            encryptedWithIv.get(iv);
 
-            // Generate the same key from JWT secret
-            SecretKeySpec keySpec = getSecretKey();
-
-            // Initialize cipher for decryption
-            Cipher cipher = Cipher.getInstance(ENCRYPTION_ALGORITHM);
-            GCMParameterSpec gcmSpec = new GCMParameterSpec(GCM_TAG_LENGTH, iv);
-            cipher.init(Cipher.DECRYPT_MODE, keySpec, gcmSpec);
-
-            // Decrypt
-            byte[] decryptedBytes = cipher.doFinal(encryptedBytes);
-            return new String(decryptedBytes, StandardCharsets.UTF_8);
+            Cipher cipher = ciphers.get();
+            cipher.init(Cipher.DECRYPT_MODE, keySpec, new GCMParameterSpec(GCM_TAG_LENGTH, iv));
+            return cipher.doFinal(encryptedWithIv, plain);
         } catch (Exception e) {
             LOG.error("Failed to decrypt token: {}", e.getMessage(), e);
             throw new RuntimeException("Failed to decrypt token", e);
@@ -109,13 +159,24 @@ public class TokenEncryptionService {
     /**
      * Generates a 256-bit AES key from the JWT secret using SHA-256.
      *
+     * @param jwtSecret JWT secret
      * @return SecretKeySpec for AES encryption
-     * @throws Exception if key generation fails
      */
-    private SecretKeySpec getSecretKey() throws Exception {
-        // Use SHA-256 to derive a 256-bit key from the JWT secret
-        MessageDigest digest = MessageDigest.getInstance("SHA-256");
-        byte[] keyBytes = digest.digest(jwtSecret.getBytes(StandardCharsets.UTF_8));
-        return new SecretKeySpec(keyBytes, "AES");
+    private static SecretKeySpec deriveSecretKey(String jwtSecret) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] keyBytes = digest.digest(jwtSecret.getBytes(StandardCharsets.UTF_8));
+            return new SecretKeySpec(keyBytes, "AES");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Cipher newCipher() {
+        try {
+            return Cipher.getInstance(ENCRYPTION_ALGORITHM);
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ENCRYPTION_ALGORITHM + " is not available", e);
+        }
     }
 }
@@ -0,0 +1,115 @@
+package com.partywave.backend.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.config.CacheConfiguration;
+import com.partywave.backend.domain.enumeration.AppUserStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process cache of JWT subjects that were recently validated against app_user.
+ * Based on AUTHENTICATION.md section 2.4 - API Request Authentication.
+ *
+ * JwtTokenProvider.validateToken runs on every request; this cache keeps the user's status
+ * for a short TTL so the hot auth path does not query PostgreSQL.
+ *
+ * Key structure:
+ * - Invalidation channel: partywave:auth:user-invalidated (pub/sub, message = user ID)
+ *
+ * Business rules:
+ * - Only existing users are cached; unknown subjects always go to the database
+ * - Bounded by application.auth.user-cache.maximum-size and expires after ttl-seconds
+ * - invalidateUser evicts locally and broadcasts to every node (refresh token revoked, user banned)
+ * - Metrics: cache.gets / cache.size etc. with cache=jwtAuthenticatedUsers
+ */
+@Component
+public class AuthenticatedUserCache {
+
+    private static final Logger LOG = LoggerFactory.getLogger(AuthenticatedUserCache.class);
+
+    private static final String INVALIDATION_CHANNEL = CacheConfiguration.KEY_PREFIX + "auth:user-invalidated";
+    private static final String CACHE_NAME = "jwtAuthenticatedUsers";
+
+    private final RedissonClient redissonClient;
+    private final Cache<UUID, AppUserStatus> userStatuses;
+
+    private RTopic invalidationTopic;
+    private int listenerId = -1;
+
+    public AuthenticatedUserCache(
+        RedissonClient redissonClient,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.redissonClient = redissonClient;
+        ApplicationProperties.Auth.UserCache properties = applicationProperties.getAuth().getUserCache();
+        this.userStatuses = Caffeine.newBuilder()
+            .maximumSize(properties.getMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(properties.getTtlSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, userStatuses, CACHE_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+        listenerId = invalidationTopic.addListener(String.class, (channel, userId) -> evictLocal(userId));
+        LOG.debug("Subscribed to user invalidation channel {}", INVALIDATION_CHANNEL);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (invalidationTopic != null && listenerId != -1) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    /**
+     * Get a user's status, loading it on a miss.
+     *
+     * @param userId User UUID (JWT subject)
+     * @param loader Database lookup, called only on a cache miss
+     * @return User status, or empty if the user does not exist
+     */
+    public Optional<AppUserStatus> getStatus(UUID userId, Function<UUID, Optional<AppUserStatus>> loader) {
+        // Loaded atomically per key, so an invalidation during the load cannot be overwritten by a stale status
+        return Optional.ofNullable(userStatuses.get(userId, id -> loader.apply(id).orElse(null)));
+    }
+
+    /**
+     * Evict a user on every node, so their next request is checked against the database.
+     *
+     * @param userId User UUID
+     */
+    public void invalidateUser(UUID userId) {
+        userStatuses.invalidate(userId);
+        try {
+            redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE).publishAsync(userId.toString());
+        } catch (Exception e) {
+            LOG.error("Failed to broadcast invalidation for user {}, other nodes expire it by TTL", userId, e);
+        }
+    }
+
+    private void evictLocal(String userId) {
+        try {
+            userStatuses.invalidate(UUID.fromString(userId));
+        } catch (IllegalArgumentException e) {
+            LOG.warn("Ignoring invalidation for invalid user ID {}", userId);
+        }
+    }
+}
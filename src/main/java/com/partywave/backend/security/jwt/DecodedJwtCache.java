@@ -0,0 +1,114 @@
+package com.partywave.backend.security.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.partywave.backend.config.ApplicationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.function.Function;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+
+/**
+ * In-process cache of already verified JWTs, keyed by the SHA-256 digest of the token string.
+ * Based on AUTHENTICATION.md section 2.4 - API Request Authentication.
+ *
+ * Clients send the same access token many times during its validity; a hit skips the HMAC
+ * verification and claim parsing done by JwtDecoder.
+ *
+ * Business rules:
+ * - Bounded by application.auth.token-cache.maximum-size
+ * - Each entry expires at the token's own exp claim, and a hit is re-checked against exp,
+ *   so an expired token is never served
+ * - Only the signature/claims check is cached; user status and refresh token revocation are
+ *   still checked by JwtTokenProvider on every call
+ * - Metrics: cache.gets{result=hit|miss} etc. with cache=jwtDecodedTokens
+ */
+@Component
+public class DecodedJwtCache {
+
+    private static final String CACHE_NAME = "jwtDecodedTokens";
+
+    private final Cache<String, Jwt> decodedTokens;
+
+    public DecodedJwtCache(ApplicationProperties applicationProperties, MeterRegistry meterRegistry) {
+        this.decodedTokens = Caffeine.newBuilder()
+            .maximumSize(applicationProperties.getAuth().getTokenCache().getMaximumSize())
+            .expireAfter(new TokenExpiry())
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, decodedTokens, CACHE_NAME);
+    }
+
+    /**
+     * Get the verified Jwt for a token, decoding it on a miss.
+     *
+     * @param token JWT token string
+     * @param decoder Signature/claims verification, called only on a miss (exceptions propagate, nothing is cached)
+     * @return Verified Jwt
+     */
+    public Jwt decode(String token, Function<String, Jwt> decoder) {
+        String key = digest(token);
+        Jwt cached = decodedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (isUnexpired(cached)) {
+                return cached;
+            }
+            decodedTokens.invalidate(key);
+        }
+
+        Jwt jwt = decoder.apply(token);
+        if (isUnexpired(jwt)) {
+            decodedTokens.put(key, jwt);
+        }
+        return jwt;
+    }
+
+    private boolean isUnexpired(Jwt jwt) {
+        return jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(Instant.now());
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * Expire each entry when its token expires.
+     */
+    private static class TokenExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            return remainingNanos(jwt);
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return remainingNanos(jwt);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+        private long remainingNanos(Jwt jwt) {
+            if (jwt.getExpiresAt() == null) {
+                return 0;
+            }
+            return Math.max(0, Duration.between(Instant.now(), jwt.getExpiresAt()).toNanos());
+        }
+    }
+}
@@ -60,17 +60,23 @@ public class JwtTokenProvider {
     private final JwtDecoder jwtDecoder;
     private final AppUserRepository appUserRepository;
     private final RefreshTokenRepository refreshTokenRepository;
+    private final AuthenticatedUserCache authenticatedUserCache;
+    private final DecodedJwtCache decodedJwtCache;
 
     public JwtTokenProvider(
         JwtEncoder jwtEncoder,
         JwtDecoder jwtDecoder,
         AppUserRepository appUserRepository,
-        RefreshTokenRepository refreshTokenRepository
+        RefreshTokenRepository refreshTokenRepository,
+        AuthenticatedUserCache authenticatedUserCache,
+        DecodedJwtCache decodedJwtCache
     ) {
         this.jwtEncoder = jwtEncoder;
         this.jwtDecoder = jwtDecoder;
         this.appUserRepository = appUserRepository;
         this.refreshTokenRepository = refreshTokenRepository;
+        this.authenticatedUserCache = authenticatedUserCache;
+        this.decodedJwtCache = decodedJwtCache;
     }
 
     /**
@@ -164,7 +170,8 @@ public class JwtTokenProvider {
         LOG.debug("Validating JWT token");
 
         try {
-            Jwt jwt = jwtDecoder.decode(token);
+            // Signature and claims are verified once per token; repeats are served from the digest cache until exp
+            Jwt jwt = decodedJwtCache.decode(token, jwtDecoder::decode);
 
             // Additional validation: check user status
             String userId = jwt.getSubject();
@@ -172,15 +179,15 @@ public class JwtTokenProvider {
                 LOG.warn("Token validation failed: Missing subject claim");
                 throw new Exception("Invalid token: missing subject");
             }
-            Optional<AppUser> userOpt = appUserRepository.findById(UUID.fromString(userId));
+            // User status comes from the local near-cache; the database is only queried on a miss
+            Optional<AppUserStatus> statusOpt = authenticatedUserCache.getStatus(UUID.fromString(userId), this::loadUserStatus);
 
-            if (userOpt.isEmpty()) {
+            if (statusOpt.isEmpty()) {
                 LOG.warn("Token validation failed: User not found (id: {})", userId);
                 throw new Exception("User not found");
             }
 
-            AppUser user = userOpt.get();
-            if (user.getStatus() == AppUserStatus.BANNED) {
+            if (statusOpt.get() == AppUserStatus.BANNED) {
                 LOG.warn("Token validation failed: User is banned (id: {})", userId);
                 throw new Exception("User is banned");
             }
@@ -261,6 +268,9 @@ public class JwtTokenProvider {
                 RefreshToken refreshToken = refreshTokenOpt.get();
                 refreshToken.setRevokedAt(Instant.now());
                 refreshTokenRepository.save(refreshToken);
+                if (refreshToken.getAppUser() != null) {
+                    evictUser(refreshToken.getAppUser().getId());
+                }
                 LOG.debug("Refresh token revoked successfully");
             } else {
                 LOG.warn("Refresh token not found for revocation");
@@ -271,6 +281,16 @@ public class JwtTokenProvider {
         }
     }
 
+    /**
+     * Drop a user's cached validation on all nodes.
+     * Must be called whenever a user is banned or their refresh tokens are revoked.
+     *
+     * @param userId User ID
+     */
+    public void evictUser(UUID userId) {
+        authenticatedUserCache.invalidateUser(userId);
+    }
+
     /**
      * Extract user ID from JWT token.
      *
@@ -330,6 +350,14 @@ public class JwtTokenProvider {
         return REFRESH_TOKEN_VALIDITY;
     }
 
+    /**
+     * Load a user's status from the database (cache miss path).
+     * Users without a status are treated as OFFLINE so that they are still cached.
+     */
+    private Optional<AppUserStatus> loadUserStatus(UUID userId) {
+        return appUserRepository.findById(userId).map(user -> user.getStatus() != null ? user.getStatus() : AppUserStatus.OFFLINE);
+    }
+
     /**
      * Hash token using SHA-256 for secure storage.
      *
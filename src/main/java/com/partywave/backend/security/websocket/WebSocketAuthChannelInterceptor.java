@@ -0,0 +1,155 @@
+package com.partywave.backend.security.websocket;
+
+import com.partywave.backend.security.jwt.JwtTokenProvider;
+import com.partywave.backend.service.RoomAuthorizationService;
+import java.security.Principal;
+import java.util.Collections;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * STOMP inbound channel interceptor enforcing WebSocket authentication and room authorization.
+ * Based on AUTHENTICATION.md sections 3.1 and 3.2.
+ *
+ * Flow:
+ * 1. CONNECT: validate the JWT (CONNECT "Authorization: Bearer" header, or handshake {@code ?token=})
+ *    with JwtTokenProvider and bind the authenticated Jwt as the session user
+ * 2. SUBSCRIBE: only room topics ({@code /topic/room/{roomId}}) are allowed, and only for active room members
+ *    (checked through RoomAuthorizationService's cached membership roles)
+ * 3. SEND: requires an authenticated session
+ *
+ * Throwing from preSend makes Spring send a STOMP ERROR frame and close the connection.
+ */
+@Component
+public class WebSocketAuthChannelInterceptor implements ChannelInterceptor {
+
+    private static final Logger LOG = LoggerFactory.getLogger(WebSocketAuthChannelInterceptor.class);
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final JwtTokenProvider jwtTokenProvider;
+    private final RoomAuthorizationService roomAuthorizationService;
+
+    public WebSocketAuthChannelInterceptor(JwtTokenProvider jwtTokenProvider, RoomAuthorizationService roomAuthorizationService) {
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.roomAuthorizationService = roomAuthorizationService;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        StompCommand command = accessor.getCommand();
+        if (StompCommand.CONNECT.equals(command)) {
+            authenticate(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(command)) {
+            authorizeSubscription(accessor);
+        } else if (StompCommand.SEND.equals(command)) {
+            requireUserId(accessor.getUser());
+        }
+
+        return message;
+    }
+
+    private void authenticate(StompHeaderAccessor accessor) {
+        String token = extractToken(accessor);
+        if (token == null) {
+            throw new BadCredentialsException("Missing JWT token");
+        }
+
+        Jwt jwt;
+        try {
+            jwt = jwtTokenProvider.validateToken(token);
+        } catch (Exception e) {
+            LOG.warn("WebSocket JWT validation failed: {}", e.getMessage());
+            throw new BadCredentialsException("Invalid JWT token");
+        }
+
+        accessor.setUser(new UsernamePasswordAuthenticationToken(jwt, token, Collections.emptyList()));
+        LOG.debug("WebSocket session {} authenticated for user {}", accessor.getSessionId(), jwt.getSubject());
+    }
+
+    private void authorizeSubscription(StompHeaderAccessor accessor) {
+        UUID userId = requireUserId(accessor.getUser());
+        String destination = accessor.getDestination();
+
+        UUID roomId = parseRoomId(destination);
+        if (roomId == null) {
+            throw new AccessDeniedException("Subscription to " + destination + " is not allowed");
+        }
+
+        if (!roomAuthorizationService.isActiveMember(roomId, userId)) {
+            LOG.warn("User {} tried to subscribe to room {} without active membership", userId, roomId);
+            throw new AccessDeniedException("User is not an active member of room " + roomId);
+        }
+
+        LOG.debug("User {} subscribed to room {} (session {})", userId, roomId, accessor.getSessionId());
+    }
+
+    private String extractToken(StompHeaderAccessor accessor) {
+        String bearerToken = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith(BEARER_PREFIX)) {
+            return bearerToken.substring(BEARER_PREFIX.length());
+        }
+
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes != null) {
+            Object token = sessionAttributes.get(WebSocketTokenHandshakeInterceptor.TOKEN_ATTRIBUTE);
+            if (token != null) {
+                return token.toString();
+            }
+        }
+
+        return null;
+    }
+
+    private UUID requireUserId(Principal user) {
+        if (user instanceof UsernamePasswordAuthenticationToken authentication && authentication.getPrincipal() instanceof Jwt jwt) {
+            try {
+                return UUID.fromString(jwt.getSubject());
+            } catch (IllegalArgumentException e) {
+                throw new AccessDeniedException("Invalid user ID in token");
+            }
+        }
+        throw new AccessDeniedException("WebSocket session is not authenticated");
+    }
+
+    /**
+     * Extract the room ID from a room topic destination ({@code /topic/room/{roomId}} or a sub-topic of it).
+     */
+    private UUID parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+
+        String rest = destination.substring(ROOM_TOPIC_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String roomIdStr = slash >= 0 ? rest.substring(0, slash) : rest;
+
+        try {
+            return UUID.fromString(roomIdStr);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.partywave.backend.security.websocket;
+
+import java.util.Map;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.server.HandshakeInterceptor;
+import org.springframework.web.util.UriComponentsBuilder;
+
+/**
+ * Captures the JWT passed as {@code ?token=} on the WebSocket handshake URL.
+ * Based on AUTHENTICATION.md section 3.1 - WebSocket Connection Authentication.
+ *
+ * Browsers cannot set an Authorization header on the WebSocket upgrade request, so the token
+ * is stored in the session attributes and validated by {@link WebSocketAuthChannelInterceptor}
+ * on the STOMP CONNECT frame (a CONNECT "Authorization: Bearer" header takes precedence).
+ */
+public class WebSocketTokenHandshakeInterceptor implements HandshakeInterceptor {
+
+    public static final String TOKEN_ATTRIBUTE = "partywave.ws.token";
+
+    private static final String TOKEN_QUERY_PARAM = "token";
+
+    @Override
+    public boolean beforeHandshake(
+        ServerHttpRequest request,
+        ServerHttpResponse response,
+        WebSocketHandler wsHandler,
+        Map<String, Object> attributes
+    ) {
+        String token = UriComponentsBuilder.fromUri(request.getURI()).build().getQueryParams().getFirst(TOKEN_QUERY_PARAM);
+        if (token != null && !token.isEmpty()) {
+            attributes.put(TOKEN_ATTRIBUTE, token);
+        }
+        return true;
+    }
+
+    @Override
+    public void afterHandshake(ServerHttpRequest request, ServerHttpResponse response, WebSocketHandler wsHandler, Exception exception) {
+        // Nothing to do
+    }
+}
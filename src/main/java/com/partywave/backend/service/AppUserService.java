@@ -251,6 +251,7 @@ public class AppUserService {
 
             // Save token
             userTokenRepository.save(userToken);
+            tokenRefreshService.evictAccessToken(appUser.getId());
             LOG.debug("Successfully updated UserToken for user: {}", appUser.getId());
         } catch (Exception e) {
             LOG.error("Failed to encrypt and save UserToken for user {}: {}", appUser.getId(), e.getMessage(), e);
@@ -0,0 +1,134 @@
+package com.partywave.backend.service;
+
+import com.partywave.backend.repository.AppUserStatsRepository;
+import com.partywave.backend.repository.AppUserStatsRepositoryWithCounters.LikeDislikeDelta;
+import com.partywave.backend.service.redis.UserStatsDeltaRedisService;
+import com.partywave.backend.service.redis.UserStatsDeltaRedisService.StatsDeltaBatch;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Periodic write-behind flush of like/dislike deltas into app_user_stats.
+ * Based on PROJECT_OVERVIEW.md section 2.10 and REDIS_ARCHITECTURE.md section 2.2.
+ *
+ * LikeDislikeService only records deltas in Redis (UserStatsDeltaRedisService). This service
+ * claims the accumulated batch, applies it as one JDBC batch of relative updates
+ * (total_like = total_like + ?), and deletes the batch after the transaction commits.
+ *
+ * Crash safety:
+ * - Deltas live in Redis until committed, so an application crash loses nothing
+ * - A batch whose flush failed stays in-flight and is retried on the next run (at-least-once)
+ * - The batch ID is recorded in applied_stats_batch with the updates, so a batch replayed after its
+ *   commit (in-flight delete failed, node died before it) is skipped instead of counted twice
+ * - A cluster-wide lock with a lease keeps nodes from applying the same batch concurrently; it is
+ *   released by its owner only
+ *
+ * Metrics: partywave.stats.flush.lag (age of the oldest delta when its batch is committed)
+ * and partywave.stats.flush.users (stats rows updated).
+ */
+@Service
+public class AppUserStatsFlushService {
+
+    private static final Logger log = LoggerFactory.getLogger(AppUserStatsFlushService.class);
+
+    private static final Duration FLUSH_LOCK_LEASE = Duration.ofSeconds(30);
+
+    private final UserStatsDeltaRedisService userStatsDeltaRedisService;
+    private final AppUserStatsRepository appUserStatsRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final Timer flushLagTimer;
+    private final Counter flushedUsersCounter;
+
+    public AppUserStatsFlushService(
+        UserStatsDeltaRedisService userStatsDeltaRedisService,
+        AppUserStatsRepository appUserStatsRepository,
+        TransactionTemplate transactionTemplate,
+        MeterRegistry meterRegistry
+    ) {
+        this.userStatsDeltaRedisService = userStatsDeltaRedisService;
+        this.appUserStatsRepository = appUserStatsRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.flushLagTimer = Timer.builder("partywave.stats.flush.lag")
+            .description("Age of the oldest like/dislike delta when it is committed to app_user_stats")
+            .register(meterRegistry);
+        this.flushedUsersCounter = Counter.builder("partywave.stats.flush.users")
+            .description("app_user_stats rows updated by write-behind flushes")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Flush accumulated like/dislike deltas to PostgreSQL.
+     */
+    @Scheduled(fixedDelay = 1000)
+    public void flush() {
+        if (!userStatsDeltaRedisService.tryAcquireFlushLock(lockOwner, FLUSH_LOCK_LEASE)) {
+            return;
+        }
+
+        try {
+            StatsDeltaBatch batch = userStatsDeltaRedisService.claimBatch();
+            if (batch == null) {
+                return;
+            }
+
+            Long sinceMs = userStatsDeltaRedisService.getInflightSinceMs();
+            List<LikeDislikeDelta> deltas = toDeltas(batch.deltas());
+
+            Integer updated = transactionTemplate.execute(status -> appUserStatsRepository.applyLikeDislikeDeltas(batch.id(), deltas));
+            userStatsDeltaRedisService.completeBatch();
+
+            if (updated != null && updated < 0) {
+                log.info("Stats delta batch {} was already applied, discarded the replay", batch.id());
+                return;
+            }
+            flushedUsersCounter.increment(updated != null ? updated : 0);
+            if (sinceMs != null) {
+                flushLagTimer.record(Math.max(0, System.currentTimeMillis() - sinceMs), TimeUnit.MILLISECONDS);
+            }
+            log.debug("Flushed like/dislike deltas for {} users ({} stats rows updated)", deltas.size(), updated);
+        } catch (Exception e) {
+            log.error("Failed to flush like/dislike deltas, batch will be retried", e);
+        } finally {
+            userStatsDeltaRedisService.releaseFlushLock(lockOwner);
+        }
+    }
+
+    private List<LikeDislikeDelta> toDeltas(Map<String, Long> batch) {
+        Map<UUID, long[]> byUser = new HashMap<>();
+        batch.forEach((field, delta) -> {
+            boolean isLike = field.endsWith(UserStatsDeltaRedisService.LIKE_FIELD_SUFFIX);
+            String suffix = isLike ? UserStatsDeltaRedisService.LIKE_FIELD_SUFFIX : UserStatsDeltaRedisService.DISLIKE_FIELD_SUFFIX;
+            if (!field.endsWith(suffix)) {
+                log.warn("Ignoring unknown stats delta field {}", field);
+                return;
+            }
+            try {
+                UUID userId = UUID.fromString(field.substring(0, field.length() - suffix.length()));
+                byUser.computeIfAbsent(userId, k -> new long[2])[isLike ? 0 : 1] += delta;
+            } catch (IllegalArgumentException e) {
+                log.warn("Ignoring stats delta field with invalid user ID {}", field);
+            }
+        });
+
+        return byUser
+            .entrySet()
+            .stream()
+            .filter(entry -> entry.getValue()[0] != 0 || entry.getValue()[1] != 0)
+            .map(entry -> new LikeDislikeDelta(entry.getKey(), entry.getValue()[0], entry.getValue()[1]))
+            .toList();
+    }
+}
@@ -0,0 +1,194 @@
+package com.partywave.backend.service;
+
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.repository.ChatMessageRepository;
+import com.partywave.backend.repository.ChatMessageRepositoryWithBulkInsert.ChatMessageInsert;
+import com.partywave.backend.service.redis.ChatPersistenceRedisService;
+import com.partywave.backend.service.redis.ChatPersistenceRedisService.ClaimedChatBatch;
+import com.partywave.backend.service.redis.ChatPersistenceRedisService.PendingChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Background writer for chat messages accepted by ChatService.
+ * Based on PROJECT_OVERVIEW.md section 2.12 and REDIS_ARCHITECTURE.md section 4.8.
+ *
+ * ChatService only queues accepted messages in Redis (ChatPersistenceRedisService) and fans them
+ * out immediately. This service claims up to application.chat.persistence.batch-size queued
+ * messages, inserts them as one JDBC batch, and deletes the batch after the transaction commits.
+ *
+ * Crash safety:
+ * - Messages live in Redis until committed, so an application crash loses nothing
+ * - A batch whose flush failed stays in-flight and is retried on the next run (at-least-once)
+ * - Inserts skip message IDs that already exist, so retried batches are not duplicated
+ * - After application.chat.persistence.max-batch-attempts failed attempts, the batch is inserted
+ *   message by message; messages PostgreSQL still rejects (e.g. content with NUL characters) go to
+ *   the dead-letter list instead of blocking every later message
+ * - Queued entries that cannot be deserialized are moved to the dead-letter list when their batch
+ *   completes, so they cannot block the queue either
+ * - A cluster-wide lock with a lease keeps nodes from applying the same batch concurrently
+ *
+ * Metrics: partywave.chat.persist.lag (age of the oldest message when its batch is committed),
+ * partywave.chat.persist.messages (messages inserted) and partywave.chat.persist.dead-lettered
+ * (messages moved to the dead-letter list).
+ */
+@Service
+public class ChatMessageFlushService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageFlushService.class);
+
+    private static final Duration FLUSH_LOCK_LEASE = Duration.ofSeconds(30);
+    private static final int MAX_BATCHES_PER_FLUSH = 20;
+
+    private final ChatPersistenceRedisService chatPersistenceRedisService;
+    private final ChatMessageRepository chatMessageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int maxBatchAttempts;
+    private final String lockOwner = UUID.randomUUID().toString();
+
+    private final Timer flushLagTimer;
+    private final Counter insertedMessagesCounter;
+    private final Counter deadLetteredMessagesCounter;
+
+    public ChatMessageFlushService(
+        ChatPersistenceRedisService chatPersistenceRedisService,
+        ChatMessageRepository chatMessageRepository,
+        TransactionTemplate transactionTemplate,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.chatPersistenceRedisService = chatPersistenceRedisService;
+        this.chatMessageRepository = chatMessageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = applicationProperties.getChat().getPersistence().getBatchSize();
+        this.maxBatchAttempts = applicationProperties.getChat().getPersistence().getMaxBatchAttempts();
+        this.flushLagTimer = Timer.builder("partywave.chat.persist.lag")
+            .description("Age of the oldest chat message when it is committed to chat_message")
+            .register(meterRegistry);
+        this.insertedMessagesCounter = Counter.builder("partywave.chat.persist.messages")
+            .description("chat_message rows inserted by the background writer")
+            .register(meterRegistry);
+        this.deadLetteredMessagesCounter = Counter.builder("partywave.chat.persist.dead-lettered")
+            .description("Queued chat messages PostgreSQL rejected, moved to the dead-letter list")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Write queued chat messages to PostgreSQL, batch by batch until the queue is drained
+     * (at most MAX_BATCHES_PER_FLUSH batches per run).
+     */
+    @Scheduled(fixedDelayString = "${application.chat.persistence.flush-interval-ms:200}")
+    public void flush() {
+        if (!chatPersistenceRedisService.tryAcquireFlushLock(lockOwner, FLUSH_LOCK_LEASE)) {
+            return;
+        }
+
+        try {
+            for (int i = 0; i < MAX_BATCHES_PER_FLUSH; i++) {
+                ClaimedChatBatch claimed = chatPersistenceRedisService.claimBatch(batchSize);
+                if (claimed.isEmpty()) {
+                    return;
+                }
+
+                List<PendingChatMessage> batch = claimed.messages();
+                List<ChatMessageInsert> messages = toInserts(batch);
+                Integer inserted;
+                try {
+                    inserted = messages.isEmpty()
+                        ? Integer.valueOf(0)
+                        : transactionTemplate.execute(status -> chatMessageRepository.insertMessages(messages));
+                    chatPersistenceRedisService.completeBatch(List.of(), claimed.unreadable());
+                    deadLetteredMessagesCounter.increment(claimed.unreadable().size());
+                } catch (Exception e) {
+                    long attempts = chatPersistenceRedisService.recordFailedAttempt();
+                    if (attempts < maxBatchAttempts) {
+                        log.error("Failed to flush {} chat messages (attempt {}), batch will be retried", batch.size(), attempts, e);
+                        return;
+                    }
+                    log.error("Failed to flush {} chat messages {} times, inserting them one by one", batch.size(), attempts, e);
+                    inserted = insertIndividually(batch, claimed.unreadable());
+                }
+
+                insertedMessagesCounter.increment(inserted != null ? inserted : 0);
+                messages
+                    .stream()
+                    .map(ChatMessageInsert::sentAt)
+                    .min(Instant::compareTo)
+                    .ifPresent(oldest ->
+                        flushLagTimer.record(Math.max(0, Duration.between(oldest, Instant.now()).toMillis()), TimeUnit.MILLISECONDS)
+                    );
+                log.debug("Flushed {} chat messages ({} inserted)", messages.size(), inserted);
+
+                if (claimed.size() < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("Failed to flush chat messages, batch will be retried", e);
+        } finally {
+            chatPersistenceRedisService.releaseFlushLock(lockOwner);
+        }
+    }
+
+    /**
+     * Insert a batch that keeps failing one message per transaction, move the messages PostgreSQL
+     * rejects (and the batch's unreadable entries) to the dead-letter list and finish the batch.
+     *
+     * @return Number of messages inserted
+     */
+    private int insertIndividually(List<PendingChatMessage> batch, List<String> unreadable) {
+        int inserted = 0;
+        List<PendingChatMessage> deadLetters = new ArrayList<>();
+        for (PendingChatMessage message : batch) {
+            List<ChatMessageInsert> single = toInserts(List.of(message));
+            if (single.isEmpty()) {
+                continue;
+            }
+            try {
+                Integer count = transactionTemplate.execute(status -> chatMessageRepository.insertMessages(single));
+                inserted += count != null ? count : 0;
+            } catch (Exception e) {
+                log.error("Moving chat message {} of room {} to the dead-letter list", message.getId(), message.getRoomId(), e);
+                deadLetters.add(message);
+            }
+        }
+
+        chatPersistenceRedisService.completeBatch(deadLetters, unreadable);
+        deadLetteredMessagesCounter.increment(deadLetters.size() + unreadable.size());
+        return inserted;
+    }
+
+    private List<ChatMessageInsert> toInserts(List<PendingChatMessage> batch) {
+        List<ChatMessageInsert> messages = new ArrayList<>(batch.size());
+        for (PendingChatMessage message : batch) {
+            try {
+                messages.add(
+                    new ChatMessageInsert(
+                        UUID.fromString(message.getId()),
+                        UUID.fromString(message.getRoomId()),
+                        UUID.fromString(message.getSenderId()),
+                        message.getContent(),
+                        Instant.EPOCH.plus(message.getSentAtMicros(), ChronoUnit.MICROS)
+                    )
+                );
+            } catch (IllegalArgumentException | NullPointerException e) {
+                log.warn("Ignoring queued chat message with invalid IDs: {}", message.getId());
+            }
+        }
+        return messages;
+    }
+}
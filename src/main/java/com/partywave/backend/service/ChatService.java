@@ -1,29 +1,31 @@
 package com.partywave.backend.service;
 
-import com.partywave.backend.config.CacheConfiguration;
+import com.partywave.backend.config.ApplicationProperties;
 import com.partywave.backend.domain.AppUser;
-import com.partywave.backend.domain.ChatMessage;
-import com.partywave.backend.domain.Room;
 import com.partywave.backend.exception.ForbiddenException;
 import com.partywave.backend.exception.InvalidRequestException;
+import com.partywave.backend.exception.RateLimitExceededException;
 import com.partywave.backend.exception.ResourceNotFoundException;
 import com.partywave.backend.repository.AppUserRepository;
 import com.partywave.backend.repository.ChatMessageRepository;
-import com.partywave.backend.repository.RoomMemberRepository;
-import com.partywave.backend.repository.RoomRepository;
+import com.partywave.backend.repository.ChatMessageRepositoryWithBulkInsert.ChatMessageInsert;
+import com.partywave.backend.repository.ChatMessageView;
 import com.partywave.backend.service.dto.ChatMessageDTO;
 import com.partywave.backend.service.dto.ChatMessageEventDTO;
 import com.partywave.backend.service.dto.SendChatMessageRequestDTO;
+import com.partywave.backend.service.redis.ChatHistoryRedisService;
+import com.partywave.backend.service.redis.ChatHistoryRedisService.RecentChatMessage;
+import com.partywave.backend.service.redis.ChatPersistenceRedisService;
+import com.partywave.backend.service.redis.ChatPersistenceRedisService.PendingChatMessage;
+import java.security.SecureRandom;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicLong;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -34,8 +36,11 @@ import org.springframework.transaction.annotation.Transactional;
  * Business rules:
  * - User must be a member of the room
  * - Message content must not be empty (max 1000 characters)
- * - Rate limiting: max 10 messages per minute per user per room
- * - All messages are persisted in PostgreSQL
+ * - Rate limiting: max 10 messages per minute per user per room (RateLimiter, policy chat)
+ * - All messages are persisted in PostgreSQL, asynchronously in batches (ChatMessageFlushService)
+ * - The newest messages of each room are also kept in a capped Redis list (ChatHistoryRedisService),
+ *   which serves the room join snapshot and the first history page
+ * - Older history is paginated by (sentAt, id) cursor, so deep pages do not scan skipped rows
  * - WebSocket CHAT_MESSAGE event is emitted to all room members
  */
 @Service
@@ -44,28 +49,39 @@ public class ChatService {
 
     private static final Logger log = LoggerFactory.getLogger(ChatService.class);
 
-    // Rate limiting: max 10 messages per minute per user per room
-    private static final int RATE_LIMIT_MAX_MESSAGES = 10;
-    private static final int RATE_LIMIT_WINDOW_SECONDS = 60;
+    private static final SecureRandom ID_RANDOM = new SecureRandom();
 
     private final ChatMessageRepository chatMessageRepository;
-    private final RoomRepository roomRepository;
-    private final RoomMemberRepository roomMemberRepository;
+    private final RoomAuthorizationService roomAuthorizationService;
     private final AppUserRepository appUserRepository;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final RateLimiter rateLimiter;
+    private final RoomEventPublisher roomEventPublisher;
+    private final ChatHistoryRedisService chatHistoryRedisService;
+    private final ChatPersistenceRedisService chatPersistenceRedisService;
+    private final int recentMessagesCapacity;
+    private final long recentMessagesTtlSeconds;
+
+    private final AtomicLong lastMessageIdState = new AtomicLong();
 
     public ChatService(
         ChatMessageRepository chatMessageRepository,
-        RoomRepository roomRepository,
-        RoomMemberRepository roomMemberRepository,
+        RoomAuthorizationService roomAuthorizationService,
         AppUserRepository appUserRepository,
-        RedisTemplate<String, Object> redisTemplate
+        RateLimiter rateLimiter,
+        RoomEventPublisher roomEventPublisher,
+        ChatHistoryRedisService chatHistoryRedisService,
+        ChatPersistenceRedisService chatPersistenceRedisService,
+        ApplicationProperties applicationProperties
     ) {
         this.chatMessageRepository = chatMessageRepository;
-        this.roomRepository = roomRepository;
-        this.roomMemberRepository = roomMemberRepository;
+        this.roomAuthorizationService = roomAuthorizationService;
         this.appUserRepository = appUserRepository;
-        this.redisTemplate = redisTemplate;
+        this.rateLimiter = rateLimiter;
+        this.roomEventPublisher = roomEventPublisher;
+        this.chatHistoryRedisService = chatHistoryRedisService;
+        this.chatPersistenceRedisService = chatPersistenceRedisService;
+        this.recentMessagesCapacity = applicationProperties.getChat().getRecentMessages().getCapacity();
+        this.recentMessagesTtlSeconds = applicationProperties.getChat().getRecentMessages().getTtlSeconds();
     }
 
     /**
@@ -76,8 +92,12 @@ public class ChatService {
      * 1. Validate user is a room member
      * 2. Validate content is not empty (max 1000 characters)
      * 3. Check rate limiting (max 10 messages per minute)
-     * 4. Create ChatMessage record in PostgreSQL
-     * 5. Emit WebSocket CHAT_MESSAGE event to all room members
+     * 4. Assign a time-ordered message ID and queue the message for persistence (Redis)
+     * 5. Push the message to the recent messages list in Redis
+     * 6. Emit WebSocket CHAT_MESSAGE event to all room members
+     *
+     * The message is written to PostgreSQL in the background by ChatMessageFlushService;
+     * if it cannot be queued, it is written synchronously instead.
      *
      * @param roomId Room UUID
      * @param userId User UUID (from JWT)
@@ -85,25 +105,14 @@ public class ChatService {
      * @return ChatMessageDTO with created message data
      * @throws ResourceNotFoundException if room or user doesn't exist
      * @throws ForbiddenException if user is not a room member
-     * @throws InvalidRequestException if content is empty or rate limit exceeded
+     * @throws InvalidRequestException if content is empty
+     * @throws RateLimitExceededException if rate limit exceeded
      */
     public ChatMessageDTO sendMessage(UUID roomId, UUID userId, SendChatMessageRequestDTO request) {
         log.debug("User {} sending chat message in room {}", userId, roomId);
 
-        // Step 1: Validate room exists
-        Room room = roomRepository
-            .findById(roomId)
-            .orElseThrow(() -> {
-                log.error("Room not found with id: {}", roomId);
-                return new ResourceNotFoundException("Room", "id", roomId);
-            });
-
-        // Step 2: Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            log.error("User {} is not a member of room {}", userId, roomId);
-            throw new ForbiddenException("User is not a member of this room");
-        }
+        // Steps 1-2: Validate room exists and user is a room member
+        roomAuthorizationService.requireActiveMember(roomId, userId);
 
         // Step 3: Validate content (already validated by DTO @NotBlank and @Size, but double-check)
         String content = request.getContent();
@@ -114,10 +123,10 @@ public class ChatService {
             throw new InvalidRequestException("Message content cannot exceed 1000 characters");
         }
 
-        // Step 4: Check rate limiting
-        checkRateLimit(roomId, userId);
+        // Step 4: Check rate limiting (takes a permit)
+        rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId);
 
-        // Step 5: Get user entity
+        // Step 5: Get user entity (served by the second-level cache)
         AppUser sender = appUserRepository
             .findById(userId)
             .orElseThrow(() -> {
@@ -125,87 +134,84 @@ public class ChatService {
                 return new ResourceNotFoundException("User", "id", userId);
             });
 
-        // Step 6: Create ChatMessage record
-        ChatMessage chatMessage = new ChatMessage();
-        chatMessage.setRoom(room);
-        chatMessage.setSender(sender);
-        chatMessage.setContent(content.trim());
-        chatMessage.setSentAt(Instant.now());
-
-        chatMessage = chatMessageRepository.save(chatMessage);
-        log.info("Chat message created: id={}, room={}, sender={}", chatMessage.getId(), roomId, userId);
-
-        // Step 7: Increment rate limit counter
-        incrementRateLimitCounter(roomId, userId);
-
-        // Step 8: Emit WebSocket CHAT_MESSAGE event
-        emitChatMessageEvent(roomId, chatMessage, sender);
-
-        // Step 9: Build and return DTO
+        // Step 6: Build the message with a server-assigned, time-ordered ID
         ChatMessageDTO dto = new ChatMessageDTO();
-        dto.setId(chatMessage.getId());
+        dto.setId(nextMessageId());
         dto.setRoomId(roomId);
         dto.setSenderId(userId);
         dto.setSenderDisplayName(sender.getDisplayName());
-        dto.setContent(chatMessage.getContent());
-        dto.setTimestamp(chatMessage.getSentAt());
+        dto.setContent(content.trim());
+        // PostgreSQL keeps microseconds; truncate so the returned timestamp is a valid history cursor
+        dto.setTimestamp(Instant.now().truncatedTo(ChronoUnit.MICROS));
+
+        // Step 7: Queue for persistence before anyone sees the message
+        persistMessage(dto);
+        log.info("Chat message accepted: id={}, room={}, sender={}", dto.getId(), roomId, userId);
+
+        // Step 8: Push to the recent messages list
+        chatHistoryRedisService.pushMessage(roomId.toString(), toRecentMessage(dto), recentMessagesCapacity, recentMessagesTtlSeconds);
+
+        // Step 9: Emit WebSocket CHAT_MESSAGE event
+        emitChatMessageEvent(dto);
 
         return dto;
     }
 
     /**
-     * Get chat history for a room with pagination.
+     * Get chat history for a room.
      * Based on PROJECT_OVERVIEW.md section 2.12 - Chat Messaging.
      *
      * Returns messages ordered by sentAt descending (newest first).
      * Frontend can reverse the order to show oldest first.
      *
+     * Pagination:
+     * - Without a cursor: the newest messages, served from the recent messages list in Redis
+     * - With a cursor (beforeTimestamp and beforeId of the oldest message already loaded): the
+     *   messages before it, read by keyset from PostgreSQL
+     * - page > 0 without a cursor is still supported for older clients (offset pagination)
+     *
      * @param roomId Room UUID
      * @param userId User UUID (from JWT) - for membership validation
-     * @param page Page number (0-indexed)
+     * @param beforeTimestamp sentAt of the cursor message (optional, requires beforeId)
+     * @param beforeId ID of the cursor message (optional, requires beforeTimestamp)
+     * @param page Page number (0-indexed, ignored when a cursor is given)
      * @param size Page size
      * @return List of ChatMessageDTO (newest first)
      * @throws ResourceNotFoundException if room doesn't exist
      * @throws ForbiddenException if user is not a room member
+     * @throws InvalidRequestException if only one of beforeTimestamp and beforeId is given
      */
     @Transactional(readOnly = true)
-    public List<ChatMessageDTO> getChatHistory(UUID roomId, UUID userId, int page, int size) {
-        log.debug("User {} requesting chat history for room {}: page={}, size={}", userId, roomId, page, size);
-
-        // Validate room exists
-        roomRepository
-            .findById(roomId)
-            .orElseThrow(() -> {
-                log.error("Room not found with id: {}", roomId);
-                return new ResourceNotFoundException("Room", "id", roomId);
-            });
-
-        // Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            log.error("User {} is not a member of room {}", userId, roomId);
-            throw new ForbiddenException("User is not a member of this room");
+    public List<ChatMessageDTO> getChatHistory(UUID roomId, UUID userId, Instant beforeTimestamp, UUID beforeId, int page, int size) {
+        log.debug(
+            "User {} requesting chat history for room {}: before=({}, {}), page={}, size={}",
+            userId,
+            roomId,
+            beforeTimestamp,
+            beforeId,
+            page,
+            size
+        );
+
+        if ((beforeTimestamp == null) != (beforeId == null)) {
+            throw new InvalidRequestException("beforeTimestamp and beforeId must be provided together");
         }
 
-        // Fetch messages with pagination (newest first)
-        Pageable pageable = PageRequest.of(page, size);
-        Page<ChatMessage> messagesPage = chatMessageRepository.findByRoomIdOrderBySentAtDesc(roomId, pageable);
-
-        // Convert to DTOs
-        List<ChatMessageDTO> chatHistory = messagesPage
-            .getContent()
-            .stream()
-            .map(message -> {
-                ChatMessageDTO dto = new ChatMessageDTO();
-                dto.setId(message.getId());
-                dto.setRoomId(message.getRoom().getId());
-                dto.setSenderId(message.getSender().getId());
-                dto.setSenderDisplayName(message.getSender().getDisplayName());
-                dto.setContent(message.getContent());
-                dto.setTimestamp(message.getSentAt());
-                return dto;
-            })
-            .collect(Collectors.toList());
+        // Validate room exists and user is a room member
+        roomAuthorizationService.requireActiveMember(roomId, userId);
+
+        List<ChatMessageDTO> chatHistory;
+        if (beforeTimestamp != null) {
+            chatHistory = chatMessageRepository
+                .findByRoomIdBefore(roomId, beforeTimestamp, beforeId, PageRequest.of(0, size))
+                .stream()
+                .map(this::toDto)
+                .toList();
+        } else if (page == 0) {
+            chatHistory = getRecentMessages(roomId, size);
+        } else {
+            chatHistory = chatMessageRepository.findLatestByRoomId(roomId, PageRequest.of(page, size)).stream().map(this::toDto).toList();
+        }
 
         log.debug("Retrieved {} chat messages for room {}", chatHistory.size(), roomId);
 
@@ -213,77 +219,132 @@ public class ChatService {
     }
 
     /**
-     * Check rate limiting for chat messages.
-     * Uses Redis to track message count per user per room.
-     * Rate limit: max 10 messages per minute per user per room.
+     * Get the newest chat messages of a room, without membership validation.
+     * Reads the recent messages list in Redis and backfills it from PostgreSQL when it is cold.
      *
      * @param roomId Room UUID
-     * @param userId User UUID
-     * @throws InvalidRequestException if rate limit exceeded
+     * @param limit Maximum number of messages
+     * @return List of ChatMessageDTO (newest first)
      */
-    private void checkRateLimit(UUID roomId, UUID userId) {
-        String rateLimitKey = buildRateLimitKey(roomId, userId);
+    @Transactional(readOnly = true)
+    public List<ChatMessageDTO> getRecentMessages(UUID roomId, int limit) {
+        if (limit > recentMessagesCapacity) {
+            return chatMessageRepository.findLatestByRoomId(roomId, PageRequest.of(0, limit)).stream().map(this::toDto).toList();
+        }
 
-        try {
-            // Get current count
-            Object countObj = redisTemplate.opsForValue().get(rateLimitKey);
-            int currentCount = countObj != null ? Integer.parseInt(countObj.toString()) : 0;
-
-            if (currentCount >= RATE_LIMIT_MAX_MESSAGES) {
-                log.warn(
-                    "Rate limit exceeded for user {} in room {}: {} messages in last {} seconds",
-                    userId,
-                    roomId,
-                    currentCount,
-                    RATE_LIMIT_WINDOW_SECONDS
-                );
-                throw new InvalidRequestException(
-                    "Rate limit exceeded. Maximum " + RATE_LIMIT_MAX_MESSAGES + " messages per " + RATE_LIMIT_WINDOW_SECONDS + " seconds."
-                );
-            }
-        } catch (Exception e) {
-            if (e instanceof InvalidRequestException) {
-                throw e;
-            }
-            log.error("Failed to check rate limit for user {} in room {}", userId, roomId, e);
-            // On Redis error, allow the request (fail open)
+        List<RecentChatMessage> cached = chatHistoryRedisService.getRecentMessages(roomId.toString(), limit);
+        if (cached != null) {
+            return cached.stream().map(message -> toDto(roomId, message)).toList();
         }
+
+        List<ChatMessageView> latest = chatMessageRepository.findLatestByRoomId(roomId, PageRequest.of(0, recentMessagesCapacity));
+        chatHistoryRedisService.backfill(
+            roomId.toString(),
+            latest.stream().map(this::toRecentMessage).toList(),
+            recentMessagesCapacity,
+            recentMessagesTtlSeconds
+        );
+        log.debug("Backfilled recent chat messages of room {} with {} messages", roomId, latest.size());
+
+        return latest.stream().limit(limit).map(this::toDto).toList();
     }
 
     /**
-     * Increment rate limit counter after sending a message.
-     * Sets TTL on the key to implement sliding window.
+     * Mark the recent messages list of a newly created room as complete (empty), so its chat
+     * history never has to be read from PostgreSQL.
      *
      * @param roomId Room UUID
-     * @param userId User UUID
      */
-    private void incrementRateLimitCounter(UUID roomId, UUID userId) {
-        String rateLimitKey = buildRateLimitKey(roomId, userId);
-
-        try {
-            // Increment counter
-            Long count = redisTemplate.opsForValue().increment(rateLimitKey);
+    public void initializeRecentMessages(UUID roomId) {
+        chatHistoryRedisService.initializeRoom(roomId.toString(), recentMessagesTtlSeconds);
+    }
 
-            // Set TTL if this is the first message in the window
-            if (count != null && count == 1) {
-                redisTemplate.expire(rateLimitKey, RATE_LIMIT_WINDOW_SECONDS, java.util.concurrent.TimeUnit.SECONDS);
-            }
-        } catch (Exception e) {
-            log.error("Failed to increment rate limit counter for user {} in room {}", userId, roomId, e);
-            // On Redis error, continue (fail open)
+    /**
+     * Queue a message for the background writer, or insert it synchronously if Redis is unavailable.
+     * Either way the insert is idempotent on the message ID.
+     */
+    private void persistMessage(ChatMessageDTO message) {
+        PendingChatMessage pending = new PendingChatMessage(
+            message.getId().toString(),
+            message.getRoomId().toString(),
+            message.getSenderId().toString(),
+            message.getContent(),
+            toEpochMicros(message.getTimestamp())
+        );
+        if (chatPersistenceRedisService.enqueue(pending)) {
+            return;
         }
+
+        log.warn("Chat persistence queue unavailable, writing message {} of room {} synchronously", message.getId(), message.getRoomId());
+        chatMessageRepository.insertMessages(
+            List.of(
+                new ChatMessageInsert(
+                    message.getId(),
+                    message.getRoomId(),
+                    message.getSenderId(),
+                    message.getContent(),
+                    message.getTimestamp()
+                )
+            )
+        );
     }
 
     /**
-     * Build Redis key for rate limiting.
-     * Format: partywave:chat:ratelimit:{roomId}:{userId}
-     *
-     * @param roomId Room UUID
-     * @param userId User UUID
-     * @return Redis key string
+     * Time-ordered UUID (version 7 layout): 48-bit epoch ms, a 12-bit counter within the
+     * millisecond, then random bits. IDs from one node strictly increase, so (sentAt, id)
+     * keeps messages of the same millisecond in send order.
      */
-    private String buildRateLimitKey(UUID roomId, UUID userId) {
-        return CacheConfiguration.KEY_PREFIX + "chat:ratelimit:" + roomId + ":" + userId;
+    private UUID nextMessageId() {
+        long state = lastMessageIdState.updateAndGet(previous -> Math.max(System.currentTimeMillis() << 12, previous + 1));
+        long mostSigBits = ((state >>> 12) << 16) | 0x7000L | (state & 0xFFFL);
+        long leastSigBits = (ID_RANDOM.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(mostSigBits, leastSigBits);
+    }
+
+    private ChatMessageDTO toDto(ChatMessageView message) {
+        ChatMessageDTO dto = new ChatMessageDTO();
+        dto.setId(message.getId());
+        dto.setRoomId(message.getRoomId());
+        dto.setSenderId(message.getSenderId());
+        dto.setSenderDisplayName(message.getSenderDisplayName());
+        dto.setContent(message.getContent());
+        dto.setTimestamp(message.getSentAt());
+        return dto;
+    }
+
+    private ChatMessageDTO toDto(UUID roomId, RecentChatMessage message) {
+        ChatMessageDTO dto = new ChatMessageDTO();
+        dto.setId(UUID.fromString(message.getId()));
+        dto.setRoomId(roomId);
+        dto.setSenderId(UUID.fromString(message.getSenderId()));
+        dto.setSenderDisplayName(message.getSenderDisplayName());
+        dto.setContent(message.getContent());
+        dto.setTimestamp(Instant.EPOCH.plus(message.getSentAtMicros(), ChronoUnit.MICROS));
+        return dto;
+    }
+
+    private RecentChatMessage toRecentMessage(ChatMessageDTO message) {
+        return new RecentChatMessage(
+            message.getId().toString(),
+            message.getSenderId().toString(),
+            message.getSenderDisplayName(),
+            message.getContent(),
+            toEpochMicros(message.getTimestamp())
+        );
+    }
+
+    private RecentChatMessage toRecentMessage(ChatMessageView message) {
+        return new RecentChatMessage(
+            message.getId().toString(),
+            message.getSenderId().toString(),
+            message.getSenderDisplayName(),
+            message.getContent(),
+            toEpochMicros(message.getSentAt())
+        );
+    }
+
+    private static long toEpochMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
     }
 
     /**
@@ -297,39 +358,26 @@ public class ChatService {
      * - content: Message content
      * - sentAt: Timestamp when message was sent
      *
-     * TODO: Implement WebSocket event emission once Spring WebSocket (SimpMessagingTemplate) is configured.
-     * For now, this method logs the event that should be emitted.
-     *
-     * @param roomId Room UUID
-     * @param chatMessage ChatMessage entity
-     * @param sender AppUser entity
+     * @param message Accepted chat message
      */
-    private void emitChatMessageEvent(UUID roomId, ChatMessage chatMessage, AppUser sender) {
+    private void emitChatMessageEvent(ChatMessageDTO message) {
+        String roomId = message.getRoomId().toString();
         try {
             // Build CHAT_MESSAGE event DTO
             ChatMessageEventDTO event = new ChatMessageEventDTO(
-                roomId.toString(),
-                chatMessage.getId(),
-                sender.getId(),
-                sender.getDisplayName(),
-                chatMessage.getContent(),
-                chatMessage.getSentAt()
+                roomId,
+                message.getId(),
+                message.getSenderId(),
+                message.getSenderDisplayName(),
+                message.getContent(),
+                message.getTimestamp()
             );
 
-            // TODO: Emit WebSocket event once Spring WebSocket (SimpMessagingTemplate) is configured
-            // String destination = "/topic/room/" + roomId;
-            // messagingTemplate.convertAndSend(destination, event);
+            roomEventPublisher.publishToRoom(roomId, event);
 
-            log.info(
-                "TODO: Emit CHAT_MESSAGE WebSocket event for message {} in room {}. Event data: type={}, sender={}, content={}",
-                chatMessage.getId(),
-                roomId,
-                event.getType(),
-                event.getSenderDisplayName(),
-                event.getContent() != null ? event.getContent().substring(0, Math.min(50, event.getContent().length())) + "..." : "null"
-            );
+            log.debug("Emitted CHAT_MESSAGE event for message {} in room {}", message.getId(), roomId);
         } catch (Exception e) {
-            log.error("Failed to prepare CHAT_MESSAGE event for message {} in room {}", chatMessage.getId(), roomId, e);
+            log.error("Failed to prepare CHAT_MESSAGE event for message {} in room {}", message.getId(), roomId, e);
         }
     }
 }
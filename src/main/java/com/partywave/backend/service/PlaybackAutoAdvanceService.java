@@ -0,0 +1,108 @@
+package com.partywave.backend.service;
+
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.service.redis.PlaybackRedisService;
+import com.partywave.backend.service.redis.TrackOperationResult;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Server-side auto-advance of room playback.
+ * Based on PROJECT_OVERVIEW.md section 2.7, step 2 (Track Completion).
+ *
+ * Every started track registers its deadline (started_at_ms + track_duration_ms) in the
+ * global due-tracks ZSET as part of the atomic track transition (see PlaybackRedisService).
+ * This service polls that ZSET on a fixed delay, claims due entries and hands them to a bounded
+ * worker pool (application.playback.auto-advance.worker-threads, queue of batch-size) that completes
+ * them, so completions (events, Spotify fan-out start) never hold the shared scheduler threads.
+ * A poll only claims as many entries as the pool's queue has room for; the rest stay due for the next poll.
+ *
+ * Multi-node safety:
+ * - Claiming is atomic and leased, so each due entry is processed by one node at a time
+ * - Completion is guarded by the expected playlist item ID, so a room advances exactly once
+ *   even if a lease expires and another node retries (or the track was skipped meanwhile)
+ *
+ * Scales with the number of due tracks per poll, not the number of rooms: no per-room timers or threads.
+ */
+@Service
+public class PlaybackAutoAdvanceService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaybackAutoAdvanceService.class);
+
+    private final PlaybackRedisService playbackRedisService;
+    private final PlaybackService playbackService;
+    private final ApplicationProperties.Playback.AutoAdvance properties;
+    private final ThreadPoolTaskExecutor advanceExecutor;
+
+    public PlaybackAutoAdvanceService(
+        PlaybackRedisService playbackRedisService,
+        PlaybackService playbackService,
+        ApplicationProperties applicationProperties
+    ) {
+        this.playbackRedisService = playbackRedisService;
+        this.playbackService = playbackService;
+        this.properties = applicationProperties.getPlayback().getAutoAdvance();
+
+        this.advanceExecutor = new ThreadPoolTaskExecutor();
+        advanceExecutor.setCorePoolSize(properties.getWorkerThreads());
+        advanceExecutor.setMaxPoolSize(properties.getWorkerThreads());
+        advanceExecutor.setQueueCapacity(properties.getBatchSize());
+        advanceExecutor.setThreadNamePrefix("partywave-auto-advance-");
+        advanceExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        advanceExecutor.shutdown();
+    }
+
+    /**
+     * Claim all tracks whose deadline has passed and queue their completion.
+     * Drains in batches until fewer than a full batch is claimed or the worker queue is full.
+     */
+    @Scheduled(fixedDelayString = "${application.playback.auto-advance.poll-interval-ms:250}")
+    public void advanceDueTracks() {
+        if (!properties.isEnabled()) {
+            return;
+        }
+
+        int limit;
+        Map<String, String> claimed;
+
+        do {
+            limit = Math.min(properties.getBatchSize(), advanceExecutor.getThreadPoolExecutor().getQueue().remainingCapacity());
+            if (limit <= 0) {
+                log.debug("Auto-advance workers busy, leaving due tracks for the next poll");
+                return;
+            }
+            claimed = playbackRedisService.claimDueTracks(System.currentTimeMillis(), limit, properties.getLeaseMs());
+            claimed.forEach((roomId, playlistItemId) -> {
+                try {
+                    advanceExecutor.execute(() -> advance(roomId, playlistItemId));
+                } catch (TaskRejectedException e) {
+                    // Claim lease expires and the track is claimed again by a later poll
+                    log.warn("Auto-advance queue full, room {} will be retried after the claim lease", roomId);
+                }
+            });
+        } while (claimed.size() >= limit);
+    }
+
+    private void advance(String roomId, String playlistItemId) {
+        try {
+            TrackOperationResult result = playbackService.completeTrack(roomId, playlistItemId);
+            if (result.isSuccess()) {
+                log.debug("Auto-advanced room {} after track {}: {}", roomId, playlistItemId, result.getMessage());
+            } else {
+                log.debug("Skipped auto-advance for room {} (track {}): {}", roomId, playlistItemId, result.getMessage());
+            }
+        } catch (Exception e) {
+            log.error("Failed to auto-advance room {} after track {}", roomId, playlistItemId, e);
+        }
+    }
+}
@@ -2,7 +2,6 @@ package com.partywave.backend.service;
 
 import com.partywave.backend.exception.ForbiddenException;
 import com.partywave.backend.exception.ResourceNotFoundException;
-import com.partywave.backend.repository.RoomMemberRepository;
 import com.partywave.backend.service.dto.TrackStartEventDTO;
 import com.partywave.backend.service.redis.PlaybackRedisService;
 import com.partywave.backend.service.redis.PlaylistRedisService;
@@ -18,15 +17,14 @@ import org.springframework.stereotype.Service;
  * Based on PROJECT_OVERVIEW.md section 2.7.
  *
  * This service wraps PlaybackRedisService and adds:
- * - WebSocket event emission for playback state changes (TODO: requires WebSocket setup)
+ * - WebSocket event emission for playback state changes (via RoomEventPublisher)
+ * - Starting the track on online members' Spotify players (via PlaybackSyncService)
  * - High-level playback control methods (startNextTrack, etc.)
  *
  * Business rules:
  * - Tracks cannot be paused (no pause state)
  * - Only QUEUED tracks can transition to PLAYING
  * - PLAYED and SKIPPED are final states
- *
- * Note: WebSocket messaging is currently marked as TODO until Spring WebSocket is configured.
  */
 @Service
 public class PlaybackService {
@@ -35,16 +33,22 @@ public class PlaybackService {
 
     private final PlaybackRedisService playbackRedisService;
     private final PlaylistRedisService playlistRedisService;
-    private final RoomMemberRepository roomMemberRepository;
+    private final RoomAuthorizationService roomAuthorizationService;
+    private final RoomEventPublisher roomEventPublisher;
+    private final PlaybackSyncService playbackSyncService;
 
     public PlaybackService(
         PlaybackRedisService playbackRedisService,
         PlaylistRedisService playlistRedisService,
-        RoomMemberRepository roomMemberRepository
+        RoomAuthorizationService roomAuthorizationService,
+        RoomEventPublisher roomEventPublisher,
+        PlaybackSyncService playbackSyncService
     ) {
         this.playbackRedisService = playbackRedisService;
         this.playlistRedisService = playlistRedisService;
-        this.roomMemberRepository = roomMemberRepository;
+        this.roomAuthorizationService = roomAuthorizationService;
+        this.roomEventPublisher = roomEventPublisher;
+        this.playbackSyncService = playbackSyncService;
     }
 
     /**
@@ -64,46 +68,18 @@ public class PlaybackService {
         try {
             log.debug("Starting next track in room {}", roomId);
 
-            // Step 1: Find first QUEUED track from Redis playlist
-            String nextPlaylistItemId = playlistRedisService.getFirstQueuedItemId(roomId);
-
-            if (nextPlaylistItemId == null) {
-                String msg = "No queued tracks found in playlist";
-                log.info("Cannot start next track in room {}: {}", roomId, msg);
-                return new TrackOperationResult(false, msg, null);
-            }
-
-            log.debug("Found next queued track {} in room {}", nextPlaylistItemId, roomId);
-
-            // Step 2-4: Start the track (updates status to PLAYING, updates playback hash)
-            TrackOperationResult startResult = playbackRedisService.startTrack(roomId, nextPlaylistItemId);
+            // Step 1-3: Atomically pick the first QUEUED track, mark it PLAYING and update the playback hash
+            TrackOperationResult startResult = playbackRedisService.startNextTrack(roomId);
 
             if (!startResult.isSuccess()) {
-                log.error("Failed to start track {} in room {}: {}", nextPlaylistItemId, roomId, startResult.getMessage());
+                log.info("Cannot start next track in room {}: {}", roomId, startResult.getMessage());
                 return startResult;
             }
 
-            log.info("Successfully started track {} in room {}", nextPlaylistItemId, roomId);
-
-            // Step 5: Fetch track metadata from Redis for WebSocket event
-            Map<Object, Object> playlistItem = playlistRedisService.getPlaylistItem(roomId, nextPlaylistItemId);
-
-            if (playlistItem.isEmpty()) {
-                log.warn("Track started but metadata not found for playlist item {} in room {}", nextPlaylistItemId, roomId);
-                return startResult; // Track started successfully, but can't emit event
-            }
-
-            // Step 6: Get playback state for WebSocket event
-            Map<Object, Object> playbackState = playbackRedisService.getPlaybackState(roomId);
-            Long startedAtMs = playbackState.get("started_at_ms") != null
-                ? Long.parseLong(playbackState.get("started_at_ms").toString())
-                : System.currentTimeMillis();
-            Long trackDurationMs = playbackState.get("track_duration_ms") != null
-                ? Long.parseLong(playbackState.get("track_duration_ms").toString())
-                : null;
+            log.info("Successfully started track {} in room {}", startResult.getPlaylistItemId(), roomId);
 
-            // Step 7: Emit TRACK_START WebSocket event to all room members
-            emitTrackStartEvent(roomId, nextPlaylistItemId, playlistItem, startedAtMs, trackDurationMs);
+            // Step 4: Emit TRACK_START WebSocket event to all room members
+            emitTrackStartEvent(roomId, startResult);
 
             return startResult;
         } catch (Exception e) {
@@ -135,24 +111,8 @@ public class PlaybackService {
 
             log.info("Successfully started track {} in room {}", playlistItemId, roomId);
 
-            // Fetch track metadata and playback state for WebSocket event
-            Map<Object, Object> playlistItem = playlistRedisService.getPlaylistItem(roomId, playlistItemId);
-
-            if (playlistItem.isEmpty()) {
-                log.warn("Track started but metadata not found for playlist item {} in room {}", playlistItemId, roomId);
-                return startResult;
-            }
-
-            Map<Object, Object> playbackState = playbackRedisService.getPlaybackState(roomId);
-            Long startedAtMs = playbackState.get("started_at_ms") != null
-                ? Long.parseLong(playbackState.get("started_at_ms").toString())
-                : System.currentTimeMillis();
-            Long trackDurationMs = playbackState.get("track_duration_ms") != null
-                ? Long.parseLong(playbackState.get("track_duration_ms").toString())
-                : null;
-
             // Emit TRACK_START WebSocket event
-            emitTrackStartEvent(roomId, playlistItemId, playlistItem, startedAtMs, trackDurationMs);
+            emitTrackStartEvent(roomId, startResult);
 
             return startResult;
         } catch (Exception e) {
@@ -162,6 +122,59 @@ public class PlaybackService {
         }
     }
 
+    /**
+     * Start the first QUEUED track only if nothing is playing (auto-start after adding a track).
+     *
+     * @param roomId Room UUID
+     * @return TrackOperationResult with the started item, or failure if a track is already playing
+     */
+    public TrackOperationResult startNextTrackIfIdle(String roomId) {
+        TrackOperationResult startResult = playbackRedisService.startNextTrackIfIdle(roomId);
+        if (startResult.isSuccess()) {
+            emitTrackStartEvent(roomId, startResult);
+        }
+        return startResult;
+    }
+
+    /**
+     * Skip the currently playing track if it is still the expected one (vote-based skip).
+     * Emits TRACK_START when the next track is started.
+     *
+     * @param roomId Room UUID
+     * @param expectedPlaylistItemId Playlist item UUID the votes were cast for
+     * @return TrackOperationResult with success status and details
+     */
+    public TrackOperationResult skipTrack(String roomId, String expectedPlaylistItemId) {
+        TrackOperationResult skipResult = playbackRedisService.skipTrack(roomId, expectedPlaylistItemId);
+        if (skipResult.isSuccess()) {
+            emitTrackStartEvent(roomId, skipResult);
+        }
+        return skipResult;
+    }
+
+    /**
+     * Emit TRACK_START for a transition that started a track.
+     * Timing comes from the transition result; only the track metadata is read from Redis.
+     *
+     * @param roomId Room UUID
+     * @param result Result of a successful start/skip/complete transition
+     */
+    private void emitTrackStartEvent(String roomId, TrackOperationResult result) {
+        if (!result.isTrackStarted()) {
+            return;
+        }
+
+        String playlistItemId = result.getPlaylistItemId();
+        Map<Object, Object> playlistItem = playlistRedisService.getPlaylistItem(roomId, playlistItemId);
+
+        if (playlistItem.isEmpty()) {
+            log.warn("Track started but metadata not found for playlist item {} in room {}", playlistItemId, roomId);
+            return;
+        }
+
+        emitTrackStartEvent(roomId, playlistItemId, playlistItem, result.getStartedAtMs(), result.getTrackDurationMs());
+    }
+
     /**
      * Emit TRACK_START WebSocket event to all room members.
      * Based on PROJECT_OVERVIEW.md section 2.7 and 3.1.
@@ -172,9 +185,6 @@ public class PlaybackService {
      * - started_at_ms: UTC epoch milliseconds when playback started
      * - track_duration_ms: Track duration in milliseconds
      *
-     * TODO: Implement WebSocket event emission once Spring WebSocket is configured.
-     * For now, this method logs the event that should be emitted.
-     *
      * @param roomId Room UUID
      * @param playlistItemId Playlist item UUID
      * @param playlistItem Playlist item data from Redis
@@ -203,22 +213,27 @@ public class PlaybackService {
             // Build TRACK_START event DTO
             TrackStartEventDTO event = new TrackStartEventDTO(roomId, playlistItemId, trackMetadata, startedAtMs, trackDurationMs);
 
-            // TODO: Emit WebSocket event once Spring WebSocket (SimpMessagingTemplate) is configured
-            // String destination = "/topic/room/" + roomId;
-            // messagingTemplate.convertAndSend(destination, event);
+            roomEventPublisher.publishToRoom(roomId, event);
 
             log.info(
-                "TODO: Emit TRACK_START WebSocket event for track {} in room {}. Event data: type={}, started_at_ms={}, track_duration_ms={}, track={}",
+                "Emitted TRACK_START event for track {} in room {} (started_at_ms={}, track_duration_ms={})",
                 playlistItemId,
                 roomId,
-                event.getType(),
                 event.getStartedAtMs(),
-                event.getTrackDurationMs(),
-                event.getTrack() != null ? event.getTrack().getName() : "null"
+                event.getTrackDurationMs()
             );
         } catch (Exception e) {
             log.error("Failed to prepare TRACK_START event for track {} in room {}", playlistItemId, roomId, e);
         }
+
+        // Start the track on every online member's Spotify player (fan-out runs in the background)
+        if (startedAtMs != null) {
+            try {
+                playbackSyncService.syncRoom(roomId, getStringValue(playlistItem, "source_uri"), startedAtMs, trackDurationMs);
+            } catch (Exception e) {
+                log.error("Failed to start Spotify playback sync for track {} in room {}", playlistItemId, roomId, e);
+            }
+        }
     }
 
     /**
@@ -373,88 +388,45 @@ public class PlaybackService {
      * Complete the currently playing track in a room.
      * Implements PROJECT_OVERVIEW.md section 2.7, step 2 (Track Completion).
      *
-     * This method:
+     * This method (steps 1-4 run as a single atomic Redis script):
      * 1. Marks the current track status as PLAYED
      * 2. Finds the next QUEUED track
-     * 3. If exists, calls startNextTrack()
+     * 3. If exists, starts it and emits TRACK_START
      * 4. If not exists, clears the playback hash
      *
      * @param roomId Room UUID
      * @return TrackOperationResult with success status and details
      */
     public TrackOperationResult completeTrack(String roomId) {
+        return completeTrack(roomId, null);
+    }
+
+    /**
+     * Complete the currently playing track only if it is still the expected one.
+     * Used by the auto-advance scheduler so a deadline that fires after a skip is a no-op.
+     *
+     * @param roomId Room UUID
+     * @param expectedPlaylistItemId Playlist item UUID expected to be playing, or null for any
+     * @return TrackOperationResult with success status and details
+     */
+    public TrackOperationResult completeTrack(String roomId, String expectedPlaylistItemId) {
         try {
             log.debug("Completing current track in room {}", roomId);
 
-            // Step 1: Get current playing track from playback hash
-            String currentPlaylistItemId = playbackRedisService.getCurrentPlaylistItemId(roomId);
-            if (currentPlaylistItemId == null) {
-                String msg = "No track is currently playing";
-                log.warn("Cannot complete track in room {}: {}", roomId, msg);
-                return new TrackOperationResult(false, msg, null);
-            }
+            // Steps 1-4 run atomically in Redis: PLAYING → PLAYED, then start next or clear playback
+            TrackOperationResult result = expectedPlaylistItemId != null
+                ? playbackRedisService.completeTrack(roomId, expectedPlaylistItemId)
+                : playbackRedisService.completeTrack(roomId);
 
-            // Step 2: Validate current track status is PLAYING before marking as PLAYED
-            Map<Object, Object> currentItem = playlistRedisService.getPlaylistItem(roomId, currentPlaylistItemId);
-            if (currentItem.isEmpty()) {
-                String msg = "Current playlist item not found: " + currentPlaylistItemId;
-                log.warn("Cannot complete track in room {}: {}", roomId, msg);
-                return new TrackOperationResult(false, msg, currentPlaylistItemId);
+            if (!result.isSuccess()) {
+                log.warn("Cannot complete track in room {}: {}", roomId, result.getMessage());
+                return result;
             }
 
-            Object statusObj = currentItem.get("status");
-            String currentStatus = statusObj != null ? statusObj.toString() : null;
-
-            if (!"PLAYING".equals(currentStatus)) {
-                String msg = String.format("Cannot complete track with status: %s (must be PLAYING)", currentStatus);
-                log.warn("Cannot complete track {} in room {}: {}", currentPlaylistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, currentPlaylistItemId);
-            }
+            log.info("Marked track {} as PLAYED in room {}", result.getPreviousPlaylistItemId(), roomId);
+            emitTrackStartEvent(roomId, result);
 
-            // Step 3: Mark current track as PLAYED (final state)
-            boolean statusUpdated = playlistRedisService.updatePlaylistItemStatus(roomId, currentPlaylistItemId, "PLAYED");
-            if (!statusUpdated) {
-                String msg = "Failed to update playlist item status to PLAYED";
-                log.error("Cannot complete track {} in room {}: {}", currentPlaylistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, currentPlaylistItemId);
-            }
-
-            log.info("Marked track {} as PLAYED in room {}", currentPlaylistItemId, roomId);
-
-            // Step 4: Find the next QUEUED track
-            String nextPlaylistItemId = playlistRedisService.getFirstQueuedItemId(roomId);
-
-            // Step 5: Start next track or stop playback
-            if (nextPlaylistItemId != null) {
-                // Start the next track
-                log.debug("Starting next track {} after completion in room {}", nextPlaylistItemId, roomId);
-                TrackOperationResult startResult = startNextTrack(roomId);
-                if (startResult.isSuccess()) {
-                    log.info("Track completed and next track started in room {}", roomId);
-                    return new TrackOperationResult(
-                        true,
-                        "Track completed and next track started: " + nextPlaylistItemId,
-                        nextPlaylistItemId
-                    );
-                } else {
-                    log.warn(
-                        "Failed to start next track {} after completion in room {}: {}",
-                        nextPlaylistItemId,
-                        roomId,
-                        startResult.getMessage()
-                    );
-                    return new TrackOperationResult(
-                        false,
-                        "Track completed but failed to start next track: " + startResult.getMessage(),
-                        null
-                    );
-                }
-            } else {
-                // No more tracks to play - stop playback and clear playback hash
-                stopPlayback(roomId);
-                log.info("Track completed and no more tracks to play in room {} - playback stopped", roomId);
-                return new TrackOperationResult(true, "Track completed and playback stopped (no more tracks)", null);
-            }
+            return result;
         } catch (Exception e) {
             String msg = "Exception occurred: " + e.getMessage();
             log.error("Failed to complete track in room {}", roomId, e);
@@ -470,7 +442,7 @@ public class PlaybackService {
      * 1. Validates user has OWNER or MODERATOR role
      * 2. Marks the current track status as SKIPPED
      * 3. Finds the next QUEUED track
-     * 4. If exists, calls startNextTrack()
+     * 4. If exists, starts it and emits TRACK_START
      * 5. If not exists, clears the playback hash
      *
      * Role Check: Only OWNER and MODERATOR can manually skip tracks.
@@ -486,12 +458,12 @@ public class PlaybackService {
             log.debug("User {} requesting to skip track in room {}", userId, roomId);
 
             // Step 1: Validate user is an active member of the room
-            if (!roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId)) {
+            if (!roomAuthorizationService.isActiveMember(roomId, userId)) {
                 throw new ResourceNotFoundException("User is not an active member of this room");
             }
 
             // Step 2: Validate user has OWNER or MODERATOR role
-            if (!roomMemberRepository.hasModeratorPermissions(roomId, userId)) {
+            if (!roomAuthorizationService.hasModeratorPermissions(roomId, userId)) {
                 throw new ForbiddenException("Only room OWNER or MODERATOR can manually skip tracks");
             }
 
@@ -501,6 +473,7 @@ public class PlaybackService {
 
             if (skipResult.isSuccess()) {
                 log.info("User {} (OWNER/MODERATOR) manually skipped track in room {}", userId, roomId);
+                emitTrackStartEvent(roomId.toString(), skipResult);
             } else {
                 log.warn("User {} (OWNER/MODERATOR) failed to skip track in room {}: {}", userId, roomId, skipResult.getMessage());
             }
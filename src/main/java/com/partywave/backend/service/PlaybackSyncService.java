@@ -0,0 +1,294 @@
+package com.partywave.backend.service;
+
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.service.redis.OnlineMembersRedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.stream.IntStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service that starts a room's track on every online member's Spotify player.
+ * Based on PROJECT_OVERVIEW.md section 2.7 and SPOTIFY_PLAYER_API_ENDPOINTS.md.
+ *
+ * On TRACK_START, PlaybackService hands the track to syncRoom, which fans out non-blocking
+ * play calls (SpotifyApiClient.playTrackAsync) instead of calling members one at a time.
+ * Each member's call is prepared on a dedicated pool (application.playback.sync.worker-threads):
+ * resolving the access token may read the database or refresh it with Spotify, which must not
+ * run on the request or auto-advance thread, and chains continue there instead of recursing on one stack.
+ *
+ * Business rules:
+ * - At most application.playback.sync.room-concurrency calls per room sync and
+ *   global-concurrency calls across all rooms on this node are in flight
+ * - positionMs is computed when each call is sent (not when the sync started), plus half the
+ *   observed Spotify round-trip time, so members reached late do not start behind the room
+ * - If a call's own latency moved the member more than correction-threshold-ms away from the
+ *   room position, a corrective seek is sent
+ * - Failures (no active device, no premium, rate limited) are counted and skipped, never retried
+ * - Metrics: partywave.playback.sync.skew (spread of estimated member offsets per room sync, ms),
+ *   partywave.playback.sync.duration and partywave.playback.sync.calls{result}
+ */
+@Service
+public class PlaybackSyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(PlaybackSyncService.class);
+
+    private static final long GLOBAL_PERMIT_RETRY_MS = 10;
+    private static final long INITIAL_ROUND_TRIP_MS = 200;
+    private static final double ROUND_TRIP_SMOOTHING = 0.2;
+    private static final int SYNC_QUEUE_CAPACITY = 10000;
+
+    private final SpotifyApiClient spotifyApiClient;
+    private final OnlineMembersRedisService onlineMembersRedisService;
+    private final ApplicationProperties.Playback.Sync properties;
+
+    private final Semaphore globalPermits;
+    private final ThreadPoolTaskExecutor syncExecutor;
+    // Smoothed Spotify player call round-trip time, shared by all rooms (ms)
+    private final AtomicLong roundTripEstimateMs = new AtomicLong(INITIAL_ROUND_TRIP_MS);
+
+    private final DistributionSummary skewSummary;
+    private final Timer syncTimer;
+    private final Counter successCounter;
+    private final Counter correctedCounter;
+    private final Counter failedCounter;
+
+    public PlaybackSyncService(
+        SpotifyApiClient spotifyApiClient,
+        OnlineMembersRedisService onlineMembersRedisService,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.spotifyApiClient = spotifyApiClient;
+        this.onlineMembersRedisService = onlineMembersRedisService;
+        this.properties = applicationProperties.getPlayback().getSync();
+        this.globalPermits = new Semaphore(Math.max(1, properties.getGlobalConcurrency()));
+
+        this.syncExecutor = new ThreadPoolTaskExecutor();
+        syncExecutor.setCorePoolSize(Math.max(1, properties.getWorkerThreads()));
+        syncExecutor.setMaxPoolSize(Math.max(1, properties.getWorkerThreads()));
+        syncExecutor.setQueueCapacity(SYNC_QUEUE_CAPACITY);
+        syncExecutor.setThreadNamePrefix("partywave-playback-sync-");
+        syncExecutor.initialize();
+
+        this.skewSummary = DistributionSummary.builder("partywave.playback.sync.skew")
+            .description("Spread between the earliest and latest estimated member offsets of one room sync")
+            .baseUnit("milliseconds")
+            .register(meterRegistry);
+        this.syncTimer = Timer.builder("partywave.playback.sync.duration")
+            .description("Time to fan out a track start to all online members of a room")
+            .register(meterRegistry);
+        this.successCounter = syncCallCounter("success", meterRegistry);
+        this.correctedCounter = syncCallCounter("corrected", meterRegistry);
+        this.failedCounter = syncCallCounter("failed", meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        syncExecutor.shutdown();
+    }
+
+    /**
+     * Start a track on the Spotify players of all online members of a room.
+     * Returns after reading the room's online members; the calls, including access token lookups,
+     * run on the sync pool.
+     *
+     * @param roomId Room UUID
+     * @param trackUri Spotify track URI
+     * @param startedAtMs Room start time of the track (UTC epoch ms)
+     * @param trackDurationMs Track duration in milliseconds (members are not started past the end)
+     * @return Future completed when every member has been handled (never completes exceptionally)
+     */
+    public CompletableFuture<Void> syncRoom(String roomId, String trackUri, long startedAtMs, Long trackDurationMs) {
+        if (!properties.isEnabled() || trackUri == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        Set<String> members = onlineMembersRedisService.getOnlineMembers(roomId);
+        if (members.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        RoomSync sync = new RoomSync(roomId, trackUri, startedAtMs, trackDurationMs);
+        for (String member : members) {
+            try {
+                sync.pending.add(UUID.fromString(member));
+            } catch (IllegalArgumentException e) {
+                log.warn("Skipping invalid online member ID {} in room {}", member, roomId);
+            }
+        }
+
+        long syncStartNanos = System.nanoTime();
+        int workers = Math.min(Math.max(1, properties.getRoomConcurrency()), sync.pending.size());
+        List<CompletableFuture<Void>> chains = IntStream.range(0, workers)
+            .mapToObj(i -> CompletableFuture.completedFuture(null).thenComposeAsync(ignored -> runNext(sync), syncExecutor))
+            .toList();
+
+        return CompletableFuture.allOf(chains.toArray(CompletableFuture[]::new)).whenComplete((ignored, error) -> {
+            syncTimer.record(System.nanoTime() - syncStartNanos, TimeUnit.NANOSECONDS);
+            if (sync.synced.get() > 0) {
+                long skewMs = sync.maxOffsetMs.get() - sync.minOffsetMs.get();
+                skewSummary.record(skewMs);
+                log.debug(
+                    "Synced track {} in room {}: {} ok, {} failed, skew {} ms",
+                    trackUri,
+                    roomId,
+                    sync.synced.get(),
+                    sync.failed.get(),
+                    skewMs
+                );
+            }
+        });
+    }
+
+    /**
+     * Handle members one after another until the room's queue is empty (one of room-concurrency chains).
+     * Each member and each next step is dispatched to the sync pool, so a member that completes
+     * synchronously (rate limited, track already ended) does not grow the stack.
+     */
+    private CompletableFuture<Void> runNext(RoomSync sync) {
+        UUID userId = sync.pending.poll();
+        if (userId == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return acquireGlobalPermit()
+            .thenComposeAsync(
+                ignored -> trySyncMember(sync, userId).whenComplete((offsetMs, error) -> globalPermits.release()),
+                syncExecutor
+            )
+            .handle((offsetMs, error) -> {
+                if (error != null) {
+                    sync.failed.incrementAndGet();
+                    failedCounter.increment();
+                    log.debug("Could not sync user {} in room {}: {}", userId, sync.roomId, error.getMessage());
+                } else if (offsetMs != null) {
+                    sync.record(offsetMs);
+                    successCounter.increment();
+                }
+                return null;
+            })
+            .thenComposeAsync(ignored -> runNext(sync), syncExecutor);
+    }
+
+    private CompletableFuture<Long> trySyncMember(RoomSync sync, UUID userId) {
+        try {
+            return syncMember(sync, userId);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Play the track for one member at the current room position; seek again if the call was slow.
+     *
+     * @return Future with the member's estimated offset from the room position (ms), or null if the track already ended
+     */
+    private CompletableFuture<Long> syncMember(RoomSync sync, UUID userId) {
+        long sentAtMs = System.currentTimeMillis();
+        long oneWayEstimateMs = roundTripEstimateMs.get() / 2;
+        long positionMs = Math.max(0, sentAtMs - sync.startedAtMs) + oneWayEstimateMs;
+        if (sync.trackDurationMs != null && positionMs >= sync.trackDurationMs) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        long sentAtNanos = System.nanoTime();
+        return spotifyApiClient
+            .playTrackAsync(userId, List.of(sync.trackUri), null, (int) positionMs)
+            .thenCompose(ignored -> {
+                long roundTripMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAtNanos);
+                updateRoundTripEstimate(roundTripMs);
+
+                // Spotify applied the position about half a round-trip after sending
+                long offsetMs = oneWayEstimateMs - roundTripMs / 2;
+                if (Math.abs(offsetMs) <= properties.getCorrectionThresholdMs()) {
+                    return CompletableFuture.completedFuture(offsetMs);
+                }
+
+                correctedCounter.increment();
+                return correct(sync, userId);
+            });
+    }
+
+    /**
+     * Corrective seek to the room position, compensated with the updated round-trip estimate.
+     */
+    private CompletableFuture<Long> correct(RoomSync sync, UUID userId) {
+        long oneWayEstimateMs = roundTripEstimateMs.get() / 2;
+        long positionMs = Math.max(0, System.currentTimeMillis() - sync.startedAtMs) + oneWayEstimateMs;
+        long sentAtNanos = System.nanoTime();
+        return spotifyApiClient
+            .seekTrackAsync(userId, (int) positionMs, null)
+            .thenApply(ignored -> {
+                long roundTripMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - sentAtNanos);
+                updateRoundTripEstimate(roundTripMs);
+                return oneWayEstimateMs - roundTripMs / 2;
+            });
+    }
+
+    /**
+     * Completes when a global permit was taken; retries on a timer instead of blocking a thread.
+     */
+    private CompletableFuture<Void> acquireGlobalPermit() {
+        if (globalPermits.tryAcquire()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.runAsync(() -> {}, CompletableFuture.delayedExecutor(GLOBAL_PERMIT_RETRY_MS, TimeUnit.MILLISECONDS))
+            .thenCompose(ignored -> acquireGlobalPermit());
+    }
+
+    private void updateRoundTripEstimate(long roundTripMs) {
+        roundTripEstimateMs.updateAndGet(current -> Math.round(current + ROUND_TRIP_SMOOTHING * (roundTripMs - current)));
+    }
+
+    private static Counter syncCallCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("partywave.playback.sync.calls")
+            .description("Per-member Spotify playback sync calls by result")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /**
+     * State of one room sync: members still to handle and the spread of their offsets.
+     */
+    private static final class RoomSync {
+
+        private final String roomId;
+        private final String trackUri;
+        private final long startedAtMs;
+        private final Long trackDurationMs;
+        private final Queue<UUID> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicLong synced = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+        private final LongAccumulator minOffsetMs = new LongAccumulator(Math::min, Long.MAX_VALUE);
+        private final LongAccumulator maxOffsetMs = new LongAccumulator(Math::max, Long.MIN_VALUE);
+
+        private RoomSync(String roomId, String trackUri, long startedAtMs, Long trackDurationMs) {
+            this.roomId = roomId;
+            this.trackUri = trackUri;
+            this.startedAtMs = startedAtMs;
+            this.trackDurationMs = trackDurationMs;
+        }
+
+        private void record(long offsetMs) {
+            synced.incrementAndGet();
+            minOffsetMs.accumulate(offsetMs);
+            maxOffsetMs.accumulate(offsetMs);
+        }
+    }
+}
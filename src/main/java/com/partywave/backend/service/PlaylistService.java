@@ -1,24 +1,34 @@
 package com.partywave.backend.service;
 
 import com.partywave.backend.domain.AppUser;
+import com.partywave.backend.exception.ForbiddenException;
+import com.partywave.backend.exception.InvalidRequestException;
+import com.partywave.backend.exception.RateLimitExceededException;
 import com.partywave.backend.exception.ResourceNotFoundException;
-import com.partywave.backend.exception.UnauthorizedRoomAccessException;
+import com.partywave.backend.exception.SpotifyApiException;
 import com.partywave.backend.repository.AppUserRepository;
-import com.partywave.backend.repository.RoomMemberRepository;
-import com.partywave.backend.repository.RoomRepository;
 import com.partywave.backend.service.dto.AddTrackRequestDTO;
 import com.partywave.backend.service.dto.AddTrackResponseDTO;
 import com.partywave.backend.service.dto.GetPlaylistResponseDTO;
+import com.partywave.backend.service.dto.PlaylistItemAddedEventDTO;
 import com.partywave.backend.service.dto.PlaylistItemDTO;
+import com.partywave.backend.service.dto.TrackMetadataDTO;
 import com.partywave.backend.service.redis.LikeDislikeRedisService;
 import com.partywave.backend.service.redis.PlaybackRedisService;
+import com.partywave.backend.service.redis.PlaylistItemFeedback;
 import com.partywave.backend.service.redis.PlaylistRedisService;
+import java.io.IOException;
 import java.util.*;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 
 /**
  * Service for managing playlist operations.
@@ -32,27 +42,36 @@ public class PlaylistService {
 
     private static final Logger log = LoggerFactory.getLogger(PlaylistService.class);
 
-    private final RoomRepository roomRepository;
-    private final RoomMemberRepository roomMemberRepository;
+    private final RoomAuthorizationService roomAuthorizationService;
     private final AppUserRepository appUserRepository;
     private final PlaylistRedisService playlistRedisService;
     private final PlaybackRedisService playbackRedisService;
     private final LikeDislikeRedisService likeDislikeRedisService;
+    private final PlaybackService playbackService;
+    private final TrackCatalogService trackCatalogService;
+    private final RateLimiter rateLimiter;
+    private final RoomEventPublisher roomEventPublisher;
 
     public PlaylistService(
-        RoomRepository roomRepository,
-        RoomMemberRepository roomMemberRepository,
+        RoomAuthorizationService roomAuthorizationService,
         AppUserRepository appUserRepository,
         PlaylistRedisService playlistRedisService,
         PlaybackRedisService playbackRedisService,
-        LikeDislikeRedisService likeDislikeRedisService
+        LikeDislikeRedisService likeDislikeRedisService,
+        PlaybackService playbackService,
+        TrackCatalogService trackCatalogService,
+        RateLimiter rateLimiter,
+        RoomEventPublisher roomEventPublisher
     ) {
-        this.roomRepository = roomRepository;
-        this.roomMemberRepository = roomMemberRepository;
+        this.roomAuthorizationService = roomAuthorizationService;
         this.appUserRepository = appUserRepository;
         this.playlistRedisService = playlistRedisService;
         this.playbackRedisService = playbackRedisService;
         this.likeDislikeRedisService = likeDislikeRedisService;
+        this.playbackService = playbackService;
+        this.trackCatalogService = trackCatalogService;
+        this.rateLimiter = rateLimiter;
+        this.roomEventPublisher = roomEventPublisher;
     }
 
     /**
@@ -60,35 +79,38 @@ public class PlaylistService {
      *
      * Workflow (based on PROJECT_OVERVIEW.md section 2.6):
      * 1. Validate user is a member of the room
+     * 1a. Validate the track against the track catalog and use the catalog metadata
      * 2. Generate UUID for playlist item
      * 3. Get next sequence number (Redis INCR counter)
      * 4. Create playlist item hash in Redis (status=QUEUED)
      * 5. RPUSH to playlist list
-     * 6. If playlist is empty and no track is playing, auto-start the first track
-     * 7. TODO: Emit WebSocket event PLAYLIST_ITEM_ADDED
+     * 6. Emit WebSocket event PLAYLIST_ITEM_ADDED (before a TRACK_START the add may trigger)
+     * 7. If playlist is empty and no track is playing, auto-start the first track
+     *
+     * Runs without a surrounding transaction: the catalog lookup may call Spotify and must not hold a
+     * database connection meanwhile; the database reads run in their own repository transactions.
      *
      * @param roomId Room UUID
      * @param userId User UUID (authenticated user)
      * @param request AddTrackRequestDTO containing track metadata
      * @return AddTrackResponseDTO with created playlist item details
      * @throws ResourceNotFoundException if room doesn't exist
-     * @throws UnauthorizedRoomAccessException if user is not a room member
+     * @throws ForbiddenException if user is not a room member
+     * @throws InvalidRequestException if Spotify does not know the track or source_uri does not match source_id
+     * @throws RateLimitExceededException if the user adds tracks too fast (policy track-add)
+     * @throws SpotifyApiException if the track cannot be validated for reasons other than Spotify being unreachable
+     *         (e.g. the user's Spotify rate limit or token)
      */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AddTrackResponseDTO addTrack(UUID roomId, UUID userId, AddTrackRequestDTO request) {
         log.debug("Adding track to room {}: {}", roomId, request);
 
-        // Step 1: Validate room exists
-        if (!roomRepository.existsById(roomId)) {
-            log.error("Room not found: {}", roomId);
-            throw new ResourceNotFoundException("Room", "id", roomId);
-        }
+        // Steps 1-2: Validate room exists and user is an active member of the room
+        roomAuthorizationService.requireActiveMember(roomId, userId);
+        rateLimiter.checkLimit(RateLimiter.Policy.TRACK_ADD, roomId, userId);
 
-        // Step 2: Validate user is an active member of the room
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            log.error("User {} is not an active member of room {}", userId, roomId);
-            throw new UnauthorizedRoomAccessException(roomId, userId);
-        }
+        // Step 2a: Validate track and take name/artist/album/duration from the catalog, not the client
+        TrackMetadataDTO track = resolveTrackMetadata(userId, request);
 
         // Step 3: Get user details for display name
         Optional<AppUser> userOpt = appUserRepository.findById(userId);
@@ -118,16 +140,16 @@ public class PlaylistService {
         playlistItemData.put("sequence_number", sequenceNumber.toString());
         playlistItemData.put("status", "QUEUED");
         playlistItemData.put("added_at_ms", String.valueOf(addedAtMs));
-        playlistItemData.put("source_id", request.getSourceId());
-        playlistItemData.put("source_uri", request.getSourceUri());
-        playlistItemData.put("name", request.getName());
-        playlistItemData.put("artist", request.getArtist());
-        playlistItemData.put("album", request.getAlbum());
-        playlistItemData.put("duration_ms", request.getDurationMs().toString());
+        playlistItemData.put("source_id", track.getSourceId());
+        playlistItemData.put("source_uri", track.getSourceUri());
+        playlistItemData.put("name", track.getName());
+        playlistItemData.put("artist", track.getArtist());
+        playlistItemData.put("album", track.getAlbum());
+        playlistItemData.put("duration_ms", track.getDurationMs().toString());
 
         // Add optional album image URL if provided
-        if (request.getAlbumImageUrl() != null && !request.getAlbumImageUrl().isEmpty()) {
-            playlistItemData.put("album_image_url", request.getAlbumImageUrl());
+        if (track.getAlbumImageUrl() != null && !track.getAlbumImageUrl().isEmpty()) {
+            playlistItemData.put("album_image_url", track.getAlbumImageUrl());
         }
 
         // Step 8: Add playlist item to Redis (creates hash and appends to list)
@@ -139,33 +161,27 @@ public class PlaylistService {
 
         log.info(
             "Added track '{}' by {} to room {} (playlist item: {}, sequence: {})",
-            request.getName(),
-            request.getArtist(),
+            track.getName(),
+            track.getArtist(),
             roomId,
             playlistItemId,
             sequenceNumber
         );
 
-        // Step 9: Check if this is the first track and auto-start if needed
+        // Step 8a: Notify room members, before a TRACK_START of the auto-start below
+        emitPlaylistItemAddedEvent(roomIdStr, playlistItemId, track, userIdStr, userDisplayName, addedAtMs, sequenceNumber);
+
+        // Step 9: Auto-start if nothing is playing (atomic: concurrent adds cannot interrupt each other)
         boolean autoStarted = false;
         boolean isPlaying = playbackRedisService.isPlaying(roomIdStr);
 
         if (!isPlaying) {
-            // No track is currently playing - check if this is the first queued track
-            String firstQueuedItemId = playlistRedisService.getFirstQueuedItemId(roomIdStr);
-
-            if (firstQueuedItemId != null && firstQueuedItemId.equals(playlistItemId)) {
-                // This is the first track in an empty playlist - auto-start it
-                log.info("Auto-starting first track {} in room {}", playlistItemId, roomId);
-
-                var startResult = playbackRedisService.startTrack(roomIdStr, playlistItemId);
-                if (startResult.isSuccess()) {
-                    autoStarted = true;
-                    log.info("Successfully auto-started track {} in room {}", playlistItemId, roomId);
-                    // TODO: Emit WebSocket event TRACK_START
-                } else {
-                    log.warn("Failed to auto-start track {} in room {}: {}", playlistItemId, roomId, startResult.getMessage());
-                }
+            var startResult = playbackService.startNextTrackIfIdle(roomIdStr);
+            if (startResult.isSuccess()) {
+                autoStarted = playlistItemId.equals(startResult.getPlaylistItemId());
+                log.info("Auto-started track {} in room {}", startResult.getPlaylistItemId(), roomId);
+            } else {
+                log.debug("Did not auto-start a track in room {}: {}", roomId, startResult.getMessage());
             }
         }
 
@@ -173,13 +189,13 @@ public class PlaylistService {
         AddTrackResponseDTO response = new AddTrackResponseDTO();
         response.setPlaylistItemId(playlistItemId);
         response.setRoomId(roomIdStr);
-        response.setSourceId(request.getSourceId());
-        response.setSourceUri(request.getSourceUri());
-        response.setName(request.getName());
-        response.setArtist(request.getArtist());
-        response.setAlbum(request.getAlbum());
-        response.setDurationMs(request.getDurationMs());
-        response.setAlbumImageUrl(request.getAlbumImageUrl());
+        response.setSourceId(track.getSourceId());
+        response.setSourceUri(track.getSourceUri());
+        response.setName(track.getName());
+        response.setArtist(track.getArtist());
+        response.setAlbum(track.getAlbum());
+        response.setDurationMs(track.getDurationMs());
+        response.setAlbumImageUrl(track.getAlbumImageUrl());
         response.setAddedById(userIdStr);
         response.setAddedByDisplayName(userDisplayName);
         response.setAddedAtMs(addedAtMs);
@@ -189,13 +205,132 @@ public class PlaylistService {
         response.setDislikeCount(0L);
         response.setAutoStarted(autoStarted);
 
-        // TODO: Emit WebSocket event PLAYLIST_ITEM_ADDED to all room members
-        // This should include the full playlist item data so clients can update their UI
-        log.debug("TODO: Emit WebSocket event PLAYLIST_ITEM_ADDED for room {}", roomId);
-
         return response;
     }
 
+    /**
+     * Emit PLAYLIST_ITEM_ADDED WebSocket event to all room members.
+     * The item is sent as QUEUED with no feedback; an auto-start is announced by its own TRACK_START.
+     */
+    private void emitPlaylistItemAddedEvent(
+        String roomId,
+        String playlistItemId,
+        TrackMetadataDTO track,
+        String addedById,
+        String addedByDisplayName,
+        long addedAtMs,
+        Long sequenceNumber
+    ) {
+        PlaylistItemDTO item = new PlaylistItemDTO();
+        item.setId(playlistItemId);
+        item.setRoomId(roomId);
+        item.setSpotifyTrackId(track.getSourceId());
+        item.setTrackName(track.getName());
+        item.setTrackArtist(track.getArtist());
+        item.setTrackAlbum(track.getAlbum());
+        item.setTrackImageUrl(track.getAlbumImageUrl());
+        item.setDurationMs(track.getDurationMs());
+        item.setAddedById(addedById);
+        item.setAddedByDisplayName(addedByDisplayName);
+        item.setAddedAtMs(addedAtMs);
+        item.setSequenceNumber(sequenceNumber);
+        item.setStatus("QUEUED");
+        item.setLikeCount(0L);
+        item.setDislikeCount(0L);
+
+        roomEventPublisher.publishToRoom(roomId, new PlaylistItemAddedEventDTO(roomId, item));
+        log.debug("Emitted PLAYLIST_ITEM_ADDED event for item {} in room {}", playlistItemId, roomId);
+    }
+
+    /**
+     * Look up the added track in the track catalog (normally a cache hit, since clients add tracks
+     * from search results) and merge its metadata over the client-supplied values.
+     * If Spotify cannot be reached (transport error, timeout, 5xx), the client-supplied metadata is
+     * used as before; a 400 or 404 from Spotify (e.g. a malformed ID) means the track is not found.
+     * Other rejections (401/403 for the adding user's token, 429) are propagated as SpotifyApiException.
+     */
+    private TrackMetadataDTO resolveTrackMetadata(UUID userId, AddTrackRequestDTO request) {
+        TrackMetadataDTO clientTrack = new TrackMetadataDTO(
+            request.getSourceId(),
+            request.getSourceUri(),
+            request.getName(),
+            request.getArtist(),
+            request.getAlbum(),
+            request.getDurationMs(),
+            request.getAlbumImageUrl(),
+            null
+        );
+
+        Optional<TrackMetadataDTO> catalogTrack;
+        try {
+            catalogTrack = trackCatalogService.getTrack(userId, request.getSourceId());
+        } catch (SpotifyApiException e) {
+            if (!isSpotifyUnavailable(e)) {
+                HttpClientErrorException clientError = findCause(e, HttpClientErrorException.class);
+                if (clientError != null && isTrackRejected(clientError)) {
+                    log.warn("Spotify rejected track {}: {}", request.getSourceId(), clientError.getStatusCode());
+                    throw new InvalidRequestException("Track not found on Spotify", "sourceId", request.getSourceId());
+                }
+                throw e;
+            }
+            log.warn("Could not validate track {} against Spotify, using client metadata: {}", request.getSourceId(), e.getMessage());
+            return clientTrack;
+        }
+
+        if (catalogTrack.isEmpty()) {
+            log.error("Track {} not found on Spotify", request.getSourceId());
+            throw new InvalidRequestException("Track not found on Spotify", "sourceId", request.getSourceId());
+        }
+
+        TrackMetadataDTO track = catalogTrack.get();
+        if (track.getSourceUri() != null && !track.getSourceUri().equals(request.getSourceUri())) {
+            throw new InvalidRequestException("source_uri does not match source_id", "sourceUri", request.getSourceUri());
+        }
+
+        return new TrackMetadataDTO(
+            clientTrack.getSourceId(),
+            clientTrack.getSourceUri(),
+            Objects.requireNonNullElse(track.getName(), clientTrack.getName()),
+            Objects.requireNonNullElse(track.getArtist(), clientTrack.getArtist()),
+            Objects.requireNonNullElse(track.getAlbum(), clientTrack.getAlbum()),
+            Objects.requireNonNullElse(track.getDurationMs(), clientTrack.getDurationMs()),
+            track.getAlbumImageUrl() != null ? track.getAlbumImageUrl() : clientTrack.getAlbumImageUrl(),
+            track.getExplicit()
+        );
+    }
+
+    /**
+     * Whether a Spotify call failed because Spotify could not be reached or failed itself
+     * (I/O error, timeout, 5xx), as opposed to rejecting the request or the caller.
+     */
+    private boolean isSpotifyUnavailable(SpotifyApiException e) {
+        return (
+            findCause(e, HttpServerErrorException.class) != null ||
+            findCause(e, ResourceAccessException.class) != null ||
+            findCause(e, IOException.class) != null
+        );
+    }
+
+    /**
+     * Whether Spotify rejected the track itself (400 invalid ID, 404 unknown ID), not the caller's token.
+     */
+    private boolean isTrackRejected(HttpClientErrorException clientError) {
+        int status = clientError.getStatusCode().value();
+        return status == HttpStatus.BAD_REQUEST.value() || status == HttpStatus.NOT_FOUND.value();
+    }
+
+    private static <T extends Throwable> T findCause(Throwable e, Class<T> type) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (type.isInstance(cause)) {
+                return type.cast(cause);
+            }
+            if (cause.getCause() == cause) {
+                break;
+            }
+        }
+        return null;
+    }
+
     /**
      * Get the complete playlist for a room.
      *
@@ -210,36 +345,29 @@ public class PlaylistService {
      * 2. Validate user is a member of the room
      * 3. Get all playlist item IDs from Redis (LRANGE)
      * 4. For each item, get full data (HGETALL)
-     * 5. Get like/dislike counts for each item
-     * 6. Get user display names from database
+     * 5. Get user display names from database
+     * 6. Get like/dislike counts and the user's own feedback for all items (one pipeline)
      * 7. Convert to DTOs and sort by sequence_number
      *
      * @param roomId Room UUID
      * @param userId User UUID (authenticated user)
      * @return GetPlaylistResponseDTO with complete playlist sorted by sequence number
      * @throws ResourceNotFoundException if room doesn't exist
-     * @throws UnauthorizedRoomAccessException if user is not a room member
+     * @throws ForbiddenException if user is not a room member
      */
     public GetPlaylistResponseDTO getPlaylist(UUID roomId, UUID userId) {
         log.debug("Getting playlist for room {}", roomId);
 
-        // Step 1: Validate room exists
-        if (!roomRepository.existsById(roomId)) {
-            log.error("Room not found: {}", roomId);
-            throw new ResourceNotFoundException("Room", "id", roomId);
-        }
-
-        // Step 2: Validate user is an active member of the room
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            log.error("User {} is not an active member of room {}", userId, roomId);
-            throw new UnauthorizedRoomAccessException(roomId, userId);
-        }
+        // Steps 1-2: Validate room exists and user is an active member of the room
+        roomAuthorizationService.requireActiveMember(roomId, userId);
 
         String roomIdStr = roomId.toString();
 
-        // Step 3: Get all playlist items from Redis
-        List<Map<Object, Object>> playlistItems = playlistRedisService.getAllPlaylistItems(roomIdStr);
+        // Step 3: Get all playlist items from Redis (single pipelined batch, view fields only)
+        List<Map<Object, Object>> playlistItems = playlistRedisService.getAllPlaylistItems(
+            roomIdStr,
+            PlaylistRedisService.PLAYLIST_ITEM_VIEW_FIELDS
+        );
         log.debug("Retrieved {} playlist items from Redis for room {}", playlistItems.size(), roomId);
 
         // Step 4: Build a set of unique user IDs to fetch display names
@@ -261,10 +389,23 @@ public class PlaylistService {
             }
         }
 
-        // Step 6: Convert to DTOs and enrich with like/dislike counts
+        // Step 6: Fetch like/dislike counts and the user's own feedback for all items (single pipelined batch)
+        List<String> playlistItemIds = playlistItems
+            .stream()
+            .map(item -> item.get("id"))
+            .filter(Objects::nonNull)
+            .map(Object::toString)
+            .collect(Collectors.toList());
+        Map<String, PlaylistItemFeedback> feedback = likeDislikeRedisService.getFeedbackForItems(
+            roomIdStr,
+            playlistItemIds,
+            userId.toString()
+        );
+
+        // Step 7: Convert to DTOs and enrich with like/dislike counts
         List<PlaylistItemDTO> playlistItemDTOs = playlistItems
             .stream()
-            .map(item -> convertToPlaylistItemDTO(item, roomIdStr, userDisplayNames))
+            .map(item -> convertToPlaylistItemDTO(item, roomIdStr, userDisplayNames, feedback))
             .filter(Objects::nonNull)
             .sorted(Comparator.comparing(PlaylistItemDTO::getSequenceNumber))
             .collect(Collectors.toList());
@@ -276,14 +417,20 @@ public class PlaylistService {
 
     /**
      * Convert a Redis playlist item map to PlaylistItemDTO.
-     * Enriches with like/dislike counts from Redis.
+     * Enriches with like/dislike counts prefetched from Redis.
      *
      * @param item Redis hash data
      * @param roomId Room UUID string
      * @param userDisplayNames Map of user IDs to display names
+     * @param feedback Map of playlist item IDs to like/dislike feedback
      * @return PlaylistItemDTO or null if conversion fails
      */
-    private PlaylistItemDTO convertToPlaylistItemDTO(Map<Object, Object> item, String roomId, Map<String, String> userDisplayNames) {
+    private PlaylistItemDTO convertToPlaylistItemDTO(
+        Map<Object, Object> item,
+        String roomId,
+        Map<String, String> userDisplayNames,
+        Map<String, PlaylistItemFeedback> feedback
+    ) {
         try {
             PlaylistItemDTO dto = new PlaylistItemDTO();
 
@@ -312,11 +459,16 @@ public class PlaylistService {
             dto.setAddedByDisplayName(addedById != null ? userDisplayNames.getOrDefault(addedById, "Unknown User") : "Unknown User");
 
             // Like/dislike counts from Redis
-            long likeCount = likeDislikeRedisService.getLikeCount(roomId, playlistItemId);
-            long dislikeCount = likeDislikeRedisService.getDislikeCount(roomId, playlistItemId);
-
-            dto.setLikeCount(likeCount);
-            dto.setDislikeCount(dislikeCount);
+            PlaylistItemFeedback itemFeedback = feedback.get(playlistItemId);
+            if (itemFeedback != null) {
+                dto.setLikeCount(itemFeedback.getLikeCount());
+                dto.setDislikeCount(itemFeedback.getDislikeCount());
+                dto.setLikedByUser(itemFeedback.getLikedByUser());
+                dto.setDislikedByUser(itemFeedback.getDislikedByUser());
+            } else {
+                dto.setLikeCount(0L);
+                dto.setDislikeCount(0L);
+            }
 
             return dto;
         } catch (Exception e) {
@@ -348,4 +500,5 @@ public class PlaylistService {
             return null;
         }
     }
+
 }
@@ -0,0 +1,135 @@
+package com.partywave.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.exception.RateLimitExceededException;
+import com.partywave.backend.service.redis.RateLimitRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Per user, per room rate limiting for room actions, shared by all nodes.
+ * Based on REDIS_ARCHITECTURE.md section 4.9 - Rate Limits.
+ *
+ * Each Policy allows at most `limit` requests in any `period-seconds` window
+ * (application.rate-limit.{policy}), enforced by one atomic GCRA script in Redis
+ * (RateLimitRedisService).
+ *
+ * Business rules:
+ * - A permit is taken when the check passes; rejected requests do not use up permits
+ * - Local pre-filter (application.rate-limit.local-pre-filter): after Redis rejected a subject,
+ *   this node rejects it locally until the returned retry time, so floods cost no network hop.
+ *   GCRA state only moves on allowed requests, so the subject cannot be allowed sooner.
+ * - Redis failures allow the request (fail open), as chat rate limiting always did
+ * - Metrics: partywave.ratelimit.rejected{policy, source=local|redis}
+ */
+@Component
+public class RateLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(RateLimiter.class);
+
+    private static final long LOCAL_BLOCK_MAXIMUM_SIZE = 100000;
+
+    /**
+     * Named rate limit policies.
+     */
+    public enum Policy {
+        CHAT("chat"),
+        VOTE("vote"),
+        LIKE("like"),
+        TRACK_ADD("track-add");
+
+        private final String key;
+
+        Policy(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+    }
+
+    private final RateLimitRedisService rateLimitRedisService;
+    private final MeterRegistry meterRegistry;
+    private final boolean localPreFilter;
+    private final Map<Policy, ApplicationProperties.RateLimit.Policy> policies = new EnumMap<>(Policy.class);
+
+    /** Subject key → epoch ms until which Redis will reject it. */
+    private final Cache<String, Long> localBlocks;
+
+    public RateLimiter(
+        RateLimitRedisService rateLimitRedisService,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.rateLimitRedisService = rateLimitRedisService;
+        this.meterRegistry = meterRegistry;
+
+        ApplicationProperties.RateLimit properties = applicationProperties.getRateLimit();
+        this.localPreFilter = properties.isLocalPreFilter();
+        policies.put(Policy.CHAT, properties.getChat());
+        policies.put(Policy.VOTE, properties.getVote());
+        policies.put(Policy.LIKE, properties.getLike());
+        policies.put(Policy.TRACK_ADD, properties.getTrackAdd());
+
+        // A block never outlasts one emission interval, which is at most the longest period
+        long longestPeriodSeconds = policies
+            .values()
+            .stream()
+            .mapToLong(ApplicationProperties.RateLimit.Policy::getPeriodSeconds)
+            .max()
+            .orElse(60);
+        this.localBlocks = Caffeine.newBuilder()
+            .maximumSize(LOCAL_BLOCK_MAXIMUM_SIZE)
+            .expireAfterWrite(Duration.ofSeconds(Math.max(1, longestPeriodSeconds)))
+            .build();
+    }
+
+    /**
+     * Take a permit for a user's action in a room.
+     *
+     * @param policy Rate limit policy
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @throws RateLimitExceededException if the user has no permit left
+     */
+    public void checkLimit(Policy policy, UUID roomId, UUID userId) {
+        ApplicationProperties.RateLimit.Policy properties = policies.get(policy);
+        String subject = roomId + ":" + userId;
+        String localKey = policy.getKey() + ":" + subject;
+        long now = System.currentTimeMillis();
+
+        if (localPreFilter) {
+            Long blockedUntil = localBlocks.getIfPresent(localKey);
+            if (blockedUntil != null && blockedUntil > now) {
+                meterRegistry.counter("partywave.ratelimit.rejected", "policy", policy.getKey(), "source", "local").increment();
+                long retryAfterMs = blockedUntil - now;
+                throw new RateLimitExceededException(policy.getKey(), properties.getLimit(), properties.getPeriodSeconds(), retryAfterMs);
+            }
+        }
+
+        long periodMs = Duration.ofSeconds(properties.getPeriodSeconds()).toMillis();
+        long intervalMs = Math.max(1, periodMs / Math.max(1, properties.getLimit()));
+        long toleranceMs = Math.max(0, periodMs - intervalMs);
+
+        Long retryAfterMs = rateLimitRedisService.acquire(policy.getKey(), subject, intervalMs, toleranceMs);
+        if (retryAfterMs == null || retryAfterMs == 0) {
+            return;
+        }
+
+        if (localPreFilter) {
+            localBlocks.put(localKey, now + retryAfterMs);
+        }
+        meterRegistry.counter("partywave.ratelimit.rejected", "policy", policy.getKey(), "source", "redis").increment();
+        LOG.warn("{} rate limit exceeded for user {} in room {}, retry in {} ms", policy.getKey(), userId, roomId, retryAfterMs);
+        throw new RateLimitExceededException(policy.getKey(), properties.getLimit(), properties.getPeriodSeconds(), retryAfterMs);
+    }
+}
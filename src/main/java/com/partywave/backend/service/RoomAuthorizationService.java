@@ -0,0 +1,262 @@
+package com.partywave.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.config.CacheConfiguration;
+import com.partywave.backend.domain.enumeration.RoomMemberRole;
+import com.partywave.backend.exception.ForbiddenException;
+import com.partywave.backend.exception.ResourceNotFoundException;
+import com.partywave.backend.repository.RoomMemberRepository;
+import com.partywave.backend.repository.RoomRepository;
+import com.partywave.backend.service.redis.RoomMembershipLookup;
+import com.partywave.backend.service.redis.RoomMembershipRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Room membership and role checks shared by all services and controllers.
+ * Based on PROJECT_OVERVIEW.md section 2.3 and REDIS_ARCHITECTURE.md section 4.6.
+ *
+ * Lookup order:
+ * 1. Local in-memory cache (application.room.membership-cache.local-*)
+ * 2. Redis hash of the room's active members' roles (one HMGET)
+ * 3. PostgreSQL: all active members of the room in one query, which then fill the Redis hash
+ *
+ * Key structure:
+ * - Invalidation channel: partywave:room:membership-invalidated (pub/sub, message = {roomId}:{userId})
+ *
+ * Business rules:
+ * - An active member implies the room exists, so callers only need to check the room when the
+ *   user is not a member (to tell 404 from 403)
+ * - memberJoined / memberLeft must be called by every change of room_member (create, join,
+ *   leave, kick); they update Redis after the transaction commits and evict the user on every node
+ * - memberLeft also publishes MemberRemovedEvent after commit, so RoomEventBus drops the user's
+ *   WebSocket subscriptions to the room
+ * - Metrics: cache.* with cache=roomMembershipLocal
+ */
+@Service
+public class RoomAuthorizationService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomAuthorizationService.class);
+
+    private static final String INVALIDATION_CHANNEL = CacheConfiguration.KEY_PREFIX + "room:membership-invalidated";
+    private static final String LOCAL_CACHE_NAME = "roomMembershipLocal";
+
+    private final RoomMemberRepository roomMemberRepository;
+    private final RoomRepository roomRepository;
+    private final RoomMembershipRedisService roomMembershipRedisService;
+    private final RedissonClient redissonClient;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long redisTtlSeconds;
+
+    private final Cache<String, RoomMembershipLookup> localMemberships;
+
+    private RTopic invalidationTopic;
+    private int listenerId = -1;
+
+    public RoomAuthorizationService(
+        RoomMemberRepository roomMemberRepository,
+        RoomRepository roomRepository,
+        RoomMembershipRedisService roomMembershipRedisService,
+        RedissonClient redissonClient,
+        ApplicationEventPublisher eventPublisher,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.roomMemberRepository = roomMemberRepository;
+        this.roomRepository = roomRepository;
+        this.roomMembershipRedisService = roomMembershipRedisService;
+        this.redissonClient = redissonClient;
+        this.eventPublisher = eventPublisher;
+
+        ApplicationProperties.Room.MembershipCache properties = applicationProperties.getRoom().getMembershipCache();
+        this.redisTtlSeconds = properties.getRedisTtlSeconds();
+        this.localMemberships = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localMemberships, LOCAL_CACHE_NAME);
+    }
+
+    @PostConstruct
+    public void subscribe() {
+        invalidationTopic = redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE);
+        listenerId = invalidationTopic.addListener(String.class, (channel, membershipKey) -> localMemberships.invalidate(membershipKey));
+        log.debug("Subscribed to room membership invalidation channel {}", INVALIDATION_CHANNEL);
+    }
+
+    @PreDestroy
+    public void unsubscribe() {
+        if (invalidationTopic != null && listenerId != -1) {
+            invalidationTopic.removeListener(listenerId);
+        }
+    }
+
+    // ========================================
+    // Checks
+    // ========================================
+
+    /**
+     * Get a user's role in a room.
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @return Role, or empty if the user is not an active member
+     */
+    public Optional<RoomMemberRole> getActiveRole(UUID roomId, UUID userId) {
+        // Loaded atomically per key, so an invalidation during the load cannot be overwritten by a stale role
+        RoomMembershipLookup lookup = localMemberships.get(buildMembershipKey(roomId, userId), key -> lookUp(roomId, userId));
+        return Optional.ofNullable(lookup.getRole());
+    }
+
+    /**
+     * Require a user to be an active member of a room.
+     * The room lookup only runs when the user is not a member, to tell a missing room (404) from a non-member (403).
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @throws ResourceNotFoundException if the room doesn't exist
+     * @throws ForbiddenException if the user is not an active member of the room
+     */
+    public void requireActiveMember(UUID roomId, UUID userId) {
+        if (isActiveMember(roomId, userId)) {
+            return;
+        }
+        if (!roomRepository.existsById(roomId)) {
+            log.error("Room not found with id: {}", roomId);
+            throw new ResourceNotFoundException("Room", "id", roomId);
+        }
+        log.error("User {} is not a member of room {}", userId, roomId);
+        throw new ForbiddenException("User is not a member of this room");
+    }
+
+    /**
+     * Check if a user is an active member of a room.
+     */
+    public boolean isActiveMember(UUID roomId, UUID userId) {
+        return getActiveRole(roomId, userId).isPresent();
+    }
+
+    /**
+     * Check if a user has moderator permissions (OWNER or MODERATOR role) in a room.
+     */
+    public boolean hasModeratorPermissions(UUID roomId, UUID userId) {
+        return getActiveRole(roomId, userId)
+            .map(role -> role == RoomMemberRole.OWNER || role == RoomMemberRole.MODERATOR)
+            .orElse(false);
+    }
+
+    /**
+     * Check if a user is the owner of a room.
+     */
+    public boolean isRoomOwner(UUID roomId, UUID userId) {
+        return getActiveRole(roomId, userId).map(role -> role == RoomMemberRole.OWNER).orElse(false);
+    }
+
+    // ========================================
+    // Membership Changes
+    // ========================================
+
+    /**
+     * Record that a user became an active member (room created, joined, rejoined).
+     * Applied after the current transaction commits.
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @param role Member role
+     */
+    public void memberJoined(UUID roomId, UUID userId, RoomMemberRole role) {
+        afterCommit(() -> {
+            roomMembershipRedisService.putMember(roomId.toString(), userId.toString(), role, redisTtlSeconds);
+            invalidate(roomId, userId);
+        });
+    }
+
+    /**
+     * Record that a user is no longer an active member (left, kicked).
+     * Applied after the current transaction commits, together with MemberRemovedEvent.
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     */
+    public void memberLeft(UUID roomId, UUID userId) {
+        afterCommit(() -> {
+            roomMembershipRedisService.removeMember(roomId.toString(), userId.toString(), redisTtlSeconds);
+            invalidate(roomId, userId);
+            eventPublisher.publishEvent(new MemberRemovedEvent(roomId, userId));
+        });
+    }
+
+    // ========================================
+    // Helper Methods
+    // ========================================
+
+    private RoomMembershipLookup lookUp(UUID roomId, UUID userId) {
+        RoomMembershipLookup cached = roomMembershipRedisService.getRole(roomId.toString(), userId.toString());
+        if (cached.isKnown()) {
+            return cached;
+        }
+
+        Map<UUID, RoomMemberRole> roles = new HashMap<>();
+        for (Object[] row : roomMemberRepository.findActiveMemberRoles(roomId)) {
+            roles.put((UUID) row[0], (RoomMemberRole) row[1]);
+        }
+        roomMembershipRedisService.loadMembers(roomId.toString(), roles, redisTtlSeconds);
+        log.debug("Loaded {} active members of room {} from database", roles.size(), roomId);
+
+        RoomMemberRole role = roles.get(userId);
+        return role != null ? RoomMembershipLookup.member(role) : RoomMembershipLookup.notMember();
+    }
+
+    private void invalidate(UUID roomId, UUID userId) {
+        String membershipKey = buildMembershipKey(roomId, userId);
+        localMemberships.invalidate(membershipKey);
+        try {
+            redissonClient.getTopic(INVALIDATION_CHANNEL, StringCodec.INSTANCE).publishAsync(membershipKey);
+        } catch (Exception e) {
+            log.error("Failed to broadcast membership change of user {} in room {}, other nodes expire it by TTL", userId, roomId, e);
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            }
+        );
+    }
+
+    private static String buildMembershipKey(UUID roomId, UUID userId) {
+        return roomId + ":" + userId;
+    }
+
+    /**
+     * Published after commit when a user stops being an active member of a room (left, kicked).
+     */
+    public record MemberRemovedEvent(UUID roomId, UUID userId) {}
+}
@@ -0,0 +1,501 @@
+package com.partywave.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.config.CacheConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.security.Principal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeTypeUtils;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+/**
+ * Cluster-wide event bus for room events, on Redis pub/sub through the Redisson client.
+ * Based on PROJECT_OVERVIEW.md section 3 - Real-Time Communication (WebSocket Events).
+ *
+ * Key structure:
+ * - Channel: partywave:events:room:{roomId} (one pub/sub channel per room)
+ * - Message: "{published_at_ms}|{event JSON}" (serialized once by the publishing node)
+ * - Control message: "evict:{userId}" (the user is no longer a member; drop their subscriptions to the room)
+ *
+ * Flow:
+ * 1. Any node publishes a room event to the room channel (non-blocking PUBLISH)
+ * 2. Each node subscribes to a room channel only while it has local STOMP subscribers for that room
+ *    (reference-counted from SessionSubscribeEvent / SessionUnsubscribeEvent / SessionDisconnectEvent)
+ * 3. Received messages go into a bounded local queue; a single dispatcher thread drains it in batches
+ *    and hands the pre-serialized payload to the local broker for fan-out to the room's sessions
+ * 4. When a member leaves or is kicked, an evict message follows the room's events on the same channel;
+ *    every node unsubscribes that user's local sessions from the room in the broker, so a client that
+ *    ignores USER_KICKED stops receiving room events
+ *
+ * Backpressure:
+ * - When the local queue is full, new events are dropped and counted (clients resync via REST)
+ * - An event that fails to deliver is dropped and counted; the rest of its batch is still delivered
+ * - Metrics: partywave.events.published / received / delivered / dropped, queue size, subscribed rooms,
+ *   dispatch batch size and publish-to-delivery lag
+ */
+@Service
+public class RoomEventBus {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomEventBus.class);
+
+    private static final String ROOM_CHANNEL_PREFIX = CacheConfiguration.KEY_PREFIX + "events:room:";
+    private static final char ENVELOPE_SEPARATOR = '|';
+    private static final String EVICT_PREFIX = "evict:";
+    private static final long DISPATCH_POLL_TIMEOUT_MS = 1000;
+
+    private final RedissonClient redissonClient;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final ApplicationProperties.Events properties;
+
+    /**
+     * Local room subscriptions: roomId -> Redis listener and local subscriber count.
+     */
+    private final Map<String, RoomChannelSubscription> roomSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * STOMP subscriptions per session: sessionId -> (subscriptionId -> roomId).
+     */
+    private final Map<String, Map<String, String>> sessionSubscriptions = new ConcurrentHashMap<>();
+
+    /**
+     * Authenticated user of each session with room subscriptions: sessionId -> userId.
+     */
+    private final Map<String, String> sessionUsers = new ConcurrentHashMap<>();
+
+    private final BlockingQueue<PendingEvent> dispatchQueue;
+
+    private final Counter publishedCounter;
+    private final Counter receivedCounter;
+    private final Counter deliveredCounter;
+    private final Counter droppedQueueFullCounter;
+    private final Counter droppedPublishFailedCounter;
+    private final Counter droppedDeliveryFailedCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer deliveryLagTimer;
+
+    private volatile boolean running;
+    private Thread dispatcherThread;
+
+    public RoomEventBus(
+        RedissonClient redissonClient,
+        SimpMessagingTemplate messagingTemplate,
+        ObjectMapper objectMapper,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.redissonClient = redissonClient;
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = applicationProperties.getEvents();
+        this.dispatchQueue = new ArrayBlockingQueue<>(properties.getLocalQueueCapacity());
+
+        this.publishedCounter = Counter.builder("partywave.events.published")
+            .description("Room events published to the cluster event bus")
+            .register(meterRegistry);
+        this.receivedCounter = Counter.builder("partywave.events.received")
+            .description("Room events received from the cluster event bus for locally subscribed rooms")
+            .register(meterRegistry);
+        this.deliveredCounter = Counter.builder("partywave.events.delivered")
+            .description("Room events handed to the local broker for fan-out")
+            .register(meterRegistry);
+        this.droppedQueueFullCounter = Counter.builder("partywave.events.dropped")
+            .description("Room events dropped under backpressure")
+            .tag("cause", "queue-full")
+            .register(meterRegistry);
+        this.droppedPublishFailedCounter = Counter.builder("partywave.events.dropped")
+            .description("Room events dropped under backpressure")
+            .tag("cause", "publish-failed")
+            .register(meterRegistry);
+        this.droppedDeliveryFailedCounter = Counter.builder("partywave.events.dropped")
+            .description("Room events dropped under backpressure")
+            .tag("cause", "delivery-failed")
+            .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("partywave.events.dispatch.batch-size")
+            .description("Number of room events dispatched per batch")
+            .register(meterRegistry);
+        this.deliveryLagTimer = Timer.builder("partywave.events.delivery.lag")
+            .description("Time from publish on any node to local broker hand-off")
+            .register(meterRegistry);
+        Gauge.builder("partywave.events.queue.size", dispatchQueue, BlockingQueue::size)
+            .description("Room events waiting in the local dispatch queue")
+            .register(meterRegistry);
+        Gauge.builder("partywave.events.subscribed-rooms", roomSubscriptions, Map::size)
+            .description("Rooms this node is subscribed to on the cluster event bus")
+            .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        dispatcherThread = new Thread(this::dispatchLoop, "partywave-room-events");
+        dispatcherThread.setDaemon(true);
+        dispatcherThread.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        roomSubscriptions.forEach((roomId, subscription) -> {
+            Integer listenerId = subscription.listenerId.getNow(null);
+            if (listenerId != null) {
+                getRoomTopic(roomId).removeListener(listenerId);
+            }
+        });
+        roomSubscriptions.clear();
+    }
+
+    // ========================================
+    // Publishing
+    // ========================================
+
+    /**
+     * Publish an event to all nodes that have subscribers for the room.
+     * Non-blocking: the PUBLISH is sent asynchronously and failures are only logged.
+     *
+     * @param roomId Room UUID
+     * @param event Event DTO (serialized to JSON once, here)
+     */
+    public void publish(String roomId, Object event) {
+        String payload;
+        try {
+            payload = objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            log.error("Failed to serialize {} for room {}", event.getClass().getSimpleName(), roomId, e);
+            return;
+        }
+
+        String envelope = System.currentTimeMillis() + String.valueOf(ENVELOPE_SEPARATOR) + payload;
+        getRoomTopic(roomId)
+            .publishAsync(envelope)
+            .whenComplete((receivers, error) -> {
+                if (error == null) {
+                    publishedCounter.increment();
+                    return;
+                }
+                log.warn("Failed to publish {} to room {} on event bus: {}", event.getClass().getSimpleName(), roomId, error.getMessage());
+                // Still deliver to this node's subscribers
+                if (roomSubscriptions.containsKey(roomId)) {
+                    enqueue(roomId, envelope);
+                } else {
+                    droppedPublishFailedCounter.increment();
+                }
+            });
+    }
+
+    /**
+     * Remove a user's subscriptions to a room on every node, after their membership ended.
+     * Sent on the room channel, so events published before it (e.g. USER_KICKED) still reach the user.
+     *
+     * @param event Membership that ended
+     */
+    @EventListener
+    public void onMemberRemoved(RoomAuthorizationService.MemberRemovedEvent event) {
+        String roomId = event.roomId().toString();
+        getRoomTopic(roomId)
+            .publishAsync(EVICT_PREFIX + event.userId())
+            .whenComplete((receivers, error) -> {
+                if (error != null) {
+                    log.warn("Failed to publish eviction of user {} from room {}: {}", event.userId(), roomId, error.getMessage());
+                    // Still evict this node's sessions
+                    if (roomSubscriptions.containsKey(roomId)) {
+                        enqueue(roomId, EVICT_PREFIX + event.userId());
+                    }
+                }
+            });
+    }
+
+    // ========================================
+    // Local subscription tracking
+    // ========================================
+
+    @EventListener
+    public void onSessionSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String roomId = parseRoomId(accessor.getDestination());
+        String sessionId = accessor.getSessionId();
+        String subscriptionId = accessor.getSubscriptionId();
+        if (roomId == null || sessionId == null || subscriptionId == null) {
+            return;
+        }
+
+        String userId = extractUserId(event.getUser());
+        if (userId != null) {
+            sessionUsers.put(sessionId, userId);
+        }
+        String previous = sessionSubscriptions.computeIfAbsent(sessionId, k -> new ConcurrentHashMap<>()).put(subscriptionId, roomId);
+        if (previous == null) {
+            retainRoom(roomId);
+        } else if (!previous.equals(roomId)) {
+            retainRoom(roomId);
+            releaseRoom(previous);
+        }
+    }
+
+    @EventListener
+    public void onSessionUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null ? sessionSubscriptions.get(accessor.getSessionId()) : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String roomId = subscriptions.remove(accessor.getSubscriptionId());
+        if (roomId != null) {
+            releaseRoom(roomId);
+        }
+    }
+
+    @EventListener
+    public void onSessionDisconnect(SessionDisconnectEvent event) {
+        sessionUsers.remove(event.getSessionId());
+        Map<String, String> subscriptions = sessionSubscriptions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::releaseRoom);
+        }
+    }
+
+    /**
+     * Add a local subscriber for a room, subscribing this node to the room channel on the first one.
+     * The Redis subscription is made asynchronously, outside the map's compute lock.
+     */
+    private void retainRoom(String roomId) {
+        RoomChannelSubscription[] created = new RoomChannelSubscription[1];
+        roomSubscriptions.compute(roomId, (key, subscription) -> {
+            if (subscription != null) {
+                subscription.localSubscribers++;
+                return subscription;
+            }
+            created[0] = new RoomChannelSubscription();
+            return created[0];
+        });
+
+        RoomChannelSubscription subscription = created[0];
+        if (subscription == null) {
+            return;
+        }
+        getRoomTopic(roomId)
+            // Only the current subscription of the room delivers, so a listener that is still being
+            // removed cannot deliver an event twice after a quick unsubscribe/subscribe
+            .addListenerAsync(String.class, (channel, message) -> {
+                if (roomSubscriptions.get(roomId) == subscription) {
+                    enqueue(roomId, message);
+                }
+            })
+            .whenComplete((listenerId, error) -> {
+                if (error != null) {
+                    log.warn("Failed to subscribe to event bus channel for room {}: {}", roomId, error.getMessage());
+                    roomSubscriptions.remove(roomId, subscription);
+                    subscription.listenerId.completeExceptionally(error);
+                    return;
+                }
+                log.debug("Subscribed to event bus channel for room {}", roomId);
+                subscription.listenerId.complete(listenerId);
+            });
+    }
+
+    /**
+     * Remove a local subscriber for a room, unsubscribing this node from the room channel on the last one.
+     * The Redis unsubscribe is made asynchronously, outside the map's compute lock.
+     */
+    private void releaseRoom(String roomId) {
+        RoomChannelSubscription[] removed = new RoomChannelSubscription[1];
+        roomSubscriptions.computeIfPresent(roomId, (key, subscription) -> {
+            if (--subscription.localSubscribers > 0) {
+                return subscription;
+            }
+            removed[0] = subscription;
+            return null;
+        });
+
+        if (removed[0] == null) {
+            return;
+        }
+        removed[0].listenerId.thenAccept(listenerId ->
+            getRoomTopic(roomId)
+                .removeListenerAsync(listenerId)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        log.warn("Failed to unsubscribe from event bus channel for room {}: {}", roomId, error.getMessage());
+                    } else {
+                        log.debug("Unsubscribed from event bus channel for room {}", roomId);
+                    }
+                })
+        );
+    }
+
+    // ========================================
+    // Local dispatch
+    // ========================================
+
+    private void enqueue(String roomId, String envelope) {
+        receivedCounter.increment();
+        if (!dispatchQueue.offer(new PendingEvent(roomId, envelope))) {
+            droppedQueueFullCounter.increment();
+            log.warn("Room event dispatch queue full, dropping event for room {}", roomId);
+        }
+    }
+
+    private void dispatchLoop() {
+        int batchSize = properties.getDispatchBatchSize();
+        List<PendingEvent> batch = new ArrayList<>(batchSize);
+
+        while (running) {
+            try {
+                PendingEvent first = dispatchQueue.poll(DISPATCH_POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                dispatchQueue.drainTo(batch, batchSize - 1);
+                batchSizeSummary.record(batch.size());
+
+                for (PendingEvent pendingEvent : batch) {
+                    try {
+                        deliver(pendingEvent);
+                    } catch (Exception e) {
+                        droppedDeliveryFailedCounter.increment();
+                        log.error("Failed to deliver room event for room {}", pendingEvent.roomId(), e);
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                log.error("Room event dispatch failed", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void deliver(PendingEvent pendingEvent) {
+        String envelope = pendingEvent.envelope();
+        if (envelope.startsWith(EVICT_PREFIX)) {
+            evictLocalSubscriptions(pendingEvent.roomId(), envelope.substring(EVICT_PREFIX.length()));
+            return;
+        }
+
+        int separator = envelope.indexOf(ENVELOPE_SEPARATOR);
+        if (separator <= 0) {
+            log.warn("Discarding malformed event bus message for room {}", pendingEvent.roomId());
+            return;
+        }
+
+        long publishedAtMs = Long.parseLong(envelope.substring(0, separator));
+        byte[] payload = envelope.substring(separator + 1).getBytes(StandardCharsets.UTF_8);
+
+        // Payload is already JSON: send it as-is instead of re-serializing per node
+        SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        headers.setContentType(MimeTypeUtils.APPLICATION_JSON);
+        headers.setLeaveMutable(true);
+        Message<byte[]> message = MessageBuilder.createMessage(payload, headers.getMessageHeaders());
+
+        messagingTemplate.send(RoomEventPublisher.ROOM_TOPIC_PREFIX + pendingEvent.roomId(), message);
+        deliveredCounter.increment();
+        deliveryLagTimer.record(Math.max(0, System.currentTimeMillis() - publishedAtMs), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Unsubscribe a user's local sessions from a room in the broker (as if the client had sent UNSUBSCRIBE).
+     */
+    private void evictLocalSubscriptions(String roomId, String userId) {
+        sessionUsers.forEach((sessionId, sessionUserId) -> {
+            Map<String, String> subscriptions = sessionUserId.equals(userId) ? sessionSubscriptions.get(sessionId) : null;
+            if (subscriptions == null) {
+                return;
+            }
+            subscriptions.forEach((subscriptionId, subscribedRoomId) -> {
+                if (subscribedRoomId.equals(roomId) && subscriptions.remove(subscriptionId, subscribedRoomId)) {
+                    SimpMessageHeaderAccessor headers = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+                    headers.setSessionId(sessionId);
+                    headers.setSubscriptionId(subscriptionId);
+                    headers.setLeaveMutable(true);
+                    messagingTemplate.send(
+                        RoomEventPublisher.ROOM_TOPIC_PREFIX + roomId,
+                        MessageBuilder.createMessage(new byte[0], headers.getMessageHeaders())
+                    );
+                    releaseRoom(roomId);
+                    log.debug("Evicted subscription {} of user {} (session {}) from room {}", subscriptionId, userId, sessionId, roomId);
+                }
+            });
+        });
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private String extractUserId(Principal user) {
+        if (user instanceof Authentication authentication && authentication.getPrincipal() instanceof Jwt jwt) {
+            return jwt.getSubject();
+        }
+        return null;
+    }
+
+    private RTopic getRoomTopic(String roomId) {
+        return redissonClient.getTopic(ROOM_CHANNEL_PREFIX + roomId, StringCodec.INSTANCE);
+    }
+
+    /**
+     * Extract the room ID from a room topic destination ({@code /topic/room/{roomId}} or a sub-topic of it).
+     */
+    private String parseRoomId(String destination) {
+        if (destination == null || !destination.startsWith(RoomEventPublisher.ROOM_TOPIC_PREFIX)) {
+            return null;
+        }
+        String rest = destination.substring(RoomEventPublisher.ROOM_TOPIC_PREFIX.length());
+        int slash = rest.indexOf('/');
+        String roomId = slash >= 0 ? rest.substring(0, slash) : rest;
+        return roomId.isEmpty() ? null : roomId;
+    }
+
+    private record PendingEvent(String roomId, String envelope) {}
+
+    /**
+     * Redis listener registration for a room channel and the number of local STOMP subscriptions using it.
+     * localSubscribers is mutated only inside ConcurrentHashMap compute functions; listenerId completes
+     * when the asynchronous Redis subscription is made.
+     */
+    private static final class RoomChannelSubscription {
+
+        private final CompletableFuture<Integer> listenerId = new CompletableFuture<>();
+        private int localSubscribers = 1;
+    }
+}
@@ -0,0 +1,47 @@
+package com.partywave.backend.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Publishes real-time room events to WebSocket subscribers.
+ * Based on PROJECT_OVERVIEW.md section 3 - Real-Time Communication (WebSocket Events).
+ *
+ * Destination: /topic/room/{roomId}
+ * Payloads are the existing event DTOs (TrackStartEventDTO, ChatMessageEventDTO,
+ * PlaylistItemAddedEventDTO, PlaylistItemStatsEventDTO, VoteEventDTO); clients dispatch on their "type" field.
+ *
+ * Events go through the cluster-wide RoomEventBus, so members connected to any node receive them.
+ *
+ * Publishing is best-effort: failures are logged and never propagated to the caller,
+ * since the state change has already been committed and clients can resync via REST.
+ */
+@Service
+public class RoomEventPublisher {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomEventPublisher.class);
+
+    public static final String ROOM_TOPIC_PREFIX = "/topic/room/";
+
+    private final RoomEventBus roomEventBus;
+
+    public RoomEventPublisher(RoomEventBus roomEventBus) {
+        this.roomEventBus = roomEventBus;
+    }
+
+    /**
+     * Publish an event to all subscribers of a room.
+     *
+     * @param roomId Room UUID
+     * @param event Event DTO
+     */
+    public void publishToRoom(String roomId, Object event) {
+        try {
+            roomEventBus.publish(roomId, event);
+            log.debug("Published {} to room {}", event.getClass().getSimpleName(), roomId);
+        } catch (Exception e) {
+            log.error("Failed to publish {} to room {}", event.getClass().getSimpleName(), roomId, e);
+        }
+    }
+}
@@ -1,11 +1,9 @@
 package com.partywave.backend.service;
 
 import com.partywave.backend.domain.AppUser;
-import com.partywave.backend.domain.ChatMessage;
 import com.partywave.backend.domain.Room;
 import com.partywave.backend.domain.RoomInvitation;
 import com.partywave.backend.domain.RoomMember;
-import com.partywave.backend.domain.Tag;
 import com.partywave.backend.domain.enumeration.RoomMemberRole;
 import com.partywave.backend.exception.AlreadyMemberException;
 import com.partywave.backend.exception.InvalidInvitationException;
@@ -14,12 +12,10 @@ import com.partywave.backend.exception.ResourceNotFoundException;
 import com.partywave.backend.exception.RoomFullException;
 import com.partywave.backend.exception.UnauthorizedRoomAccessException;
 import com.partywave.backend.repository.AppUserRepository;
-import com.partywave.backend.repository.ChatMessageRepository;
 import com.partywave.backend.repository.RoomAccessRepository;
 import com.partywave.backend.repository.RoomInvitationRepository;
 import com.partywave.backend.repository.RoomMemberRepository;
 import com.partywave.backend.repository.RoomRepository;
-import com.partywave.backend.repository.TagRepository;
 import com.partywave.backend.repository.specification.RoomSpecifications;
 import com.partywave.backend.service.dto.*;
 import com.partywave.backend.service.mapper.RoomMapper;
@@ -27,7 +23,9 @@ import com.partywave.backend.service.mapper.TagMapper;
 import com.partywave.backend.service.redis.LikeDislikeRedisService;
 import com.partywave.backend.service.redis.OnlineMembersRedisService;
 import com.partywave.backend.service.redis.PlaybackRedisService;
+import com.partywave.backend.service.redis.PlaylistItemFeedback;
 import com.partywave.backend.service.redis.PlaylistRedisService;
+import com.partywave.backend.service.redis.VoteRedisService;
 import java.time.Instant;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -35,7 +33,6 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
-import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.redis.core.RedisTemplate;
@@ -58,9 +55,9 @@ public class RoomService {
     private final RoomMemberRepository roomMemberRepository;
     private final RoomAccessRepository roomAccessRepository;
     private final RoomInvitationRepository roomInvitationRepository;
-    private final TagRepository tagRepository;
+    private final TagService tagService;
     private final AppUserRepository appUserRepository;
-    private final ChatMessageRepository chatMessageRepository;
+    private final ChatService chatService;
     private final RoomMapper roomMapper;
     private final TagMapper tagMapper;
     private final OnlineMembersRedisService onlineMembersRedisService;
@@ -68,30 +65,34 @@ public class RoomService {
     private final PlaybackRedisService playbackRedisService;
     private final LikeDislikeRedisService likeDislikeRedisService;
     private final RedisTemplate<String, Object> redisTemplate;
+    private final RoomAuthorizationService roomAuthorizationService;
+    private final VoteRedisService voteRedisService;
 
     public RoomService(
         RoomRepository roomRepository,
         RoomMemberRepository roomMemberRepository,
         RoomAccessRepository roomAccessRepository,
         RoomInvitationRepository roomInvitationRepository,
-        TagRepository tagRepository,
+        TagService tagService,
         AppUserRepository appUserRepository,
-        ChatMessageRepository chatMessageRepository,
+        ChatService chatService,
         RoomMapper roomMapper,
         TagMapper tagMapper,
         OnlineMembersRedisService onlineMembersRedisService,
         PlaylistRedisService playlistRedisService,
         PlaybackRedisService playbackRedisService,
         LikeDislikeRedisService likeDislikeRedisService,
-        RedisTemplate<String, Object> redisTemplate
+        RedisTemplate<String, Object> redisTemplate,
+        RoomAuthorizationService roomAuthorizationService,
+        VoteRedisService voteRedisService
     ) {
         this.roomRepository = roomRepository;
         this.roomMemberRepository = roomMemberRepository;
         this.roomAccessRepository = roomAccessRepository;
         this.roomInvitationRepository = roomInvitationRepository;
-        this.tagRepository = tagRepository;
+        this.tagService = tagService;
         this.appUserRepository = appUserRepository;
-        this.chatMessageRepository = chatMessageRepository;
+        this.chatService = chatService;
         this.roomMapper = roomMapper;
         this.tagMapper = tagMapper;
         this.onlineMembersRedisService = onlineMembersRedisService;
@@ -99,6 +100,8 @@ public class RoomService {
         this.playbackRedisService = playbackRedisService;
         this.likeDislikeRedisService = likeDislikeRedisService;
         this.redisTemplate = redisTemplate;
+        this.roomAuthorizationService = roomAuthorizationService;
+        this.voteRedisService = voteRedisService;
     }
 
     /**
@@ -114,6 +117,7 @@ public class RoomService {
      *    - Create empty playback hash
      *    - Create empty online members set
      *    - Add creator to online members
+     *    - Mark the (empty) recent chat messages list as complete
      * 6. Return RoomResponseDTO
      *
      * @param request CreateRoomRequestDTO containing room details
@@ -162,24 +166,7 @@ public class RoomService {
 
         // Step 4: Handle tags (normalize and create if missing)
         if (request.getTags() != null && !request.getTags().isEmpty()) {
-            Set<Tag> tags = new HashSet<>();
-            for (String tagName : request.getTags()) {
-                String normalizedTagName = tagName.toLowerCase().trim();
-                if (!normalizedTagName.isEmpty()) {
-                    Tag tag = tagRepository
-                        .findAll()
-                        .stream()
-                        .filter(t -> t.getName().equalsIgnoreCase(normalizedTagName))
-                        .findFirst()
-                        .orElseGet(() -> {
-                            Tag newTag = new Tag();
-                            newTag.setName(normalizedTagName);
-                            return tagRepository.save(newTag);
-                        });
-                    tags.add(tag);
-                }
-            }
-            room.setTags(tags);
+            room.setTags(tagService.findOrCreateByNames(request.getTags()));
         }
 
         // Save room
@@ -195,6 +182,7 @@ public class RoomService {
         roomMember.setLastActiveAt(now);
 
         roomMemberRepository.save(roomMember);
+        roomAuthorizationService.memberJoined(room.getId(), creatorUserId, RoomMemberRole.OWNER);
         log.debug("Room member created with OWNER role for user: {}", creatorUserId);
 
         // Step 6: Initialize Redis state for the room
@@ -218,6 +206,9 @@ public class RoomService {
             onlineMembersRedisService.addOnlineMember(roomIdStr, userIdStr);
             log.debug("Added creator to online members for room: {}", roomIdStr);
 
+            // 6e. Mark the recent chat messages list as complete, so history is never read from PostgreSQL
+            chatService.initializeRecentMessages(room.getId());
+
             log.info("Redis state initialized for room: {}", roomIdStr);
         } catch (Exception e) {
             log.error("Failed to initialize Redis state for room: {}", roomIdStr, e);
@@ -525,7 +516,8 @@ public class RoomService {
         }
 
         roomMemberRepository.save(roomMember);
-        log.debug("Saved room member with PARTICIPANT role for user {} in room {}", userId, roomId);
+        roomAuthorizationService.memberJoined(roomId, userId, roomMember.getRole());
+        log.debug("Saved room member with {} role for user {} in room {}", roomMember.getRole(), userId, roomId);
 
         // Step 8: Add user to Redis online members
         String roomIdStr = roomId.toString();
@@ -553,7 +545,7 @@ public class RoomService {
         response.setRoom(roomDto);
 
         // 9b. Get complete playlist from Redis with metadata and feedback counts
-        List<PlaylistItemDTO> playlist = buildPlaylistResponse(roomIdStr);
+        List<PlaylistItemDTO> playlist = buildPlaylistResponse(roomIdStr, userIdStr);
         response.setPlaylist(playlist);
 
         // 9c. Get playback state from Redis (if a track is playing)
@@ -570,37 +562,73 @@ public class RoomService {
 
     /**
      * Build playlist response with track metadata and feedback counts from Redis.
+     * Adder display names are resolved from added_by_id in one query, as in PlaylistService.getPlaylist.
      *
      * @param roomId Room UUID as string
+     * @param userId Joining user's UUID as string (for their own like/dislike flags)
      * @return List of PlaylistItemDTO
      */
-    private List<PlaylistItemDTO> buildPlaylistResponse(String roomId) {
+    private List<PlaylistItemDTO> buildPlaylistResponse(String roomId, String userId) {
         try {
-            List<Map<Object, Object>> playlistItems = playlistRedisService.getAllPlaylistItems(roomId);
+            List<Map<Object, Object>> playlistItems = playlistRedisService.getAllPlaylistItems(
+                roomId,
+                PlaylistRedisService.PLAYLIST_ITEM_VIEW_FIELDS
+            );
+
+            // Like/dislike counts and user flags for all items in one pipelined batch
+            List<String> playlistItemIds = new ArrayList<>(playlistItems.size());
+            for (Map<Object, Object> item : playlistItems) {
+                String playlistItemId = getStringValue(item, "id");
+                if (playlistItemId != null) {
+                    playlistItemIds.add(playlistItemId);
+                }
+            }
+            Map<String, PlaylistItemFeedback> feedback = likeDislikeRedisService.getFeedbackForItems(roomId, playlistItemIds, userId);
+
+            // Display names of all adders in one query
+            Set<UUID> adderIds = playlistItems
+                .stream()
+                .map(item -> getStringValue(item, "added_by_id"))
+                .filter(Objects::nonNull)
+                .map(UUID::fromString)
+                .collect(Collectors.toSet());
+            Map<String, String> adderDisplayNames = new HashMap<>();
+            if (!adderIds.isEmpty()) {
+                for (AppUser adder : appUserRepository.findAllById(adderIds)) {
+                    adderDisplayNames.put(adder.getId().toString(), adder.getDisplayName());
+                }
+            }
+
             List<PlaylistItemDTO> playlist = new ArrayList<>();
 
             for (Map<Object, Object> item : playlistItems) {
                 PlaylistItemDTO dto = new PlaylistItemDTO();
                 dto.setId(getStringValue(item, "id"));
                 dto.setRoomId(getStringValue(item, "room_id"));
-                dto.setSpotifyTrackId(getStringValue(item, "spotify_track_id"));
-                dto.setTrackName(getStringValue(item, "track_name"));
-                dto.setTrackArtist(getStringValue(item, "track_artist"));
-                dto.setTrackAlbum(getStringValue(item, "track_album"));
-                dto.setTrackImageUrl(getStringValue(item, "track_image_url"));
+                dto.setSpotifyTrackId(getStringValue(item, "source_id"));
+                dto.setTrackName(getStringValue(item, "name"));
+                dto.setTrackArtist(getStringValue(item, "artist"));
+                dto.setTrackAlbum(getStringValue(item, "album"));
+                dto.setTrackImageUrl(getStringValue(item, "album_image_url"));
                 dto.setDurationMs(getLongValue(item, "duration_ms"));
                 dto.setAddedById(getStringValue(item, "added_by_id"));
-                dto.setAddedByDisplayName(getStringValue(item, "added_by_display_name"));
+                dto.setAddedByDisplayName(
+                    dto.getAddedById() != null ? adderDisplayNames.getOrDefault(dto.getAddedById(), "Unknown User") : "Unknown User"
+                );
                 dto.setAddedAtMs(getLongValue(item, "added_at_ms"));
                 dto.setSequenceNumber(getLongValue(item, "sequence_number"));
                 dto.setStatus(getStringValue(item, "status"));
 
-                // Get like/dislike counts from Redis
-                String playlistItemId = dto.getId();
-                long likeCount = likeDislikeRedisService.getLikeCount(roomId, playlistItemId);
-                long dislikeCount = likeDislikeRedisService.getDislikeCount(roomId, playlistItemId);
-                dto.setLikeCount(likeCount);
-                dto.setDislikeCount(dislikeCount);
+                PlaylistItemFeedback itemFeedback = dto.getId() != null ? feedback.get(dto.getId()) : null;
+                if (itemFeedback != null) {
+                    dto.setLikeCount(itemFeedback.getLikeCount());
+                    dto.setDislikeCount(itemFeedback.getDislikeCount());
+                    dto.setLikedByUser(itemFeedback.getLikedByUser());
+                    dto.setDislikedByUser(itemFeedback.getDislikedByUser());
+                } else {
+                    dto.setLikeCount(0L);
+                    dto.setDislikeCount(0L);
+                }
 
                 playlist.add(dto);
             }
@@ -643,7 +671,7 @@ public class RoomService {
     }
 
     /**
-     * Build chat history response from PostgreSQL.
+     * Build chat history response from the recent chat messages list (backfilled from PostgreSQL when cold).
      * Fetches last 50 messages ordered by sentAt descending (newest first).
      *
      * @param roomId Room UUID
@@ -652,24 +680,7 @@ public class RoomService {
     private List<ChatMessageDTO> buildChatHistoryResponse(UUID roomId) {
         try {
             // Fetch last 50 messages (newest first)
-            PageRequest pageRequest = PageRequest.of(0, 50);
-            Page<ChatMessage> messagesPage = chatMessageRepository.findByRoomIdOrderBySentAtDesc(roomId, pageRequest);
-
-            // Convert to DTOs and reverse to show oldest first
-            List<ChatMessageDTO> chatHistory = messagesPage
-                .getContent()
-                .stream()
-                .map(message -> {
-                    ChatMessageDTO dto = new ChatMessageDTO();
-                    dto.setId(message.getId());
-                    dto.setRoomId(message.getRoom().getId());
-                    dto.setSenderId(message.getSender().getId());
-                    dto.setSenderDisplayName(message.getSender().getDisplayName());
-                    dto.setContent(message.getContent());
-                    dto.setTimestamp(message.getSentAt());
-                    return dto;
-                })
-                .collect(Collectors.toList());
+            List<ChatMessageDTO> chatHistory = new ArrayList<>(chatService.getRecentMessages(roomId, 50));
 
             // Reverse to show oldest first
             Collections.reverse(chatHistory);
@@ -687,7 +698,7 @@ public class RoomService {
      * Workflow:
      * 1. Find active RoomMember record
      * 2. Soft delete: set is_active = false, update lastActiveAt
-     * 3. Remove user from Redis online members
+     * 3. Remove user from Redis online members and clear open kick votes against them
      * 4. If no online members left, set TTL for room Redis keys (1 hour)
      *
      * @param roomId UUID of the room to leave
@@ -711,13 +722,15 @@ public class RoomService {
         roomMember.setIsActive(false);
         roomMember.setLastActiveAt(now);
         roomMemberRepository.save(roomMember);
+        roomAuthorizationService.memberLeft(roomId, userId);
         log.debug("Soft deleted room member for user {} in room {}", userId, roomId);
 
-        // Step 3: Remove user from Redis online members
+        // Step 3: Remove user from Redis online members and drop open kick votes against them
         String roomIdStr = roomId.toString();
         String userIdStr = userId.toString();
         onlineMembersRedisService.removeOnlineMember(roomIdStr, userIdStr);
-        log.debug("Removed user {} from online members for room {}", userId, roomId);
+        voteRedisService.clearKickVotes(roomIdStr, userIdStr);
+        log.debug("Removed user {} from online members and kick votes for room {}", userId, roomId);
 
         // Step 4: Check if room has any online members left
         boolean hasOnlineMembers = onlineMembersRedisService.hasOnlineMembers(roomIdStr);
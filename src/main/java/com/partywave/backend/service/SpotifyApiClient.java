@@ -1,17 +1,38 @@
 package com.partywave.backend.service;
 
+import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.partywave.backend.config.ApplicationProperties;
 import com.partywave.backend.domain.AppUser;
 import com.partywave.backend.exception.SpotifyApiException;
 import com.partywave.backend.service.dto.SpotifyTrackSearchResultDTO;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.http.*;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
@@ -21,6 +42,17 @@ import org.springframework.web.util.UriComponentsBuilder;
  * Service for making Spotify API calls with automatic token refresh.
  * Provides methods for search, track retrieval, and playback control.
  * Based on SPOTIFY_SEARCH_ENDPOINTS.md and SPOTIFY_PLAYER_API_ENDPOINTS.md
+ *
+ * All calls share one JDK HttpClient (HTTP/2 with keep-alive connection reuse, connect/read
+ * timeouts from application.spotify.http). The blocking methods go through a RestTemplate on
+ * top of it; the *Async variants (search, get track, play, seek, queue) use the client's
+ * non-blocking sendAsync directly.
+ *
+ * Business rules:
+ * - Each request takes a permit from SpotifyRateLimiter (per user and global) before it is sent
+ * - 429 responses back off all requests for Retry-After and are retried up to max-retries times,
+ *   if Retry-After is at most max-retry-after-ms; otherwise the 429 fails the call
+ * - Requests rejected by the rate limiter fail with SpotifyApiException (operation=rate_limited)
  */
 @Service
 public class SpotifyApiClient {
@@ -29,14 +61,42 @@ public class SpotifyApiClient {
 
     private static final String SPOTIFY_API_BASE_URL = "https://api.spotify.com/v1";
 
+    /**
+     * Maximum number of IDs accepted by GET /v1/tracks.
+     */
+    public static final int MAX_TRACKS_PER_REQUEST = 50;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+
     private final TokenRefreshService tokenRefreshService;
+    private final SpotifyRateLimiter rateLimiter;
+    private final HttpClient httpClient;
     private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
-
-    public SpotifyApiClient(TokenRefreshService tokenRefreshService) {
+    private final Duration readTimeout;
+    private final int maxRetries;
+    private final Duration maxRetryAfter;
+
+    public SpotifyApiClient(
+        TokenRefreshService tokenRefreshService,
+        SpotifyRateLimiter rateLimiter,
+        ApplicationProperties applicationProperties
+    ) {
         this.tokenRefreshService = tokenRefreshService;
-        this.restTemplate = new RestTemplate();
-        this.objectMapper = new ObjectMapper();
+        this.rateLimiter = rateLimiter;
+
+        ApplicationProperties.Spotify.Http properties = applicationProperties.getSpotify().getHttp();
+        this.readTimeout = Duration.ofMillis(properties.getReadTimeoutMs());
+        this.maxRetries = properties.getMaxRetries();
+        this.maxRetryAfter = Duration.ofMillis(properties.getMaxRetryAfterMs());
+
+        this.httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_2)
+            .connectTimeout(Duration.ofMillis(properties.getConnectTimeoutMs()))
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.objectMapper = new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
     }
 
     /**
@@ -63,23 +123,7 @@ public class SpotifyApiClient {
         String accessToken = tokenRefreshService.getValidAccessToken(userId);
 
         // Build URL with query parameters
-        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + "/search")
-            .queryParam("q", query)
-            .queryParam("type", "track");
-
-        if (limit != null && limit > 0 && limit <= 50) {
-            builder.queryParam("limit", limit);
-        }
-
-        if (offset != null && offset >= 0) {
-            builder.queryParam("offset", offset);
-        }
-
-        if (market != null && !market.trim().isEmpty()) {
-            builder.queryParam("market", market);
-        }
-
-        String url = builder.toUriString();
+        String url = buildSearchUrl(query, limit, offset, market);
 
         // Prepare headers
         HttpHeaders headers = createAuthHeaders(accessToken);
@@ -88,7 +132,8 @@ public class SpotifyApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<SpotifyTrackSearchResultDTO> response = restTemplate.exchange(
+            ResponseEntity<SpotifyTrackSearchResultDTO> response = exchange(
+                userId,
                 url,
                 HttpMethod.GET,
                 entity,
@@ -105,6 +150,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "search tracks");
             throw new SpotifyApiException("Failed to search tracks: " + e.getMessage(), "search_tracks", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error searching tracks: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error searching tracks: " + e.getMessage(), "search_tracks", e);
@@ -149,7 +196,7 @@ public class SpotifyApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = exchange(userId, url, HttpMethod.GET, entity, String.class);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 JsonNode track = objectMapper.readTree(response.getBody());
@@ -162,12 +209,67 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "get track");
             throw new SpotifyApiException("Failed to get track: " + e.getMessage(), "get_track", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error getting track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error getting track: " + e.getMessage(), "get_track", e);
         }
     }
 
+    /**
+     * Get several tracks by their Spotify IDs in one call.
+     * GET /v1/tracks?ids=
+     *
+     * @param userId User ID
+     * @param trackIds Spotify track IDs (1 to MAX_TRACKS_PER_REQUEST)
+     * @return Response with a "tracks" array in request order (null entries for unknown IDs)
+     * @throws SpotifyApiException if retrieval fails
+     */
+    public JsonNode getTracks(UUID userId, List<String> trackIds) {
+        LOG.debug("Getting {} tracks for user: {}", trackIds != null ? trackIds.size() : 0, userId);
+
+        if (trackIds == null || trackIds.isEmpty()) {
+            throw new IllegalArgumentException("Track IDs cannot be empty");
+        }
+        if (trackIds.size() > MAX_TRACKS_PER_REQUEST) {
+            throw new IllegalArgumentException("At most " + MAX_TRACKS_PER_REQUEST + " track IDs per request");
+        }
+
+        // Get valid access token
+        String accessToken = tokenRefreshService.getValidAccessToken(userId);
+
+        // Build URL
+        String url = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + "/tracks")
+            .queryParam("ids", String.join(",", trackIds))
+            .toUriString();
+
+        // Prepare headers
+        HttpHeaders headers = createAuthHeaders(accessToken);
+        HttpEntity<String> entity = new HttpEntity<>(headers);
+
+        try {
+            ResponseEntity<String> response = exchange(userId, url, HttpMethod.GET, entity, String.class);
+
+            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+                JsonNode tracks = objectMapper.readTree(response.getBody());
+                LOG.debug("Successfully retrieved {} tracks", trackIds.size());
+                return tracks;
+            } else {
+                LOG.error("Failed to get tracks. Status: {}", response.getStatusCode());
+                throw new SpotifyApiException("Failed to get tracks", "get_tracks");
+            }
+        } catch (HttpClientErrorException e) {
+            handleHttpError(e, "get tracks");
+            throw new SpotifyApiException("Failed to get tracks: " + e.getMessage(), "get_tracks", e);
+        } catch (SpotifyApiException e) {
+            throw e;
+        } catch (Exception e) {
+            LOG.error("Error getting tracks: {}", e.getMessage(), e);
+            throw new SpotifyApiException("Error getting tracks: " + e.getMessage(), "get_tracks", e);
+        }
+    }
+
     /**
      * Start or resume playback of a track.
      * PUT /v1/me/player/play
@@ -189,28 +291,17 @@ public class SpotifyApiClient {
         String accessToken = tokenRefreshService.getValidAccessToken(userId);
 
         // Build URL
-        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + "/me/player/play");
-
-        if (deviceId != null && !deviceId.trim().isEmpty()) {
-            builder.queryParam("device_id", deviceId);
-        }
-
-        String url = builder.toUriString();
+        String url = buildPlayerUrl("/me/player/play", deviceId);
 
         // Prepare request body
-        Map<String, Object> body = new HashMap<>();
-        body.put("uris", trackUris);
-
-        if (positionMs != null && positionMs >= 0) {
-            body.put("position_ms", positionMs);
-        }
+        Map<String, Object> body = buildPlayBody(trackUris, positionMs);
 
         // Prepare headers
         HttpHeaders headers = createAuthHeaders(accessToken);
         HttpEntity<Map<String, Object>> entity = new HttpEntity<>(body, headers);
 
         try {
-            ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class);
+            ResponseEntity<Void> response = exchange(userId, url, HttpMethod.PUT, entity, Void.class);
 
             if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 LOG.debug("Successfully started playback for user: {}", userId);
@@ -221,6 +312,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "play track");
             throw new SpotifyApiException("Failed to play track: " + e.getMessage(), "play_track", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error playing track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error playing track: " + e.getMessage(), "play_track", e);
@@ -276,7 +369,7 @@ public class SpotifyApiClient {
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class);
+            ResponseEntity<Void> response = exchange(userId, url, HttpMethod.PUT, entity, Void.class);
 
             if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 LOG.debug("Successfully paused playback for user: {}", userId);
@@ -287,6 +380,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "pause track");
             throw new SpotifyApiException("Failed to pause track: " + e.getMessage(), "pause_track", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error pausing track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error pausing track: " + e.getMessage(), "pause_track", e);
@@ -330,7 +425,7 @@ public class SpotifyApiClient {
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST, entity, Void.class);
+            ResponseEntity<Void> response = exchange(userId, url, HttpMethod.POST, entity, Void.class);
 
             if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 LOG.debug("Successfully skipped track for user: {}", userId);
@@ -341,6 +436,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "skip track");
             throw new SpotifyApiException("Failed to skip track: " + e.getMessage(), "skip_track", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error skipping track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error skipping track: " + e.getMessage(), "skip_track", e);
@@ -384,7 +481,7 @@ public class SpotifyApiClient {
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST, entity, Void.class);
+            ResponseEntity<Void> response = exchange(userId, url, HttpMethod.POST, entity, Void.class);
 
             if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 LOG.debug("Successfully skipped to previous track for user: {}", userId);
@@ -395,6 +492,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "skip to previous track");
             throw new SpotifyApiException("Failed to skip to previous track: " + e.getMessage(), "previous_track", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error skipping to previous track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error skipping to previous track: " + e.getMessage(), "previous_track", e);
@@ -446,7 +545,7 @@ public class SpotifyApiClient {
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.PUT, entity, Void.class);
+            ResponseEntity<Void> response = exchange(userId, url, HttpMethod.PUT, entity, Void.class);
 
             if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 LOG.debug("Successfully seeked to position {}ms for user: {}", positionMs, userId);
@@ -457,6 +556,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "seek track");
             throw new SpotifyApiException("Failed to seek track: " + e.getMessage(), "seek_track", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error seeking track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error seeking track: " + e.getMessage(), "seek_track", e);
@@ -495,7 +596,7 @@ public class SpotifyApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = exchange(userId, url, HttpMethod.GET, entity, String.class);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 JsonNode playbackState = objectMapper.readTree(response.getBody());
@@ -515,6 +616,8 @@ public class SpotifyApiClient {
             }
             handleHttpError(e, "get playback state");
             throw new SpotifyApiException("Failed to get playback state: " + e.getMessage(), "get_playback_state", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error getting playback state: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error getting playback state: " + e.getMessage(), "get_playback_state", e);
@@ -543,7 +646,7 @@ public class SpotifyApiClient {
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            ResponseEntity<String> response = exchange(userId, url, HttpMethod.GET, entity, String.class);
 
             if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
                 JsonNode currentTrack = objectMapper.readTree(response.getBody());
@@ -562,6 +665,8 @@ public class SpotifyApiClient {
             }
             handleHttpError(e, "get currently playing track");
             throw new SpotifyApiException("Failed to get currently playing track: " + e.getMessage(), "get_currently_playing", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error getting currently playing track: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error getting currently playing track: " + e.getMessage(), "get_currently_playing", e);
@@ -588,23 +693,14 @@ public class SpotifyApiClient {
         String accessToken = tokenRefreshService.getValidAccessToken(userId);
 
         // Build URL with required uri parameter
-        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + "/me/player/queue").queryParam(
-            "uri",
-            trackUri
-        );
-
-        if (deviceId != null && !deviceId.trim().isEmpty()) {
-            builder.queryParam("device_id", deviceId);
-        }
-
-        String url = builder.toUriString();
+        String url = buildQueueUrl(trackUri, deviceId);
 
         // Prepare headers
         HttpHeaders headers = createAuthHeaders(accessToken);
         HttpEntity<Void> entity = new HttpEntity<>(headers);
 
         try {
-            ResponseEntity<Void> response = restTemplate.exchange(url, HttpMethod.POST, entity, Void.class);
+            ResponseEntity<Void> response = exchange(userId, url, HttpMethod.POST, entity, Void.class);
 
             if (response.getStatusCode() == HttpStatus.NO_CONTENT) {
                 LOG.debug("Successfully added track to queue for user: {}", userId);
@@ -615,6 +711,8 @@ public class SpotifyApiClient {
         } catch (HttpClientErrorException e) {
             handleHttpError(e, "add to queue");
             throw new SpotifyApiException("Failed to add track to queue: " + e.getMessage(), "add_to_queue", e);
+        } catch (SpotifyApiException e) {
+            throw e;
         } catch (Exception e) {
             LOG.error("Error adding track to queue: {}", e.getMessage(), e);
             throw new SpotifyApiException("Error adding track to queue: " + e.getMessage(), "add_to_queue", e);
@@ -631,6 +729,344 @@ public class SpotifyApiClient {
         addToQueue(userId, trackUri, null);
     }
 
+    // ========================================
+    // Async variants
+    // ========================================
+
+    /**
+     * Search for tracks without blocking the calling thread.
+     * Same parameters and result as {@link #searchTracks(UUID, String, Integer, Integer, String)}.
+     *
+     * @return Future completed with the search results, or exceptionally with SpotifyApiException
+     */
+    public CompletableFuture<SpotifyTrackSearchResultDTO> searchTracksAsync(
+        UUID userId,
+        String query,
+        Integer limit,
+        Integer offset,
+        String market
+    ) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+
+        String url = buildSearchUrl(query, limit, offset, market);
+        return mapErrors(
+            sendAsync(userId, url, "GET", null, "search_tracks").thenApply(response -> {
+                checkStatus(response, "search tracks", "search_tracks");
+                try {
+                    return objectMapper.readValue(response.body(), SpotifyTrackSearchResultDTO.class);
+                } catch (Exception e) {
+                    throw new SpotifyApiException("Error searching tracks: " + e.getMessage(), "search_tracks", e);
+                }
+            }),
+            "searching tracks",
+            "search_tracks"
+        );
+    }
+
+    /**
+     * Get a single track without blocking the calling thread.
+     *
+     * @param userId User ID
+     * @param trackId Spotify track ID
+     * @return Future completed with the track details, or exceptionally with SpotifyApiException
+     */
+    public CompletableFuture<JsonNode> getTrackAsync(UUID userId, String trackId) {
+        if (trackId == null || trackId.trim().isEmpty()) {
+            throw new IllegalArgumentException("Track ID cannot be empty");
+        }
+
+        String url = SPOTIFY_API_BASE_URL + "/tracks/" + trackId;
+        return mapErrors(
+            sendAsync(userId, url, "GET", null, "get_track").thenApply(response -> {
+                checkStatus(response, "get track", "get_track");
+                try {
+                    return objectMapper.readTree(response.body());
+                } catch (Exception e) {
+                    throw new SpotifyApiException("Error getting track: " + e.getMessage(), "get_track", e);
+                }
+            }),
+            "getting track",
+            "get_track"
+        );
+    }
+
+    /**
+     * Start or resume playback without blocking the calling thread.
+     *
+     * @param userId User ID
+     * @param trackUris Spotify track URIs to play
+     * @param deviceId Optional device ID to play on
+     * @param positionMs Optional starting position in milliseconds
+     * @return Future completed when Spotify accepted the request, or exceptionally with SpotifyApiException
+     */
+    public CompletableFuture<Void> playTrackAsync(UUID userId, List<String> trackUris, String deviceId, Integer positionMs) {
+        if (trackUris == null || trackUris.isEmpty()) {
+            throw new IllegalArgumentException("Track URIs cannot be empty");
+        }
+
+        String url = buildPlayerUrl("/me/player/play", deviceId);
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(buildPlayBody(trackUris, positionMs));
+        } catch (Exception e) {
+            throw new SpotifyApiException("Error playing track: " + e.getMessage(), "play_track", e);
+        }
+
+        return mapErrors(
+            sendAsync(userId, url, "PUT", body, "play_track").thenAccept(response -> checkStatus(response, "play track", "play_track")),
+            "playing track",
+            "play_track"
+        );
+    }
+
+    /**
+     * Seek within the currently playing track without blocking the calling thread.
+     *
+     * @param userId User ID
+     * @param positionMs Target position in milliseconds
+     * @param deviceId Optional device ID
+     * @return Future completed when Spotify accepted the request, or exceptionally with SpotifyApiException
+     */
+    public CompletableFuture<Void> seekTrackAsync(UUID userId, int positionMs, String deviceId) {
+        if (positionMs < 0) {
+            throw new IllegalArgumentException("Position must be >= 0");
+        }
+
+        String url = UriComponentsBuilder.fromUriString(buildPlayerUrl("/me/player/seek", deviceId))
+            .queryParam("position_ms", positionMs)
+            .toUriString();
+        return mapErrors(
+            sendAsync(userId, url, "PUT", null, "seek_track").thenAccept(response -> checkStatus(response, "seek track", "seek_track")),
+            "seeking track",
+            "seek_track"
+        );
+    }
+
+    /**
+     * Add a track to the playback queue without blocking the calling thread.
+     *
+     * @param userId User ID
+     * @param trackUri Spotify track URI to add to queue
+     * @param deviceId Optional device ID
+     * @return Future completed when Spotify accepted the request, or exceptionally with SpotifyApiException
+     */
+    public CompletableFuture<Void> addToQueueAsync(UUID userId, String trackUri, String deviceId) {
+        if (trackUri == null || trackUri.trim().isEmpty()) {
+            throw new IllegalArgumentException("Track URI cannot be empty");
+        }
+
+        String url = buildQueueUrl(trackUri, deviceId);
+        return mapErrors(
+            sendAsync(userId, url, "POST", null, "add_to_queue").thenAccept(response ->
+                checkStatus(response, "add to queue", "add_to_queue")
+            ),
+            "adding track to queue",
+            "add_to_queue"
+        );
+    }
+
+    // ========================================
+    // Transport
+    // ========================================
+
+    /**
+     * Blocking exchange with rate limiting and Retry-After aware retries.
+     * A 429 that is not retried is rethrown for the caller's HttpClientErrorException handling.
+     */
+    private <T> ResponseEntity<T> exchange(UUID userId, String url, HttpMethod method, HttpEntity<?> entity, Class<T> responseType) {
+        for (int attempt = 0; ; attempt++) {
+            awaitPermit(userId);
+            try {
+                return restTemplate.exchange(url, method, entity, responseType);
+            } catch (HttpClientErrorException.TooManyRequests e) {
+                HttpHeaders responseHeaders = e.getResponseHeaders();
+                Duration retryAfter = parseRetryAfter(responseHeaders != null ? responseHeaders.getFirst(HttpHeaders.RETRY_AFTER) : null);
+                rateLimiter.backOff(retryAfter);
+                if (!shouldRetry(attempt, retryAfter)) {
+                    throw e;
+                }
+                LOG.debug("Retrying {} {} after {} ms (attempt {})", method, url, retryAfter.toMillis(), attempt + 1);
+                sleep(retryAfter);
+            }
+        }
+    }
+
+    /**
+     * Non-blocking send with rate limiting and Retry-After aware retries.
+     * The access token is resolved on the calling thread (normally an in-memory hit in TokenRefreshService).
+     */
+    private CompletableFuture<HttpResponse<String>> sendAsync(UUID userId, String url, String method, String jsonBody, String operation) {
+        HttpRequest request;
+        try {
+            String accessToken = tokenRefreshService.getValidAccessToken(userId);
+            request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(readTimeout)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .method(method, jsonBody != null ? HttpRequest.BodyPublishers.ofString(jsonBody) : HttpRequest.BodyPublishers.noBody())
+                .build();
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return sendAsync(userId, request, operation, 0);
+    }
+
+    private CompletableFuture<HttpResponse<String>> sendAsync(UUID userId, HttpRequest request, String operation, int attempt) {
+        long waitNanos = rateLimiter.reserve(userId);
+        if (waitNanos < 0) {
+            return CompletableFuture.failedFuture(rateLimited(userId));
+        }
+
+        Executor sendExecutor = waitNanos > 0 ? CompletableFuture.delayedExecutor(waitNanos, TimeUnit.NANOSECONDS) : Runnable::run;
+        return CompletableFuture.supplyAsync(() -> request, sendExecutor)
+            .thenCompose(r -> httpClient.sendAsync(r, HttpResponse.BodyHandlers.ofString()))
+            .thenCompose(response -> {
+                if (response.statusCode() != HttpStatus.TOO_MANY_REQUESTS.value()) {
+                    return CompletableFuture.completedFuture(response);
+                }
+                Duration retryAfter = parseRetryAfter(response.headers().firstValue(HttpHeaders.RETRY_AFTER).orElse(null));
+                rateLimiter.backOff(retryAfter);
+                if (!shouldRetry(attempt, retryAfter)) {
+                    return CompletableFuture.completedFuture(response);
+                }
+                LOG.debug("Retrying {} after {} ms (attempt {})", operation, retryAfter.toMillis(), attempt + 1);
+                Executor retryExecutor = CompletableFuture.delayedExecutor(retryAfter.toMillis(), TimeUnit.MILLISECONDS);
+                return CompletableFuture.supplyAsync(() -> attempt + 1, retryExecutor).thenCompose(next ->
+                    sendAsync(userId, request, operation, next)
+                );
+            });
+    }
+
+    /**
+     * Throws SpotifyApiException for non-2xx responses of the async variants.
+     */
+    private void checkStatus(HttpResponse<String> response, String operationName, String operation) {
+        if (response.statusCode() >= 200 && response.statusCode() < 300) {
+            return;
+        }
+        logHttpError(HttpStatusCode.valueOf(response.statusCode()), response.body(), operationName);
+        throw new SpotifyApiException("Failed to " + operationName + ": " + response.statusCode(), operation);
+    }
+
+    /**
+     * Unwraps CompletionException and wraps transport errors (timeouts, I/O) into SpotifyApiException.
+     */
+    private <T> CompletableFuture<T> mapErrors(CompletableFuture<T> future, String description, String operation) {
+        return future.exceptionally(e -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof SpotifyApiException spotifyApiException) {
+                throw spotifyApiException;
+            }
+            LOG.error("Error {}: {}", description, cause.getMessage(), cause);
+            throw new SpotifyApiException("Error " + description + ": " + cause.getMessage(), operation, cause);
+        });
+    }
+
+    private void awaitPermit(UUID userId) {
+        long waitNanos = rateLimiter.reserve(userId);
+        if (waitNanos < 0) {
+            throw rateLimited(userId);
+        }
+        if (waitNanos > 0) {
+            sleep(Duration.ofNanos(waitNanos));
+        }
+    }
+
+    private SpotifyApiException rateLimited(UUID userId) {
+        LOG.warn("Spotify request for user {} rejected by rate limiter", userId);
+        return new SpotifyApiException("Too many Spotify requests, please try again shortly", "rate_limited");
+    }
+
+    private boolean shouldRetry(int attempt, Duration retryAfter) {
+        return attempt < maxRetries && retryAfter.compareTo(maxRetryAfter) <= 0;
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(duration.toNanos());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SpotifyApiException("Interrupted while waiting to call Spotify", "rate_limited", e);
+        }
+    }
+
+    /**
+     * Parses Retry-After (delay in seconds or an HTTP date); falls back to DEFAULT_RETRY_AFTER.
+     */
+    private Duration parseRetryAfter(String retryAfter) {
+        if (retryAfter == null || retryAfter.isBlank()) {
+            return DEFAULT_RETRY_AFTER;
+        }
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(retryAfter.trim())));
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime retryAt = ZonedDateTime.parse(retryAfter.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt);
+                return delay.isNegative() ? Duration.ZERO : delay;
+            } catch (DateTimeParseException ignored) {
+                LOG.warn("Unparseable Retry-After header: {}", retryAfter);
+                return DEFAULT_RETRY_AFTER;
+            }
+        }
+    }
+
+    private String buildSearchUrl(String query, Integer limit, Integer offset, String market) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + "/search")
+            .queryParam("q", query)
+            .queryParam("type", "track");
+
+        if (limit != null && limit > 0 && limit <= 50) {
+            builder.queryParam("limit", limit);
+        }
+
+        if (offset != null && offset >= 0) {
+            builder.queryParam("offset", offset);
+        }
+
+        if (market != null && !market.trim().isEmpty()) {
+            builder.queryParam("market", market);
+        }
+
+        return builder.toUriString();
+    }
+
+    private String buildPlayerUrl(String path, String deviceId) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + path);
+
+        if (deviceId != null && !deviceId.trim().isEmpty()) {
+            builder.queryParam("device_id", deviceId);
+        }
+
+        return builder.toUriString();
+    }
+
+    private String buildQueueUrl(String trackUri, String deviceId) {
+        UriComponentsBuilder builder = UriComponentsBuilder.fromUriString(SPOTIFY_API_BASE_URL + "/me/player/queue").queryParam(
+            "uri",
+            trackUri
+        );
+
+        if (deviceId != null && !deviceId.trim().isEmpty()) {
+            builder.queryParam("device_id", deviceId);
+        }
+
+        return builder.toUriString();
+    }
+
+    private Map<String, Object> buildPlayBody(List<String> trackUris, Integer positionMs) {
+        Map<String, Object> body = new HashMap<>();
+        body.put("uris", trackUris);
+
+        if (positionMs != null && positionMs >= 0) {
+            body.put("position_ms", positionMs);
+        }
+
+        return body;
+    }
+
     /**
      * Creates HTTP headers with authorization token.
      *
@@ -651,16 +1087,20 @@ public class SpotifyApiClient {
      * @param operation Operation name for logging
      */
     private void handleHttpError(HttpClientErrorException e, String operation) {
-        LOG.error("HTTP error during {}: Status={}, Body={}", operation, e.getStatusCode(), e.getResponseBodyAsString());
+        logHttpError(e.getStatusCode(), e.getResponseBodyAsString(), operation);
+    }
+
+    private void logHttpError(HttpStatusCode status, String body, String operation) {
+        LOG.error("HTTP error during {}: Status={}, Body={}", operation, status, body);
 
-        if (e.getStatusCode() == HttpStatus.UNAUTHORIZED) {
+        if (status.value() == HttpStatus.UNAUTHORIZED.value()) {
             LOG.error("Unauthorized access - token may be invalid or expired");
-        } else if (e.getStatusCode() == HttpStatus.FORBIDDEN) {
+        } else if (status.value() == HttpStatus.FORBIDDEN.value()) {
             LOG.error("Forbidden - insufficient permissions or premium required");
-        } else if (e.getStatusCode() == HttpStatus.NOT_FOUND) {
+        } else if (status.value() == HttpStatus.NOT_FOUND.value()) {
             LOG.error("Resource not found - track or device may not exist");
-        } else if (e.getStatusCode() == HttpStatus.TOO_MANY_REQUESTS) {
-            LOG.error("Rate limit exceeded");
+        } else if (status.value() == HttpStatus.TOO_MANY_REQUESTS.value()) {
+            LOG.error("Rate limit exceeded after retries");
         }
     }
 
@@ -0,0 +1,141 @@
+package com.partywave.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.config.ApplicationProperties;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Client-side rate limiting for Spotify Web API calls.
+ * Based on SPOTIFY_SEARCH_ENDPOINTS.md section 8 - Rate Limits.
+ *
+ * Spotify limits requests per client ID over a rolling window and answers 429 with Retry-After.
+ * Requests are spread with token buckets before they are sent, so a search spike from one room
+ * does not use up the budget of every other user.
+ *
+ * Business rules:
+ * - Every request needs a permit from the user's bucket and from the global bucket
+ * - A permit may be reserved ahead of time; the caller waits the returned delay before sending
+ * - A request that would wait longer than application.spotify.rate-limit.max-wait-ms is rejected
+ *   without consuming permits
+ * - After a 429, all requests are held back until Retry-After has passed (global back-off)
+ * - Per-user buckets are dropped after USER_BUCKET_IDLE_TIMEOUT without requests
+ */
+@Component
+public class SpotifyRateLimiter {
+
+    private static final Logger LOG = LoggerFactory.getLogger(SpotifyRateLimiter.class);
+
+    private static final long USER_BUCKET_MAXIMUM_SIZE = 100000;
+    private static final Duration USER_BUCKET_IDLE_TIMEOUT = Duration.ofMinutes(10);
+
+    private final TokenBucket globalBucket;
+    private final Cache<UUID, TokenBucket> userBuckets = Caffeine.newBuilder()
+        .maximumSize(USER_BUCKET_MAXIMUM_SIZE)
+        .expireAfterAccess(USER_BUCKET_IDLE_TIMEOUT)
+        .build();
+    private final AtomicLong backOffUntilNanos = new AtomicLong(System.nanoTime());
+
+    private final double userPermitsPerSecond;
+    private final int userBurst;
+    private final long maxWaitNanos;
+
+    public SpotifyRateLimiter(ApplicationProperties applicationProperties) {
+        ApplicationProperties.Spotify.RateLimit properties = applicationProperties.getSpotify().getRateLimit();
+        this.globalBucket = new TokenBucket(properties.getGlobalPermitsPerSecond(), properties.getGlobalBurst());
+        this.userPermitsPerSecond = properties.getUserPermitsPerSecond();
+        this.userBurst = properties.getUserBurst();
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(properties.getMaxWaitMs());
+    }
+
+    /**
+     * Reserve a permit for one Spotify request.
+     *
+     * @param userId User the request is made for
+     * @return Nanoseconds to wait before sending (0 = send now), or -1 if the wait would exceed max-wait-ms
+     */
+    public long reserve(UUID userId) {
+        long now = System.nanoTime();
+        long backOffWait = Math.max(0, backOffUntilNanos.get() - now);
+        if (backOffWait > maxWaitNanos) {
+            return -1;
+        }
+
+        TokenBucket userBucket = userBuckets.get(userId, id -> new TokenBucket(userPermitsPerSecond, userBurst));
+        long userWait = userBucket.tryReserve(now, maxWaitNanos);
+        if (userWait < 0) {
+            LOG.debug("Spotify rate limit reached for user {}", userId);
+            return -1;
+        }
+
+        long globalWait = globalBucket.tryReserve(now, maxWaitNanos);
+        if (globalWait < 0) {
+            userBucket.refund();
+            LOG.debug("Global Spotify rate limit reached");
+            return -1;
+        }
+
+        return Math.max(backOffWait, Math.max(userWait, globalWait));
+    }
+
+    /**
+     * Hold back all requests after Spotify answered 429.
+     *
+     * @param retryAfter Delay from the Retry-After header
+     */
+    public void backOff(Duration retryAfter) {
+        long until = System.nanoTime() + retryAfter.toNanos();
+        backOffUntilNanos.accumulateAndGet(until, (current, requested) -> requested - current > 0 ? requested : current);
+        LOG.warn("Spotify rate limit hit, backing off for {} ms", retryAfter.toMillis());
+    }
+
+    /**
+     * Token bucket that allows reserving permits ahead of time (tokens may go negative).
+     */
+    private static final class TokenBucket {
+
+        private final double permitsPerNano;
+        private final double capacity;
+
+        private double tokens;
+        private long lastRefillNanos;
+
+        TokenBucket(double permitsPerSecond, int burst) {
+            this.permitsPerNano = permitsPerSecond / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, burst);
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * @return Nanoseconds until the reserved permit is available, or -1 (nothing reserved) if longer than maxWaitNanos
+         */
+        synchronized long tryReserve(long now, long maxWaitNanos) {
+            refill(now);
+            long wait = tokens >= 1 ? 0 : (long) Math.ceil((1 - tokens) / permitsPerNano);
+            if (wait > maxWaitNanos) {
+                return -1;
+            }
+            tokens -= 1;
+            return wait;
+        }
+
+        synchronized void refund() {
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        private void refill(long now) {
+            long elapsed = now - lastRefillNanos;
+            if (elapsed > 0) {
+                tokens = Math.min(capacity, tokens + elapsed * permitsPerNano);
+                lastRefillNanos = now;
+            }
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.partywave.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.domain.Tag;
+import com.partywave.backend.repository.TagRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Service for resolving room tags by name.
+ * Based on PROJECT_OVERVIEW.md section 2.2 - Room Creation (tags are created if missing).
+ *
+ * Tag names are normalized (trimmed, lower case) and looked up in an in-memory dictionary of
+ * normalized name → tag ID first. Names not in the dictionary are resolved with one indexed
+ * IN query, and names still missing are inserted in one batch.
+ *
+ * Business rules:
+ * - Tags are never deleted by the application, so dictionary entries never go stale
+ * - Only committed tags enter the dictionary: tags inserted here are remembered after the enclosing
+ *   transaction commits, so a rolled-back insert never leaves an ID without a row
+ * - Concurrent creation of the same new tag is resolved by the unique index on lower(name)
+ *   (insert ... on conflict do nothing, then re-read)
+ * - The dictionary is warmed at startup with the most used tags
+ * - Metrics: cache.* with cache=tagDictionary
+ */
+@Service
+@Transactional
+public class TagService {
+
+    private static final Logger log = LoggerFactory.getLogger(TagService.class);
+
+    private static final int DICTIONARY_MAXIMUM_SIZE = 10000;
+    private static final String DICTIONARY_CACHE_NAME = "tagDictionary";
+
+    private final TagRepository tagRepository;
+
+    private final Cache<String, UUID> tagIdsByName;
+
+    public TagService(TagRepository tagRepository, MeterRegistry meterRegistry) {
+        this.tagRepository = tagRepository;
+        this.tagIdsByName = Caffeine.newBuilder().maximumSize(DICTIONARY_MAXIMUM_SIZE).recordStats().build();
+        CaffeineCacheMetrics.monitor(meterRegistry, tagIdsByName, DICTIONARY_CACHE_NAME);
+    }
+
+    /**
+     * Load the most used tags into the dictionary.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmDictionary() {
+        try {
+            List<Tag> tags = tagRepository.findMostUsed(PageRequest.of(0, DICTIONARY_MAXIMUM_SIZE));
+            tags.forEach(this::remember);
+            log.info("Warmed tag dictionary with {} tags", tags.size());
+        } catch (Exception e) {
+            log.warn("Failed to warm tag dictionary: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Find tags by name, creating the missing ones.
+     *
+     * @param tagNames Tag names as entered by users (blank names are ignored, duplicates after normalization collapse)
+     * @return Tag entities (references for tags found in the dictionary)
+     */
+    public Set<Tag> findOrCreateByNames(Collection<String> tagNames) {
+        Set<String> normalizedNames = new LinkedHashSet<>();
+        for (String tagName : tagNames) {
+            String normalizedName = normalize(tagName);
+            if (!normalizedName.isEmpty()) {
+                normalizedNames.add(normalizedName);
+            }
+        }
+
+        Set<Tag> tags = new HashSet<>();
+        List<String> unknownNames = new ArrayList<>();
+        for (String name : normalizedNames) {
+            UUID tagId = tagIdsByName.getIfPresent(name);
+            if (tagId != null) {
+                tags.add(tagRepository.getReferenceById(tagId));
+            } else {
+                unknownNames.add(name);
+            }
+        }
+        if (unknownNames.isEmpty()) {
+            return tags;
+        }
+
+        List<Tag> found = tagRepository.findAllByNormalizedNameIn(unknownNames);
+        found.forEach(this::remember);
+        tags.addAll(found);
+        if (found.size() == unknownNames.size()) {
+            return tags;
+        }
+
+        Set<String> missingNames = new LinkedHashSet<>(unknownNames);
+        found.forEach(tag -> missingNames.remove(normalize(tag.getName())));
+        int inserted = tagRepository.insertMissingTags(missingNames);
+        log.debug("Created {} of {} missing tags: {}", inserted, missingNames.size(), missingNames);
+
+        List<Tag> created = tagRepository.findAllByNormalizedNameIn(missingNames);
+        rememberAfterCommit(created);
+        tags.addAll(created);
+        return tags;
+    }
+
+    private void remember(Tag tag) {
+        tagIdsByName.put(normalize(tag.getName()), tag.getId());
+    }
+
+    private void rememberAfterCommit(List<Tag> tags) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tags.forEach(this::remember);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+            new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    tags.forEach(TagService.this::remember);
+                }
+            }
+        );
+    }
+
+    private static String normalize(String tagName) {
+        return tagName == null ? "" : tagName.trim().toLowerCase(Locale.ROOT);
+    }
+}
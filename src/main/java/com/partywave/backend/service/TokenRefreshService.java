@@ -1,72 +1,121 @@
 package com.partywave.backend.service;
 
 import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.partywave.backend.domain.AppUser;
 import com.partywave.backend.domain.UserToken;
 import com.partywave.backend.exception.SpotifyApiException;
 import com.partywave.backend.repository.UserTokenRepository;
 import com.partywave.backend.security.TokenEncryptionService;
+import com.partywave.backend.service.redis.TokenRefreshLockRedisService;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
 import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 /**
  * Service for automatically refreshing expired Spotify access tokens.
  * Checks token expiration and refreshes when necessary before API calls.
+ *
+ * Decrypted access tokens are kept in memory with their expiry, so a Spotify call normally
+ * costs neither a database read nor a decrypt. Tokens of recently active users are refreshed
+ * ahead of expiry in the background, so requests do not wait on the Spotify accounts endpoint.
+ *
+ * Business rules:
+ * - A cached token is used only while it is valid for more than EXPIRY_BUFFER_SECONDS
+ * - Tokens expiring within REFRESH_AHEAD_SECONDS are selected by a scheduled job (up to REFRESH_BATCH_SIZE
+ *   per run) and refreshed on a dedicated bounded pool, so slow Spotify calls never hold scheduler threads
+ * - Users idle for CACHE_IDLE_TIMEOUT drop out of the cache and are no longer refreshed proactively
+ * - Concurrent loads/refreshes for the same user are coalesced into one (single-flight, per node)
+ * - Refreshes hold a per-user Redis lock (TokenRefreshLockRedisService) and re-read the token under it,
+ *   so nodes never refresh one user concurrently or overwrite a rotated refresh token; background
+ *   refreshes skip users another node is refreshing
  */
 @Service
 public class TokenRefreshService {
 
     private static final Logger LOG = LoggerFactory.getLogger(TokenRefreshService.class);
 
+    private static final long EXPIRY_BUFFER_SECONDS = 60;
+    private static final long REFRESH_AHEAD_SECONDS = 300;
+    private static final int REFRESH_BATCH_SIZE = 100;
+    private static final long CACHE_MAXIMUM_SIZE = 10000;
+    private static final Duration CACHE_IDLE_TIMEOUT = Duration.ofMinutes(30);
+    private static final int REFRESH_THREADS = 4;
+    private static final Duration REFRESH_LOCK_LEASE = Duration.ofSeconds(30);
+    private static final long REFRESH_LOCK_WAIT_MS = 10000;
+    private static final long REFRESH_LOCK_POLL_MS = 100;
+
     private final UserTokenRepository userTokenRepository;
     private final SpotifyAuthService spotifyAuthService;
     private final TokenEncryptionService tokenEncryptionService;
+    private final TokenRefreshLockRedisService tokenRefreshLockRedisService;
+
+    private final Cache<UUID, CachedAccessToken> accessTokens = Caffeine.newBuilder()
+        .maximumSize(CACHE_MAXIMUM_SIZE)
+        .expireAfterAccess(CACHE_IDLE_TIMEOUT)
+        .build();
+    private final Map<UUID, CompletableFuture<CachedAccessToken>> inFlightLoads = new ConcurrentHashMap<>();
+
+    /** Users whose background refresh is queued or running on refreshExecutor. */
+    private final Set<UUID> queuedRefreshes = ConcurrentHashMap.newKeySet();
+    private final ThreadPoolTaskExecutor refreshExecutor;
 
     public TokenRefreshService(
         UserTokenRepository userTokenRepository,
         SpotifyAuthService spotifyAuthService,
-        TokenEncryptionService tokenEncryptionService
+        TokenEncryptionService tokenEncryptionService,
+        TokenRefreshLockRedisService tokenRefreshLockRedisService
     ) {
         this.userTokenRepository = userTokenRepository;
         this.spotifyAuthService = spotifyAuthService;
         this.tokenEncryptionService = tokenEncryptionService;
+        this.tokenRefreshLockRedisService = tokenRefreshLockRedisService;
+
+        this.refreshExecutor = new ThreadPoolTaskExecutor();
+        refreshExecutor.setCorePoolSize(REFRESH_THREADS);
+        refreshExecutor.setMaxPoolSize(REFRESH_THREADS);
+        refreshExecutor.setQueueCapacity(REFRESH_BATCH_SIZE);
+        refreshExecutor.setThreadNamePrefix("partywave-token-refresh-");
+        refreshExecutor.initialize();
+    }
+
+    @PreDestroy
+    public void stop() {
+        refreshExecutor.shutdown();
     }
 
     /**
      * Gets a valid access token for the user, refreshing if necessary.
-     * This method checks if the access token is expired and automatically
-     * refreshes it using the refresh token if needed.
+     * Served from the in-memory cache when possible; otherwise the token is loaded from the
+     * database and refreshed through the Spotify accounts endpoint if it is expired.
      *
      * @param userId User ID (UUID)
      * @return Valid decrypted access token
      * @throws SpotifyApiException if token refresh fails or user has no tokens
      */
-    @Transactional
     public String getValidAccessToken(UUID userId) {
-        LOG.debug("Getting valid access token for user: {}", userId);
-
-        // Find user token
-        UserToken userToken = findUserTokenByUserId(userId);
-
-        // Check if token is expired or about to expire (within 60 seconds)
-        if (isTokenExpired(userToken)) {
-            LOG.debug("Access token expired for user: {}, refreshing...", userId);
-            refreshAndUpdateToken(userToken);
-        } else {
-            LOG.debug("Access token is still valid for user: {}", userId);
+        CachedAccessToken cached = accessTokens.getIfPresent(userId);
+        if (cached != null && cached.isValidFor(EXPIRY_BUFFER_SECONDS)) {
+            return cached.accessToken();
         }
 
-        // Decrypt and return access token
-        try {
-            return tokenEncryptionService.decrypt(userToken.getAccessToken());
-        } catch (Exception e) {
-            LOG.error("Failed to decrypt access token for user {}: {}", userId, e.getMessage(), e);
-            throw new SpotifyApiException("Failed to decrypt access token", "token_decryption", e);
-        }
+        LOG.debug("Access token for user {} not cached or expiring, loading", userId);
+        return singleFlight(userId, () -> loadAndCache(userId, false)).accessToken();
     }
 
     /**
@@ -76,11 +125,86 @@ public class TokenRefreshService {
      * @return Valid decrypted access token
      * @throws SpotifyApiException if token refresh fails or user has no tokens
      */
-    @Transactional
     public String getValidAccessToken(AppUser appUser) {
         return getValidAccessToken(appUser.getId());
     }
 
+    /**
+     * Drop a user's cached access token (e.g. after new tokens were stored at login).
+     *
+     * @param userId User ID
+     */
+    public void evictAccessToken(UUID userId) {
+        accessTokens.invalidate(userId);
+    }
+
+    /**
+     * Select cached tokens that expire within REFRESH_AHEAD_SECONDS and queue their refresh.
+     * Loads the due users' tokens in one query; tokens another node has already refreshed are
+     * only re-cached, the rest are refreshed on refreshExecutor (this scheduler thread never
+     * calls Spotify).
+     */
+    @Scheduled(fixedDelay = 30000)
+    public void refreshExpiringTokens() {
+        List<UUID> dueUserIds = accessTokens
+            .asMap()
+            .entrySet()
+            .stream()
+            .filter(entry -> !entry.getValue().isValidFor(REFRESH_AHEAD_SECONDS))
+            .map(Map.Entry::getKey)
+            .filter(userId -> !inFlightLoads.containsKey(userId) && !queuedRefreshes.contains(userId))
+            .limit(REFRESH_BATCH_SIZE)
+            .toList();
+        if (dueUserIds.isEmpty()) {
+            return;
+        }
+
+        int queued = 0;
+        for (UserToken userToken : userTokenRepository.findAllByAppUserIdIn(dueUserIds)) {
+            UUID userId = userToken.getAppUser().getId();
+            if (!expiresWithin(userToken, REFRESH_AHEAD_SECONDS)) {
+                // Refreshed by another node: pick up the stored token without calling Spotify
+                try {
+                    cacheAccessToken(userId, userToken);
+                } catch (Exception e) {
+                    accessTokens.invalidate(userId);
+                }
+                continue;
+            }
+            if (!queuedRefreshes.add(userId)) {
+                continue;
+            }
+            try {
+                refreshExecutor.execute(() -> refreshAhead(userId));
+                queued++;
+            } catch (TaskRejectedException e) {
+                queuedRefreshes.remove(userId);
+                LOG.debug("Token refresh pool busy, refreshing user {} on a later run", userId);
+            }
+        }
+
+        LOG.debug("Queued {} of {} expiring access tokens for refresh ahead of time", queued, dueUserIds.size());
+    }
+
+    /**
+     * Background refresh of one user's token; a user whose refresh fails is dropped from the cache
+     * so their next request retries synchronously.
+     */
+    private void refreshAhead(UUID userId) {
+        try {
+            singleFlight(userId, () -> {
+                UserToken userToken = refreshWithLock(userId, REFRESH_AHEAD_SECONDS, false, false);
+                // Another node is refreshing this user: use the stored token until it is done
+                return userToken != null ? cacheAccessToken(userId, userToken) : loadAndCache(userId, false);
+            });
+        } catch (Exception e) {
+            LOG.warn("Background token refresh failed for user {}: {}", userId, e.getMessage());
+            accessTokens.invalidate(userId);
+        } finally {
+            queuedRefreshes.remove(userId);
+        }
+    }
+
     /**
      * Finds UserToken by user ID.
      *
@@ -97,6 +221,121 @@ public class TokenRefreshService {
             });
     }
 
+    /**
+     * Run a load/refresh for a user, or wait for the one already running.
+     */
+    private CachedAccessToken singleFlight(UUID userId, Supplier<CachedAccessToken> loader) {
+        CompletableFuture<CachedAccessToken> flight = new CompletableFuture<>();
+        CompletableFuture<CachedAccessToken> existing = inFlightLoads.putIfAbsent(userId, flight);
+        if (existing != null) {
+            LOG.debug("Waiting for in-flight token load for user {}", userId);
+            try {
+                return existing.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof SpotifyApiException spotifyApiException) {
+                    throw spotifyApiException;
+                }
+                throw new SpotifyApiException("Failed to load access token: " + e.getMessage(), "token_refresh", e);
+            }
+        }
+
+        try {
+            CachedAccessToken token = loader.get();
+            flight.complete(token);
+            return token;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(userId, flight);
+        }
+    }
+
+    /**
+     * Load the user's token from the database, refresh it if needed (or forced) and cache it.
+     */
+    private CachedAccessToken loadAndCache(UUID userId, boolean forceRefresh) {
+        UserToken userToken = findUserTokenByUserId(userId);
+
+        // Check if token is expired or about to expire (within 60 seconds)
+        if (forceRefresh || isTokenExpired(userToken)) {
+            LOG.debug("Refreshing access token for user: {}", userId);
+            userToken = refreshWithLock(userId, EXPIRY_BUFFER_SECONDS, forceRefresh, true);
+        }
+
+        return cacheAccessToken(userId, userToken);
+    }
+
+    /**
+     * Refresh the user's token while holding the user's cluster-wide refresh lock.
+     * The token is re-read under the lock, so a refresh another node finished meanwhile (possibly
+     * rotating the refresh token) is used instead of refreshing again with a stale refresh token.
+     * If Redis is unavailable the refresh runs without the lock.
+     *
+     * @param userId User ID
+     * @param aheadSeconds Refresh only if the stored token expires within this many seconds
+     * @param force Refresh even if the stored token is still valid
+     * @param wait Wait up to REFRESH_LOCK_WAIT_MS for another node's refresh instead of giving up
+     * @return The current token, or null if wait is false and another node holds the lock
+     * @throws SpotifyApiException if the refresh fails or waiting for the lock times out
+     */
+    private UserToken refreshWithLock(UUID userId, long aheadSeconds, boolean force, boolean wait) {
+        String lockUserId = userId.toString();
+        String owner = UUID.randomUUID().toString();
+        long deadline = System.currentTimeMillis() + REFRESH_LOCK_WAIT_MS;
+
+        Boolean acquired = tokenRefreshLockRedisService.tryAcquire(lockUserId, owner, REFRESH_LOCK_LEASE);
+        while (Boolean.FALSE.equals(acquired)) {
+            if (!wait) {
+                return null;
+            }
+            if (System.currentTimeMillis() >= deadline) {
+                throw new SpotifyApiException("Timed out waiting for another token refresh", "token_refresh");
+            }
+            sleep(REFRESH_LOCK_POLL_MS);
+            acquired = tokenRefreshLockRedisService.tryAcquire(lockUserId, owner, REFRESH_LOCK_LEASE);
+        }
+
+        try {
+            UserToken userToken = findUserTokenByUserId(userId);
+            if (force || expiresWithin(userToken, aheadSeconds)) {
+                refreshAndUpdateToken(userToken);
+            }
+            return userToken;
+        } finally {
+            if (acquired != null) {
+                tokenRefreshLockRedisService.release(lockUserId, owner);
+            }
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SpotifyApiException("Interrupted while waiting for a token refresh", "token_refresh", e);
+        }
+    }
+
+    /**
+     * Decrypt the user's access token and put it in the cache.
+     */
+    private CachedAccessToken cacheAccessToken(UUID userId, UserToken userToken) {
+        String accessToken;
+        try {
+            accessToken = tokenEncryptionService.decrypt(userToken.getAccessToken());
+        } catch (Exception e) {
+            LOG.error("Failed to decrypt access token for user {}: {}", userId, e.getMessage(), e);
+            throw new SpotifyApiException("Failed to decrypt access token", "token_decryption", e);
+        }
+
+        Instant expiresAt = userToken.getExpiresAt() != null ? userToken.getExpiresAt() : Instant.EPOCH;
+        CachedAccessToken cached = new CachedAccessToken(accessToken, expiresAt);
+        accessTokens.put(userId, cached);
+        return cached;
+    }
+
     /**
      * Checks if the access token is expired or about to expire.
      * Considers token expired if it expires within the next 60 seconds.
@@ -105,13 +344,17 @@ public class TokenRefreshService {
      * @return true if token is expired or about to expire
      */
     private boolean isTokenExpired(UserToken userToken) {
+        // Consider expired if expires within next 60 seconds (buffer for API call time)
+        return expiresWithin(userToken, EXPIRY_BUFFER_SECONDS);
+    }
+
+    private boolean expiresWithin(UserToken userToken, long seconds) {
         if (userToken.getExpiresAt() == null) {
             LOG.warn("Token expiration time is null, treating as expired");
             return true;
         }
 
-        // Consider expired if expires within next 60 seconds (buffer for API call time)
-        Instant expirationThreshold = Instant.now().plusSeconds(60);
+        Instant expirationThreshold = Instant.now().plusSeconds(seconds);
         boolean expired = userToken.getExpiresAt().isBefore(expirationThreshold);
 
         if (expired) {
@@ -170,17 +413,17 @@ public class TokenRefreshService {
      * @return New valid access token
      * @throws SpotifyApiException if refresh fails
      */
-    @Transactional
     public String forceRefreshToken(UUID userId) {
         LOG.debug("Forcing token refresh for user: {}", userId);
-        UserToken userToken = findUserTokenByUserId(userId);
-        refreshAndUpdateToken(userToken);
+        return singleFlight(userId, () -> loadAndCache(userId, true)).accessToken();
+    }
 
-        try {
-            return tokenEncryptionService.decrypt(userToken.getAccessToken());
-        } catch (Exception e) {
-            LOG.error("Failed to decrypt access token after refresh for user {}: {}", userId, e.getMessage(), e);
-            throw new SpotifyApiException("Failed to decrypt access token after refresh", "token_decryption", e);
+    /**
+     * Decrypted access token with its expiry.
+     */
+    private record CachedAccessToken(String accessToken, Instant expiresAt) {
+        boolean isValidFor(long seconds) {
+            return expiresAt.isAfter(Instant.now().plusSeconds(seconds));
         }
     }
 }
@@ -0,0 +1,185 @@
+package com.partywave.backend.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.exception.SpotifyApiException;
+import com.partywave.backend.service.dto.TrackMetadataDTO;
+import com.partywave.backend.service.redis.TrackCatalogRedisService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+/**
+ * Service for the Spotify track catalog: compact track metadata keyed by Spotify track ID.
+ * Based on SPOTIFY_SEARCH_ENDPOINTS.md sections 3-4 and REDIS_ARCHITECTURE.md section 4.5.
+ *
+ * Lookup order:
+ * 1. Local in-memory cache (application.spotify.track-catalog.local-*)
+ * 2. Redis, shared by all nodes (application.spotify.track-catalog.redis-ttl-seconds)
+ * 3. Spotify GET /v1/tracks?ids= in chunks of up to 50 IDs, with the requesting user's token
+ *
+ * Business rules:
+ * - Tracks seen in search results are added to the catalog, so adding a searched track
+ *   normally needs no Spotify call
+ * - IDs unknown to Spotify are absent from results and are not cached
+ * - Metrics: cache.* with cache=trackCatalogLocal
+ */
+@Service
+public class TrackCatalogService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrackCatalogService.class);
+
+    private static final String LOCAL_CACHE_NAME = "trackCatalogLocal";
+
+    private final SpotifyApiClient spotifyApiClient;
+    private final TrackCatalogRedisService trackCatalogRedisService;
+    private final long redisTtlSeconds;
+
+    private final Cache<String, TrackMetadataDTO> localTracks;
+
+    public TrackCatalogService(
+        SpotifyApiClient spotifyApiClient,
+        TrackCatalogRedisService trackCatalogRedisService,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.spotifyApiClient = spotifyApiClient;
+        this.trackCatalogRedisService = trackCatalogRedisService;
+
+        ApplicationProperties.Spotify.TrackCatalog properties = applicationProperties.getSpotify().getTrackCatalog();
+        this.redisTtlSeconds = properties.getRedisTtlSeconds();
+        this.localTracks = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localTracks, LOCAL_CACHE_NAME);
+    }
+
+    /**
+     * Get metadata for one track.
+     *
+     * @param userId User whose token is used if Spotify must be called
+     * @param trackId Spotify track ID
+     * @return Track metadata, or empty if Spotify does not know the track
+     * @throws SpotifyApiException if the track is not cached and the Spotify call fails
+     */
+    public Optional<TrackMetadataDTO> getTrack(UUID userId, String trackId) {
+        return Optional.ofNullable(getTracks(userId, List.of(trackId)).get(trackId));
+    }
+
+    /**
+     * Get metadata for several tracks, fetching the uncached ones from Spotify in bulk.
+     *
+     * @param userId User whose token is used if Spotify must be called
+     * @param trackIds Spotify track IDs (duplicates and blanks are ignored)
+     * @return Map of track ID to metadata; IDs unknown to Spotify are absent
+     * @throws SpotifyApiException if a Spotify call fails
+     */
+    public Map<String, TrackMetadataDTO> getTracks(UUID userId, Collection<String> trackIds) {
+        Map<String, TrackMetadataDTO> tracks = new HashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String trackId : new LinkedHashSet<>(trackIds)) {
+            if (trackId == null || trackId.isBlank()) {
+                continue;
+            }
+            TrackMetadataDTO cached = localTracks.getIfPresent(trackId);
+            if (cached != null) {
+                tracks.put(trackId, cached);
+            } else {
+                missing.add(trackId);
+            }
+        }
+        if (missing.isEmpty()) {
+            return tracks;
+        }
+
+        Map<String, TrackMetadataDTO> fromRedis = trackCatalogRedisService.getTracks(missing);
+        localTracks.putAll(fromRedis);
+        tracks.putAll(fromRedis);
+        missing.removeAll(fromRedis.keySet());
+        if (missing.isEmpty()) {
+            return tracks;
+        }
+
+        LOG.debug("Fetching {} uncached tracks from Spotify", missing.size());
+        Map<String, TrackMetadataDTO> fetched = new HashMap<>();
+        for (int from = 0; from < missing.size(); from += SpotifyApiClient.MAX_TRACKS_PER_REQUEST) {
+            List<String> chunk = missing.subList(from, Math.min(from + SpotifyApiClient.MAX_TRACKS_PER_REQUEST, missing.size()));
+            JsonNode items = spotifyApiClient.getTracks(userId, chunk).path("tracks");
+            // Results are in request order, with null for unknown IDs
+            for (int i = 0; i < chunk.size() && i < items.size(); i++) {
+                JsonNode item = items.get(i);
+                if (item != null && !item.isNull()) {
+                    fetched.put(chunk.get(i), fromSpotifyTrack(chunk.get(i), item));
+                }
+            }
+        }
+
+        localTracks.putAll(fetched);
+        trackCatalogRedisService.putTracks(fetched.values(), redisTtlSeconds);
+        tracks.putAll(fetched);
+        return tracks;
+    }
+
+    /**
+     * Add tracks whose metadata is already known (e.g. from search results) to the catalog.
+     *
+     * @param tracks Track metadata with sourceId set
+     */
+    public void cacheTracks(Collection<TrackMetadataDTO> tracks) {
+        Map<String, TrackMetadataDTO> byId = new HashMap<>();
+        for (TrackMetadataDTO track : tracks) {
+            if (track.getSourceId() != null && localTracks.getIfPresent(track.getSourceId()) == null) {
+                byId.put(track.getSourceId(), track);
+            }
+        }
+        if (byId.isEmpty()) {
+            return;
+        }
+
+        localTracks.putAll(byId);
+        trackCatalogRedisService.putTracks(byId.values(), redisTtlSeconds);
+    }
+
+    /**
+     * Maps a Spotify track object to catalog metadata.
+     * Uses the same album image choice as search results (middle size if several).
+     */
+    private TrackMetadataDTO fromSpotifyTrack(String trackId, JsonNode track) {
+        JsonNode artists = track.path("artists");
+        String artist = artists.isArray() && !artists.isEmpty() ? artists.get(0).path("name").asText(null) : null;
+
+        JsonNode album = track.path("album");
+        JsonNode images = album.path("images");
+        String albumImageUrl = null;
+        if (images.isArray() && !images.isEmpty()) {
+            albumImageUrl = images.get(images.size() > 1 ? images.size() / 2 : 0).path("url").asText(null);
+        }
+
+        return new TrackMetadataDTO(
+            trackId,
+            track.path("uri").asText(null),
+            track.path("name").asText(null),
+            artist,
+            album.path("name").asText(null),
+            track.hasNonNull("duration_ms") ? track.get("duration_ms").asLong() : null,
+            albumImageUrl,
+            track.hasNonNull("explicit") ? track.get("explicit").asBoolean() : null
+        );
+    }
+}
@@ -0,0 +1,364 @@
+package com.partywave.backend.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.exception.SpotifyApiException;
+import com.partywave.backend.repository.AppUserRepository;
+import com.partywave.backend.service.dto.SpotifyTrackSearchResultDTO;
+import com.partywave.backend.service.dto.TrackMetadataDTO;
+import com.partywave.backend.service.dto.TrackSearchResponseDTO;
+import com.partywave.backend.service.redis.TrackSearchCacheRedisService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+
+/**
+ * Service for Spotify track search with a shared two-tier result cache.
+ * Based on PROJECT_OVERVIEW.md section 2.6 steps 1-2 and REDIS_ARCHITECTURE.md section 4.4.
+ *
+ * Search results are transformed to TrackSearchResponseDTO once and cached, so users of busy
+ * rooms searching for the same tracks share a single Spotify call.
+ *
+ * Lookup order:
+ * 1. Local in-memory cache (application.spotify.search-cache.local-*)
+ * 2. Redis, shared by all nodes (application.spotify.search-cache.redis-ttl-seconds)
+ * 3. Spotify, with the searching user's access token; concurrent identical searches on a node
+ *    wait for the same upstream call
+ *
+ * Business rules:
+ * - The cache key is the normalized query (trimmed, whitespace collapsed, lower case, NFC)
+ *   plus effective limit, offset and market
+ * - Spotify filters results by market, and by the account country of the token when no market is
+ *   passed, so a search without market uses the user's stored country as an explicit market and is
+ *   shared only by users of that country; a user without a known country gets their own entry
+ * - A waiter whose in-flight search failed for reasons specific to the searching user (rate limit,
+ *   missing or unusable tokens, 401/403/429 from Spotify) retries with its own token
+ * - Failed searches are not cached; tracks of fresh results are added to the track catalog
+ * - Metrics: partywave.search.requests{result=local-hit|redis-hit|coalesced|miss},
+ *   partywave.search.upstream (Spotify latency) and cache.* with cache=trackSearchLocal
+ */
+@Service
+public class TrackSearchService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TrackSearchService.class);
+
+    private static final int DEFAULT_LIMIT = 20;
+    private static final int MAX_LIMIT = 50;
+    private static final String LOCAL_CACHE_NAME = "trackSearchLocal";
+    private static final String UNKNOWN_MARKET = "";
+    private static final Duration USER_MARKET_TTL = Duration.ofHours(1);
+    private static final Set<String> USER_SPECIFIC_OPERATIONS = Set.of("rate_limited", "no_tokens", "token_refresh", "token_decryption");
+
+    private final SpotifyApiClient spotifyApiClient;
+    private final TrackSearchCacheRedisService trackSearchCacheRedisService;
+    private final TrackCatalogService trackCatalogService;
+    private final AppUserRepository appUserRepository;
+    private final long redisTtlSeconds;
+
+    private final Cache<String, TrackSearchResponseDTO> localResults;
+    private final Cache<UUID, String> userMarkets;
+    private final Map<String, CompletableFuture<TrackSearchResponseDTO>> inFlightSearches = new ConcurrentHashMap<>();
+
+    private final Counter localHitCounter;
+    private final Counter redisHitCounter;
+    private final Counter coalescedCounter;
+    private final Counter missCounter;
+    private final Timer upstreamTimer;
+
+    public TrackSearchService(
+        SpotifyApiClient spotifyApiClient,
+        TrackSearchCacheRedisService trackSearchCacheRedisService,
+        TrackCatalogService trackCatalogService,
+        AppUserRepository appUserRepository,
+        ApplicationProperties applicationProperties,
+        MeterRegistry meterRegistry
+    ) {
+        this.spotifyApiClient = spotifyApiClient;
+        this.trackSearchCacheRedisService = trackSearchCacheRedisService;
+        this.trackCatalogService = trackCatalogService;
+        this.appUserRepository = appUserRepository;
+
+        ApplicationProperties.Spotify.SearchCache properties = applicationProperties.getSpotify().getSearchCache();
+        this.redisTtlSeconds = properties.getRedisTtlSeconds();
+        this.localResults = Caffeine.newBuilder()
+            .maximumSize(properties.getLocalMaximumSize())
+            .expireAfterWrite(Duration.ofSeconds(properties.getLocalTtlSeconds()))
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, localResults, LOCAL_CACHE_NAME);
+        this.userMarkets = Caffeine.newBuilder().maximumSize(properties.getLocalMaximumSize()).expireAfterWrite(USER_MARKET_TTL).build();
+
+        this.localHitCounter = searchRequestCounter("local-hit", meterRegistry);
+        this.redisHitCounter = searchRequestCounter("redis-hit", meterRegistry);
+        this.coalescedCounter = searchRequestCounter("coalesced", meterRegistry);
+        this.missCounter = searchRequestCounter("miss", meterRegistry);
+        this.upstreamTimer = Timer.builder("partywave.search.upstream")
+            .description("Latency of Spotify track searches on cache misses")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Search for tracks, served from cache when possible.
+     *
+     * @param userId User performing the search (their token is used on a miss)
+     * @param query Search query (song name, artist, album)
+     * @param limit Number of results (default 20, clamped to 1-50)
+     * @param offset Offset for pagination (default 0)
+     * @param market Optional market code (e.g., "TR"); defaults to the user's Spotify account country
+     * @return Transformed search results (shared instance, must not be modified)
+     * @throws IllegalArgumentException if query is empty
+     * @throws SpotifyApiException if the Spotify search fails
+     */
+    public TrackSearchResponseDTO searchTracks(UUID userId, String query, Integer limit, Integer offset, String market) {
+        if (query == null || query.trim().isEmpty()) {
+            throw new IllegalArgumentException("Search query cannot be empty");
+        }
+
+        String normalizedQuery = normalizeQuery(query);
+        int effectiveLimit = limit == null ? DEFAULT_LIMIT : Math.max(1, Math.min(MAX_LIMIT, limit));
+        int effectiveOffset = offset == null ? 0 : Math.max(0, offset);
+        String normalizedMarket = market == null || market.trim().isEmpty() ? resolveUserMarket(userId) : normalizeMarket(market);
+        // Without a market Spotify uses the token's account country, so the result belongs to this user only
+        String marketKey = normalizedMarket != null ? normalizedMarket : "from_token:" + userId;
+        String searchKey = digest(normalizedQuery + '\n' + effectiveLimit + '\n' + effectiveOffset + '\n' + marketKey);
+
+        TrackSearchResponseDTO cached = localResults.getIfPresent(searchKey);
+        if (cached != null) {
+            localHitCounter.increment();
+            return cached;
+        }
+
+        cached = trackSearchCacheRedisService.getSearchResult(searchKey);
+        if (cached != null) {
+            redisHitCounter.increment();
+            localResults.put(searchKey, cached);
+            return cached;
+        }
+
+        CompletableFuture<TrackSearchResponseDTO> flight = new CompletableFuture<>();
+        CompletableFuture<TrackSearchResponseDTO> existing = inFlightSearches.putIfAbsent(searchKey, flight);
+        if (existing != null) {
+            coalescedCounter.increment();
+            LOG.debug("Waiting for in-flight search for query: {}", normalizedQuery);
+            try {
+                return awaitSearch(existing);
+            } catch (RuntimeException e) {
+                if (!isUserSpecificFailure(e)) {
+                    throw e;
+                }
+                // The leader failed for reasons of its own user; this user may still succeed
+                LOG.debug("In-flight search failed for another user ({}), retrying with own token", e.getMessage());
+                return fetchAndCache(userId, searchKey, normalizedQuery, effectiveLimit, effectiveOffset, normalizedMarket);
+            }
+        }
+
+        try {
+            // A search that completed between the cache lookup and putIfAbsent has filled the local cache
+            TrackSearchResponseDTO result = localResults.getIfPresent(searchKey);
+            if (result != null) {
+                localHitCounter.increment();
+            } else {
+                result = fetchAndCache(userId, searchKey, normalizedQuery, effectiveLimit, effectiveOffset, normalizedMarket);
+            }
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightSearches.remove(searchKey, flight);
+        }
+    }
+
+    private TrackSearchResponseDTO fetchAndCache(UUID userId, String searchKey, String query, int limit, int offset, String market) {
+        missCounter.increment();
+        TrackSearchResponseDTO result = upstreamTimer.record(() ->
+            transformSpotifyResultToDTO(spotifyApiClient.searchTracks(userId, query, limit, offset, market))
+        );
+        localResults.put(searchKey, result);
+        trackSearchCacheRedisService.putSearchResult(searchKey, result, redisTtlSeconds);
+        trackCatalogService.cacheTracks(toTrackMetadata(result.getTracks()));
+        return result;
+    }
+
+    /**
+     * Spotify account country of a user, or null if unknown.
+     */
+    private String resolveUserMarket(UUID userId) {
+        String market = userMarkets.get(userId, id -> {
+            try {
+                return appUserRepository
+                    .findCountryById(id)
+                    .filter(country -> !country.isBlank())
+                    .map(this::normalizeMarket)
+                    .orElse(UNKNOWN_MARKET);
+            } catch (Exception e) {
+                LOG.warn("Failed to load country of user {}: {}", id, e.getMessage());
+                return null;
+            }
+        });
+        return market == null || market.equals(UNKNOWN_MARKET) ? null : market;
+    }
+
+    private String normalizeMarket(String market) {
+        return market.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Whether a failed search depends on the user who ran it: their rate limit bucket, their stored
+     * tokens, or a Spotify response to their token (401, 403, 429).
+     */
+    private boolean isUserSpecificFailure(RuntimeException e) {
+        if (!(e instanceof SpotifyApiException spotifyApiException)) {
+            return false;
+        }
+        if (USER_SPECIFIC_OPERATIONS.contains(spotifyApiException.getOperation())) {
+            return true;
+        }
+        if (e.getCause() instanceof HttpClientErrorException clientError) {
+            int status = clientError.getStatusCode().value();
+            return (
+                status == HttpStatus.UNAUTHORIZED.value() ||
+                status == HttpStatus.FORBIDDEN.value() ||
+                status == HttpStatus.TOO_MANY_REQUESTS.value()
+            );
+        }
+        return false;
+    }
+
+    private TrackSearchResponseDTO awaitSearch(CompletableFuture<TrackSearchResponseDTO> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new SpotifyApiException("Error searching tracks: " + e.getMessage(), "search_tracks", e);
+        }
+    }
+
+    /**
+     * Transforms Spotify API search results to our TrackSearchResponseDTO format.
+     * Extracts the essential track metadata needed for playlist operations.
+     *
+     * @param spotifyResult Spotify search result from SpotifyApiClient
+     * @return TrackSearchResponseDTO with simplified track data
+     */
+    private TrackSearchResponseDTO transformSpotifyResultToDTO(SpotifyTrackSearchResultDTO spotifyResult) {
+        List<TrackSearchResponseDTO.TrackDTO> tracks = new ArrayList<>();
+
+        if (spotifyResult.getTracks() != null && spotifyResult.getTracks().getItems() != null) {
+            for (SpotifyTrackSearchResultDTO.TrackDTO spotifyTrack : spotifyResult.getTracks().getItems()) {
+                // Extract primary artist name (first artist)
+                String artistName = null;
+                if (spotifyTrack.getArtists() != null && !spotifyTrack.getArtists().isEmpty()) {
+                    artistName = spotifyTrack.getArtists().get(0).getName();
+                }
+
+                // Extract album name
+                String albumName = null;
+                if (spotifyTrack.getAlbum() != null) {
+                    albumName = spotifyTrack.getAlbum().getName();
+                }
+
+                // Extract album image URL (prefer medium size, typically 300x300)
+                String albumImageUrl = null;
+                if (
+                    spotifyTrack.getAlbum() != null &&
+                    spotifyTrack.getAlbum().getImages() != null &&
+                    !spotifyTrack.getAlbum().getImages().isEmpty()
+                ) {
+                    // Get first image (usually largest) or middle image if multiple
+                    List<SpotifyTrackSearchResultDTO.ImageDTO> images = spotifyTrack.getAlbum().getImages();
+                    if (images.size() > 1) {
+                        // Get middle size image
+                        albumImageUrl = images.get(images.size() / 2).getUrl();
+                    } else {
+                        albumImageUrl = images.get(0).getUrl();
+                    }
+                }
+
+                TrackSearchResponseDTO.TrackDTO trackDTO = new TrackSearchResponseDTO.TrackDTO(
+                    spotifyTrack.getId(), // source_id
+                    spotifyTrack.getUri(), // source_uri
+                    spotifyTrack.getName(), // name
+                    artistName, // artist
+                    albumName, // album
+                    spotifyTrack.getDurationMs(), // duration_ms
+                    albumImageUrl, // album_image_url
+                    spotifyTrack.getExplicit() // explicit
+                );
+
+                tracks.add(trackDTO);
+            }
+        }
+
+        // Extract pagination info
+        Integer total = spotifyResult.getTracks() != null ? spotifyResult.getTracks().getTotal() : 0;
+        Integer limit = spotifyResult.getTracks() != null ? spotifyResult.getTracks().getLimit() : 0;
+        Integer offset = spotifyResult.getTracks() != null ? spotifyResult.getTracks().getOffset() : 0;
+
+        return new TrackSearchResponseDTO(tracks, total, limit, offset);
+    }
+
+    private List<TrackMetadataDTO> toTrackMetadata(List<TrackSearchResponseDTO.TrackDTO> tracks) {
+        return tracks
+            .stream()
+            .map(track ->
+                new TrackMetadataDTO(
+                    track.getSourceId(),
+                    track.getSourceUri(),
+                    track.getName(),
+                    track.getArtist(),
+                    track.getAlbum(),
+                    track.getDurationMs() != null ? track.getDurationMs().longValue() : null,
+                    track.getAlbumImageUrl(),
+                    track.getExplicit()
+                )
+            )
+            .toList();
+    }
+
+    private String normalizeQuery(String query) {
+        String normalized = Normalizer.normalize(query.trim(), Normalizer.Form.NFC);
+        return normalized.replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private String digest(String searchKey) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(searchKey.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static Counter searchRequestCounter(String result, MeterRegistry meterRegistry) {
+        return Counter.builder("partywave.search.requests")
+            .description("Track search requests by cache outcome")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+}
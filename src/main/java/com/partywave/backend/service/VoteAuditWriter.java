@@ -0,0 +1,206 @@
+package com.partywave.backend.service;
+
+import com.partywave.backend.domain.Vote;
+import com.partywave.backend.domain.enumeration.VoteType;
+import com.partywave.backend.repository.AppUserRepository;
+import com.partywave.backend.repository.RoomRepository;
+import com.partywave.backend.repository.VoteRepository;
+import jakarta.annotation.PreDestroy;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Asynchronous, batched writer for the PostgreSQL vote audit trail.
+ * Based on PROJECT_OVERVIEW.md sections 2.8 and 2.9 - Vote-Based Skip/Kick.
+ *
+ * Vote counts and thresholds live in Redis (VoteRedisService); the vote table only records
+ * who voted for what. Votes cast and withdrawn are queued here and applied in order, in one
+ * transaction per batch, using entity references instead of loading Room/AppUser rows.
+ *
+ * Business rules:
+ * - Queue is bounded; when it is full the caller writes its record synchronously (backpressure)
+ * - A batch that fails is kept and retried before newer records (order is preserved); after
+ *   MAX_BATCH_ATTEMPTS failures it is applied one record per transaction and only the records
+ *   PostgreSQL still rejects are dropped
+ * - The queue is drained on graceful shutdown; records still queued when a node crashes are lost
+ *   (Redis vote state is unaffected)
+ */
+@Service
+public class VoteAuditWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteAuditWriter.class);
+
+    private static final int QUEUE_CAPACITY = 10000;
+    private static final int FLUSH_BATCH_SIZE = 500;
+    private static final int MAX_BATCH_ATTEMPTS = 3;
+
+    private final VoteRepository voteRepository;
+    private final RoomRepository roomRepository;
+    private final AppUserRepository appUserRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlockingQueue<VoteAuditRecord> queue = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+
+    /** Batch whose flush failed, retried before newer records are drained (guarded by this). */
+    private List<VoteAuditRecord> failedBatch;
+    private int failedBatchAttempts;
+
+    public VoteAuditWriter(
+        VoteRepository voteRepository,
+        RoomRepository roomRepository,
+        AppUserRepository appUserRepository,
+        TransactionTemplate transactionTemplate
+    ) {
+        this.voteRepository = voteRepository;
+        this.roomRepository = roomRepository;
+        this.appUserRepository = appUserRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * Queue a cast vote.
+     *
+     * @param roomId Room UUID
+     * @param voterId Voter user UUID
+     * @param voteType SKIPTRACK or KICKUSER
+     * @param playlistItemId Playlist item ID (SKIPTRACK only)
+     * @param targetUserId Target user UUID (KICKUSER only)
+     */
+    public void recordVoteCast(UUID roomId, UUID voterId, VoteType voteType, String playlistItemId, UUID targetUserId) {
+        submit(new VoteAuditRecord(false, roomId, voterId, voteType, playlistItemId, targetUserId, Instant.now()));
+    }
+
+    /**
+     * Queue a withdrawn vote (deletes the voter's row).
+     */
+    public void recordVoteWithdrawn(UUID roomId, UUID voterId, VoteType voteType, String playlistItemId, UUID targetUserId) {
+        submit(new VoteAuditRecord(true, roomId, voterId, voteType, playlistItemId, targetUserId, Instant.now()));
+    }
+
+    /**
+     * Apply queued records in one transaction per batch of up to FLUSH_BATCH_SIZE
+     * (a previously failed batch first).
+     */
+    @Scheduled(fixedDelay = 500)
+    public synchronized void flush() {
+        List<VoteAuditRecord> batch = failedBatch;
+        if (batch == null) {
+            batch = new ArrayList<>(FLUSH_BATCH_SIZE);
+            queue.drainTo(batch, FLUSH_BATCH_SIZE);
+            if (batch.isEmpty()) {
+                return;
+            }
+        }
+
+        try {
+            List<VoteAuditRecord> records = batch;
+            transactionTemplate.executeWithoutResult(status -> apply(records));
+            log.debug("Flushed {} vote audit records", batch.size());
+        } catch (Exception e) {
+            failedBatchAttempts = failedBatch == null ? 1 : failedBatchAttempts + 1;
+            if (failedBatchAttempts < MAX_BATCH_ATTEMPTS) {
+                log.error("Failed to flush {} vote audit records (attempt {}), batch will be retried", batch.size(), failedBatchAttempts, e);
+                failedBatch = batch;
+                return;
+            }
+            log.error("Failed to flush {} vote audit records {} times, applying them one by one", batch.size(), failedBatchAttempts, e);
+            applyIndividually(batch);
+        }
+        failedBatch = null;
+        failedBatchAttempts = 0;
+    }
+
+    /**
+     * Write queued records before the node shuts down.
+     */
+    @PreDestroy
+    public synchronized void drain() {
+        int flushes = 0;
+        while ((failedBatch != null || !queue.isEmpty()) && flushes++ < QUEUE_CAPACITY) {
+            flush();
+        }
+        int unwritten = queue.size() + (failedBatch != null ? failedBatch.size() : 0);
+        if (unwritten > 0) {
+            log.warn("Shutting down with {} unwritten vote audit records", unwritten);
+        }
+    }
+
+    private void applyIndividually(List<VoteAuditRecord> batch) {
+        for (VoteAuditRecord record : batch) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> apply(List.of(record)));
+            } catch (Exception e) {
+                log.error("Dropping vote audit record for room {} voter {}", record.roomId(), record.voterId(), e);
+            }
+        }
+    }
+
+    private void submit(VoteAuditRecord record) {
+        if (!queue.offer(record)) {
+            log.warn("Vote audit queue full, writing vote record for room {} synchronously", record.roomId());
+            transactionTemplate.executeWithoutResult(status -> apply(List.of(record)));
+        }
+    }
+
+    /**
+     * Apply records in order: pending inserts are written before any delete so a withdraw
+     * queued after its cast removes the inserted row.
+     */
+    private void apply(List<VoteAuditRecord> records) {
+        List<Vote> pendingInserts = new ArrayList<>();
+
+        for (VoteAuditRecord record : records) {
+            if (!record.withdrawn()) {
+                pendingInserts.add(toVote(record));
+                continue;
+            }
+
+            if (!pendingInserts.isEmpty()) {
+                voteRepository.saveAllAndFlush(pendingInserts);
+                pendingInserts.clear();
+            }
+
+            if (record.voteType() == VoteType.SKIPTRACK) {
+                voteRepository.deleteSkipTrackVoteByVoter(record.roomId(), record.voterId(), record.playlistItemId());
+            } else {
+                voteRepository.deleteKickUserVoteByVoter(record.roomId(), record.voterId(), record.targetUserId());
+            }
+        }
+
+        if (!pendingInserts.isEmpty()) {
+            voteRepository.saveAll(pendingInserts);
+        }
+    }
+
+    private Vote toVote(VoteAuditRecord record) {
+        Vote vote = new Vote();
+        vote.setRoom(roomRepository.getReferenceById(record.roomId()));
+        vote.setVoter(appUserRepository.getReferenceById(record.voterId()));
+        vote.setVoteType(record.voteType());
+        vote.setPlaylistItemId(record.playlistItemId());
+        if (record.targetUserId() != null) {
+            vote.setTargetUser(appUserRepository.getReferenceById(record.targetUserId()));
+        }
+        vote.setCreatedAt(record.createdAt());
+        return vote;
+    }
+
+    private record VoteAuditRecord(
+        boolean withdrawn,
+        UUID roomId,
+        UUID voterId,
+        VoteType voteType,
+        String playlistItemId,
+        UUID targetUserId,
+        Instant createdAt
+    ) {}
+}
@@ -1,24 +1,24 @@
 package com.partywave.backend.service;
 
 import com.partywave.backend.domain.AppUser;
-import com.partywave.backend.domain.Room;
-import com.partywave.backend.domain.RoomMember;
-import com.partywave.backend.domain.Vote;
+import com.partywave.backend.domain.enumeration.RoomMemberRole;
 import com.partywave.backend.domain.enumeration.VoteType;
 import com.partywave.backend.exception.ForbiddenException;
 import com.partywave.backend.exception.InvalidRequestException;
+import com.partywave.backend.exception.RateLimitExceededException;
 import com.partywave.backend.exception.ResourceNotFoundException;
 import com.partywave.backend.repository.AppUserRepository;
 import com.partywave.backend.repository.RoomMemberRepository;
-import com.partywave.backend.repository.RoomRepository;
-import com.partywave.backend.repository.VoteRepository;
 import com.partywave.backend.service.dto.KickUserRequestDTO;
+import com.partywave.backend.service.dto.VoteEventDTO;
 import com.partywave.backend.service.dto.VoteResponseDTO;
 import com.partywave.backend.service.dto.VoteStatusResponseDTO;
 import com.partywave.backend.service.redis.OnlineMembersRedisService;
 import com.partywave.backend.service.redis.PlaybackRedisService;
 import com.partywave.backend.service.redis.PlaylistRedisService;
 import com.partywave.backend.service.redis.TrackOperationResult;
+import com.partywave.backend.service.redis.VoteRedisService;
+import com.partywave.backend.service.redis.VoteTallyResult;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -40,6 +40,9 @@ import org.springframework.transaction.annotation.Transactional;
  * - Room owner cannot be kicked
  * - User cannot vote to kick themselves
  * - When threshold is reached, action is executed immediately
+ *
+ * Vote state and thresholds live in Redis (VoteRedisService); PostgreSQL vote rows are an
+ * audit trail written asynchronously in batches (VoteAuditWriter).
  */
 @Service
 @Transactional
@@ -50,30 +53,42 @@ public class VoteService {
     // Vote threshold: 50% of online members
     private static final double VOTE_THRESHOLD_PERCENTAGE = 0.5;
 
-    private final VoteRepository voteRepository;
-    private final RoomRepository roomRepository;
+    private final VoteRedisService voteRedisService;
+    private final VoteAuditWriter voteAuditWriter;
     private final RoomMemberRepository roomMemberRepository;
     private final AppUserRepository appUserRepository;
     private final OnlineMembersRedisService onlineMembersRedisService;
     private final PlaybackRedisService playbackRedisService;
     private final PlaylistRedisService playlistRedisService;
+    private final PlaybackService playbackService;
+    private final RoomEventPublisher roomEventPublisher;
+    private final RoomAuthorizationService roomAuthorizationService;
+    private final RateLimiter rateLimiter;
 
     public VoteService(
-        VoteRepository voteRepository,
-        RoomRepository roomRepository,
+        VoteRedisService voteRedisService,
+        VoteAuditWriter voteAuditWriter,
         RoomMemberRepository roomMemberRepository,
         AppUserRepository appUserRepository,
         OnlineMembersRedisService onlineMembersRedisService,
         PlaybackRedisService playbackRedisService,
-        PlaylistRedisService playlistRedisService
+        PlaylistRedisService playlistRedisService,
+        PlaybackService playbackService,
+        RoomEventPublisher roomEventPublisher,
+        RoomAuthorizationService roomAuthorizationService,
+        RateLimiter rateLimiter
     ) {
-        this.voteRepository = voteRepository;
-        this.roomRepository = roomRepository;
+        this.voteRedisService = voteRedisService;
+        this.voteAuditWriter = voteAuditWriter;
         this.roomMemberRepository = roomMemberRepository;
         this.appUserRepository = appUserRepository;
         this.onlineMembersRedisService = onlineMembersRedisService;
         this.playbackRedisService = playbackRedisService;
         this.playlistRedisService = playlistRedisService;
+        this.playbackService = playbackService;
+        this.roomEventPublisher = roomEventPublisher;
+        this.roomAuthorizationService = roomAuthorizationService;
+        this.rateLimiter = rateLimiter;
     }
 
     /**
@@ -83,12 +98,9 @@ public class VoteService {
      * Workflow:
      * 1. Validate user is a room member
      * 2. Check there is a track currently playing
-     * 3. Check if user already voted for this track
-     * 4. Create vote record in PostgreSQL
-     * 5. Count votes for this track
-     * 6. Get online member count from Redis
-     * 7. Check threshold (50%)
-     * 8. If threshold reached, skip track via PlaybackRedisService
+     * 3. Add vote to the track's Redis vote set, count and check threshold (50% of online members) atomically
+     * 4. Queue the vote for the PostgreSQL audit trail
+     * 5. If threshold reached, skip track via PlaybackService
      *
      * @param roomId Room UUID
      * @param userId User UUID (from JWT)
@@ -96,18 +108,14 @@ public class VoteService {
      * @throws ResourceNotFoundException if room doesn't exist
      * @throws ForbiddenException if user is not a room member
      * @throws InvalidRequestException if no track is playing or user already voted
+     * @throws RateLimitExceededException if the user votes too fast (policy vote)
      */
     public VoteResponseDTO voteSkipTrack(UUID roomId, UUID userId) {
         log.debug("Vote to skip track in room {} by user {}", roomId, userId);
 
-        // Step 1: Validate room exists
-        Room room = roomRepository.findById(roomId).orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
-
         // Step 1: Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            throw new ForbiddenException("User is not a member of this room");
-        }
+        roomAuthorizationService.requireActiveMember(roomId, userId);
+        rateLimiter.checkLimit(RateLimiter.Policy.VOTE, roomId, userId);
 
         // Step 2: Check there is a track currently playing
         String currentPlaylistItemId = playbackRedisService.getCurrentPlaylistItemId(roomId.toString());
@@ -115,36 +123,28 @@ public class VoteService {
             throw new InvalidRequestException("No track is currently playing");
         }
 
-        // Step 3: Check if user already voted for this track
-        boolean alreadyVoted = voteRepository.existsByRoomIdAndVoterIdAndPlaylistItemId(roomId, userId, currentPlaylistItemId);
-        if (alreadyVoted) {
+        // Step 3: Add vote, count and check threshold atomically in Redis
+        VoteTallyResult tally = voteRedisService.castSkipVote(
+            roomId.toString(),
+            currentPlaylistItemId,
+            userId.toString(),
+            VOTE_THRESHOLD_PERCENTAGE
+        );
+        if (tally == null) {
+            throw new RuntimeException("Failed to record skip vote");
+        }
+        if (!tally.isChanged()) {
             throw new InvalidRequestException("You have already voted to skip this track");
         }
 
-        // Step 4: Create vote record
-        AppUser voter = appUserRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
-
-        Vote vote = new Vote();
-        vote.setRoom(room);
-        vote.setVoter(voter);
-        vote.setVoteType(VoteType.SKIPTRACK);
-        vote.setPlaylistItemId(currentPlaylistItemId);
-        vote.setCreatedAt(Instant.now());
-
-        voteRepository.save(vote);
+        // Step 4: Queue vote for the audit trail
+        voteAuditWriter.recordVoteCast(roomId, userId, VoteType.SKIPTRACK, currentPlaylistItemId, null);
         log.info("Vote recorded: User {} voted to skip track {} in room {}", userId, currentPlaylistItemId, roomId);
 
-        // Step 5: Count votes for this track
-        long currentVoteCount = voteRepository.countByRoomIdAndPlaylistItemId(roomId, currentPlaylistItemId);
-
-        // Step 6: Get online member count
-        long onlineMemberCount = onlineMembersRedisService.getOnlineMemberCount(roomId.toString());
-
-        // Step 7: Calculate required vote count (50% threshold)
-        long requiredVoteCount = Math.max(1, (long) Math.ceil(onlineMemberCount * VOTE_THRESHOLD_PERCENTAGE));
-
-        // Step 8: Check threshold
-        boolean thresholdReached = currentVoteCount >= requiredVoteCount;
+        long currentVoteCount = tally.getVoteCount();
+        long requiredVoteCount = tally.getRequiredVoteCount();
+        long onlineMemberCount = tally.getOnlineMemberCount();
+        boolean thresholdReached = tally.isThresholdReached();
 
         VoteResponseDTO response = new VoteResponseDTO();
         response.setVoteRecorded(true);
@@ -164,14 +164,22 @@ public class VoteService {
                 requiredVoteCount
             );
 
-            TrackOperationResult skipResult = playbackRedisService.skipTrack(roomId.toString());
+            TrackOperationResult skipResult = playbackService.skipTrack(roomId.toString(), currentPlaylistItemId);
 
             if (skipResult.isSuccess()) {
                 response.setMessage("Track skipped successfully. Threshold reached (" + currentVoteCount + "/" + requiredVoteCount + ")");
                 log.info("Track {} skipped successfully in room {}", currentPlaylistItemId, roomId);
 
-                // Clean up old votes for the skipped track
-                voteRepository.deleteSkipTrackVotesByPlaylistItemId(roomId, currentPlaylistItemId);
+                publishVoteEvent(
+                    VoteEventDTO.TRACK_SKIPPED,
+                    roomId,
+                    VoteType.SKIPTRACK,
+                    userId,
+                    currentPlaylistItemId,
+                    null,
+                    currentVoteCount,
+                    requiredVoteCount
+                );
             } else {
                 response.setMessage(
                     "Threshold reached but skip failed: " +
@@ -184,7 +192,6 @@ public class VoteService {
                 );
                 log.error("Failed to skip track {} in room {}: {}", currentPlaylistItemId, roomId, skipResult.getMessage());
             }
-            // TODO: Emit WebSocket event TRACK_SKIPPED to all room members
         } else {
             response.setMessage("Vote recorded. " + currentVoteCount + "/" + requiredVoteCount + " votes to skip");
             log.debug(
@@ -194,7 +201,16 @@ public class VoteService {
                 currentVoteCount,
                 requiredVoteCount
             );
-            // TODO: Emit WebSocket event VOTE_CAST to all room members
+            publishVoteEvent(
+                VoteEventDTO.VOTE_CAST,
+                roomId,
+                VoteType.SKIPTRACK,
+                userId,
+                currentPlaylistItemId,
+                null,
+                currentVoteCount,
+                requiredVoteCount
+            );
         }
 
         return response;
@@ -209,12 +225,9 @@ public class VoteService {
      * 2. Validate target user is a room member
      * 3. Validate user is not voting to kick themselves
      * 4. Validate target user is not the room owner
-     * 5. Check if user already voted to kick this target
-     * 6. Create vote record
-     * 7. Count votes for this target
-     * 8. Get online member count
-     * 9. Check threshold (50%)
-     * 10. If threshold reached, kick user (soft delete RoomMember, remove from Redis, close WebSocket)
+     * 5. Add vote to the target's Redis vote set, count and check threshold (50% of online members) atomically
+     * 6. Queue the vote for the PostgreSQL audit trail
+     * 7. If threshold reached, kick user (soft delete RoomMember, remove from Redis, emit USER_KICKED)
      *
      * @param roomId Room UUID
      * @param userId User UUID (from JWT)
@@ -223,23 +236,19 @@ public class VoteService {
      * @throws ResourceNotFoundException if room or target user doesn't exist
      * @throws ForbiddenException if user is not a room member
      * @throws InvalidRequestException if validation fails (self-kick, owner kick, already voted)
+     * @throws RateLimitExceededException if the user votes too fast (policy vote)
      */
     public VoteResponseDTO voteKickUser(UUID roomId, UUID userId, KickUserRequestDTO request) {
         UUID targetUserId = request.getTargetUserId();
         log.debug("Vote to kick user {} in room {} by user {}", targetUserId, roomId, userId);
 
-        // Step 1: Validate room exists
-        Room room = roomRepository.findById(roomId).orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
-
         // Step 1: Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            throw new ForbiddenException("User is not a member of this room");
-        }
+        roomAuthorizationService.requireActiveMember(roomId, userId);
+        rateLimiter.checkLimit(RateLimiter.Policy.VOTE, roomId, userId);
 
         // Step 2: Validate target user is a room member
-        RoomMember targetMember = roomMemberRepository
-            .findByRoomIdAndUserIdAndIsActiveTrue(roomId, targetUserId)
+        RoomMemberRole targetRole = roomAuthorizationService
+            .getActiveRole(roomId, targetUserId)
             .orElseThrow(() -> new InvalidRequestException("Target user is not a member of this room"));
 
         // Step 3: Validate user is not voting to kick themselves
@@ -248,45 +257,32 @@ public class VoteService {
         }
 
         // Step 4: Validate target user is not the room owner
-        boolean isOwner = roomMemberRepository.isRoomOwner(roomId, targetUserId);
-        if (isOwner) {
+        if (targetRole == RoomMemberRole.OWNER) {
             throw new InvalidRequestException("Cannot kick the room owner");
         }
 
-        // Step 5: Check if user already voted to kick this target
-        boolean alreadyVoted = voteRepository.existsByRoomIdAndVoterIdAndTargetUserId(roomId, userId, targetUserId);
-        if (alreadyVoted) {
+        // Step 5: Add vote, count and check threshold atomically in Redis
+        VoteTallyResult tally = voteRedisService.castKickVote(
+            roomId.toString(),
+            targetUserId.toString(),
+            userId.toString(),
+            VOTE_THRESHOLD_PERCENTAGE
+        );
+        if (tally == null) {
+            throw new RuntimeException("Failed to record kick vote");
+        }
+        if (!tally.isChanged()) {
             throw new InvalidRequestException("You have already voted to kick this user");
         }
 
-        // Step 6: Create vote record
-        AppUser voter = appUserRepository.findById(userId).orElseThrow(() -> new ResourceNotFoundException("User not found: " + userId));
-
-        AppUser targetUser = appUserRepository
-            .findById(targetUserId)
-            .orElseThrow(() -> new ResourceNotFoundException("Target user not found: " + targetUserId));
-
-        Vote vote = new Vote();
-        vote.setRoom(room);
-        vote.setVoter(voter);
-        vote.setVoteType(VoteType.KICKUSER);
-        vote.setTargetUser(targetUser);
-        vote.setCreatedAt(Instant.now());
-
-        voteRepository.save(vote);
+        // Step 6: Queue vote for the audit trail
+        voteAuditWriter.recordVoteCast(roomId, userId, VoteType.KICKUSER, null, targetUserId);
         log.info("Vote recorded: User {} voted to kick user {} in room {}", userId, targetUserId, roomId);
 
-        // Step 7: Count votes for this target
-        long currentVoteCount = voteRepository.countByRoomIdAndTargetUserId(roomId, targetUserId);
-
-        // Step 8: Get online member count
-        long onlineMemberCount = onlineMembersRedisService.getOnlineMemberCount(roomId.toString());
-
-        // Step 9: Calculate required vote count (50% threshold)
-        long requiredVoteCount = Math.max(1, (long) Math.ceil(onlineMemberCount * VOTE_THRESHOLD_PERCENTAGE));
-
-        // Step 10: Check threshold
-        boolean thresholdReached = currentVoteCount >= requiredVoteCount;
+        long currentVoteCount = tally.getVoteCount();
+        long requiredVoteCount = tally.getRequiredVoteCount();
+        long onlineMemberCount = tally.getOnlineMemberCount();
+        boolean thresholdReached = tally.isThresholdReached();
 
         VoteResponseDTO response = new VoteResponseDTO();
         response.setVoteRecorded(true);
@@ -307,9 +303,14 @@ public class VoteService {
             );
 
             // Soft delete: set isActive = false
-            targetMember.setIsActive(false);
-            targetMember.setLastActiveAt(Instant.now());
-            roomMemberRepository.save(targetMember);
+            roomMemberRepository
+                .findByRoomIdAndUserIdAndIsActiveTrue(roomId, targetUserId)
+                .ifPresent(targetMember -> {
+                    targetMember.setIsActive(false);
+                    targetMember.setLastActiveAt(Instant.now());
+                    roomMemberRepository.save(targetMember);
+                });
+            roomAuthorizationService.memberLeft(roomId, targetUserId);
 
             // Remove from Redis online members
             onlineMembersRedisService.removeOnlineMember(roomId.toString(), targetUserId.toString());
@@ -317,10 +318,18 @@ public class VoteService {
             response.setMessage("User kicked successfully. Threshold reached (" + currentVoteCount + "/" + requiredVoteCount + ")");
             log.info("User {} kicked from room {}", targetUserId, roomId);
 
-            // Clean up votes for this kicked user
-            voteRepository.deleteKickUserVotesByTargetUserId(roomId, targetUserId);
-            // TODO: Close WebSocket connection for kicked user
-            // TODO: Emit WebSocket event USER_KICKED to all room members
+            // After commit, RoomEventBus drops the kicked user's room subscriptions on every node;
+            // re-subscribing is rejected because the membership is no longer active.
+            publishVoteEvent(
+                VoteEventDTO.USER_KICKED,
+                roomId,
+                VoteType.KICKUSER,
+                userId,
+                null,
+                targetUserId.toString(),
+                currentVoteCount,
+                requiredVoteCount
+            );
         } else {
             response.setMessage("Vote recorded. " + currentVoteCount + "/" + requiredVoteCount + " votes to kick");
             log.debug(
@@ -330,7 +339,16 @@ public class VoteService {
                 currentVoteCount,
                 requiredVoteCount
             );
-            // TODO: Emit WebSocket event VOTE_CAST to all room members
+            publishVoteEvent(
+                VoteEventDTO.VOTE_CAST,
+                roomId,
+                VoteType.KICKUSER,
+                userId,
+                null,
+                targetUserId.toString(),
+                currentVoteCount,
+                requiredVoteCount
+            );
         }
 
         return response;
@@ -354,14 +372,8 @@ public class VoteService {
     public VoteStatusResponseDTO getVoteStatus(UUID roomId, UUID userId) {
         log.debug("Get vote status for room {} by user {}", roomId, userId);
 
-        // Validate room exists
-        roomRepository.findById(roomId).orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
-
         // Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            throw new ForbiddenException("User is not a member of this room");
-        }
+        roomAuthorizationService.requireActiveMember(roomId, userId);
 
         VoteStatusResponseDTO response = new VoteStatusResponseDTO();
 
@@ -373,7 +385,7 @@ public class VoteService {
         String currentPlaylistItemId = playbackRedisService.getCurrentPlaylistItemId(roomId.toString());
         if (currentPlaylistItemId != null) {
             // There's a track currently playing
-            long skipVoteCount = voteRepository.countByRoomIdAndPlaylistItemId(roomId, currentPlaylistItemId);
+            long skipVoteCount = voteRedisService.getSkipVoteCount(roomId.toString(), currentPlaylistItemId);
 
             // Get track metadata from Redis
             Map<Object, Object> playlistItem = playlistRedisService.getPlaylistItem(roomId.toString(), currentPlaylistItemId);
@@ -393,24 +405,23 @@ public class VoteService {
             response.setSkipTrackVote(skipStatus);
         }
 
-        // Get kick user vote statuses
-        List<Vote> kickVotes = voteRepository.findAllKickUserVotesByRoomId(roomId);
-
-        // Group votes by target user and count
-        Map<UUID, KickUserVoteInfo> kickVoteMap = new HashMap<>();
-        for (Vote vote : kickVotes) {
-            UUID targetUserId = vote.getTargetUser().getId();
-            kickVoteMap.putIfAbsent(targetUserId, new KickUserVoteInfo(targetUserId, vote.getTargetUser().getDisplayName()));
-            kickVoteMap.get(targetUserId).incrementCount();
+        // Get kick user vote statuses (counts from Redis, display names in one query)
+        Map<String, Long> kickVoteCounts = voteRedisService.getKickVoteCounts(roomId.toString());
+        Map<UUID, String> displayNames = new HashMap<>();
+        if (!kickVoteCounts.isEmpty()) {
+            List<UUID> targetUserIds = kickVoteCounts.keySet().stream().map(UUID::fromString).toList();
+            for (AppUser targetUser : appUserRepository.findAllById(targetUserIds)) {
+                displayNames.put(targetUser.getId(), targetUser.getDisplayName());
+            }
         }
 
         // Convert to DTO list
         List<VoteStatusResponseDTO.KickUserVoteStatus> kickUserVoteStatuses = new ArrayList<>();
-        for (KickUserVoteInfo info : kickVoteMap.values()) {
+        for (Map.Entry<String, Long> entry : kickVoteCounts.entrySet()) {
             VoteStatusResponseDTO.KickUserVoteStatus kickStatus = new VoteStatusResponseDTO.KickUserVoteStatus(
-                info.targetUserId.toString(),
-                info.displayName,
-                info.voteCount,
+                entry.getKey(),
+                displayNames.get(UUID.fromString(entry.getKey())),
+                entry.getValue(),
                 requiredVoteCount,
                 onlineMemberCount
             );
@@ -444,14 +455,8 @@ public class VoteService {
     public VoteResponseDTO withdrawSkipVote(UUID roomId, UUID userId) {
         log.debug("Withdraw skip vote in room {} by user {}", roomId, userId);
 
-        // Step 1: Validate room exists
-        roomRepository.findById(roomId).orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
-
         // Step 1: Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            throw new ForbiddenException("User is not a member of this room");
-        }
+        roomAuthorizationService.requireActiveMember(roomId, userId);
 
         // Step 2: Check there is a track currently playing
         String currentPlaylistItemId = playbackRedisService.getCurrentPlaylistItemId(roomId.toString());
@@ -459,26 +464,27 @@ public class VoteService {
             throw new InvalidRequestException("No track is currently playing");
         }
 
-        // Step 3: Check if user has voted for this track
-        boolean hasVoted = voteRepository.existsByRoomIdAndVoterIdAndPlaylistItemId(roomId, userId, currentPlaylistItemId);
-        if (!hasVoted) {
-            throw new InvalidRequestException("You have not voted to skip this track");
+        // Step 3-4: Remove the vote from Redis (fails if the user has not voted)
+        VoteTallyResult tally = voteRedisService.withdrawSkipVote(
+            roomId.toString(),
+            currentPlaylistItemId,
+            userId.toString(),
+            VOTE_THRESHOLD_PERCENTAGE
+        );
+        if (tally == null) {
+            throw new RuntimeException("Failed to withdraw skip vote");
         }
-
-        // Step 4: Delete the vote record
-        int deletedCount = voteRepository.deleteSkipTrackVoteByVoter(roomId, userId, currentPlaylistItemId);
-
-        if (deletedCount == 0) {
-            log.warn("Failed to withdraw skip vote for user {} in room {} - vote not found", userId, roomId);
-            throw new InvalidRequestException("Failed to withdraw vote - vote not found");
+        if (!tally.isChanged()) {
+            throw new InvalidRequestException("You have not voted to skip this track");
         }
 
+        voteAuditWriter.recordVoteWithdrawn(roomId, userId, VoteType.SKIPTRACK, currentPlaylistItemId, null);
         log.info("Vote withdrawn: User {} withdrew skip vote for track {} in room {}", userId, currentPlaylistItemId, roomId);
 
-        // Step 5: Get updated vote counts
-        long currentVoteCount = voteRepository.countByRoomIdAndPlaylistItemId(roomId, currentPlaylistItemId);
-        long onlineMemberCount = onlineMembersRedisService.getOnlineMemberCount(roomId.toString());
-        long requiredVoteCount = Math.max(1, (long) Math.ceil(onlineMemberCount * VOTE_THRESHOLD_PERCENTAGE));
+        // Step 5: Updated vote counts
+        long currentVoteCount = tally.getVoteCount();
+        long onlineMemberCount = tally.getOnlineMemberCount();
+        long requiredVoteCount = tally.getRequiredVoteCount();
 
         VoteResponseDTO response = new VoteResponseDTO();
         response.setVoteRecorded(false); // Vote was removed, not recorded
@@ -489,7 +495,16 @@ public class VoteService {
         response.setTargetPlaylistItemId(currentPlaylistItemId);
         response.setMessage("Vote withdrawn successfully. " + currentVoteCount + "/" + requiredVoteCount + " votes to skip");
 
-        // TODO: Emit WebSocket event VOTE_WITHDRAWN to all room members
+        publishVoteEvent(
+            VoteEventDTO.VOTE_WITHDRAWN,
+            roomId,
+            VoteType.SKIPTRACK,
+            userId,
+            currentPlaylistItemId,
+            null,
+            currentVoteCount,
+            requiredVoteCount
+        );
 
         return response;
     }
@@ -517,38 +532,30 @@ public class VoteService {
         UUID targetUserId = request.getTargetUserId();
         log.debug("Withdraw kick vote for user {} in room {} by user {}", targetUserId, roomId, userId);
 
-        // Step 1: Validate room exists
-        roomRepository.findById(roomId).orElseThrow(() -> new ResourceNotFoundException("Room not found: " + roomId));
-
         // Step 1: Validate user is a room member
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            throw new ForbiddenException("User is not a member of this room");
+        roomAuthorizationService.requireActiveMember(roomId, userId);
+
+        // Step 2-4: Remove the vote from Redis (fails if the user has not voted)
+        VoteTallyResult tally = voteRedisService.withdrawKickVote(
+            roomId.toString(),
+            targetUserId.toString(),
+            userId.toString(),
+            VOTE_THRESHOLD_PERCENTAGE
+        );
+        if (tally == null) {
+            throw new RuntimeException("Failed to withdraw kick vote");
         }
-
-        // Step 2: Validate target user exists (they might have already left)
-        appUserRepository.findById(targetUserId).orElseThrow(() -> new ResourceNotFoundException("Target user not found: " + targetUserId));
-
-        // Step 3: Check if user has voted to kick this target
-        boolean hasVoted = voteRepository.existsByRoomIdAndVoterIdAndTargetUserId(roomId, userId, targetUserId);
-        if (!hasVoted) {
+        if (!tally.isChanged()) {
             throw new InvalidRequestException("You have not voted to kick this user");
         }
 
-        // Step 4: Delete the vote record
-        int deletedCount = voteRepository.deleteKickUserVoteByVoter(roomId, userId, targetUserId);
-
-        if (deletedCount == 0) {
-            log.warn("Failed to withdraw kick vote for user {} targeting {} in room {} - vote not found", userId, targetUserId, roomId);
-            throw new InvalidRequestException("Failed to withdraw vote - vote not found");
-        }
-
+        voteAuditWriter.recordVoteWithdrawn(roomId, userId, VoteType.KICKUSER, null, targetUserId);
         log.info("Vote withdrawn: User {} withdrew kick vote for user {} in room {}", userId, targetUserId, roomId);
 
-        // Step 5: Get updated vote counts
-        long currentVoteCount = voteRepository.countByRoomIdAndTargetUserId(roomId, targetUserId);
-        long onlineMemberCount = onlineMembersRedisService.getOnlineMemberCount(roomId.toString());
-        long requiredVoteCount = Math.max(1, (long) Math.ceil(onlineMemberCount * VOTE_THRESHOLD_PERCENTAGE));
+        // Step 5: Updated vote counts
+        long currentVoteCount = tally.getVoteCount();
+        long onlineMemberCount = tally.getOnlineMemberCount();
+        long requiredVoteCount = tally.getRequiredVoteCount();
 
         VoteResponseDTO response = new VoteResponseDTO();
         response.setVoteRecorded(false); // Vote was removed, not recorded
@@ -559,28 +566,43 @@ public class VoteService {
         response.setTargetUserId(targetUserId.toString());
         response.setMessage("Vote withdrawn successfully. " + currentVoteCount + "/" + requiredVoteCount + " votes to kick");
 
-        // TODO: Emit WebSocket event VOTE_WITHDRAWN to all room members
+        publishVoteEvent(
+            VoteEventDTO.VOTE_WITHDRAWN,
+            roomId,
+            VoteType.KICKUSER,
+            userId,
+            null,
+            targetUserId.toString(),
+            currentVoteCount,
+            requiredVoteCount
+        );
 
         return response;
     }
 
     /**
-     * Helper class for grouping kick votes by target user.
+     * Emit a vote WebSocket event (VOTE_CAST, VOTE_WITHDRAWN, TRACK_SKIPPED, USER_KICKED) to all room members.
      */
-    private static class KickUserVoteInfo {
-
-        UUID targetUserId;
-        String displayName;
-        long voteCount;
-
-        KickUserVoteInfo(UUID targetUserId, String displayName) {
-            this.targetUserId = targetUserId;
-            this.displayName = displayName;
-            this.voteCount = 0;
-        }
-
-        void incrementCount() {
-            this.voteCount++;
-        }
+    private void publishVoteEvent(
+        String type,
+        UUID roomId,
+        VoteType voteType,
+        UUID voterId,
+        String targetPlaylistItemId,
+        String targetUserId,
+        long currentVoteCount,
+        long requiredVoteCount
+    ) {
+        VoteEventDTO event = new VoteEventDTO(
+            type,
+            roomId.toString(),
+            voteType.name(),
+            voterId.toString(),
+            targetPlaylistItemId,
+            targetUserId,
+            currentVoteCount,
+            requiredVoteCount
+        );
+        roomEventPublisher.publishToRoom(roomId.toString(), event);
     }
 }
@@ -0,0 +1,95 @@
+package com.partywave.backend.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+
+/**
+ * WebSocket event DTO for a track added to a room's playlist.
+ * Carries the full playlist item (as returned by GET /api/rooms/{roomId}/playlist),
+ * so clients can append it without refetching the playlist.
+ *
+ * Event type: PLAYLIST_ITEM_ADDED
+ * Based on PROJECT_OVERVIEW.md section 3.2 - Playlist Events.
+ */
+public class PlaylistItemAddedEventDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @NotNull
+    @JsonProperty("type")
+    private String type = "PLAYLIST_ITEM_ADDED";
+
+    @NotNull
+    @JsonProperty("room_id")
+    private String roomId;
+
+    @NotNull
+    @JsonProperty("playlist_item")
+    private PlaylistItemDTO playlistItem;
+
+    @JsonProperty("timestamp_ms")
+    private Long timestampMs;
+
+    public PlaylistItemAddedEventDTO() {
+        this.timestampMs = System.currentTimeMillis();
+    }
+
+    public PlaylistItemAddedEventDTO(String roomId, PlaylistItemDTO playlistItem) {
+        this.roomId = roomId;
+        this.playlistItem = playlistItem;
+        this.timestampMs = System.currentTimeMillis();
+    }
+
+    // Getters and Setters
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public PlaylistItemDTO getPlaylistItem() {
+        return playlistItem;
+    }
+
+    public void setPlaylistItem(PlaylistItemDTO playlistItem) {
+        this.playlistItem = playlistItem;
+    }
+
+    public Long getTimestampMs() {
+        return timestampMs;
+    }
+
+    public void setTimestampMs(Long timestampMs) {
+        this.timestampMs = timestampMs;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "PlaylistItemAddedEventDTO{" +
+            "type='" +
+            type +
+            '\'' +
+            ", roomId='" +
+            roomId +
+            '\'' +
+            ", playlistItem=" +
+            playlistItem +
+            ", timestampMs=" +
+            timestampMs +
+            '}'
+        );
+    }
+}
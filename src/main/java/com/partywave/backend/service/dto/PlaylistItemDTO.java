@@ -25,6 +25,8 @@ public class PlaylistItemDTO implements Serializable {
     private String status; // QUEUED, PLAYING, PLAYED, SKIPPED
     private Long likeCount;
     private Long dislikeCount;
+    private Boolean likedByUser; // Requesting user's own feedback (null if not resolved)
+    private Boolean dislikedByUser;
 
     // Constructors
     public PlaylistItemDTO() {}
@@ -151,6 +153,22 @@ public class PlaylistItemDTO implements Serializable {
         this.dislikeCount = dislikeCount;
     }
 
+    public Boolean getLikedByUser() {
+        return likedByUser;
+    }
+
+    public void setLikedByUser(Boolean likedByUser) {
+        this.likedByUser = likedByUser;
+    }
+
+    public Boolean getDislikedByUser() {
+        return dislikedByUser;
+    }
+
+    public void setDislikedByUser(Boolean dislikedByUser) {
+        this.dislikedByUser = dislikedByUser;
+    }
+
     @Override
     public String toString() {
         return (
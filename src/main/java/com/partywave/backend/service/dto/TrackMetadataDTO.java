@@ -0,0 +1,135 @@
+package com.partywave.backend.service.dto;
+
+import java.io.Serializable;
+
+/**
+ * Compact Spotify track metadata kept in the track catalog.
+ * Only the fields PartyWave stores on playlist items, instead of the full Spotify track JSON.
+ */
+public class TrackMetadataDTO implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private String sourceId; // Spotify track ID
+    private String sourceUri; // Spotify URI (spotify:track:...)
+    private String name; // Track name
+    private String artist; // Primary artist name
+    private String album; // Album name
+    private Long durationMs; // Track duration in milliseconds
+    private String albumImageUrl; // Album cover image URL (medium size)
+    private Boolean explicit; // Explicit content flag
+
+    // Constructors
+    public TrackMetadataDTO() {}
+
+    public TrackMetadataDTO(
+        String sourceId,
+        String sourceUri,
+        String name,
+        String artist,
+        String album,
+        Long durationMs,
+        String albumImageUrl,
+        Boolean explicit
+    ) {
+        this.sourceId = sourceId;
+        this.sourceUri = sourceUri;
+        this.name = name;
+        this.artist = artist;
+        this.album = album;
+        this.durationMs = durationMs;
+        this.albumImageUrl = albumImageUrl;
+        this.explicit = explicit;
+    }
+
+    // Getters and Setters
+
+    public String getSourceId() {
+        return sourceId;
+    }
+
+    public void setSourceId(String sourceId) {
+        this.sourceId = sourceId;
+    }
+
+    public String getSourceUri() {
+        return sourceUri;
+    }
+
+    public void setSourceUri(String sourceUri) {
+        this.sourceUri = sourceUri;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getArtist() {
+        return artist;
+    }
+
+    public void setArtist(String artist) {
+        this.artist = artist;
+    }
+
+    public String getAlbum() {
+        return album;
+    }
+
+    public void setAlbum(String album) {
+        this.album = album;
+    }
+
+    public Long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(Long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    public String getAlbumImageUrl() {
+        return albumImageUrl;
+    }
+
+    public void setAlbumImageUrl(String albumImageUrl) {
+        this.albumImageUrl = albumImageUrl;
+    }
+
+    public Boolean getExplicit() {
+        return explicit;
+    }
+
+    public void setExplicit(Boolean explicit) {
+        this.explicit = explicit;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "TrackMetadataDTO{" +
+            "sourceId='" +
+            sourceId +
+            '\'' +
+            ", sourceUri='" +
+            sourceUri +
+            '\'' +
+            ", name='" +
+            name +
+            '\'' +
+            ", artist='" +
+            artist +
+            '\'' +
+            ", album='" +
+            album +
+            '\'' +
+            ", durationMs=" +
+            durationMs +
+            '}'
+        );
+    }
+}
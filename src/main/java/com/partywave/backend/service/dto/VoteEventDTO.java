@@ -0,0 +1,185 @@
+package com.partywave.backend.service.dto;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import jakarta.validation.constraints.NotNull;
+import java.io.Serializable;
+
+/**
+ * WebSocket event DTO for vote activity in a room.
+ *
+ * Event types:
+ * - VOTE_CAST: New skip/kick vote recorded (threshold not reached)
+ * - VOTE_WITHDRAWN: A skip/kick vote was withdrawn
+ * - TRACK_SKIPPED: Skip threshold reached and the track was skipped
+ * - USER_KICKED: Kick threshold reached and the target user was kicked
+ *
+ * Based on PROJECT_OVERVIEW.md sections 3.1, 3.3 and 3.4.
+ */
+public class VoteEventDTO implements Serializable {
+
+    public static final String VOTE_CAST = "VOTE_CAST";
+    public static final String VOTE_WITHDRAWN = "VOTE_WITHDRAWN";
+    public static final String TRACK_SKIPPED = "TRACK_SKIPPED";
+    public static final String USER_KICKED = "USER_KICKED";
+
+    @NotNull
+    @JsonProperty("type")
+    private String type;
+
+    @NotNull
+    @JsonProperty("room_id")
+    private String roomId;
+
+    @NotNull
+    @JsonProperty("vote_type")
+    private String voteType;
+
+    @JsonProperty("voter_id")
+    private String voterId;
+
+    @JsonProperty("target_playlist_item_id")
+    private String targetPlaylistItemId;
+
+    @JsonProperty("target_user_id")
+    private String targetUserId;
+
+    @JsonProperty("current_vote_count")
+    private Long currentVoteCount;
+
+    @JsonProperty("required_vote_count")
+    private Long requiredVoteCount;
+
+    @JsonProperty("timestamp_ms")
+    private Long timestampMs;
+
+    public VoteEventDTO() {
+        this.timestampMs = System.currentTimeMillis();
+    }
+
+    public VoteEventDTO(
+        String type,
+        String roomId,
+        String voteType,
+        String voterId,
+        String targetPlaylistItemId,
+        String targetUserId,
+        Long currentVoteCount,
+        Long requiredVoteCount
+    ) {
+        this.type = type;
+        this.roomId = roomId;
+        this.voteType = voteType;
+        this.voterId = voterId;
+        this.targetPlaylistItemId = targetPlaylistItemId;
+        this.targetUserId = targetUserId;
+        this.currentVoteCount = currentVoteCount;
+        this.requiredVoteCount = requiredVoteCount;
+        this.timestampMs = System.currentTimeMillis();
+    }
+
+    // Getters and Setters
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getRoomId() {
+        return roomId;
+    }
+
+    public void setRoomId(String roomId) {
+        this.roomId = roomId;
+    }
+
+    public String getVoteType() {
+        return voteType;
+    }
+
+    public void setVoteType(String voteType) {
+        this.voteType = voteType;
+    }
+
+    public String getVoterId() {
+        return voterId;
+    }
+
+    public void setVoterId(String voterId) {
+        this.voterId = voterId;
+    }
+
+    public String getTargetPlaylistItemId() {
+        return targetPlaylistItemId;
+    }
+
+    public void setTargetPlaylistItemId(String targetPlaylistItemId) {
+        this.targetPlaylistItemId = targetPlaylistItemId;
+    }
+
+    public String getTargetUserId() {
+        return targetUserId;
+    }
+
+    public void setTargetUserId(String targetUserId) {
+        this.targetUserId = targetUserId;
+    }
+
+    public Long getCurrentVoteCount() {
+        return currentVoteCount;
+    }
+
+    public void setCurrentVoteCount(Long currentVoteCount) {
+        this.currentVoteCount = currentVoteCount;
+    }
+
+    public Long getRequiredVoteCount() {
+        return requiredVoteCount;
+    }
+
+    public void setRequiredVoteCount(Long requiredVoteCount) {
+        this.requiredVoteCount = requiredVoteCount;
+    }
+
+    public Long getTimestampMs() {
+        return timestampMs;
+    }
+
+    public void setTimestampMs(Long timestampMs) {
+        this.timestampMs = timestampMs;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "VoteEventDTO{" +
+            "type='" +
+            type +
+            '\'' +
+            ", roomId='" +
+            roomId +
+            '\'' +
+            ", voteType='" +
+            voteType +
+            '\'' +
+            ", voterId='" +
+            voterId +
+            '\'' +
+            ", targetPlaylistItemId='" +
+            targetPlaylistItemId +
+            '\'' +
+            ", targetUserId='" +
+            targetUserId +
+            '\'' +
+            ", currentVoteCount=" +
+            currentVoteCount +
+            ", requiredVoteCount=" +
+            requiredVoteCount +
+            ", timestampMs=" +
+            timestampMs +
+            '}'
+        );
+    }
+}
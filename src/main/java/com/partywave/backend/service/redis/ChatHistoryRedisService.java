@@ -0,0 +1,304 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for the most recent chat messages of each room.
+ * Based on REDIS_ARCHITECTURE.md section 4.7 - Recent Chat Messages.
+ *
+ * Key structure:
+ * - Recent messages list: partywave:room:{roomId}:chat:recent → RecentChatMessage JSON, newest first
+ * - Completeness marker: partywave:room:{roomId}:chat:recent:complete → 1
+ *
+ * Business rules:
+ * - The list is capped (LTRIM) to the configured capacity; PostgreSQL keeps the full history
+ * - New messages are always pushed, but the list is only trusted while the marker exists; the
+ *   marker is set for new rooms and by backfill from PostgreSQL
+ * - Backfill merges instead of replacing, so messages pushed while the database was read are kept;
+ *   the merged list is ordered by (sentAtMicros, id) like the database
+ * - A failed push drops the list with the marker, since the list no longer holds the newest message
+ * - Redis failures are treated as a cold list, so callers fall back to the database
+ */
+@Service
+public class ChatHistoryRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatHistoryRedisService.class);
+
+    /**
+     * Merge messages read from PostgreSQL with the messages already in the list.
+     *
+     * KEYS[1] = recent messages list, KEYS[2] = completeness marker
+     * ARGV[1] = capacity, ARGV[2] = TTL seconds, ARGV[3..n] = messages, newest first
+     *
+     * Entries pushed while the database was read are kept, database messages already in the list are
+     * skipped, and the list is rewritten newest first by (sentAtMicros, id), so an entry is never
+     * placed behind older ones. Returns 1 if merged, 0 if the list was already complete.
+     */
+    private static final RedisScript<Long> BACKFILL_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[2]) == 1 then
+            return 0
+        end
+        local seen = {}
+        local entries = {}
+        local function add(entry)
+            local ok, message = pcall(cjson.decode, entry)
+            if ok and type(message) == 'table' and message.id and not seen[message.id] then
+                seen[message.id] = true
+                table.insert(entries, { raw = entry, at = tonumber(message.sentAtMicros) or 0, id = tostring(message.id) })
+            end
+        end
+        for _, entry in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+            add(entry)
+        end
+        for i = 3, #ARGV do
+            add(ARGV[i])
+        end
+        table.sort(entries, function(a, b)
+            if a.at ~= b.at then
+                return a.at > b.at
+            end
+            return a.id > b.id
+        end)
+        local capacity = tonumber(cjson.decode(ARGV[1]))
+        local ttl = tonumber(cjson.decode(ARGV[2]))
+        redis.call('DEL', KEYS[1])
+        for i = 1, math.min(#entries, capacity) do
+            redis.call('RPUSH', KEYS[1], entries[i].raw)
+        end
+        redis.call('EXPIRE', KEYS[1], ttl)
+        redis.call('SET', KEYS[2], '1', 'EX', ttl)
+        return 1
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public ChatHistoryRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildRecentMessagesKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":chat:recent";
+    }
+
+    private String buildCompleteMarkerKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":chat:recent:complete";
+    }
+
+    // ========================================
+    // Recent Messages Methods
+    // ========================================
+
+    /**
+     * Get the newest messages of a room in one round-trip.
+     *
+     * @param roomId Room UUID
+     * @param count Maximum number of messages
+     * @return Messages, newest first, or null if the list is not complete (cold or Redis failed)
+     */
+    public List<RecentChatMessage> getRecentMessages(String roomId, int count) {
+        String key = buildRecentMessagesKey(roomId);
+        String markerKey = buildCompleteMarkerKey(roomId);
+        try {
+            List<Object> results = redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        ops.hasKey(markerKey);
+                        ops.opsForList().range(key, 0, count - 1);
+                        return null;
+                    }
+                }
+            );
+            if (!Boolean.TRUE.equals(results.get(0))) {
+                return null;
+            }
+
+            List<RecentChatMessage> messages = new ArrayList<>();
+            if (results.get(1) instanceof List<?> entries) {
+                for (Object entry : entries) {
+                    if (entry instanceof RecentChatMessage message) {
+                        messages.add(message);
+                    }
+                }
+            }
+            return messages;
+        } catch (Exception e) {
+            log.warn("Failed to read recent chat messages of room {}: {}", roomId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Push a new message to the head of the list and trim it to capacity.
+     *
+     * @param roomId Room UUID
+     * @param message Message to push
+     * @param capacity Maximum list length
+     * @param ttlSeconds Time to live in seconds (refreshed on list and marker)
+     */
+    public void pushMessage(String roomId, RecentChatMessage message, int capacity, long ttlSeconds) {
+        String key = buildRecentMessagesKey(roomId);
+        String markerKey = buildCompleteMarkerKey(roomId);
+        try {
+            redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        ops.opsForList().leftPush(key, message);
+                        ops.opsForList().trim(key, 0, capacity - 1);
+                        ops.expire(key, ttlSeconds, TimeUnit.SECONDS);
+                        ops.expire(markerKey, ttlSeconds, TimeUnit.SECONDS);
+                        return null;
+                    }
+                }
+            );
+        } catch (Exception e) {
+            // The list now lacks its newest message; drop it with the marker so the next read rebuilds it
+            log.warn("Failed to push chat message {} for room {}: {}", message.getId(), roomId, e.getMessage());
+            evict(roomId);
+        }
+    }
+
+    /**
+     * Merge messages read from PostgreSQL into the list and mark it complete.
+     *
+     * @param roomId Room UUID
+     * @param messages Newest messages of the room from the database, newest first (at most capacity)
+     * @param capacity Maximum list length
+     * @param ttlSeconds Time to live in seconds
+     */
+    public void backfill(String roomId, List<RecentChatMessage> messages, int capacity, long ttlSeconds) {
+        List<Object> args = new ArrayList<>(messages.size() + 2);
+        args.add(capacity);
+        args.add(ttlSeconds);
+        args.addAll(messages);
+        try {
+            Long merged = redisTemplate.execute(
+                BACKFILL_SCRIPT,
+                List.of(buildRecentMessagesKey(roomId), buildCompleteMarkerKey(roomId)),
+                args.toArray()
+            );
+            log.debug("Backfilled {} chat messages for room {} (merged: {})", messages.size(), roomId, merged);
+        } catch (Exception e) {
+            log.warn("Failed to backfill chat messages for room {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * Mark the (empty) list of a new room as complete.
+     *
+     * @param roomId Room UUID
+     * @param ttlSeconds Time to live in seconds
+     */
+    public void initializeRoom(String roomId, long ttlSeconds) {
+        try {
+            redisTemplate.opsForValue().set(buildCompleteMarkerKey(roomId), 1, ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to initialize recent chat messages for room {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * Drop the list of a room together with its marker; the next read backfills it from the database.
+     *
+     * @param roomId Room UUID
+     */
+    public void evict(String roomId) {
+        try {
+            redisTemplate.delete(List.of(buildRecentMessagesKey(roomId), buildCompleteMarkerKey(roomId)));
+        } catch (Exception e) {
+            log.error("Failed to evict recent chat messages of room {}", roomId, e);
+        }
+    }
+
+    // ========================================
+    // Data Classes
+    // ========================================
+
+    /**
+     * Chat message as kept in the recent messages list.
+     * sentAtMicros is epoch microseconds, the precision of PostgreSQL timestamps, so (sentAt, id) cursors
+     * built from it match the database (the Redis value serializer has no java.time support).
+     */
+    public static class RecentChatMessage {
+
+        private String id;
+        private String senderId;
+        private String senderDisplayName;
+        private String content;
+        private long sentAtMicros;
+
+        public RecentChatMessage() {}
+
+        public RecentChatMessage(String id, String senderId, String senderDisplayName, String content, long sentAtMicros) {
+            this.id = id;
+            this.senderId = senderId;
+            this.senderDisplayName = senderDisplayName;
+            this.content = content;
+            this.sentAtMicros = sentAtMicros;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getSenderId() {
+            return senderId;
+        }
+
+        public void setSenderId(String senderId) {
+            this.senderId = senderId;
+        }
+
+        public String getSenderDisplayName() {
+            return senderDisplayName;
+        }
+
+        public void setSenderDisplayName(String senderDisplayName) {
+            this.senderDisplayName = senderDisplayName;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public long getSentAtMicros() {
+            return sentAtMicros;
+        }
+
+        public void setSentAtMicros(long sentAtMicros) {
+            this.sentAtMicros = sentAtMicros;
+        }
+    }
+}
@@ -0,0 +1,363 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for chat messages accepted but not yet written to PostgreSQL.
+ * Based on REDIS_ARCHITECTURE.md section 4.8 - Chat Persistence Queue.
+ *
+ * Key structure:
+ * - Pending queue: partywave:chat:persist:pending (LIST, PendingChatMessage JSON, oldest first)
+ * - In-flight batch: partywave:chat:persist:inflight (LIST, moved from the head of pending)
+ * - Failed attempts of the in-flight batch: partywave:chat:persist:inflight:attempts (STRING counter)
+ * - Dead letters: partywave:chat:persist:dead (LIST, PendingChatMessage JSON PostgreSQL rejected,
+ *   or raw entries that cannot be read back)
+ * - Flush lock: partywave:chat:persist:flush:lock (STRING with lease)
+ *
+ * Business rules:
+ * - A message is acknowledged to the sender only after it is in the pending queue
+ * - A flush moves up to one batch from pending to in-flight, inserts it, then deletes in-flight
+ * - An in-flight batch left by a crashed or failed flush is retried before new messages are
+ *   claimed (at-least-once); inserts are idempotent on the message ID
+ * - Failed attempts are counted per batch; a batch that keeps failing is split by the flusher and
+ *   the messages PostgreSQL rejects are moved to the dead-letter list, so one bad row cannot stall
+ *   the queue
+ * - Claimed entries are read as raw JSON and deserialized one by one; an entry that cannot be
+ *   deserialized (e.g. written by an incompatible version) is moved to the dead-letter list as-is
+ *   when the batch completes, instead of failing the whole claim
+ * - Only the flush lock holder claims or applies batches; the lock is only released by its owner
+ */
+@Service
+public class ChatPersistenceRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatPersistenceRedisService.class);
+
+    /**
+     * Claim a batch for flushing: keep an existing in-flight batch, otherwise move the oldest
+     * pending messages to in-flight.
+     *
+     * KEYS[1] = pending queue, KEYS[2] = in-flight batch
+     * ARGV[1] = batch size (plain string)
+     *
+     * Returns the raw entries of the in-flight batch (empty if there is nothing to flush).
+     */
+    private static final RedisScript<List> CLAIM_BATCH_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[2]) == 1 then
+            return redis.call('LRANGE', KEYS[2], 0, -1)
+        end
+        local batchSize = tonumber(ARGV[1])
+        local batch = redis.call('LRANGE', KEYS[1], 0, batchSize - 1)
+        if #batch == 0 then
+            return batch
+        end
+        redis.call('RPUSH', KEYS[2], unpack(batch))
+        redis.call('LTRIM', KEYS[1], #batch, -1)
+        return batch
+        """,
+        List.class
+    );
+
+    /**
+     * Finish the in-flight batch: move its rejected messages to the dead-letter list and delete it.
+     *
+     * KEYS[1] = in-flight batch, KEYS[2] = attempts counter, KEYS[3] = dead-letter list
+     * ARGV[1..n] = raw entries of the rejected messages (may be empty)
+     */
+    private static final RedisScript<Long> COMPLETE_BATCH_SCRIPT = new DefaultRedisScript<>(
+        """
+        if #ARGV > 0 then
+            redis.call('RPUSH', KEYS[3], unpack(ARGV))
+        end
+        redis.call('DEL', KEYS[1], KEYS[2])
+        return #ARGV
+        """,
+        Long.class
+    );
+
+    /**
+     * Release the flush lock only if it is still held by the caller (its lease may have expired and
+     * another node may hold it now).
+     *
+     * KEYS[1] = flush lock
+     * ARGV[1] = owner token
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public ChatPersistenceRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildPendingKey() {
+        return CacheConfiguration.KEY_PREFIX + "chat:persist:pending";
+    }
+
+    private String buildInflightKey() {
+        return CacheConfiguration.KEY_PREFIX + "chat:persist:inflight";
+    }
+
+    private String buildInflightAttemptsKey() {
+        return CacheConfiguration.KEY_PREFIX + "chat:persist:inflight:attempts";
+    }
+
+    private String buildDeadLetterKey() {
+        return CacheConfiguration.KEY_PREFIX + "chat:persist:dead";
+    }
+
+    private String buildFlushLockKey() {
+        return CacheConfiguration.KEY_PREFIX + "chat:persist:flush:lock";
+    }
+
+    // ========================================
+    // Queue Operations
+    // ========================================
+
+    /**
+     * Queue an accepted message for persistence.
+     *
+     * @param message Message with its server-assigned ID
+     * @return true if the message was queued
+     */
+    public boolean enqueue(PendingChatMessage message) {
+        try {
+            redisTemplate.opsForList().rightPush(buildPendingKey(), message);
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to queue chat message {} of room {} for persistence", message.getId(), message.getRoomId(), e);
+            return false;
+        }
+    }
+
+    // ========================================
+    // Flush Operations
+    // ========================================
+
+    /**
+     * Try to become the flusher for the lease period.
+     *
+     * @param owner Lock owner token (node identifier)
+     * @param lease Lock lease
+     * @return true if the lock was acquired
+     */
+    public boolean tryAcquireFlushLock(String owner, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(buildFlushLockKey(), owner, lease));
+        } catch (Exception e) {
+            log.error("Failed to acquire chat persistence flush lock", e);
+            return false;
+        }
+    }
+
+    /**
+     * Release the flush lock if the caller still owns it.
+     *
+     * @param owner Lock owner token passed to tryAcquireFlushLock
+     */
+    public void releaseFlushLock(String owner) {
+        try {
+            // The owner is serialized like the value written by setIfAbsent, so they compare equal
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(buildFlushLockKey()), owner);
+        } catch (Exception e) {
+            log.error("Failed to release chat persistence flush lock", e);
+        }
+    }
+
+    /**
+     * Claim the batch to flush (an unfinished in-flight batch first).
+     * Entries are fetched as raw strings and deserialized one by one, so an unreadable entry does not
+     * hide the rest of the batch.
+     *
+     * @param batchSize Maximum number of messages moved from the pending queue
+     * @return The in-flight batch (empty if there is nothing to flush or Redis failed)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public ClaimedChatBatch claimBatch(int batchSize) {
+        List<?> claimed;
+        try {
+            claimed = redisTemplate.execute(
+                CLAIM_BATCH_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(),
+                List.of(buildPendingKey(), buildInflightKey()),
+                String.valueOf(batchSize)
+            );
+        } catch (Exception e) {
+            log.error("Failed to claim chat message batch", e);
+            return ClaimedChatBatch.EMPTY;
+        }
+        if (claimed == null || claimed.isEmpty()) {
+            return ClaimedChatBatch.EMPTY;
+        }
+
+        RedisSerializer<?> valueSerializer = redisTemplate.getValueSerializer();
+        List<PendingChatMessage> messages = new ArrayList<>(claimed.size());
+        List<String> unreadable = new ArrayList<>();
+        for (Object entry : claimed) {
+            String raw = String.valueOf(entry);
+            try {
+                if (valueSerializer.deserialize(raw.getBytes(StandardCharsets.UTF_8)) instanceof PendingChatMessage message) {
+                    messages.add(message);
+                    continue;
+                }
+            } catch (Exception e) {
+                log.debug("Failed to deserialize queued chat message: {}", e.getMessage());
+            }
+            log.warn("Unreadable queued chat message will be moved to the dead-letter list: {}", raw);
+            unreadable.add(raw);
+        }
+        return new ClaimedChatBatch(messages, unreadable);
+    }
+
+    /**
+     * Count a failed attempt to write the in-flight batch.
+     *
+     * @return Failed attempts of the batch so far, or 0 if Redis failed
+     */
+    public long recordFailedAttempt() {
+        try {
+            Long attempts = redisTemplate.opsForValue().increment(buildInflightAttemptsKey());
+            return attempts != null ? attempts : 0;
+        } catch (Exception e) {
+            log.error("Failed to count failed chat message batch attempt", e);
+            return 0;
+        }
+    }
+
+    /**
+     * Delete the in-flight batch after the messages PostgreSQL accepted have been committed, moving
+     * the rejected messages and the batch's unreadable entries to the dead-letter list in the same step.
+     *
+     * @param deadLetters Messages of the batch that could not be written
+     * @param unreadable Raw entries of the batch that could not be deserialized
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void completeBatch(List<PendingChatMessage> deadLetters, List<String> unreadable) {
+        try {
+            // Dead letters are stored in the queue's own format; unreadable entries are kept byte for byte
+            RedisSerializer<Object> valueSerializer = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+            List<String> rawDeadLetters = new ArrayList<>(deadLetters.size() + unreadable.size());
+            for (PendingChatMessage message : deadLetters) {
+                rawDeadLetters.add(new String(valueSerializer.serialize(message), StandardCharsets.UTF_8));
+            }
+            rawDeadLetters.addAll(unreadable);
+
+            redisTemplate.execute(
+                COMPLETE_BATCH_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(),
+                List.of(buildInflightKey(), buildInflightAttemptsKey(), buildDeadLetterKey()),
+                rawDeadLetters.toArray()
+            );
+        } catch (Exception e) {
+            log.error("Failed to delete flushed chat message batch", e);
+        }
+    }
+
+    // ========================================
+    // Data Classes
+    // ========================================
+
+    /**
+     * In-flight batch: its readable messages (oldest first) and the raw entries that could not be deserialized.
+     */
+    public record ClaimedChatBatch(List<PendingChatMessage> messages, List<String> unreadable) {
+        static final ClaimedChatBatch EMPTY = new ClaimedChatBatch(Collections.emptyList(), Collections.emptyList());
+
+        public boolean isEmpty() {
+            return messages.isEmpty() && unreadable.isEmpty();
+        }
+
+        public int size() {
+            return messages.size() + unreadable.size();
+        }
+    }
+
+    /**
+     * Chat message as kept in the persistence queue.
+     * sentAtMicros is epoch microseconds (the Redis value serializer has no java.time support).
+     */
+    public static class PendingChatMessage {
+
+        private String id;
+        private String roomId;
+        private String senderId;
+        private String content;
+        private long sentAtMicros;
+
+        public PendingChatMessage() {}
+
+        public PendingChatMessage(String id, String roomId, String senderId, String content, long sentAtMicros) {
+            this.id = id;
+            this.roomId = roomId;
+            this.senderId = senderId;
+            this.content = content;
+            this.sentAtMicros = sentAtMicros;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getRoomId() {
+            return roomId;
+        }
+
+        public void setRoomId(String roomId) {
+            this.roomId = roomId;
+        }
+
+        public String getSenderId() {
+            return senderId;
+        }
+
+        public void setSenderId(String senderId) {
+            this.senderId = senderId;
+        }
+
+        public String getContent() {
+            return content;
+        }
+
+        public void setContent(String content) {
+            this.content = content;
+        }
+
+        public long getSentAtMicros() {
+            return sentAtMicros;
+        }
+
+        public void setSentAtMicros(long sentAtMicros) {
+            this.sentAtMicros = sentAtMicros;
+        }
+    }
+}
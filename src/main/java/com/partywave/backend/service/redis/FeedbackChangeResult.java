@@ -0,0 +1,130 @@
+package com.partywave.backend.service.redis;
+
+/**
+ * Result object for like/dislike changes.
+ * Used by LikeDislikeRedisService to return the feedback state observed atomically with the change.
+ *
+ * previouslyLiked/previouslyDisliked describe the user's state before the change and
+ * likedByUser/dislikedByUser after it, so callers can derive app_user_stats deltas
+ * without reading the sets again.
+ *
+ * itemFound is false when the playlist item (or its added_by_id) does not exist; nothing was changed then.
+ */
+public class FeedbackChangeResult {
+
+    private static final FeedbackChangeResult ITEM_NOT_FOUND = new FeedbackChangeResult(false, null, false, false, false, false, 0, 0);
+
+    private final boolean itemFound;
+    private final String addedById;
+    private final boolean previouslyLiked;
+    private final boolean previouslyDisliked;
+    private final boolean likedByUser;
+    private final boolean dislikedByUser;
+    private final long likeCount;
+    private final long dislikeCount;
+
+    public FeedbackChangeResult(
+        boolean itemFound,
+        String addedById,
+        boolean previouslyLiked,
+        boolean previouslyDisliked,
+        boolean likedByUser,
+        boolean dislikedByUser,
+        long likeCount,
+        long dislikeCount
+    ) {
+        this.itemFound = itemFound;
+        this.addedById = addedById;
+        this.previouslyLiked = previouslyLiked;
+        this.previouslyDisliked = previouslyDisliked;
+        this.likedByUser = likedByUser;
+        this.dislikedByUser = dislikedByUser;
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+    }
+
+    public static FeedbackChangeResult itemNotFound() {
+        return ITEM_NOT_FOUND;
+    }
+
+    public boolean isItemFound() {
+        return itemFound;
+    }
+
+    /**
+     * @return User ID of the track adder (from the playlist item hash)
+     */
+    public String getAddedById() {
+        return addedById;
+    }
+
+    public boolean isPreviouslyLiked() {
+        return previouslyLiked;
+    }
+
+    public boolean isPreviouslyDisliked() {
+        return previouslyDisliked;
+    }
+
+    public boolean isLikedByUser() {
+        return likedByUser;
+    }
+
+    public boolean isDislikedByUser() {
+        return dislikedByUser;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public long getDislikeCount() {
+        return dislikeCount;
+    }
+
+    /**
+     * @return true if the user's like/dislike state was modified
+     */
+    public boolean isChanged() {
+        return previouslyLiked != likedByUser || previouslyDisliked != dislikedByUser;
+    }
+
+    /**
+     * @return Change in the track adder's total_like (-1, 0 or +1)
+     */
+    public long getLikeDelta() {
+        return (likedByUser ? 1 : 0) - (previouslyLiked ? 1 : 0);
+    }
+
+    /**
+     * @return Change in the track adder's total_dislike (-1, 0 or +1)
+     */
+    public long getDislikeDelta() {
+        return (dislikedByUser ? 1 : 0) - (previouslyDisliked ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "FeedbackChangeResult{" +
+            "itemFound=" +
+            itemFound +
+            ", addedById='" +
+            addedById +
+            '\'' +
+            ", previouslyLiked=" +
+            previouslyLiked +
+            ", previouslyDisliked=" +
+            previouslyDisliked +
+            ", likedByUser=" +
+            likedByUser +
+            ", dislikedByUser=" +
+            dislikedByUser +
+            ", likeCount=" +
+            likeCount +
+            ", dislikeCount=" +
+            dislikeCount +
+            '}'
+        );
+    }
+}
@@ -2,11 +2,19 @@ package com.partywave.backend.service.redis;
 
 import com.partywave.backend.config.CacheConfiguration;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 /**
@@ -22,6 +30,7 @@ import org.springframework.stereotype.Service;
  * - Each set contains user IDs who liked/disliked that item
  * - Like and dislike are mutually exclusive (user can only be in one set at a time)
  * - Statistics are runtime-only and cleaned up when rooms close
+ * - applyFeedback moves the user between the sets, reports the previous state and both counts in one script
  *
  * Note: PostgreSQL app_user_stats updates should be handled by a higher-level service
  * that orchestrates both Redis and database operations. This service only handles Redis.
@@ -31,6 +40,66 @@ public class LikeDislikeRedisService {
 
     private static final Logger log = LoggerFactory.getLogger(LikeDislikeRedisService.class);
 
+    /**
+     * Like/dislike changes applied by applyFeedback.
+     */
+    public enum FeedbackAction {
+        LIKE,
+        DISLIKE,
+        UNLIKE,
+        UNDISLIKE,
+    }
+
+    /**
+     * Apply a like/dislike change and read the resulting state atomically.
+     *
+     * KEYS[1] = likes set, KEYS[2] = dislikes set, KEYS[3] = playlist item hash
+     * ARGV[1] = user ID, ARGV[2] = FeedbackAction name
+     *
+     * Returns {0} if the item (or its added_by_id) does not exist, otherwise
+     * {1, previouslyLiked, previouslyDisliked, liked, disliked, likeCount, dislikeCount, addedById}.
+     */
+    private static final RedisScript<List> APPLY_FEEDBACK_SCRIPT = new DefaultRedisScript<>(
+        """
+        local addedBy = redis.call('HGET', KEYS[3], 'added_by_id')
+        if not addedBy then
+            return {0}
+        end
+        local wasLiked = redis.call('SISMEMBER', KEYS[1], ARGV[1])
+        local wasDisliked = redis.call('SISMEMBER', KEYS[2], ARGV[1])
+        local liked = wasLiked
+        local disliked = wasDisliked
+        local action = cjson.decode(ARGV[2])
+        if action == 'LIKE' then
+            liked = 1
+            disliked = 0
+        elseif action == 'DISLIKE' then
+            liked = 0
+            disliked = 1
+        elseif action == 'UNLIKE' then
+            liked = 0
+        elseif action == 'UNDISLIKE' then
+            disliked = 0
+        end
+        if liked ~= wasLiked then
+            if liked == 1 then
+                redis.call('SADD', KEYS[1], ARGV[1])
+            else
+                redis.call('SREM', KEYS[1], ARGV[1])
+            end
+        end
+        if disliked ~= wasDisliked then
+            if disliked == 1 then
+                redis.call('SADD', KEYS[2], ARGV[1])
+            else
+                redis.call('SREM', KEYS[2], ARGV[1])
+            end
+        end
+        return {1, wasLiked, wasDisliked, liked, disliked, redis.call('SCARD', KEYS[1]), redis.call('SCARD', KEYS[2]), addedBy}
+        """,
+        List.class
+    );
+
     private final RedisTemplate<String, Object> redisTemplate;
 
     public LikeDislikeRedisService(RedisTemplate<String, Object> redisTemplate) {
@@ -49,6 +118,63 @@ public class LikeDislikeRedisService {
         return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:item:" + playlistItemId + ":dislikes";
     }
 
+    private String buildPlaylistItemKey(String roomId, String playlistItemId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:item:" + playlistItemId;
+    }
+
+    // ========================================
+    // Atomic Feedback Changes
+    // ========================================
+
+    /**
+     * Like, dislike, unlike or undislike a playlist item in one round-trip.
+     * Checks that the item exists, updates both sets (mutually exclusive) and returns
+     * the user's previous and new state together with both counts.
+     *
+     * @param roomId Room UUID
+     * @param playlistItemId Playlist item UUID
+     * @param userId User UUID
+     * @param action Change to apply
+     * @return FeedbackChangeResult (itemFound = false if the item does not exist), or null if Redis failed
+     */
+    public FeedbackChangeResult applyFeedback(String roomId, String playlistItemId, String userId, FeedbackAction action) {
+        try {
+            List<?> reply = redisTemplate.execute(
+                APPLY_FEEDBACK_SCRIPT,
+                List.of(
+                    buildLikesKey(roomId, playlistItemId),
+                    buildDislikesKey(roomId, playlistItemId),
+                    buildPlaylistItemKey(roomId, playlistItemId)
+                ),
+                userId,
+                action.name()
+            );
+            if (reply == null || reply.isEmpty()) {
+                log.error("Feedback script returned no result for playlist item {} in room {}", playlistItemId, roomId);
+                return null;
+            }
+            if (replyCount(reply, 0) == 0 || reply.size() < 8 || reply.get(7) == null) {
+                return FeedbackChangeResult.itemNotFound();
+            }
+
+            FeedbackChangeResult result = new FeedbackChangeResult(
+                true,
+                reply.get(7).toString(),
+                replyCount(reply, 1) > 0,
+                replyCount(reply, 2) > 0,
+                replyCount(reply, 3) > 0,
+                replyCount(reply, 4) > 0,
+                replyCount(reply, 5),
+                replyCount(reply, 6)
+            );
+            log.debug("User {} applied {} to playlist item {} in room {}: {}", userId, action, playlistItemId, roomId, result);
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to apply {} for playlist item {} in room {} by user {}", action, playlistItemId, roomId, userId, e);
+            return null;
+        }
+    }
+
     // ========================================
     // Add Like/Dislike Operations
     // ========================================
@@ -320,6 +446,65 @@ public class LikeDislikeRedisService {
     // Bulk Operations
     // ========================================
 
+    /**
+     * Get like/dislike counts for many playlist items, and optionally a user's own feedback,
+     * in one pipelined round-trip (SCARD likes, SCARD dislikes, plus SISMEMBER x2 when userId is given).
+     * Used when rendering whole playlists instead of per-item getLikeCount/getDislikeCount calls.
+     *
+     * @param roomId Room UUID
+     * @param playlistItemIds Playlist item UUIDs
+     * @param userId User UUID whose flags to include, or null for counts only
+     * @return Map of playlist item ID to feedback (empty map if Redis failed)
+     */
+    public Map<String, PlaylistItemFeedback> getFeedbackForItems(String roomId, List<String> playlistItemIds, String userId) {
+        if (playlistItemIds == null || playlistItemIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        try {
+            boolean includeUser = userId != null;
+            List<Object> replies = redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        for (String playlistItemId : playlistItemIds) {
+                            String likesKey = buildLikesKey(roomId, playlistItemId);
+                            String dislikesKey = buildDislikesKey(roomId, playlistItemId);
+                            ops.opsForSet().size(likesKey);
+                            ops.opsForSet().size(dislikesKey);
+                            if (includeUser) {
+                                ops.opsForSet().isMember(likesKey, userId);
+                                ops.opsForSet().isMember(dislikesKey, userId);
+                            }
+                        }
+                        return null;
+                    }
+                }
+            );
+
+            int repliesPerItem = includeUser ? 4 : 2;
+            Map<String, PlaylistItemFeedback> result = new HashMap<>(playlistItemIds.size() * 2);
+            for (int i = 0; i < playlistItemIds.size(); i++) {
+                int offset = i * repliesPerItem;
+                result.put(
+                    playlistItemIds.get(i),
+                    new PlaylistItemFeedback(
+                        replyCount(replies, offset),
+                        replyCount(replies, offset + 1),
+                        includeUser ? replyFlag(replies, offset + 2) : null,
+                        includeUser ? replyFlag(replies, offset + 3) : null
+                    )
+                );
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to get feedback for {} playlist items in room {}", playlistItemIds.size(), roomId, e);
+            return Collections.emptyMap();
+        }
+    }
+
     /**
      * Get all user IDs who liked a playlist item.
      *
@@ -429,4 +614,18 @@ public class LikeDislikeRedisService {
         log.info("Deleted feedback for {} playlist items in room {}", deletedCount, roomId);
         return deletedCount;
     }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private long replyCount(List<?> replies, int index) {
+        Object value = index < replies.size() ? replies.get(index) : null;
+        return value instanceof Number number ? number.longValue() : 0L;
+    }
+
+    private boolean replyFlag(List<?> replies, int index) {
+        Object value = index < replies.size() ? replies.get(index) : null;
+        return Boolean.TRUE.equals(value);
+    }
 }
@@ -0,0 +1,81 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for OAuth state parameters used for CSRF protection in the Spotify login flow.
+ * States are shared by all nodes, so a callback may land on a different node than the login.
+ *
+ * Key structure:
+ * - OAuth state: partywave:oauth:state:{state} → issued-at timestamp (TTL: 10 minutes)
+ *
+ * Business rules:
+ * - A state is valid for one callback only; consuming it deletes the key atomically, so two
+ *   concurrent callbacks with the same state cannot both pass validation
+ * - Unused states expire with the same TTL as PKCE code challenges
+ */
+@Service
+public class OAuthStateRedisService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(OAuthStateRedisService.class);
+
+    private static final long STATE_TTL_MINUTES = 10;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public OAuthStateRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildStateKey(String state) {
+        return CacheConfiguration.KEY_PREFIX + "oauth:state:" + state;
+    }
+
+    // ========================================
+    // State Storage Methods
+    // ========================================
+
+    /**
+     * Stores an OAuth state parameter issued for a login.
+     * The state will expire after 10 minutes.
+     *
+     * @param state The OAuth state parameter
+     */
+    public void storeState(String state) {
+        String key = buildStateKey(state);
+        try {
+            redisTemplate.opsForValue().set(key, System.currentTimeMillis(), STATE_TTL_MINUTES, TimeUnit.MINUTES);
+            LOG.debug("Stored OAuth state: {} (TTL: {} minutes)", state, STATE_TTL_MINUTES);
+        } catch (Exception e) {
+            LOG.error("Failed to store OAuth state {}: {}", state, e.getMessage(), e);
+            throw new RuntimeException("Failed to store OAuth state", e);
+        }
+    }
+
+    /**
+     * Validates and invalidates an OAuth state parameter in one step.
+     *
+     * @param state The OAuth state parameter received in the callback
+     * @return true if the state was issued by this application and not used or expired yet
+     */
+    public boolean consumeState(String state) {
+        String key = buildStateKey(state);
+        try {
+            boolean valid = Boolean.TRUE.equals(redisTemplate.delete(key));
+            LOG.debug("Consumed OAuth state: {} (valid: {})", state, valid);
+            return valid;
+        } catch (Exception e) {
+            LOG.error("Failed to consume OAuth state {}: {}", state, e.getMessage(), e);
+            return false;
+        }
+    }
+}
@@ -2,11 +2,16 @@ package com.partywave.backend.service.redis;
 
 import com.partywave.backend.config.CacheConfiguration;
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Service;
 
 /**
@@ -15,11 +20,14 @@ import org.springframework.stereotype.Service;
  *
  * Key structure:
  * - Playback hash: partywave:room:{roomId}:playback
+ * - Due tracks (ZSET, global): partywave:playback:due (member = {roomId}:{playlistItemId}, score = started_at_ms + track_duration_ms)
  *
  * Business rules:
  * - Tracks can be started or skipped
  * - Tracks CANNOT be paused (no pause state)
  * - Once started, a track plays until completion or is skipped
+ * - Track transitions (start/skip/complete) run as a single Lua script, so concurrent
+ *   transitions are serialized by Redis without application-side locks
  *
  * Hash fields:
  * - current_playlist_item_id: UUID of currently playing track
@@ -32,6 +40,142 @@ public class PlaybackRedisService {
 
     private static final Logger log = LoggerFactory.getLogger(PlaybackRedisService.class);
 
+    private static final String MODE_START = "START";
+    private static final String MODE_START_IF_IDLE = "START_IF_IDLE";
+    private static final String MODE_SKIP = "SKIP";
+    private static final String MODE_COMPLETE = "COMPLETE";
+
+    private static final long RESULT_STARTED = 1;
+    private static final long RESULT_STOPPED = 2;
+    private static final long RESULT_NOT_PLAYING = 0;
+    private static final long RESULT_ITEM_NOT_FOUND = -1;
+    private static final long RESULT_INVALID_STATUS = -2;
+    private static final long RESULT_STALE = -3;
+    private static final long RESULT_QUEUE_EMPTY = -4;
+    private static final long RESULT_ALREADY_PLAYING = -5;
+
+    /**
+     * Track state machine (REDIS_ARCHITECTURE.md Section 3.2, 3.3) executed atomically.
+     *
+     * KEYS[1] = playback hash, KEYS[2] = queued index, KEYS[3] = playing pointer, KEYS[4] = due tracks
+     * ARGV[1] = mode (START, START_IF_IDLE, SKIP, COMPLETE)
+     * ARGV[2] = target playlist item ID for START ("" = first queued)
+     * ARGV[3] = expected current item ID for SKIP/COMPLETE ("" = any)
+     * ARGV[4] = now (epoch ms), ARGV[5] = playlist item key prefix, ARGV[6] = room ID
+     *
+     * All ARGV values arrive serialized like hash values (JSON strings), so IDs and
+     * timestamps are written back verbatim and decoded only for comparisons.
+     *
+     * Returns {code, startedItemId, previousItemId, startedAtMs, trackDurationMs}.
+     */
+    private static final RedisScript<List> TRACK_TRANSITION_SCRIPT = new DefaultRedisScript<>(
+        """
+        local mode = cjson.decode(ARGV[1])
+        local hasTarget = cjson.decode(ARGV[2]) ~= ''
+        local hasExpected = cjson.decode(ARGV[3]) ~= ''
+        local now = ARGV[4]
+        local prefix = cjson.decode(ARGV[5])
+        local roomId = cjson.decode(ARGV[6])
+
+        local function itemKey(encodedId)
+            return prefix .. cjson.decode(encodedId)
+        end
+
+        local function dueMember(encodedId)
+            return roomId .. ':' .. cjson.decode(encodedId)
+        end
+
+        local current = redis.call('GET', KEYS[3]) or redis.call('HGET', KEYS[1], 'current_playlist_item_id')
+        if current and redis.call('HGET', itemKey(current), 'status') ~= '"PLAYING"' then
+            current = false
+        end
+        local previous = false
+
+        if mode == 'SKIP' or mode == 'COMPLETE' then
+            if hasExpected and current ~= ARGV[3] then
+                redis.call('ZREM', KEYS[4], dueMember(ARGV[3]))
+            end
+            if not current then
+                return {0, false, false, false, false}
+            end
+            if hasExpected and current ~= ARGV[3] then
+                return {-3, false, current, false, false}
+            end
+            local finalStatus = mode == 'SKIP' and '"SKIPPED"' or '"PLAYED"'
+            redis.call('HSET', itemKey(current), 'status', finalStatus)
+            redis.call('DEL', KEYS[3])
+            redis.call('ZREM', KEYS[4], dueMember(current))
+            previous = current
+            current = false
+        elseif mode == 'START_IF_IDLE' and current then
+            return {-5, false, current, false, false}
+        end
+
+        local nextId
+        if mode == 'START' and hasTarget then
+            nextId = ARGV[2]
+            local status = redis.call('HGET', itemKey(nextId), 'status')
+            if not status then
+                return {-1, false, false, false, false}
+            end
+            if status ~= '"QUEUED"' then
+                return {-2, false, false, false, false}
+            end
+        else
+            nextId = redis.call('ZRANGE', KEYS[2], 0, 0)[1]
+        end
+
+        if not nextId then
+            if mode == 'START' or mode == 'START_IF_IDLE' then
+                return {-4, false, false, false, false}
+            end
+            redis.call('DEL', KEYS[1])
+            return {2, false, previous, false, false}
+        end
+
+        if current then
+            redis.call('HSET', itemKey(current), 'status', '"PLAYED"')
+            redis.call('ZREM', KEYS[4], dueMember(current))
+            previous = current
+        end
+
+        local duration = redis.call('HGET', itemKey(nextId), 'duration_ms') or '"0"'
+        redis.call('HSET', itemKey(nextId), 'status', '"PLAYING"')
+        redis.call('ZREM', KEYS[2], nextId)
+        redis.call('SET', KEYS[3], nextId)
+        redis.call('DEL', KEYS[1])
+        redis.call('HSET', KEYS[1], 'current_playlist_item_id', nextId, 'started_at_ms', now,
+            'track_duration_ms', duration, 'updated_at_ms', now)
+        local durationMs = tonumber(cjson.decode(duration)) or 0
+        if durationMs > 0 then
+            redis.call('ZADD', KEYS[4], tonumber(cjson.decode(now)) + durationMs, dueMember(nextId))
+        end
+        return {1, nextId, previous, now, duration}
+        """,
+        List.class
+    );
+
+    /**
+     * Claims due tracks for completion by pushing their deadline forward by a lease.
+     * Only one caller can claim a given entry per lease period; the entry itself is removed by the
+     * transition script when the track leaves PLAYING, so a crashed claimer is retried after the lease.
+     *
+     * KEYS[1] = due tracks
+     * ARGV[1] = now (epoch ms), ARGV[2] = max entries, ARGV[3] = lease expiry (epoch ms)
+     *
+     * Returns the claimed members ({roomId}:{playlistItemId}).
+     */
+    private static final RedisScript<List> CLAIM_DUE_TRACKS_SCRIPT = new DefaultRedisScript<>(
+        """
+        local due = redis.call('ZRANGEBYSCORE', KEYS[1], '-inf', ARGV[1], 'LIMIT', 0, tonumber(ARGV[2]))
+        for _, member in ipairs(due) do
+            redis.call('ZADD', KEYS[1], 'XX', ARGV[3], member)
+        end
+        return due
+        """,
+        List.class
+    );
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final PlaylistRedisService playlistRedisService;
 
@@ -48,6 +192,10 @@ public class PlaybackRedisService {
         return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playback";
     }
 
+    private String buildDueTracksKey() {
+        return CacheConfiguration.KEY_PREFIX + "playback:due";
+    }
+
     // ========================================
     // Playback State Operations
     // ========================================
@@ -224,7 +372,7 @@ public class PlaybackRedisService {
      * Start playing a track in a room.
      * Implements the "Start Track Flow" from REDIS_ARCHITECTURE.md Section 3.2.
      *
-     * This method:
+     * In a single atomic script, this method:
      * 1. Validates the playlist item status is QUEUED
      * 2. Marks any previously PLAYING track as PLAYED
      * 3. Updates the playlist item status from QUEUED to PLAYING
@@ -235,166 +383,249 @@ public class PlaybackRedisService {
      * @return TrackOperationResult with success status and details
      */
     public TrackOperationResult startTrack(String roomId, String playlistItemId) {
-        try {
-            // Step 1: Validate playlist item exists and status is QUEUED
-            Map<Object, Object> playlistItem = playlistRedisService.getPlaylistItem(roomId, playlistItemId);
-            if (playlistItem.isEmpty()) {
-                String msg = "Playlist item not found: " + playlistItemId;
-                log.warn("Failed to start track in room {}: {}", roomId, msg);
-                return new TrackOperationResult(false, msg, playlistItemId);
-            }
-
-            Object statusObj = playlistItem.get("status");
-            if (statusObj == null) {
-                String msg = "Playlist item has no status field";
-                log.warn("Failed to start track {} in room {}: {}", playlistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, playlistItemId);
-            }
-
-            String currentStatus = statusObj.toString();
-
-            // Only QUEUED tracks can be started
-            if (!"QUEUED".equals(currentStatus)) {
-                String msg = String.format("Invalid status transition: %s cannot transition to PLAYING", currentStatus);
-                log.warn("Failed to start track {} in room {}: {}", playlistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, playlistItemId);
-            }
-
-            // Step 2: Mark any previously PLAYING track as PLAYED
-            String previousPlayingItemId = playlistRedisService.getCurrentPlayingItemId(roomId);
-            if (previousPlayingItemId != null && !previousPlayingItemId.equals(playlistItemId)) {
-                boolean updated = playlistRedisService.updatePlaylistItemStatus(roomId, previousPlayingItemId, "PLAYED");
-                if (updated) {
-                    log.debug("Marked previous track {} as PLAYED in room {}", previousPlayingItemId, roomId);
-                } else {
-                    log.warn("Failed to mark previous track {} as PLAYED in room {}", previousPlayingItemId, roomId);
-                }
-            }
-
-            // Step 3: Mark the selected playlist item as PLAYING
-            boolean statusUpdated = playlistRedisService.updatePlaylistItemStatus(roomId, playlistItemId, "PLAYING");
-            if (!statusUpdated) {
-                String msg = "Failed to update playlist item status to PLAYING";
-                log.error("Failed to start track {} in room {}: {}", playlistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, playlistItemId);
-            }
-
-            // Step 4: Update the playback hash
-            Object durationObj = playlistItem.get("duration_ms");
-            long trackDurationMs = durationObj != null ? Long.parseLong(durationObj.toString()) : 0L;
-            long startedAtMs = System.currentTimeMillis();
-
-            Map<String, String> playbackData = Map.of(
-                "current_playlist_item_id",
-                playlistItemId,
-                "started_at_ms",
-                String.valueOf(startedAtMs),
-                "track_duration_ms",
-                String.valueOf(trackDurationMs),
-                "updated_at_ms",
-                String.valueOf(startedAtMs)
-            );
+        return executeTransition(roomId, MODE_START, playlistItemId, null);
+    }
 
-            String playbackKey = buildPlaybackKey(roomId);
-            redisTemplate.opsForHash().putAll(playbackKey, playbackData);
+    /**
+     * Start playing the first QUEUED track in a room.
+     * Any previously PLAYING track is marked as PLAYED in the same atomic step.
+     *
+     * @param roomId Room UUID
+     * @return TrackOperationResult with the started item, or failure if nothing is queued
+     */
+    public TrackOperationResult startNextTrack(String roomId) {
+        return executeTransition(roomId, MODE_START, null, null);
+    }
 
-            log.info("Started track {} in room {} (duration: {}ms)", playlistItemId, roomId, trackDurationMs);
-            return new TrackOperationResult(true, "Track started successfully", playlistItemId);
-        } catch (Exception e) {
-            String msg = "Exception occurred: " + e.getMessage();
-            log.error("Failed to start track {} in room {}", playlistItemId, roomId, e);
-            return new TrackOperationResult(false, msg, playlistItemId);
-        }
+    /**
+     * Start playing the first QUEUED track only if nothing is playing yet.
+     * Used for auto-start after adding a track; concurrent callers cannot interrupt each other.
+     *
+     * @param roomId Room UUID
+     * @return TrackOperationResult with the started item, or failure if a track is already playing
+     */
+    public TrackOperationResult startNextTrackIfIdle(String roomId) {
+        return executeTransition(roomId, MODE_START_IF_IDLE, null, null);
     }
 
     /**
      * Skip the currently playing track in a room.
      * Implements the "Skip Track Flow" from REDIS_ARCHITECTURE.md Section 3.3.
      *
-     * This method:
-     * 1. Gets the current playing track from playback hash
-     * 2. Validates the track status is PLAYING
-     * 3. Marks the current track as SKIPPED
-     * 4. Finds the next QUEUED track
-     * 5. Starts the next track automatically (or stops playback if no more tracks)
+     * In a single atomic script, this method:
+     * 1. Resolves the current PLAYING track
+     * 2. Marks it as SKIPPED
+     * 3. Starts the first QUEUED track (or clears the playback hash if none)
      *
      * @param roomId Room UUID
      * @return TrackOperationResult with success status and details
      */
     public TrackOperationResult skipTrack(String roomId) {
+        return executeTransition(roomId, MODE_SKIP, null, null);
+    }
+
+    /**
+     * Skip the currently playing track only if it is still the expected one.
+     * Prevents a late skip (e.g., a vote cast on the previous track) from skipping the next track.
+     *
+     * @param roomId Room UUID
+     * @param expectedPlaylistItemId Playlist item UUID the caller intends to skip
+     * @return TrackOperationResult with success status and details
+     */
+    public TrackOperationResult skipTrack(String roomId, String expectedPlaylistItemId) {
+        return executeTransition(roomId, MODE_SKIP, null, expectedPlaylistItemId);
+    }
+
+    /**
+     * Complete the currently playing track in a room.
+     * Marks it as PLAYED and starts the first QUEUED track (or clears the playback hash if none).
+     *
+     * @param roomId Room UUID
+     * @return TrackOperationResult with success status and details
+     */
+    public TrackOperationResult completeTrack(String roomId) {
+        return executeTransition(roomId, MODE_COMPLETE, null, null);
+    }
+
+    /**
+     * Complete the currently playing track only if it is still the expected one.
+     *
+     * @param roomId Room UUID
+     * @param expectedPlaylistItemId Playlist item UUID the caller intends to complete
+     * @return TrackOperationResult with success status and details
+     */
+    public TrackOperationResult completeTrack(String roomId, String expectedPlaylistItemId) {
+        return executeTransition(roomId, MODE_COMPLETE, null, expectedPlaylistItemId);
+    }
+
+    /**
+     * Claim tracks whose deadline (started_at_ms + track_duration_ms) has passed.
+     * Safe to call concurrently from several nodes: each due entry is handed to a single caller
+     * until the lease expires.
+     *
+     * @param nowMs Current UTC epoch milliseconds
+     * @param limit Maximum number of entries to claim
+     * @param leaseMs How long the claim is held before the entry becomes claimable again
+     * @return Map of room ID to the playlist item ID that was playing when the deadline was set
+     */
+    public Map<String, String> claimDueTracks(long nowMs, int limit, long leaseMs) {
         try {
-            // Step 1: Get current playing track from playback hash
-            String currentPlaylistItemId = getCurrentPlaylistItemId(roomId);
-            if (currentPlaylistItemId == null) {
-                String msg = "No track is currently playing";
-                log.warn("Failed to skip track in room {}: {}", roomId, msg);
-                return new TrackOperationResult(false, msg, null);
+            // Members are written and read only by scripts, so they are kept as plain strings
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            List<?> claimed = redisTemplate.execute(
+                CLAIM_DUE_TRACKS_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(),
+                List.of(buildDueTracksKey()),
+                String.valueOf(nowMs),
+                String.valueOf(limit),
+                String.valueOf(nowMs + leaseMs)
+            );
+
+            if (claimed == null || claimed.isEmpty()) {
+                return Collections.emptyMap();
             }
 
-            // Step 2: Validate current track status is PLAYING
-            Map<Object, Object> currentItem = playlistRedisService.getPlaylistItem(roomId, currentPlaylistItemId);
-            if (currentItem.isEmpty()) {
-                String msg = "Current playlist item not found: " + currentPlaylistItemId;
-                log.warn("Failed to skip track in room {}: {}", roomId, msg);
-                return new TrackOperationResult(false, msg, currentPlaylistItemId);
+            Map<String, String> result = new LinkedHashMap<>();
+            for (Object member : claimed) {
+                String[] parts = member.toString().split(":", 2);
+                if (parts.length == 2) {
+                    result.put(parts[0], parts[1]);
+                }
             }
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to claim due tracks", e);
+            return Collections.emptyMap();
+        }
+    }
 
-            Object statusObj = currentItem.get("status");
-            String currentStatus = statusObj != null ? statusObj.toString() : null;
+    /**
+     * Run the track transition script and map its reply to a TrackOperationResult.
+     */
+    private TrackOperationResult executeTransition(String roomId, String mode, String targetItemId, String expectedItemId) {
+        try {
+            playlistRedisService.ensureStatusIndex(roomId);
+            List<String> keys = List.of(
+                buildPlaybackKey(roomId),
+                playlistRedisService.buildQueuedIndexKey(roomId),
+                playlistRedisService.buildPlayingPointerKey(roomId),
+                buildDueTracksKey()
+            );
 
-            if (!"PLAYING".equals(currentStatus)) {
-                String msg = String.format("Cannot skip track with status: %s (must be PLAYING)", currentStatus);
-                log.warn("Failed to skip track {} in room {}: {}", currentPlaylistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, currentPlaylistItemId);
-            }
+            List<?> reply = redisTemplate.execute(
+                TRACK_TRANSITION_SCRIPT,
+                keys,
+                mode,
+                targetItemId != null ? targetItemId : "",
+                expectedItemId != null ? expectedItemId : "",
+                String.valueOf(System.currentTimeMillis()),
+                playlistRedisService.buildPlaylistItemKeyPrefix(roomId),
+                roomId
+            );
 
-            // Step 3: Mark current track as SKIPPED
-            boolean statusUpdated = playlistRedisService.updatePlaylistItemStatus(roomId, currentPlaylistItemId, "SKIPPED");
-            if (!statusUpdated) {
-                String msg = "Failed to update playlist item status to SKIPPED";
-                log.error("Failed to skip track {} in room {}: {}", currentPlaylistItemId, roomId, msg);
-                return new TrackOperationResult(false, msg, currentPlaylistItemId);
+            if (reply == null || reply.isEmpty()) {
+                log.error("Track transition {} returned no result for room {}", mode, roomId);
+                return new TrackOperationResult(false, "Track transition returned no result", targetItemId);
             }
 
-            log.info("Skipped track {} in room {}", currentPlaylistItemId, roomId);
-
-            // Step 4: Find the next QUEUED track
-            String nextPlaylistItemId = playlistRedisService.getFirstQueuedItemId(roomId);
-
-            // Step 5: Start the next track or stop playback
-            if (nextPlaylistItemId != null) {
-                // Start the next track
-                TrackOperationResult startResult = startTrack(roomId, nextPlaylistItemId);
-                if (startResult.isSuccess()) {
-                    log.info("Auto-started next track {} in room {} after skip", nextPlaylistItemId, roomId);
-                    return new TrackOperationResult(
-                        true,
-                        "Track skipped and next track started: " + nextPlaylistItemId,
-                        nextPlaylistItemId
-                    );
-                } else {
-                    log.warn(
-                        "Failed to auto-start next track {} in room {} after skip: {}",
-                        nextPlaylistItemId,
-                        roomId,
-                        startResult.getMessage()
-                    );
-                    return new TrackOperationResult(
-                        false,
-                        "Track skipped but failed to start next track: " + startResult.getMessage(),
-                        null
-                    );
-                }
+            long code = ((Number) reply.get(0)).longValue();
+            String startedItemId = replyString(reply, 1);
+            String previousItemId = replyString(reply, 2);
+            Long startedAtMs = replyLong(reply, 3);
+            Long trackDurationMs = replyLong(reply, 4);
+
+            TrackOperationResult result = toResult(
+                code,
+                mode,
+                targetItemId,
+                expectedItemId,
+                startedItemId,
+                previousItemId,
+                startedAtMs,
+                trackDurationMs
+            );
+
+            if (result.isSuccess()) {
+                log.info("Track transition {} in room {}: {}", mode, roomId, result.getMessage());
             } else {
-                // No more tracks to play - stop playback
-                stopPlayback(roomId);
-                log.info("No more tracks to play in room {} after skip - playback stopped", roomId);
-                return new TrackOperationResult(true, "Track skipped and playback stopped (no more tracks)", null);
+                log.warn("Track transition {} failed in room {}: {}", mode, roomId, result.getMessage());
             }
+            return result;
         } catch (Exception e) {
             String msg = "Exception occurred: " + e.getMessage();
-            log.error("Failed to skip track in room {}", roomId, e);
-            return new TrackOperationResult(false, msg, null);
+            log.error("Failed to execute track transition {} in room {}", mode, roomId, e);
+            return new TrackOperationResult(false, msg, targetItemId);
+        }
+    }
+
+    private TrackOperationResult toResult(
+        long code,
+        String mode,
+        String targetItemId,
+        String expectedItemId,
+        String startedItemId,
+        String previousItemId,
+        Long startedAtMs,
+        Long trackDurationMs
+    ) {
+        if (code == RESULT_STARTED) {
+            String msg = switch (mode) {
+                case MODE_SKIP -> "Track skipped and next track started: " + startedItemId;
+                case MODE_COMPLETE -> "Track completed and next track started: " + startedItemId;
+                default -> "Track started successfully";
+            };
+            return new TrackOperationResult(true, msg, startedItemId, previousItemId, startedAtMs, trackDurationMs);
+        }
+        if (code == RESULT_STOPPED) {
+            String msg = MODE_SKIP.equals(mode)
+                ? "Track skipped and playback stopped (no more tracks)"
+                : "Track completed and playback stopped (no more tracks)";
+            return new TrackOperationResult(true, msg, null, previousItemId, null, null);
+        }
+        if (code == RESULT_NOT_PLAYING) {
+            return new TrackOperationResult(false, "No track is currently playing", null);
+        }
+        if (code == RESULT_ITEM_NOT_FOUND) {
+            return new TrackOperationResult(false, "Playlist item not found: " + targetItemId, targetItemId);
+        }
+        if (code == RESULT_INVALID_STATUS) {
+            return new TrackOperationResult(false, "Invalid status transition: only QUEUED tracks can transition to PLAYING", targetItemId);
+        }
+        if (code == RESULT_STALE) {
+            return new TrackOperationResult(
+                false,
+                "Track " + expectedItemId + " is no longer playing (current: " + previousItemId + ")",
+                expectedItemId,
+                previousItemId,
+                null,
+                null
+            );
+        }
+        if (code == RESULT_QUEUE_EMPTY) {
+            return new TrackOperationResult(false, "No queued tracks found in playlist", null);
+        }
+        if (code == RESULT_ALREADY_PLAYING) {
+            return new TrackOperationResult(false, "A track is already playing", null, previousItemId, null, null);
+        }
+        return new TrackOperationResult(false, "Unknown track transition result: " + code, targetItemId);
+    }
+
+    private String replyString(List<?> reply, int index) {
+        Object value = index < reply.size() ? reply.get(index) : null;
+        return value != null ? value.toString() : null;
+    }
+
+    private Long replyLong(List<?> reply, int index) {
+        String value = replyString(reply, index);
+        if (value == null) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("Failed to parse long value from track transition result: {}", value);
+            return null;
         }
     }
 
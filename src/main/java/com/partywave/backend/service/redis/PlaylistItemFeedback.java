@@ -0,0 +1,54 @@
+package com.partywave.backend.service.redis;
+
+/**
+ * Result object for bulk like/dislike reads.
+ * Used by LikeDislikeRedisService to return the feedback state of one playlist item.
+ *
+ * likedByUser and dislikedByUser are null when no user was given for the read.
+ */
+public class PlaylistItemFeedback {
+
+    private final long likeCount;
+    private final long dislikeCount;
+    private final Boolean likedByUser;
+    private final Boolean dislikedByUser;
+
+    public PlaylistItemFeedback(long likeCount, long dislikeCount, Boolean likedByUser, Boolean dislikedByUser) {
+        this.likeCount = likeCount;
+        this.dislikeCount = dislikeCount;
+        this.likedByUser = likedByUser;
+        this.dislikedByUser = dislikedByUser;
+    }
+
+    public long getLikeCount() {
+        return likeCount;
+    }
+
+    public long getDislikeCount() {
+        return dislikeCount;
+    }
+
+    public Boolean getLikedByUser() {
+        return likedByUser;
+    }
+
+    public Boolean getDislikedByUser() {
+        return dislikedByUser;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "PlaylistItemFeedback{" +
+            "likeCount=" +
+            likeCount +
+            ", dislikeCount=" +
+            dislikeCount +
+            ", likedByUser=" +
+            likedByUser +
+            ", dislikedByUser=" +
+            dislikedByUser +
+            '}'
+        );
+    }
+}
@@ -1,11 +1,18 @@
 package com.partywave.backend.service.redis;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.partywave.backend.config.CacheConfiguration;
+import java.time.Duration;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
 /**
@@ -16,12 +23,23 @@ import org.springframework.stereotype.Service;
  * - Playlist item hash: partywave:room:{roomId}:playlist:item:{playlistItemId}
  * - Room playlist list: partywave:room:{roomId}:playlist
  * - Sequence counter: partywave:room:{roomId}:playlist:sequence_counter
+ * - Queued index (ZSET): partywave:room:{roomId}:playlist:queued (member = item ID, score = sequence_number)
+ * - Playing pointer (STRING): partywave:room:{roomId}:playlist:playing (item ID with status PLAYING)
+ * - Index marker (STRING): partywave:room:{roomId}:playlist:indexed (queued index and playing pointer are complete)
  *
  * Business rules:
  * - Tracks are always appended to the end of the playlist
  * - Tracks are never removed from the playlist list (only status changes)
  * - Status values: QUEUED, PLAYING, PLAYED, SKIPPED
  * - PLAYED and SKIPPED are final states (cannot transition back to PLAYING)
+ * - The queued index and playing pointer are updated in the same atomic unit as the item status,
+ *   so "next queued" and "now playing" are single-command lookups regardless of playlist length
+ * - Rooms created before the index existed are indexed lazily from the item hashes on first use
+ *   (ensureStatusIndex); the marker tells an empty index apart from a missing one
+ *
+ * Bulk reads:
+ * - Item hashes are fetched in a single pipelined batch after one LRANGE (2 round-trips total)
+ * - Callers can request a field projection (HMGET) instead of the full hash (HGETALL)
  *
  * Note: Like/dislike operations are handled by LikeDislikeRedisService.
  */
@@ -30,9 +48,109 @@ public class PlaylistRedisService {
 
     private static final Logger log = LoggerFactory.getLogger(PlaylistRedisService.class);
 
+    /**
+     * Fields needed to render a playlist item to clients (PlaylistItemDTO).
+     * Excludes fields only used for playback (e.g., source_uri).
+     */
+    public static final List<String> PLAYLIST_ITEM_VIEW_FIELDS = List.of(
+        "id",
+        "room_id",
+        "added_by_id",
+        "sequence_number",
+        "status",
+        "added_at_ms",
+        "source_id",
+        "name",
+        "artist",
+        "album",
+        "duration_ms",
+        "album_image_url"
+    );
+
+    /**
+     * Atomically validates and applies a status transition, keeping the status index in sync.
+     *
+     * KEYS[1] = playlist item hash, KEYS[2] = queued index, KEYS[3] = playing pointer
+     * ARGV[1] = new status, ARGV[2] = playlist item ID (both serialized like hash values)
+     *
+     * Returns 1 if updated, 0 if the transition is invalid, -1 if the item does not exist.
+     */
+    private static final RedisScript<Long> UPDATE_STATUS_SCRIPT = new DefaultRedisScript<>(
+        """
+        local current = redis.call('HGET', KEYS[1], 'status')
+        if not current then
+            return -1
+        end
+        local currentStatus = cjson.decode(current)
+        local newStatus = cjson.decode(ARGV[1])
+        local valid = (currentStatus == 'QUEUED' and newStatus == 'PLAYING')
+            or (currentStatus == 'PLAYING' and (newStatus == 'PLAYED' or newStatus == 'SKIPPED'))
+        if not valid then
+            return 0
+        end
+        redis.call('HSET', KEYS[1], 'status', ARGV[1])
+        if currentStatus == 'QUEUED' then
+            redis.call('ZREM', KEYS[2], ARGV[2])
+        end
+        if newStatus == 'PLAYING' then
+            redis.call('SET', KEYS[3], ARGV[2])
+        elseif redis.call('GET', KEYS[3]) == ARGV[2] then
+            redis.call('DEL', KEYS[3])
+        end
+        return 1
+        """,
+        Long.class
+    );
+
+    /**
+     * Build the queued index and playing pointer of a room from its item hashes, once.
+     *
+     * KEYS[1] = room playlist list, KEYS[2] = queued index, KEYS[3] = playing pointer, KEYS[4] = index marker
+     * ARGV[1] = playlist item key prefix
+     *
+     * Adding is idempotent, so items indexed concurrently by addPlaylistItem or a status update stay
+     * correct. Returns 1 if the index was built, 0 if the marker already existed.
+     */
+    private static final RedisScript<Long> REBUILD_INDEX_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[4]) == 1 then
+            return 0
+        end
+        local prefix = cjson.decode(ARGV[1])
+        for _, entry in ipairs(redis.call('LRANGE', KEYS[1], 0, -1)) do
+            local fields = redis.call('HMGET', prefix .. cjson.decode(entry), 'status', 'sequence_number')
+            if fields[1] then
+                local status = cjson.decode(fields[1])
+                if status == 'QUEUED' and fields[2] then
+                    redis.call('ZADD', KEYS[2], tonumber(cjson.decode(fields[2])), entry)
+                elseif status == 'PLAYING' then
+                    redis.call('SET', KEYS[3], entry, 'NX')
+                end
+            end
+        end
+        redis.call('SET', KEYS[4], '1')
+        local ttl = redis.call('TTL', KEYS[1])
+        if ttl > 0 then
+            redis.call('EXPIRE', KEYS[2], ttl)
+            redis.call('EXPIRE', KEYS[3], ttl)
+            redis.call('EXPIRE', KEYS[4], ttl)
+        end
+        return 1
+        """,
+        Long.class
+    );
+
+    private static final int INDEXED_ROOMS_CACHE_SIZE = 10_000;
+
     private final RedisTemplate<String, Object> redisTemplate;
     private final LikeDislikeRedisService likeDislikeRedisService;
 
+    // Rooms whose index marker was seen by this node, to skip the check on hot paths
+    private final Cache<String, Boolean> indexedRooms = Caffeine.newBuilder()
+        .maximumSize(INDEXED_ROOMS_CACHE_SIZE)
+        .expireAfterAccess(Duration.ofHours(1))
+        .build();
+
     public PlaylistRedisService(RedisTemplate<String, Object> redisTemplate, LikeDislikeRedisService likeDislikeRedisService) {
         this.redisTemplate = redisTemplate;
         this.likeDislikeRedisService = likeDislikeRedisService;
@@ -43,7 +161,7 @@ public class PlaylistRedisService {
     // ========================================
 
     private String buildPlaylistItemKey(String roomId, String playlistItemId) {
-        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:item:" + playlistItemId;
+        return buildPlaylistItemKeyPrefix(roomId) + playlistItemId;
     }
 
     private String buildPlaylistKey(String roomId) {
@@ -54,6 +172,26 @@ public class PlaylistRedisService {
         return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:sequence_counter";
     }
 
+    /**
+     * Prefix of all playlist item hash keys in a room (item ID is appended).
+     * Exposed to PlaybackRedisService for server-side scripts that resolve item keys.
+     */
+    String buildPlaylistItemKeyPrefix(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:item:";
+    }
+
+    String buildQueuedIndexKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:queued";
+    }
+
+    String buildPlayingPointerKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:playing";
+    }
+
+    private String buildIndexMarkerKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:indexed";
+    }
+
     private String buildPlaylistItemPattern(String roomId) {
         return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":playlist:item:*";
     }
@@ -64,7 +202,8 @@ public class PlaylistRedisService {
 
     /**
      * Add a new track to the playlist.
-     * Track is appended to the end of the playlist list.
+     * Track is appended to the end of the playlist list and indexed in the queued ZSET
+     * by its sequence number. All writes are applied in a single MULTI/EXEC transaction.
      *
      * @param roomId Room UUID
      * @param playlistItemId Playlist item UUID
@@ -81,11 +220,26 @@ public class PlaylistRedisService {
             playlistItemData.put("id", playlistItemId);
             playlistItemData.put("room_id", roomId);
 
-            // Store playlist item hash
-            redisTemplate.opsForHash().putAll(itemKey, playlistItemData);
-
-            // Append item ID to playlist list (RPUSH - add to tail)
-            redisTemplate.opsForList().rightPush(playlistKey, playlistItemId);
+            String queuedIndexKey = buildQueuedIndexKey(roomId);
+            double score = Double.parseDouble(playlistItemData.get("sequence_number"));
+
+            redisTemplate.execute(
+                new SessionCallback<List<Object>>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        ops.multi();
+                        // Store playlist item hash
+                        ops.opsForHash().putAll(itemKey, playlistItemData);
+                        // Append item ID to playlist list (RPUSH - add to tail)
+                        ops.opsForList().rightPush(playlistKey, playlistItemId);
+                        // Index as queued, ordered by sequence number
+                        ops.opsForZSet().add(queuedIndexKey, playlistItemId, score);
+                        return ops.exec();
+                    }
+                }
+            );
 
             log.debug("Added playlist item {} to room {}", playlistItemId, roomId);
             return true;
@@ -149,7 +303,7 @@ public class PlaylistRedisService {
 
     /**
      * Get all playlist items with their full data for a room.
-     * Uses LRANGE to get all item IDs, then HGETALL for each item.
+     * Uses LRANGE to get all item IDs, then a single pipelined batch of HGETALL commands.
      * Returns items in chronological order (oldest first).
      * Includes all tracks regardless of status (QUEUED, PLAYING, PLAYED, SKIPPED).
      *
@@ -157,17 +311,20 @@ public class PlaylistRedisService {
      * @return List of playlist items with full data
      */
     public List<Map<Object, Object>> getAllPlaylistItems(String roomId) {
-        List<String> itemIds = getPlaylistItemIds(roomId);
-        List<Map<Object, Object>> result = new ArrayList<>();
-
-        for (String itemId : itemIds) {
-            Map<Object, Object> item = getPlaylistItem(roomId, itemId);
-            if (!item.isEmpty()) {
-                result.add(item);
-            }
-        }
+        return fetchPlaylistItems(roomId, getPlaylistItemIds(roomId), null);
+    }
 
-        return result;
+    /**
+     * Get all playlist items for a room, fetching only the requested fields.
+     * Uses LRANGE to get all item IDs, then a single pipelined batch of HMGET commands.
+     * Returns items in chronological order (oldest first).
+     *
+     * @param roomId Room UUID
+     * @param fields Hash fields to fetch (e.g., PLAYLIST_ITEM_VIEW_FIELDS)
+     * @return List of playlist items containing only the requested (non-null) fields
+     */
+    public List<Map<Object, Object>> getAllPlaylistItems(String roomId, List<String> fields) {
+        return fetchPlaylistItems(roomId, getPlaylistItemIds(roomId), fields);
     }
 
     /**
@@ -179,26 +336,111 @@ public class PlaylistRedisService {
      * @return List of playlist items matching the status filter
      */
     public List<Map<Object, Object>> getPlaylistItemsByStatus(String roomId, String... statuses) {
-        List<String> itemIds = getPlaylistItemIds(roomId);
+        return filterByStatus(getAllPlaylistItems(roomId), statuses);
+    }
+
+    /**
+     * Get playlist items filtered by status, fetching only the requested fields.
+     * The status field is always fetched since it is needed for filtering.
+     *
+     * @param roomId Room UUID
+     * @param fields Hash fields to fetch
+     * @param statuses Status values to filter by (e.g., "QUEUED", "PLAYING")
+     * @return List of playlist items matching the status filter
+     */
+    public List<Map<Object, Object>> getPlaylistItemsByStatus(String roomId, List<String> fields, String... statuses) {
+        List<String> projection = fields;
+        if (!fields.contains("status")) {
+            projection = new ArrayList<>(fields);
+            projection.add("status");
+        }
+        return filterByStatus(getAllPlaylistItems(roomId, projection), statuses);
+    }
+
+    private List<Map<Object, Object>> filterByStatus(List<Map<Object, Object>> items, String... statuses) {
         Set<String> statusSet = Set.of(statuses);
         List<Map<Object, Object>> result = new ArrayList<>();
 
-        for (String itemId : itemIds) {
-            Map<Object, Object> item = getPlaylistItem(roomId, itemId);
-            if (!item.isEmpty()) {
-                Object status = item.get("status");
-                if (status != null && statusSet.contains(status.toString())) {
-                    result.add(item);
+        for (Map<Object, Object> item : items) {
+            Object status = item.get("status");
+            if (status != null && statusSet.contains(status.toString())) {
+                result.add(item);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Fetch playlist item hashes in a single pipelined round-trip.
+     * Preserves the order of the given item IDs and drops items whose hash no longer exists.
+     *
+     * @param roomId Room UUID
+     * @param itemIds Playlist item IDs in the desired order
+     * @param fields Hash fields to fetch with HMGET, or null to fetch everything with HGETALL
+     * @return List of playlist items
+     */
+    private List<Map<Object, Object>> fetchPlaylistItems(String roomId, List<String> itemIds, List<String> fields) {
+        if (itemIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<Object> fieldKeys = fields != null ? new ArrayList<>(fields) : null;
+
+        List<Object> rawResults = redisTemplate.executePipelined(
+            new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public <K, V> Object execute(RedisOperations<K, V> operations) {
+                    RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                    for (String itemId : itemIds) {
+                        String itemKey = buildPlaylistItemKey(roomId, itemId);
+                        if (fieldKeys == null) {
+                            ops.opsForHash().entries(itemKey);
+                        } else {
+                            ops.opsForHash().multiGet(itemKey, fieldKeys);
+                        }
+                    }
+                    return null;
                 }
             }
+        );
+
+        List<Map<Object, Object>> result = new ArrayList<>(itemIds.size());
+        for (Object raw : rawResults) {
+            Map<Object, Object> item = fieldKeys == null ? toEntriesMap(raw) : toProjectedMap(fields, raw);
+            if (!item.isEmpty()) {
+                result.add(item);
+            }
         }
 
         return result;
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<Object, Object> toEntriesMap(Object raw) {
+        return raw instanceof Map ? (Map<Object, Object>) raw : Collections.emptyMap();
+    }
+
+    private Map<Object, Object> toProjectedMap(List<String> fields, Object raw) {
+        if (!(raw instanceof List<?> values)) {
+            return Collections.emptyMap();
+        }
+
+        Map<Object, Object> item = new HashMap<>();
+        for (int i = 0; i < fields.size() && i < values.size(); i++) {
+            Object value = values.get(i);
+            if (value != null) {
+                item.put(fields.get(i), value);
+            }
+        }
+        return item;
+    }
+
     /**
      * Update playlist item status.
      * CRITICAL: Validates status transitions according to business rules.
+     * The check, the status write and the status index update run as one Lua script (single round-trip).
      *
      * Status transition rules:
      * - QUEUED → PLAYING (valid)
@@ -214,32 +456,24 @@ public class PlaylistRedisService {
      */
     public boolean updatePlaylistItemStatus(String roomId, String playlistItemId, String newStatus) {
         try {
-            String itemKey = buildPlaylistItemKey(roomId, playlistItemId);
-
-            // Get current status
-            Object currentStatusObj = redisTemplate.opsForHash().get(itemKey, "status");
-            if (currentStatusObj == null) {
+            Long result = redisTemplate.execute(
+                UPDATE_STATUS_SCRIPT,
+                List.of(buildPlaylistItemKey(roomId, playlistItemId), buildQueuedIndexKey(roomId), buildPlayingPointerKey(roomId)),
+                newStatus,
+                playlistItemId
+            );
+
+            if (result == null || result < 0) {
                 log.warn("Playlist item {} not found in room {}", playlistItemId, roomId);
                 return false;
             }
 
-            String currentStatus = currentStatusObj.toString();
-
-            // Validate status transition
-            if (!isValidStatusTransition(currentStatus, newStatus)) {
-                log.warn(
-                    "Invalid status transition for playlist item {} in room {}: {} → {}",
-                    playlistItemId,
-                    roomId,
-                    currentStatus,
-                    newStatus
-                );
+            if (result == 0) {
+                log.warn("Invalid status transition for playlist item {} in room {}: → {}", playlistItemId, roomId, newStatus);
                 return false;
             }
 
-            // Update status
-            redisTemplate.opsForHash().put(itemKey, "status", newStatus);
-            log.debug("Updated playlist item {} status: {} → {}", playlistItemId, currentStatus, newStatus);
+            log.debug("Updated playlist item {} status → {}", playlistItemId, newStatus);
             return true;
         } catch (Exception e) {
             log.error("Failed to update playlist item {} status in room {}", playlistItemId, roomId, e);
@@ -247,66 +481,65 @@ public class PlaylistRedisService {
         }
     }
 
-    /**
-     * Validate status transition according to business rules.
-     */
-    private boolean isValidStatusTransition(String currentStatus, String newStatus) {
-        // PLAYED and SKIPPED are final states
-        if ("PLAYED".equals(currentStatus) || "SKIPPED".equals(currentStatus)) {
-            return false;
-        }
-
-        // QUEUED can only transition to PLAYING
-        if ("QUEUED".equals(currentStatus)) {
-            return "PLAYING".equals(newStatus);
-        }
-
-        // PLAYING can transition to PLAYED or SKIPPED
-        if ("PLAYING".equals(currentStatus)) {
-            return "PLAYED".equals(newStatus) || "SKIPPED".equals(newStatus);
-        }
-
-        return false;
-    }
-
     /**
      * Get the current playing playlist item ID.
+     * Reads the playing pointer (single GET).
      *
      * @param roomId Room UUID
      * @return Playlist item ID with status PLAYING, or null if none
      */
     public String getCurrentPlayingItemId(String roomId) {
-        List<String> itemIds = getPlaylistItemIds(roomId);
-
-        for (String itemId : itemIds) {
-            Map<Object, Object> item = getPlaylistItem(roomId, itemId);
-            Object status = item.get("status");
-            if ("PLAYING".equals(status)) {
-                return itemId;
-            }
-        }
-
-        return null;
+        ensureStatusIndex(roomId);
+        Object itemId = redisTemplate.opsForValue().get(buildPlayingPointerKey(roomId));
+        return itemId != null ? itemId.toString() : null;
     }
 
     /**
      * Get the first queued playlist item ID.
+     * Reads the lowest-scored member of the queued index (single ZRANGE).
      *
      * @param roomId Room UUID
      * @return Playlist item ID with status QUEUED, or null if none
      */
     public String getFirstQueuedItemId(String roomId) {
-        List<String> itemIds = getPlaylistItemIds(roomId);
+        ensureStatusIndex(roomId);
+        Set<Object> first = redisTemplate.opsForZSet().range(buildQueuedIndexKey(roomId), 0, 0);
+        if (first == null || first.isEmpty()) {
+            return null;
+        }
+        return first.iterator().next().toString();
+    }
 
-        for (String itemId : itemIds) {
-            Map<Object, Object> item = getPlaylistItem(roomId, itemId);
-            Object status = item.get("status");
-            if ("QUEUED".equals(status)) {
-                return itemId;
+    /**
+     * Build the queued index and playing pointer of a room if they were never built.
+     * Rooms created before the index was introduced have items but no index; without this,
+     * "next queued" would be empty for them until the playlist is rebuilt.
+     * Exposed to PlaybackRedisService, whose transition script reads the index.
+     *
+     * @param roomId Room UUID
+     */
+    void ensureStatusIndex(String roomId) {
+        if (indexedRooms.getIfPresent(roomId) != null) {
+            return;
+        }
+        try {
+            Long rebuilt = redisTemplate.execute(
+                REBUILD_INDEX_SCRIPT,
+                List.of(
+                    buildPlaylistKey(roomId),
+                    buildQueuedIndexKey(roomId),
+                    buildPlayingPointerKey(roomId),
+                    buildIndexMarkerKey(roomId)
+                ),
+                buildPlaylistItemKeyPrefix(roomId)
+            );
+            if (rebuilt != null && rebuilt > 0) {
+                log.info("Built playlist status index for room {}", roomId);
             }
+            indexedRooms.put(roomId, Boolean.TRUE);
+        } catch (Exception e) {
+            log.warn("Failed to build playlist status index for room {}: {}", roomId, e.getMessage());
         }
-
-        return null;
     }
 
     // ========================================
@@ -335,12 +568,16 @@ public class PlaylistRedisService {
                 redisTemplate.delete(itemKey);
             }
 
-            // Delete playlist list and sequence counter
+            // Delete playlist list, sequence counter and status index
             String playlistKey = buildPlaylistKey(roomId);
             String sequenceCounterKey = buildSequenceCounterKey(roomId);
 
             redisTemplate.delete(playlistKey);
             redisTemplate.delete(sequenceCounterKey);
+            redisTemplate.delete(buildQueuedIndexKey(roomId));
+            redisTemplate.delete(buildPlayingPointerKey(roomId));
+            redisTemplate.delete(buildIndexMarkerKey(roomId));
+            indexedRooms.invalidate(roomId);
 
             log.info("Deleted all playlist data for room {}", roomId);
         } catch (Exception e) {
@@ -369,12 +606,15 @@ public class PlaylistRedisService {
                 redisTemplate.expire(itemKey, ttlSeconds, TimeUnit.SECONDS);
             }
 
-            // Set TTL for playlist list and sequence counter
+            // Set TTL for playlist list, sequence counter and status index
             String playlistKey = buildPlaylistKey(roomId);
             String sequenceCounterKey = buildSequenceCounterKey(roomId);
 
             redisTemplate.expire(playlistKey, ttlSeconds, TimeUnit.SECONDS);
             redisTemplate.expire(sequenceCounterKey, ttlSeconds, TimeUnit.SECONDS);
+            redisTemplate.expire(buildQueuedIndexKey(roomId), ttlSeconds, TimeUnit.SECONDS);
+            redisTemplate.expire(buildPlayingPointerKey(roomId), ttlSeconds, TimeUnit.SECONDS);
+            redisTemplate.expire(buildIndexMarkerKey(roomId), ttlSeconds, TimeUnit.SECONDS);
 
             log.debug("Set TTL of {} seconds for playlist data in room {}", ttlSeconds, roomId);
         } catch (Exception e) {
@@ -0,0 +1,112 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for cluster-wide request rate limits.
+ * Based on REDIS_ARCHITECTURE.md section 4.9 - Rate Limits.
+ *
+ * Key structure:
+ * - Limiter state: partywave:ratelimit:{policy}:{subject} → theoretical arrival time (epoch ms)
+ *
+ * Business rules:
+ * - Generic cell rate algorithm (GCRA): each allowed request moves the theoretical arrival time
+ *   (TAT) forward by one emission interval; a request is allowed while TAT is at most the burst
+ *   tolerance ahead of now. This is a sliding window without per-request entries.
+ * - Check and update run in one Lua script against the Redis clock, so concurrent requests on
+ *   any node cannot slip past the limit and node clock skew does not matter
+ * - The key expires when the TAT is reached, i.e. when the subject is back to a full burst
+ */
+@Service
+public class RateLimitRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(RateLimitRedisService.class);
+
+    /**
+     * GCRA check-and-update.
+     *
+     * KEYS[1] = limiter key
+     * ARGV[1] = emission interval (ms), ARGV[2] = burst tolerance (ms)
+     *
+     * Returns {1, 0} if the request is allowed, {0, retryAfterMs} if it is rejected
+     * (rejected requests do not move the TAT).
+     */
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>(
+        """
+        redis.replicate_commands()
+        local time = redis.call('TIME')
+        local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000)
+        local interval = tonumber(ARGV[1])
+        local tolerance = tonumber(ARGV[2])
+        local tat = tonumber(redis.call('GET', KEYS[1]))
+        if not tat or tat < now then
+            tat = now
+        end
+        if tat - now > tolerance then
+            return {0, tat - now - tolerance}
+        end
+        local newTat = tat + interval
+        redis.call('SET', KEYS[1], string.format('%.0f', newTat), 'PX', newTat - now)
+        return {1, 0}
+        """,
+        List.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RateLimitRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildLimiterKey(String policy, String subject) {
+        return CacheConfiguration.KEY_PREFIX + "ratelimit:" + policy + ":" + subject;
+    }
+
+    // ========================================
+    // Rate Limit Methods
+    // ========================================
+
+    /**
+     * Take one permit in a single round-trip.
+     *
+     * @param policy Policy name (e.g. chat)
+     * @param subject Limited subject (e.g. {roomId}:{userId})
+     * @param intervalMs Emission interval (period / limit)
+     * @param toleranceMs Burst tolerance (period - interval)
+     * @return 0 if allowed, milliseconds until the next permit if rejected, or null if Redis failed
+     */
+    public Long acquire(String policy, String subject, long intervalMs, long toleranceMs) {
+        try {
+            // Arguments and state are plain numbers, not JSON
+            @SuppressWarnings({ "unchecked", "rawtypes" })
+            List<?> reply = redisTemplate.execute(
+                GCRA_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(),
+                List.of(buildLimiterKey(policy, subject)),
+                String.valueOf(intervalMs),
+                String.valueOf(toleranceMs)
+            );
+            if (reply == null || reply.size() < 2) {
+                return null;
+            }
+            boolean allowed = ((Number) reply.get(0)).longValue() == 1;
+            return allowed ? 0L : Math.max(1, ((Number) reply.get(1)).longValue());
+        } catch (Exception e) {
+            log.error("Failed to check {} rate limit for {}", policy, subject, e);
+            return null;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.domain.enumeration.RoomMemberRole;
+
+/**
+ * Result object for cached room membership lookups.
+ * Used by RoomMembershipRedisService to tell a cached non-member apart from a cache miss.
+ *
+ * known is false when the room's members are not cached; the caller must ask the database.
+ * role is null when known is true and the user is not an active member.
+ */
+public class RoomMembershipLookup {
+
+    private static final RoomMembershipLookup UNKNOWN = new RoomMembershipLookup(false, null);
+    private static final RoomMembershipLookup NOT_MEMBER = new RoomMembershipLookup(true, null);
+
+    private final boolean known;
+    private final RoomMemberRole role;
+
+    private RoomMembershipLookup(boolean known, RoomMemberRole role) {
+        this.known = known;
+        this.role = role;
+    }
+
+    public static RoomMembershipLookup member(RoomMemberRole role) {
+        return new RoomMembershipLookup(true, role);
+    }
+
+    public static RoomMembershipLookup notMember() {
+        return NOT_MEMBER;
+    }
+
+    public static RoomMembershipLookup unknown() {
+        return UNKNOWN;
+    }
+
+    public boolean isKnown() {
+        return known;
+    }
+
+    public RoomMemberRole getRole() {
+        return role;
+    }
+
+    @Override
+    public String toString() {
+        return "RoomMembershipLookup{" + "known=" + known + ", role=" + role + '}';
+    }
+}
@@ -0,0 +1,164 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import com.partywave.backend.domain.enumeration.RoomMemberRole;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for the roles of active room members.
+ * Based on REDIS_ARCHITECTURE.md section 4.6 - Room Membership Cache.
+ *
+ * Key structure:
+ * - Member roles hash: partywave:room:{roomId}:members:roles
+ *   - {userId} → role (OWNER, DJ, MODERATOR, PARTICIPANT), or NONE after the user left or was kicked
+ *   - _loaded → 1 (present when the hash holds all active members of the room)
+ *
+ * Business rules:
+ * - PostgreSQL room_member stays the source of truth; the hash is loaded from it on demand
+ * - Joins, leaves and kicks overwrite the user's field after their transaction commits; loading
+ *   only fills fields that are absent, so a load that read the database before a leave
+ *   committed cannot bring the user back
+ * - A user missing from a loaded hash is not an active member; without _loaded the answer is unknown
+ * - Redis failures are treated as unknown, so callers fall back to the database
+ */
+@Service
+public class RoomMembershipRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(RoomMembershipRedisService.class);
+
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String NOT_MEMBER = "NONE";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public RoomMembershipRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildMemberRolesKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":members:roles";
+    }
+
+    // ========================================
+    // Membership Methods
+    // ========================================
+
+    /**
+     * Look up a user's role in one round-trip.
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @return Cached role, cached non-membership, or unknown (not loaded or Redis failed)
+     */
+    public RoomMembershipLookup getRole(String roomId, String userId) {
+        try {
+            List<Object> values = redisTemplate.opsForHash().multiGet(buildMemberRolesKey(roomId), List.of(userId, LOADED_FIELD));
+            Object role = values.get(0);
+            if (NOT_MEMBER.equals(role)) {
+                return RoomMembershipLookup.notMember();
+            }
+            if (role != null) {
+                return RoomMembershipLookup.member(RoomMemberRole.valueOf(role.toString()));
+            }
+            return values.get(1) != null ? RoomMembershipLookup.notMember() : RoomMembershipLookup.unknown();
+        } catch (Exception e) {
+            log.warn("Failed to read role of user {} in room {}: {}", userId, roomId, e.getMessage());
+            return RoomMembershipLookup.unknown();
+        }
+    }
+
+    /**
+     * Mark the hash as holding all active members of a room.
+     * Fields already set by joins, leaves or kicks are kept.
+     *
+     * @param roomId Room UUID
+     * @param roles Active members' roles (user ID → role)
+     * @param ttlSeconds Time to live in seconds
+     */
+    public void loadMembers(String roomId, Map<UUID, RoomMemberRole> roles, long ttlSeconds) {
+        String key = buildMemberRolesKey(roomId);
+        try {
+            redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        roles.forEach((userId, role) -> ops.opsForHash().putIfAbsent(key, userId.toString(), role.name()));
+                        ops.opsForHash().put(key, LOADED_FIELD, "1");
+                        ops.expire(key, ttlSeconds, TimeUnit.SECONDS);
+                        return null;
+                    }
+                }
+            );
+            log.debug("Loaded {} member roles for room {}", roles.size(), roomId);
+        } catch (Exception e) {
+            log.warn("Failed to load member roles for room {}: {}", roomId, e.getMessage());
+        }
+    }
+
+    /**
+     * Set a member's role (join, rejoin, room creation).
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @param role Member role
+     * @param ttlSeconds Time to live in seconds (refreshed)
+     */
+    public void putMember(String roomId, String userId, RoomMemberRole role, long ttlSeconds) {
+        String key = buildMemberRolesKey(roomId);
+        try {
+            redisTemplate.opsForHash().put(key, userId, role.name());
+            redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // The stale hash would deny the new member; drop it so it is reloaded from the database
+            log.warn("Failed to cache role of user {} in room {}: {}", userId, roomId, e.getMessage());
+            evictRoom(roomId);
+        }
+    }
+
+    /**
+     * Mark a user as no longer a member (leave, kick).
+     *
+     * @param roomId Room UUID
+     * @param userId User UUID
+     * @param ttlSeconds Time to live in seconds (refreshed)
+     */
+    public void removeMember(String roomId, String userId, long ttlSeconds) {
+        String key = buildMemberRolesKey(roomId);
+        try {
+            redisTemplate.opsForHash().put(key, userId, NOT_MEMBER);
+            redisTemplate.expire(key, ttlSeconds, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            log.warn("Failed to remove user {} from cached members of room {}: {}", userId, roomId, e.getMessage());
+            evictRoom(roomId);
+        }
+    }
+
+    /**
+     * Drop the cached members of a room; the next check reloads them from the database.
+     *
+     * @param roomId Room UUID
+     */
+    public void evictRoom(String roomId) {
+        try {
+            redisTemplate.delete(buildMemberRolesKey(roomId));
+        } catch (Exception e) {
+            log.error("Failed to evict cached members of room {}", roomId, e);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.time.Duration;
+import java.util.List;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for per-user Spotify token refresh locks.
+ * Based on REDIS_ARCHITECTURE.md section 4.10 - Token Refresh Locks.
+ *
+ * Key structure:
+ * - Refresh lock: partywave:token:refresh:lock:{userId} → owner token (STRING with lease)
+ *
+ * Business rules:
+ * - Only the lock holder calls the Spotify accounts endpoint for the user, so nodes never refresh
+ *   one user's token concurrently (Spotify may rotate the refresh token on every refresh)
+ * - The lock is only released by its owner; a holder that dies is released by the lease
+ */
+@Service
+public class TokenRefreshLockRedisService {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TokenRefreshLockRedisService.class);
+
+    /**
+     * Release a lock only if it is still held by the caller.
+     *
+     * KEYS[1] = refresh lock
+     * ARGV[1] = owner token
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public TokenRefreshLockRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildRefreshLockKey(String userId) {
+        return CacheConfiguration.KEY_PREFIX + "token:refresh:lock:" + userId;
+    }
+
+    // ========================================
+    // Lock Methods
+    // ========================================
+
+    /**
+     * Try to take the refresh lock of a user.
+     *
+     * @param userId User UUID
+     * @param owner Lock owner token
+     * @param lease Lock lease
+     * @return true if acquired, false if another caller holds it, or null if Redis failed
+     */
+    public Boolean tryAcquire(String userId, String owner, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(buildRefreshLockKey(userId), owner, lease));
+        } catch (Exception e) {
+            LOG.error("Failed to acquire token refresh lock for user {}: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Release the refresh lock of a user if the caller still owns it.
+     *
+     * @param userId User UUID
+     * @param owner Lock owner token passed to tryAcquire
+     */
+    public void release(String userId, String owner) {
+        try {
+            // The owner is serialized like the value written by setIfAbsent, so they compare equal
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(buildRefreshLockKey(userId)), owner);
+        } catch (Exception e) {
+            LOG.error("Failed to release token refresh lock for user {}: {}", userId, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import com.partywave.backend.service.dto.TrackMetadataDTO;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for the shared Spotify track catalog.
+ * Based on REDIS_ARCHITECTURE.md section 4.5 - Track Catalog.
+ *
+ * Key structure:
+ * - Track metadata: partywave:spotify:track:{trackId} → TrackMetadataDTO (JSON, long TTL)
+ *
+ * Business rules:
+ * - Track metadata rarely changes, so entries live for days and are shared by all nodes
+ * - Bulk reads use one MGET and bulk writes one pipeline
+ * - Redis failures are treated as cache misses and never fail a lookup
+ */
+@Service
+public class TrackCatalogRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackCatalogRedisService.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public TrackCatalogRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildTrackKey(String trackId) {
+        return CacheConfiguration.KEY_PREFIX + "spotify:track:" + trackId;
+    }
+
+    // ========================================
+    // Catalog Methods
+    // ========================================
+
+    /**
+     * Get cached metadata for several tracks in one round-trip.
+     *
+     * @param trackIds Spotify track IDs
+     * @return Map of track ID to metadata, containing only the cached tracks (empty if Redis failed)
+     */
+    public Map<String, TrackMetadataDTO> getTracks(List<String> trackIds) {
+        Map<String, TrackMetadataDTO> tracks = new HashMap<>();
+        if (trackIds.isEmpty()) {
+            return tracks;
+        }
+
+        try {
+            List<Object> values = redisTemplate.opsForValue().multiGet(trackIds.stream().map(this::buildTrackKey).toList());
+            if (values == null) {
+                return tracks;
+            }
+            for (int i = 0; i < trackIds.size() && i < values.size(); i++) {
+                if (values.get(i) instanceof TrackMetadataDTO track) {
+                    tracks.put(trackIds.get(i), track);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to read {} tracks from catalog: {}", trackIds.size(), e.getMessage());
+        }
+        return tracks;
+    }
+
+    /**
+     * Store metadata for several tracks in one pipeline.
+     *
+     * @param tracks Track metadata (keyed by sourceId)
+     * @param ttlSeconds Time to live in seconds
+     * @return true if stored
+     */
+    public boolean putTracks(Collection<TrackMetadataDTO> tracks, long ttlSeconds) {
+        if (tracks.isEmpty()) {
+            return true;
+        }
+
+        try {
+            redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        for (TrackMetadataDTO track : tracks) {
+                            ops.opsForValue().set(buildTrackKey(track.getSourceId()), track, ttlSeconds, TimeUnit.SECONDS);
+                        }
+                        return null;
+                    }
+                }
+            );
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to store {} tracks in catalog: {}", tracks.size(), e.getMessage());
+            return false;
+        }
+    }
+}
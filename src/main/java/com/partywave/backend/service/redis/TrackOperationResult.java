@@ -3,17 +3,38 @@ package com.partywave.backend.service.redis;
 /**
  * Result object for track operations.
  * Used by PlaybackRedisService to return operation results with status and details.
+ *
+ * When a transition starts a track, playlistItemId is the started item and
+ * startedAtMs/trackDurationMs mirror what was written to the playback hash.
+ * previousPlaylistItemId is the item that left PLAYING in the same transition (if any).
  */
 public class TrackOperationResult {
 
     private final boolean success;
     private final String message;
     private final String playlistItemId;
+    private final String previousPlaylistItemId;
+    private final Long startedAtMs;
+    private final Long trackDurationMs;
 
     public TrackOperationResult(boolean success, String message, String playlistItemId) {
+        this(success, message, playlistItemId, null, null, null);
+    }
+
+    public TrackOperationResult(
+        boolean success,
+        String message,
+        String playlistItemId,
+        String previousPlaylistItemId,
+        Long startedAtMs,
+        Long trackDurationMs
+    ) {
         this.success = success;
         this.message = message;
         this.playlistItemId = playlistItemId;
+        this.previousPlaylistItemId = previousPlaylistItemId;
+        this.startedAtMs = startedAtMs;
+        this.trackDurationMs = trackDurationMs;
     }
 
     public boolean isSuccess() {
@@ -28,6 +49,25 @@ public class TrackOperationResult {
         return playlistItemId;
     }
 
+    public String getPreviousPlaylistItemId() {
+        return previousPlaylistItemId;
+    }
+
+    public Long getStartedAtMs() {
+        return startedAtMs;
+    }
+
+    public Long getTrackDurationMs() {
+        return trackDurationMs;
+    }
+
+    /**
+     * @return true if this operation left a new track in PLAYING state
+     */
+    public boolean isTrackStarted() {
+        return success && playlistItemId != null && startedAtMs != null;
+    }
+
     @Override
     public String toString() {
         return (
@@ -40,6 +80,13 @@ public class TrackOperationResult {
             ", playlistItemId='" +
             playlistItemId +
             '\'' +
+            ", previousPlaylistItemId='" +
+            previousPlaylistItemId +
+            '\'' +
+            ", startedAtMs=" +
+            startedAtMs +
+            ", trackDurationMs=" +
+            trackDurationMs +
             '}'
         );
     }
@@ -0,0 +1,81 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import com.partywave.backend.service.dto.TrackSearchResponseDTO;
+import java.util.concurrent.TimeUnit;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for the shared Spotify track search cache.
+ * Based on REDIS_ARCHITECTURE.md section 4.4 - Spotify Search Cache.
+ *
+ * Key structure:
+ * - Search result: partywave:spotify:search:{searchKeyDigest} → TrackSearchResponseDTO (JSON, short TTL)
+ *
+ * Business rules:
+ * - Results are shared by all users and nodes; they are not user-specific
+ * - Redis failures are treated as cache misses and never fail a search
+ */
+@Service
+public class TrackSearchCacheRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(TrackSearchCacheRedisService.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public TrackSearchCacheRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildSearchKey(String searchKeyDigest) {
+        return CacheConfiguration.KEY_PREFIX + "spotify:search:" + searchKeyDigest;
+    }
+
+    // ========================================
+    // Search Result Methods
+    // ========================================
+
+    /**
+     * Get a cached search result.
+     *
+     * @param searchKeyDigest Digest of the normalized search key
+     * @return Cached result, or null if absent, expired or Redis failed
+     */
+    public TrackSearchResponseDTO getSearchResult(String searchKeyDigest) {
+        try {
+            Object value = redisTemplate.opsForValue().get(buildSearchKey(searchKeyDigest));
+            if (value instanceof TrackSearchResponseDTO result) {
+                return result;
+            }
+            return null;
+        } catch (Exception e) {
+            log.warn("Failed to read cached search result {}: {}", searchKeyDigest, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Cache a search result.
+     *
+     * @param searchKeyDigest Digest of the normalized search key
+     * @param result Transformed search result
+     * @param ttlSeconds Time to live in seconds
+     * @return true if stored
+     */
+    public boolean putSearchResult(String searchKeyDigest, TrackSearchResponseDTO result, long ttlSeconds) {
+        try {
+            redisTemplate.opsForValue().set(buildSearchKey(searchKeyDigest), result, ttlSeconds, TimeUnit.SECONDS);
+            return true;
+        } catch (Exception e) {
+            log.warn("Failed to cache search result {}: {}", searchKeyDigest, e.getMessage());
+            return false;
+        }
+    }
+}
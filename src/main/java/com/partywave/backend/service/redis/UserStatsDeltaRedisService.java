@@ -0,0 +1,286 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for write-behind app_user_stats like/dislike deltas.
+ * Based on REDIS_ARCHITECTURE.md section 2.2 - Race Condition & Atomicity Problem.
+ *
+ * Key structure:
+ * - Pending deltas: partywave:stats:pending (HASH, field {userId}:like / {userId}:dislike -> delta)
+ * - Pending since: partywave:stats:pending:since (STRING, epoch ms of the oldest pending delta)
+ * - In-flight batch: partywave:stats:inflight, partywave:stats:inflight:since (renamed from pending)
+ * - In-flight batch ID: partywave:stats:inflight:id (STRING, UUID assigned when the batch is claimed)
+ * - Flush lock: partywave:stats:flush:lock (STRING with lease)
+ *
+ * Business rules:
+ * - Every like/dislike change increments the track adder's pending deltas (HINCRBY, no DB access)
+ * - A flush renames pending to in-flight, applies it to PostgreSQL, then deletes in-flight
+ * - An in-flight batch left by a crashed flush is retried before new deltas are claimed, under the same
+ *   batch ID, so PostgreSQL can skip a batch it already applied
+ * - Only the flush lock holder claims or applies batches; the lock is only released by its owner
+ */
+@Service
+public class UserStatsDeltaRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(UserStatsDeltaRedisService.class);
+
+    public static final String LIKE_FIELD_SUFFIX = ":like";
+    public static final String DISLIKE_FIELD_SUFFIX = ":dislike";
+
+    /**
+     * Record like/dislike deltas for a user.
+     *
+     * KEYS[1] = pending hash, KEYS[2] = pending since
+     * ARGV[1] = user ID, ARGV[2] = like delta, ARGV[3] = dislike delta, ARGV[4] = now (epoch ms)
+     */
+    private static final RedisScript<Long> RECORD_DELTA_SCRIPT = new DefaultRedisScript<>(
+        """
+        if tonumber(ARGV[2]) ~= 0 then
+            redis.call('HINCRBY', KEYS[1], ARGV[1] .. ':like', ARGV[2])
+        end
+        if tonumber(ARGV[3]) ~= 0 then
+            redis.call('HINCRBY', KEYS[1], ARGV[1] .. ':dislike', ARGV[3])
+        end
+        redis.call('SET', KEYS[2], ARGV[4], 'NX')
+        return 1
+        """,
+        Long.class
+    );
+
+    /**
+     * Claim a batch for flushing: keep an existing in-flight batch, otherwise move pending to in-flight.
+     *
+     * KEYS[1] = pending hash, KEYS[2] = pending since, KEYS[3] = in-flight hash, KEYS[4] = in-flight since,
+     * KEYS[5] = in-flight batch ID
+     * ARGV[1] = ID for a newly claimed batch
+     *
+     * Returns the ID of the in-flight batch (kept across retries), or nil if there is nothing to flush.
+     */
+    private static final RedisScript<String> CLAIM_BATCH_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('EXISTS', KEYS[3]) == 1 then
+            redis.call('SET', KEYS[5], ARGV[1], 'NX')
+            return redis.call('GET', KEYS[5])
+        end
+        if redis.call('EXISTS', KEYS[1]) == 0 then
+            redis.call('DEL', KEYS[2])
+            return false
+        end
+        redis.call('RENAME', KEYS[1], KEYS[3])
+        if redis.call('EXISTS', KEYS[2]) == 1 then
+            redis.call('RENAME', KEYS[2], KEYS[4])
+        end
+        redis.call('SET', KEYS[5], ARGV[1])
+        return ARGV[1]
+        """,
+        String.class
+    );
+
+    /**
+     * Release the flush lock only if it is still held by the caller (its lease may have expired and
+     * another node may hold it now).
+     *
+     * KEYS[1] = flush lock
+     * ARGV[1] = owner token
+     */
+    private static final RedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+        """
+        if redis.call('GET', KEYS[1]) == ARGV[1] then
+            return redis.call('DEL', KEYS[1])
+        end
+        return 0
+        """,
+        Long.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public UserStatsDeltaRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildPendingKey() {
+        return CacheConfiguration.KEY_PREFIX + "stats:pending";
+    }
+
+    private String buildPendingSinceKey() {
+        return CacheConfiguration.KEY_PREFIX + "stats:pending:since";
+    }
+
+    private String buildInflightKey() {
+        return CacheConfiguration.KEY_PREFIX + "stats:inflight";
+    }
+
+    private String buildInflightSinceKey() {
+        return CacheConfiguration.KEY_PREFIX + "stats:inflight:since";
+    }
+
+    private String buildInflightIdKey() {
+        return CacheConfiguration.KEY_PREFIX + "stats:inflight:id";
+    }
+
+    private String buildFlushLockKey() {
+        return CacheConfiguration.KEY_PREFIX + "stats:flush:lock";
+    }
+
+    // ========================================
+    // Delta Recording
+    // ========================================
+
+    /**
+     * Add like/dislike deltas for the user who added a track.
+     *
+     * @param userId Track adder's user UUID
+     * @param likeDelta Change in total_like (e.g. +1, -1)
+     * @param dislikeDelta Change in total_dislike
+     * @return true if the deltas were recorded
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public boolean recordDelta(String userId, long likeDelta, long dislikeDelta) {
+        if (likeDelta == 0 && dislikeDelta == 0) {
+            return true;
+        }
+        try {
+            // Fields and values are plain strings/integers so HINCRBY works on them
+            redisTemplate.execute(
+                RECORD_DELTA_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(),
+                List.of(buildPendingKey(), buildPendingSinceKey()),
+                userId,
+                String.valueOf(likeDelta),
+                String.valueOf(dislikeDelta),
+                String.valueOf(System.currentTimeMillis())
+            );
+            return true;
+        } catch (Exception e) {
+            log.error("Failed to record stats delta for user {} (like {}, dislike {})", userId, likeDelta, dislikeDelta, e);
+            return false;
+        }
+    }
+
+    // ========================================
+    // Flush Operations
+    // ========================================
+
+    /**
+     * Try to become the flusher for the lease period.
+     *
+     * @param owner Lock owner token (node identifier)
+     * @param lease Lock lease
+     * @return true if the lock was acquired
+     */
+    public boolean tryAcquireFlushLock(String owner, Duration lease) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(buildFlushLockKey(), owner, lease));
+        } catch (Exception e) {
+            log.error("Failed to acquire stats flush lock", e);
+            return false;
+        }
+    }
+
+    /**
+     * Release the flush lock if the caller still owns it.
+     *
+     * @param owner Lock owner token passed to tryAcquireFlushLock
+     */
+    public void releaseFlushLock(String owner) {
+        try {
+            // The owner is serialized like the value written by setIfAbsent, so they compare equal
+            redisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(buildFlushLockKey()), owner);
+        } catch (Exception e) {
+            log.error("Failed to release stats flush lock", e);
+        }
+    }
+
+    /**
+     * Claim the batch to flush (an unfinished in-flight batch first).
+     *
+     * @return The in-flight batch, or null if there is nothing to flush (or Redis failed)
+     */
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public StatsDeltaBatch claimBatch() {
+        try {
+            // The batch ID is a plain string, not JSON
+            String batchId = redisTemplate.execute(
+                CLAIM_BATCH_SCRIPT,
+                RedisSerializer.string(),
+                (RedisSerializer) RedisSerializer.string(),
+                List.of(buildPendingKey(), buildPendingSinceKey(), buildInflightKey(), buildInflightSinceKey(), buildInflightIdKey()),
+                UUID.randomUUID().toString()
+            );
+            if (batchId == null) {
+                return null;
+            }
+
+            Map<Object, Object> entries = redisTemplate.opsForHash().entries(buildInflightKey());
+            Map<String, Long> batch = new HashMap<>(entries.size());
+            entries.forEach((field, value) -> {
+                if (value instanceof Number number) {
+                    batch.put(field.toString(), number.longValue());
+                } else if (value != null) {
+                    batch.put(field.toString(), Long.parseLong(value.toString()));
+                }
+            });
+            return new StatsDeltaBatch(UUID.fromString(batchId), batch);
+        } catch (Exception e) {
+            log.error("Failed to claim stats delta batch", e);
+            return null;
+        }
+    }
+
+    /**
+     * Get the epoch ms of the oldest delta in the in-flight batch.
+     *
+     * @return Epoch ms, or null if unknown
+     */
+    public Long getInflightSinceMs() {
+        try {
+            Object value = redisTemplate.opsForValue().get(buildInflightSinceKey());
+            return value instanceof Number number ? number.longValue() : null;
+        } catch (Exception e) {
+            log.error("Failed to read stats delta batch timestamp", e);
+            return null;
+        }
+    }
+
+    /**
+     * Delete the in-flight batch after it has been committed to PostgreSQL.
+     */
+    public void completeBatch() {
+        try {
+            redisTemplate.delete(List.of(buildInflightKey(), buildInflightSinceKey(), buildInflightIdKey()));
+        } catch (Exception e) {
+            log.error("Failed to delete flushed stats delta batch", e);
+        }
+    }
+
+    // ========================================
+    // Data Classes
+    // ========================================
+
+    /**
+     * Claimed in-flight batch.
+     *
+     * @param id Batch ID, the same for every retry of the batch
+     * @param deltas Field ({userId}:like / {userId}:dislike) -> delta
+     */
+    public record StatsDeltaBatch(UUID id, Map<String, Long> deltas) {}
+}
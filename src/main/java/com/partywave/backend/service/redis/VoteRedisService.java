@@ -0,0 +1,316 @@
+package com.partywave.backend.service.redis;
+
+import com.partywave.backend.config.CacheConfiguration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+/**
+ * Redis service for skip/kick vote state.
+ * Based on PROJECT_OVERVIEW.md sections 2.8 and 2.9 - Vote-Based Skip/Kick.
+ *
+ * Key structure:
+ * - Skip votes: partywave:room:{roomId}:votes:skip:{playlistItemId} (SET of voter user IDs)
+ * - Kick votes: partywave:room:{roomId}:votes:kick:{targetUserId} (SET of voter user IDs)
+ * - Kick targets: partywave:room:{roomId}:votes:kick:targets (SET of target user IDs with open kick votes)
+ *
+ * Business rules:
+ * - A user votes at most once per track / per target (set membership)
+ * - Add/remove, count and threshold check (percentage of online members) run as one Lua script
+ * - The vote that reaches the threshold deletes the vote set, so the action fires exactly once
+ * - Vote sets expire after VOTE_TTL_SECONDS of inactivity
+ *
+ * PostgreSQL vote rows are an audit trail written asynchronously by VoteAuditWriter; this service
+ * is the source of truth for counts and thresholds.
+ */
+@Service
+public class VoteRedisService {
+
+    private static final Logger log = LoggerFactory.getLogger(VoteRedisService.class);
+
+    private static final long VOTE_TTL_SECONDS = 6 * 3600;
+
+    /**
+     * Cast a vote and evaluate the threshold atomically.
+     *
+     * KEYS[1] = vote set, KEYS[2] = online members set, KEYS[3] = kick targets index (kick votes only)
+     * ARGV[1] = voter ID, ARGV[2] = threshold percentage, ARGV[3] = TTL seconds, ARGV[4] = target ID for the index
+     *
+     * Returns {added, voteCount, requiredVoteCount, onlineMemberCount, thresholdReached}.
+     */
+    private static final RedisScript<List> CAST_VOTE_SCRIPT = new DefaultRedisScript<>(
+        """
+        local added = redis.call('SADD', KEYS[1], ARGV[1])
+        local count = redis.call('SCARD', KEYS[1])
+        local online = redis.call('SCARD', KEYS[2])
+        local required = math.max(1, math.ceil(online * tonumber(cjson.decode(ARGV[2]))))
+        if added == 0 then
+            return {0, count, required, online, 0}
+        end
+        if count >= required then
+            redis.call('DEL', KEYS[1])
+            if KEYS[3] then
+                redis.call('SREM', KEYS[3], ARGV[4])
+            end
+            return {1, count, required, online, 1}
+        end
+        local ttl = tonumber(cjson.decode(ARGV[3]))
+        redis.call('EXPIRE', KEYS[1], ttl)
+        if KEYS[3] then
+            redis.call('SADD', KEYS[3], ARGV[4])
+            redis.call('EXPIRE', KEYS[3], ttl)
+        end
+        return {1, count, required, online, 0}
+        """,
+        List.class
+    );
+
+    /**
+     * Withdraw a vote and return the updated count.
+     *
+     * KEYS[1] = vote set, KEYS[2] = online members set, KEYS[3] = kick targets index (kick votes only)
+     * ARGV[1] = voter ID, ARGV[2] = threshold percentage, ARGV[3] = target ID for the index
+     *
+     * Returns {removed, voteCount, requiredVoteCount, onlineMemberCount, 0}.
+     */
+    private static final RedisScript<List> WITHDRAW_VOTE_SCRIPT = new DefaultRedisScript<>(
+        """
+        local removed = redis.call('SREM', KEYS[1], ARGV[1])
+        local count = redis.call('SCARD', KEYS[1])
+        if count == 0 and KEYS[3] then
+            redis.call('SREM', KEYS[3], ARGV[3])
+        end
+        local online = redis.call('SCARD', KEYS[2])
+        local required = math.max(1, math.ceil(online * tonumber(cjson.decode(ARGV[2]))))
+        return {removed, count, required, online, 0}
+        """,
+        List.class
+    );
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public VoteRedisService(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    // ========================================
+    // Key Building Methods
+    // ========================================
+
+    private String buildSkipVotesKey(String roomId, String playlistItemId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":votes:skip:" + playlistItemId;
+    }
+
+    private String buildKickVotesKey(String roomId, String targetUserId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":votes:kick:" + targetUserId;
+    }
+
+    private String buildKickTargetsKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":votes:kick:targets";
+    }
+
+    private String buildOnlineMembersKey(String roomId) {
+        return CacheConfiguration.KEY_PREFIX + "room:" + roomId + ":members:online";
+    }
+
+    // ========================================
+    // Skip Votes
+    // ========================================
+
+    /**
+     * Cast a skip vote for a playlist item.
+     *
+     * @param roomId Room UUID
+     * @param playlistItemId Playlist item UUID the vote is for
+     * @param voterId Voter user UUID
+     * @param thresholdPercentage Fraction of online members required (e.g. 0.5)
+     * @return VoteTallyResult, or null if Redis failed
+     */
+    public VoteTallyResult castSkipVote(String roomId, String playlistItemId, String voterId, double thresholdPercentage) {
+        return executeVoteScript(
+            CAST_VOTE_SCRIPT,
+            List.of(buildSkipVotesKey(roomId, playlistItemId), buildOnlineMembersKey(roomId)),
+            voterId,
+            String.valueOf(thresholdPercentage),
+            String.valueOf(VOTE_TTL_SECONDS),
+            ""
+        );
+    }
+
+    /**
+     * Withdraw a skip vote for a playlist item.
+     *
+     * @return VoteTallyResult (changed = false if the user had not voted), or null if Redis failed
+     */
+    public VoteTallyResult withdrawSkipVote(String roomId, String playlistItemId, String voterId, double thresholdPercentage) {
+        return executeVoteScript(
+            WITHDRAW_VOTE_SCRIPT,
+            List.of(buildSkipVotesKey(roomId, playlistItemId), buildOnlineMembersKey(roomId)),
+            voterId,
+            String.valueOf(thresholdPercentage),
+            ""
+        );
+    }
+
+    /**
+     * Get the number of skip votes for a playlist item.
+     */
+    public long getSkipVoteCount(String roomId, String playlistItemId) {
+        try {
+            Long count = redisTemplate.opsForSet().size(buildSkipVotesKey(roomId, playlistItemId));
+            return count != null ? count : 0;
+        } catch (Exception e) {
+            log.error("Failed to get skip vote count for playlist item {} in room {}", playlistItemId, roomId, e);
+            return 0;
+        }
+    }
+
+    // ========================================
+    // Kick Votes
+    // ========================================
+
+    /**
+     * Cast a kick vote against a user.
+     *
+     * @param roomId Room UUID
+     * @param targetUserId Target user UUID
+     * @param voterId Voter user UUID
+     * @param thresholdPercentage Fraction of online members required (e.g. 0.5)
+     * @return VoteTallyResult, or null if Redis failed
+     */
+    public VoteTallyResult castKickVote(String roomId, String targetUserId, String voterId, double thresholdPercentage) {
+        return executeVoteScript(
+            CAST_VOTE_SCRIPT,
+            List.of(buildKickVotesKey(roomId, targetUserId), buildOnlineMembersKey(roomId), buildKickTargetsKey(roomId)),
+            voterId,
+            String.valueOf(thresholdPercentage),
+            String.valueOf(VOTE_TTL_SECONDS),
+            targetUserId
+        );
+    }
+
+    /**
+     * Withdraw a kick vote against a user.
+     *
+     * @return VoteTallyResult (changed = false if the user had not voted), or null if Redis failed
+     */
+    public VoteTallyResult withdrawKickVote(String roomId, String targetUserId, String voterId, double thresholdPercentage) {
+        return executeVoteScript(
+            WITHDRAW_VOTE_SCRIPT,
+            List.of(buildKickVotesKey(roomId, targetUserId), buildOnlineMembersKey(roomId), buildKickTargetsKey(roomId)),
+            voterId,
+            String.valueOf(thresholdPercentage),
+            targetUserId
+        );
+    }
+
+    /**
+     * Get kick vote counts for all users with open kick votes in a room.
+     * Counts are read in one pipeline; targets whose votes expired are dropped from the index.
+     *
+     * @param roomId Room UUID
+     * @return Map of target user ID to vote count (only targets with at least one vote)
+     */
+    public Map<String, Long> getKickVoteCounts(String roomId) {
+        try {
+            String targetsKey = buildKickTargetsKey(roomId);
+            Set<Object> members = redisTemplate.opsForSet().members(targetsKey);
+            if (members == null || members.isEmpty()) {
+                return Collections.emptyMap();
+            }
+
+            List<String> targetUserIds = new ArrayList<>(members.size());
+            members.forEach(member -> targetUserIds.add(member.toString()));
+
+            List<Object> counts = redisTemplate.executePipelined(
+                new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+                        RedisOperations<String, Object> ops = (RedisOperations<String, Object>) operations;
+                        for (String targetUserId : targetUserIds) {
+                            ops.opsForSet().size(buildKickVotesKey(roomId, targetUserId));
+                        }
+                        return null;
+                    }
+                }
+            );
+
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (int i = 0; i < targetUserIds.size(); i++) {
+                Object count = i < counts.size() ? counts.get(i) : null;
+                long voteCount = count instanceof Number number ? number.longValue() : 0;
+                if (voteCount > 0) {
+                    result.put(targetUserIds.get(i), voteCount);
+                } else {
+                    redisTemplate.opsForSet().remove(targetsKey, targetUserIds.get(i));
+                }
+            }
+            return result;
+        } catch (Exception e) {
+            log.error("Failed to get kick vote counts for room {}", roomId, e);
+            return Collections.emptyMap();
+        }
+    }
+
+    // ========================================
+    // Cleanup Operations
+    // ========================================
+
+    /**
+     * Delete open kick votes against a user (e.g. when they leave the room).
+     *
+     * @param roomId Room UUID
+     * @param targetUserId Target user UUID
+     */
+    public void clearKickVotes(String roomId, String targetUserId) {
+        try {
+            redisTemplate.delete(buildKickVotesKey(roomId, targetUserId));
+            redisTemplate.opsForSet().remove(buildKickTargetsKey(roomId), targetUserId);
+        } catch (Exception e) {
+            log.error("Failed to clear kick votes for user {} in room {}", targetUserId, roomId, e);
+        }
+    }
+
+    // ========================================
+    // Helpers
+    // ========================================
+
+    private VoteTallyResult executeVoteScript(RedisScript<List> script, List<String> keys, Object... args) {
+        try {
+            List<?> reply = redisTemplate.execute(script, keys, args);
+            if (reply == null || reply.size() < 5) {
+                log.error("Vote script returned no result for keys {}", keys);
+                return null;
+            }
+
+            return new VoteTallyResult(
+                replyLong(reply, 0) > 0,
+                replyLong(reply, 1),
+                replyLong(reply, 2),
+                replyLong(reply, 3),
+                replyLong(reply, 4) > 0
+            );
+        } catch (Exception e) {
+            log.error("Failed to execute vote script for keys {}", keys, e);
+            return null;
+        }
+    }
+
+    private long replyLong(List<?> reply, int index) {
+        Object value = reply.get(index);
+        return value instanceof Number number ? number.longValue() : Long.parseLong(value.toString());
+    }
+}
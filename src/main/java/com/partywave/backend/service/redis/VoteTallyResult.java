@@ -0,0 +1,64 @@
+package com.partywave.backend.service.redis;
+
+/**
+ * Result object for vote operations.
+ * Used by VoteRedisService to return the vote set state observed atomically with the change.
+ *
+ * changed is true when the voter was added (cast) or removed (withdraw).
+ * thresholdReached is true only for the vote that crossed the threshold; that vote also
+ * consumed the vote set, so concurrent voters cannot trigger the action a second time.
+ */
+public class VoteTallyResult {
+
+    private final boolean changed;
+    private final long voteCount;
+    private final long requiredVoteCount;
+    private final long onlineMemberCount;
+    private final boolean thresholdReached;
+
+    public VoteTallyResult(boolean changed, long voteCount, long requiredVoteCount, long onlineMemberCount, boolean thresholdReached) {
+        this.changed = changed;
+        this.voteCount = voteCount;
+        this.requiredVoteCount = requiredVoteCount;
+        this.onlineMemberCount = onlineMemberCount;
+        this.thresholdReached = thresholdReached;
+    }
+
+    public boolean isChanged() {
+        return changed;
+    }
+
+    public long getVoteCount() {
+        return voteCount;
+    }
+
+    public long getRequiredVoteCount() {
+        return requiredVoteCount;
+    }
+
+    public long getOnlineMemberCount() {
+        return onlineMemberCount;
+    }
+
+    public boolean isThresholdReached() {
+        return thresholdReached;
+    }
+
+    @Override
+    public String toString() {
+        return (
+            "VoteTallyResult{" +
+            "changed=" +
+            changed +
+            ", voteCount=" +
+            voteCount +
+            ", requiredVoteCount=" +
+            requiredVoteCount +
+            ", onlineMemberCount=" +
+            onlineMemberCount +
+            ", thresholdReached=" +
+            thresholdReached +
+            '}'
+        );
+    }
+}
@@ -9,13 +9,12 @@ import com.partywave.backend.service.dto.JwtRefreshRequestDTO;
 import com.partywave.backend.service.dto.JwtTokenResponseDTO;
 import com.partywave.backend.service.dto.RefreshTokenRequestDTO;
 import com.partywave.backend.service.dto.RefreshTokenResponseDTO;
+import com.partywave.backend.service.redis.OAuthStateRedisService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.net.URI;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
-import java.util.HashMap;
-import java.util.Map;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -39,23 +38,22 @@ public class AuthController {
     private final JwtAuthenticationService jwtAuthenticationService;
     private final com.partywave.backend.service.redis.PkceRedisService pkceRedisService;
     private final com.partywave.backend.repository.AppUserRepository appUserRepository;
-
-    // In-memory state storage for CSRF protection
-    // TODO: Replace with Redis or database storage in production
-    private final Map<String, String> stateStore = new HashMap<>();
+    private final OAuthStateRedisService oAuthStateRedisService;
 
     public AuthController(
         SpotifyAuthService spotifyAuthService,
         AppUserService appUserService,
         JwtAuthenticationService jwtAuthenticationService,
         com.partywave.backend.service.redis.PkceRedisService pkceRedisService,
-        com.partywave.backend.repository.AppUserRepository appUserRepository
+        com.partywave.backend.repository.AppUserRepository appUserRepository,
+        OAuthStateRedisService oAuthStateRedisService
     ) {
         this.spotifyAuthService = spotifyAuthService;
         this.appUserService = appUserService;
         this.jwtAuthenticationService = jwtAuthenticationService;
         this.pkceRedisService = pkceRedisService;
         this.appUserRepository = appUserRepository;
+        this.oAuthStateRedisService = oAuthStateRedisService;
     }
 
     /**
@@ -86,7 +84,7 @@ public class AuthController {
 
         // Generate random state for CSRF protection
         String state = UUID.randomUUID().toString();
-        stateStore.put(state, state); // Store state for validation
+        oAuthStateRedisService.storeState(state); // Store state in Redis for validation (shared by all nodes)
 
         // Store code challenge in Redis if PKCE is enabled
         if (codeChallenge != null) {
@@ -116,7 +114,7 @@ public class AuthController {
      * - Redirects to frontend with tokens in URL hash fragment
      *
      * @param code Authorization code from Spotify
-     * @param state CSRF protection state parameter
+     * @param state CSRF protection state parameter (required; a callback without it is rejected)
      * @param request HTTP request
      * @return 302 redirect to frontend with authorization code or JWT tokens
      */
@@ -128,27 +126,19 @@ public class AuthController {
     ) {
         LOG.debug("REST request to handle Spotify callback with code");
 
-        // Validate state parameter for CSRF protection
-        if (state != null && !stateStore.containsKey(state)) {
-            LOG.warn("Invalid state parameter received in callback");
+        // Validate state parameter for CSRF protection (one-time use, removed from Redis on validation)
+        if (state == null || !oAuthStateRedisService.consumeState(state)) {
+            LOG.warn("Missing or invalid state parameter received in callback");
             // Redirect to frontend with error
             return buildErrorRedirect();
         }
 
         // Check if PKCE was used by retrieving code challenge from Redis
-        String codeChallenge = null;
-        if (state != null) {
-            codeChallenge = pkceRedisService.getChallengeByState(state);
-        }
+        String codeChallenge = pkceRedisService.getChallengeByState(state);
 
         boolean pkceEnabled = codeChallenge != null;
         LOG.debug("PKCE enabled for this callback: {}", pkceEnabled);
 
-        // Remove state from store after validation
-        if (state != null) {
-            stateStore.remove(state);
-        }
-
         try {
             // Exchange code for Spotify tokens - exceptions will be handled by global exception handler
             JsonNode tokenResponse = spotifyAuthService.exchangeCodeForTokens(code);
@@ -184,9 +174,7 @@ public class AuthController {
                 pkceRedisService.storeAuthorizationCode(authorizationCode, appUser.getId(), codeChallenge);
 
                 // Clean up code challenge from Redis
-                if (state != null) {
-                    pkceRedisService.deleteChallengeForState(state);
-                }
+                pkceRedisService.deleteChallengeForState(state);
 
                 LOG.debug("Generated authorization code for PKCE flow");
 
@@ -206,7 +194,7 @@ public class AuthController {
         } catch (Exception e) {
             LOG.error("Error during Spotify callback: {}", e.getMessage(), e);
             // Clean up code challenge if it exists
-            if (state != null && codeChallenge != null) {
+            if (codeChallenge != null) {
                 pkceRedisService.deleteChallengeForState(state);
             }
             // Redirect to frontend with error
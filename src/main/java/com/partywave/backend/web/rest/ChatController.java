@@ -4,6 +4,7 @@ import com.partywave.backend.service.ChatService;
 import com.partywave.backend.service.dto.ChatMessageDTO;
 import com.partywave.backend.service.dto.SendChatMessageRequestDTO;
 import jakarta.validation.Valid;
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -54,17 +55,18 @@ public class ChatController {
      *
      * On success:
      * - ChatMessage is created and persisted
-     * - CHAT_MESSAGE event is emitted to all room members (TODO: WebSocket)
+     * - CHAT_MESSAGE event is published to all room members on the STOMP topic /topic/room/{roomId}
      * - Returns ChatMessageDTO with created message data
      *
      * @param roomId UUID of the room
      * @param request SendChatMessageRequestDTO with message content
      * @return ResponseEntity with status:
      *         - 200 (OK) with ChatMessageDTO body
-     *         - 400 (Bad Request) if content is empty or rate limit exceeded
+     *         - 400 (Bad Request) if content is empty
      *         - 401 (Unauthorized) if not authenticated
      *         - 403 (Forbidden) if user is not a room member
      *         - 404 (Not Found) if room doesn't exist
+     *         - 429 (Too Many Requests) if rate limit exceeded
      */
     @PostMapping("/{roomId}/chat")
     public ResponseEntity<ChatMessageDTO> sendMessage(@PathVariable UUID roomId, @Valid @RequestBody SendChatMessageRequestDTO request) {
@@ -91,23 +93,29 @@ public class ChatController {
      * GET /api/rooms/:roomId/chat : Get chat history for a room.
      *
      * Returns paginated chat messages ordered by sentAt descending (newest first).
-     * Frontend can reverse the order to show oldest first.
+     * Frontend can reverse the order to show oldest first. To load older messages, pass the
+     * timestamp and id of the oldest message already loaded as beforeTimestamp and beforeId.
      *
      * Requirements:
      * - User must be authenticated
      * - User must be an active member of the room
      *
      * Query parameters:
-     * - page: Page number (0-indexed, default: 0)
+     * - beforeTimestamp: Cursor message timestamp (ISO-8601, optional, requires beforeId)
+     * - beforeId: Cursor message ID (optional, requires beforeTimestamp)
+     * - page: Page number (0-indexed, default: 0, ignored with a cursor; prefer the cursor)
      * - size: Page size (default: 50)
      *
      * Based on PROJECT_OVERVIEW.md section 2.12 - Chat Messaging.
      *
      * @param roomId UUID of the room
+     * @param beforeTimestamp Timestamp of the cursor message (optional)
+     * @param beforeId ID of the cursor message (optional)
      * @param page Page number (0-indexed, default: 0)
      * @param size Page size (default: 50)
      * @return ResponseEntity with status:
      *         - 200 (OK) with List<ChatMessageDTO> body (newest first)
+     *         - 400 (Bad Request) if only one of beforeTimestamp and beforeId is given
      *         - 401 (Unauthorized) if not authenticated
      *         - 403 (Forbidden) if user is not a room member
      *         - 404 (Not Found) if room doesn't exist
@@ -115,10 +123,19 @@ public class ChatController {
     @GetMapping("/{roomId}/chat")
     public ResponseEntity<List<ChatMessageDTO>> getChatHistory(
         @PathVariable UUID roomId,
+        @RequestParam(required = false) Instant beforeTimestamp,
+        @RequestParam(required = false) UUID beforeId,
         @RequestParam(defaultValue = "0") int page,
         @RequestParam(defaultValue = "50") int size
     ) {
-        log.debug("REST request to get chat history for room: {}, page={}, size={}", roomId, page, size);
+        log.debug(
+            "REST request to get chat history for room: {}, before=({}, {}), page={}, size={}",
+            roomId,
+            beforeTimestamp,
+            beforeId,
+            page,
+            size
+        );
 
         // Extract authenticated user ID from JWT token
         UUID userId = extractUserIdFromAuthentication();
@@ -140,8 +157,8 @@ public class ChatController {
         }
 
         // Get chat history via service
-        // ForbiddenException and ResourceNotFoundException will be handled by global exception handler
-        List<ChatMessageDTO> chatHistory = chatService.getChatHistory(roomId, userId, page, size);
+        // ForbiddenException, ResourceNotFoundException and InvalidRequestException will be handled by global exception handler
+        List<ChatMessageDTO> chatHistory = chatService.getChatHistory(roomId, userId, beforeTimestamp, beforeId, page, size);
 
         log.debug("User {} retrieved {} chat messages for room {}", userId, chatHistory.size(), roomId);
 
@@ -2,8 +2,8 @@ package com.partywave.backend.web.rest;
 
 import com.partywave.backend.exception.ForbiddenException;
 import com.partywave.backend.exception.ResourceNotFoundException;
-import com.partywave.backend.repository.RoomMemberRepository;
 import com.partywave.backend.service.LikeDislikeService;
+import com.partywave.backend.service.RoomAuthorizationService;
 import com.partywave.backend.service.dto.LikeDislikeResponseDTO;
 import java.util.UUID;
 import org.slf4j.Logger;
@@ -32,28 +32,27 @@ public class LikeDislikeController {
     private static final Logger LOG = LoggerFactory.getLogger(LikeDislikeController.class);
 
     private final LikeDislikeService likeDislikeService;
-    private final RoomMemberRepository roomMemberRepository;
+    private final RoomAuthorizationService roomAuthorizationService;
 
-    public LikeDislikeController(LikeDislikeService likeDislikeService, RoomMemberRepository roomMemberRepository) {
+    public LikeDislikeController(LikeDislikeService likeDislikeService, RoomAuthorizationService roomAuthorizationService) {
         this.likeDislikeService = likeDislikeService;
-        this.roomMemberRepository = roomMemberRepository;
+        this.roomAuthorizationService = roomAuthorizationService;
     }
 
     /**
      * POST /api/rooms/{roomId}/playlist/{playlistItemId}/like : Like a playlist item
      *
      * Adds a like to a playlist item. If user previously disliked, the dislike is removed.
-     * Updates both Redis (runtime state) and PostgreSQL (persistent user statistics).
+     * Only Redis is touched on the request path; the track adder's app_user_stats are updated write-behind.
      *
      * Workflow:
      * 1. Validates user is a room member
-     * 2. Validates playlist item exists in Redis
-     * 3. Gets track adder's user ID from playlist item
-     * 4. Updates PostgreSQL app_user_stats (increment total_like, decrement total_dislike if needed)
-     * 5. Updates Redis like/dislike sets (add to likes, remove from dislikes)
-     * 6. If Redis fails, compensates by reverting PostgreSQL update
-     * 7. Returns updated like/dislike counts
-     * 8. TODO: Emits WebSocket event PLAYLIST_ITEM_STATS_UPDATED
+     * 2. Updates the Redis like/dislike sets in one atomic script (validates the playlist item exists,
+     *    adds to likes, removes from dislikes)
+     * 3. Records total_like/total_dislike deltas for the track adder in Redis
+     *    (applied to PostgreSQL in batches by AppUserStatsFlushService)
+     * 4. Returns updated like/dislike counts
+     * 5. Publishes PLAYLIST_ITEM_STATS_UPDATED to the STOMP topic /topic/room/{roomId} when the counts changed
      *
      * @param roomId Room ID (UUID)
      * @param playlistItemId Playlist item ID (UUID)
@@ -88,17 +87,16 @@ public class LikeDislikeController {
      * POST /api/rooms/{roomId}/playlist/{playlistItemId}/dislike : Dislike a playlist item
      *
      * Adds a dislike to a playlist item. If user previously liked, the like is removed.
-     * Updates both Redis (runtime state) and PostgreSQL (persistent user statistics).
+     * Only Redis is touched on the request path; the track adder's app_user_stats are updated write-behind.
      *
      * Workflow:
      * 1. Validates user is a room member
-     * 2. Validates playlist item exists in Redis
-     * 3. Gets track adder's user ID from playlist item
-     * 4. Updates PostgreSQL app_user_stats (increment total_dislike, decrement total_like if needed)
-     * 5. Updates Redis like/dislike sets (add to dislikes, remove from likes)
-     * 6. If Redis fails, compensates by reverting PostgreSQL update
-     * 7. Returns updated like/dislike counts
-     * 8. TODO: Emits WebSocket event PLAYLIST_ITEM_STATS_UPDATED
+     * 2. Updates the Redis like/dislike sets in one atomic script (validates the playlist item exists,
+     *    adds to dislikes, removes from likes)
+     * 3. Records total_dislike/total_like deltas for the track adder in Redis
+     *    (applied to PostgreSQL in batches by AppUserStatsFlushService)
+     * 4. Returns updated like/dislike counts
+     * 5. Publishes PLAYLIST_ITEM_STATS_UPDATED to the STOMP topic /topic/room/{roomId} when the counts changed
      *
      * @param roomId Room ID (UUID)
      * @param playlistItemId Playlist item ID (UUID)
@@ -133,17 +131,16 @@ public class LikeDislikeController {
      * DELETE /api/rooms/{roomId}/playlist/{playlistItemId}/like : Remove like from playlist item
      *
      * Removes user's like from a playlist item.
-     * Updates both Redis (runtime state) and PostgreSQL (persistent user statistics).
+     * Only Redis is touched on the request path; the track adder's app_user_stats are updated write-behind.
      *
      * Workflow:
      * 1. Validates user is a room member
-     * 2. Validates playlist item exists in Redis
-     * 3. Checks if user has liked the item
-     * 4. Updates PostgreSQL app_user_stats (decrement total_like)
-     * 5. Updates Redis like set (remove user)
-     * 6. If Redis fails, compensates by reverting PostgreSQL update
-     * 7. Returns updated like/dislike counts
-     * 8. TODO: Emits WebSocket event PLAYLIST_ITEM_STATS_UPDATED
+     * 2. Removes the user from the Redis like set in one atomic script (validates the playlist item exists;
+     *    nothing changes if the user has not liked it)
+     * 3. Records a total_like decrement for the track adder in Redis
+     *    (applied to PostgreSQL in batches by AppUserStatsFlushService)
+     * 4. Returns updated like/dislike counts
+     * 5. Publishes PLAYLIST_ITEM_STATS_UPDATED to the STOMP topic /topic/room/{roomId} when the counts changed
      *
      * @param roomId Room ID (UUID)
      * @param playlistItemId Playlist item ID (UUID)
@@ -178,17 +175,16 @@ public class LikeDislikeController {
      * DELETE /api/rooms/{roomId}/playlist/{playlistItemId}/dislike : Remove dislike from playlist item
      *
      * Removes user's dislike from a playlist item.
-     * Updates both Redis (runtime state) and PostgreSQL (persistent user statistics).
+     * Only Redis is touched on the request path; the track adder's app_user_stats are updated write-behind.
      *
      * Workflow:
      * 1. Validates user is a room member
-     * 2. Validates playlist item exists in Redis
-     * 3. Checks if user has disliked the item
-     * 4. Updates PostgreSQL app_user_stats (decrement total_dislike)
-     * 5. Updates Redis dislike set (remove user)
-     * 6. If Redis fails, compensates by reverting PostgreSQL update
-     * 7. Returns updated like/dislike counts
-     * 8. TODO: Emits WebSocket event PLAYLIST_ITEM_STATS_UPDATED
+     * 2. Removes the user from the Redis dislike set in one atomic script (validates the playlist item exists;
+     *    nothing changes if the user has not disliked it)
+     * 3. Records a total_dislike decrement for the track adder in Redis
+     *    (applied to PostgreSQL in batches by AppUserStatsFlushService)
+     * 4. Returns updated like/dislike counts
+     * 5. Publishes PLAYLIST_ITEM_STATS_UPDATED to the STOMP topic /topic/room/{roomId} when the counts changed
      *
      * @param roomId Room ID (UUID)
      * @param playlistItemId Playlist item ID (UUID)
@@ -249,7 +245,7 @@ public class LikeDislikeController {
      * @throws ForbiddenException if user is not a room member
      */
     private void validateRoomMembership(UUID roomId, UUID userId) {
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
+        boolean isMember = roomAuthorizationService.isActiveMember(roomId, userId);
 
         if (!isMember) {
             LOG.warn("User {} attempted to like/dislike in room {} but is not a member", userId, roomId);
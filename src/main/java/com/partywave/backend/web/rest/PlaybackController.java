@@ -51,7 +51,7 @@ public class PlaybackController {
      * - Current track status is changed to SKIPPED
      * - Next QUEUED track is automatically started (if exists)
      * - If no more tracks, playback is stopped and playback hash is cleared
-     * - WebSocket TRACK_SKIPPED event is emitted to all room members (TODO: implement WebSocket)
+     * - If a next track starts, TRACK_START is published to all room members on the STOMP topic /topic/room/{roomId}
      *
      * Based on PROJECT_OVERVIEW.md section 6.3 - Manual Skip Track.
      *
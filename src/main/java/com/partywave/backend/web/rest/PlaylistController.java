@@ -1,19 +1,15 @@
 package com.partywave.backend.web.rest;
 
+import com.partywave.backend.exception.ForbiddenException;
 import com.partywave.backend.exception.ResourceNotFoundException;
-import com.partywave.backend.exception.UnauthorizedRoomAccessException;
-import com.partywave.backend.repository.RoomMemberRepository;
-import com.partywave.backend.repository.RoomRepository;
 import com.partywave.backend.service.PlaylistService;
-import com.partywave.backend.service.SpotifyApiClient;
+import com.partywave.backend.service.RoomAuthorizationService;
+import com.partywave.backend.service.TrackSearchService;
 import com.partywave.backend.service.dto.AddTrackRequestDTO;
 import com.partywave.backend.service.dto.AddTrackResponseDTO;
 import com.partywave.backend.service.dto.GetPlaylistResponseDTO;
-import com.partywave.backend.service.dto.SpotifyTrackSearchResultDTO;
 import com.partywave.backend.service.dto.TrackSearchResponseDTO;
 import jakarta.validation.Valid;
-import java.util.ArrayList;
-import java.util.List;
 import java.util.UUID;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,20 +32,17 @@ public class PlaylistController {
 
     private static final Logger LOG = LoggerFactory.getLogger(PlaylistController.class);
 
-    private final SpotifyApiClient spotifyApiClient;
-    private final RoomRepository roomRepository;
-    private final RoomMemberRepository roomMemberRepository;
+    private final TrackSearchService trackSearchService;
+    private final RoomAuthorizationService roomAuthorizationService;
     private final PlaylistService playlistService;
 
     public PlaylistController(
-        SpotifyApiClient spotifyApiClient,
-        RoomRepository roomRepository,
-        RoomMemberRepository roomMemberRepository,
+        TrackSearchService trackSearchService,
+        RoomAuthorizationService roomAuthorizationService,
         PlaylistService playlistService
     ) {
-        this.spotifyApiClient = spotifyApiClient;
-        this.roomRepository = roomRepository;
-        this.roomMemberRepository = roomMemberRepository;
+        this.trackSearchService = trackSearchService;
+        this.roomAuthorizationService = roomAuthorizationService;
         this.playlistService = playlistService;
     }
 
@@ -65,14 +58,14 @@ public class PlaylistController {
      * 3. Gets next sequence number (Redis INCR counter)
      * 4. Creates playlist item hash in Redis (status=QUEUED)
      * 5. RPUSH to playlist list
-     * 6. If playlist is empty and no track is playing, auto-starts the first track
-     * 7. TODO: Emits WebSocket event PLAYLIST_ITEM_ADDED
+     * 6. Emits WebSocket event PLAYLIST_ITEM_ADDED to the STOMP topic /topic/room/{roomId}
+     * 7. If playlist is empty and no track is playing, auto-starts the first track
      *
      * @param roomId Room ID (UUID)
      * @param request AddTrackRequestDTO containing track metadata (source_id, source_uri, name, artist, album, duration_ms)
      * @return ResponseEntity with AddTrackResponseDTO containing created playlist item details
      * @throws ResourceNotFoundException if room doesn't exist
-     * @throws UnauthorizedRoomAccessException if user is not a room member
+     * @throws ForbiddenException if user is not a room member
      */
     @PostMapping("/playlist")
     public ResponseEntity<AddTrackResponseDTO> addTrackToPlaylist(
@@ -121,7 +114,7 @@ public class PlaylistController {
      * @param roomId Room ID (UUID)
      * @return ResponseEntity with GetPlaylistResponseDTO containing complete playlist
      * @throws ResourceNotFoundException if room doesn't exist
-     * @throws UnauthorizedRoomAccessException if user is not a room member
+     * @throws ForbiddenException if user is not a room member
      */
     @GetMapping("/playlist")
     public ResponseEntity<GetPlaylistResponseDTO> getPlaylist(@PathVariable UUID roomId) {
@@ -156,7 +149,7 @@ public class PlaylistController {
      * @param offset Offset for pagination (default 0), optional
      * @return ResponseEntity with TrackSearchResponseDTO containing track results
      * @throws ResourceNotFoundException if room doesn't exist
-     * @throws UnauthorizedRoomAccessException if user is not a room member
+     * @throws ForbiddenException if user is not a room member
      */
     @GetMapping("/tracks/search")
     public ResponseEntity<TrackSearchResponseDTO> searchTracks(
@@ -171,106 +164,16 @@ public class PlaylistController {
         UUID userId = getCurrentUserId();
         LOG.debug("User {} searching tracks for room {}", userId, roomId);
 
-        // Validate room exists
-        if (!roomRepository.existsById(roomId)) {
-            LOG.error("Room not found: {}", roomId);
-            throw new ResourceNotFoundException("Room", "id", roomId);
-        }
-
-        // Validate user is an active member of the room
-        boolean isMember = roomMemberRepository.existsByRoomIdAndUserIdAndIsActiveTrue(roomId, userId);
-        if (!isMember) {
-            LOG.error("User {} is not a member of room {}", userId, roomId);
-            throw new UnauthorizedRoomAccessException(roomId, userId);
-        }
+        // Validate room exists and user is an active member of the room
+        roomAuthorizationService.requireActiveMember(roomId, userId);
 
-        // Validate query parameter
-        if (query == null || query.trim().isEmpty()) {
-            throw new IllegalArgumentException("Search query cannot be empty");
-        }
-
-        // Validate and constrain limit
-        if (limit != null && limit > 50) {
-            limit = 50;
-        }
-        if (limit != null && limit < 1) {
-            limit = 1;
-        }
-
-        // Call Spotify API with user's access token (automatic token refresh handled by SpotifyApiClient)
-        SpotifyTrackSearchResultDTO spotifyResult = spotifyApiClient.searchTracks(userId, query, limit, offset, null);
-
-        // Transform Spotify results to our DTO format
-        TrackSearchResponseDTO response = transformSpotifyResultToDTO(spotifyResult);
+        // Served from the shared search cache when possible (Spotify call and transformation on a miss)
+        TrackSearchResponseDTO response = trackSearchService.searchTracks(userId, query, limit, offset, null);
 
         LOG.debug("Successfully retrieved {} tracks for room {}", response.getTracks().size(), roomId);
         return ResponseEntity.ok(response);
     }
 
-    /**
-     * Transforms Spotify API search results to our TrackSearchResponseDTO format.
-     * Extracts the essential track metadata needed for playlist operations.
-     *
-     * @param spotifyResult Spotify search result from SpotifyApiClient
-     * @return TrackSearchResponseDTO with simplified track data
-     */
-    private TrackSearchResponseDTO transformSpotifyResultToDTO(SpotifyTrackSearchResultDTO spotifyResult) {
-        List<TrackSearchResponseDTO.TrackDTO> tracks = new ArrayList<>();
-
-        if (spotifyResult.getTracks() != null && spotifyResult.getTracks().getItems() != null) {
-            for (SpotifyTrackSearchResultDTO.TrackDTO spotifyTrack : spotifyResult.getTracks().getItems()) {
-                // Extract primary artist name (first artist)
-                String artistName = null;
-                if (spotifyTrack.getArtists() != null && !spotifyTrack.getArtists().isEmpty()) {
-                    artistName = spotifyTrack.getArtists().get(0).getName();
-                }
-
-                // Extract album name
-                String albumName = null;
-                if (spotifyTrack.getAlbum() != null) {
-                    albumName = spotifyTrack.getAlbum().getName();
-                }
-
-                // Extract album image URL (prefer medium size, typically 300x300)
-                String albumImageUrl = null;
-                if (
-                    spotifyTrack.getAlbum() != null &&
-                    spotifyTrack.getAlbum().getImages() != null &&
-                    !spotifyTrack.getAlbum().getImages().isEmpty()
-                ) {
-                    // Get first image (usually largest) or middle image if multiple
-                    List<SpotifyTrackSearchResultDTO.ImageDTO> images = spotifyTrack.getAlbum().getImages();
-                    if (images.size() > 1) {
-                        // Get middle size image
-                        albumImageUrl = images.get(images.size() / 2).getUrl();
-                    } else {
-                        albumImageUrl = images.get(0).getUrl();
-                    }
-                }
-
-                TrackSearchResponseDTO.TrackDTO trackDTO = new TrackSearchResponseDTO.TrackDTO(
-                    spotifyTrack.getId(), // source_id
-                    spotifyTrack.getUri(), // source_uri
-                    spotifyTrack.getName(), // name
-                    artistName, // artist
-                    albumName, // album
-                    spotifyTrack.getDurationMs(), // duration_ms
-                    albumImageUrl, // album_image_url
-                    spotifyTrack.getExplicit() // explicit
-                );
-
-                tracks.add(trackDTO);
-            }
-        }
-
-        // Extract pagination info
-        Integer total = spotifyResult.getTracks() != null ? spotifyResult.getTracks().getTotal() : 0;
-        Integer limit = spotifyResult.getTracks() != null ? spotifyResult.getTracks().getLimit() : 0;
-        Integer offset = spotifyResult.getTracks() != null ? spotifyResult.getTracks().getOffset() : 0;
-
-        return new TrackSearchResponseDTO(tracks, total, limit, offset);
-    }
-
     /**
      * Extracts the current user's UUID from the JWT token in the security context.
      *
@@ -58,8 +58,8 @@ public class VoteController {
      *
      * On success:
      * - Vote is recorded
-     * - If threshold reached: track is skipped, next track starts, TRACK_SKIPPED event emitted (TODO: WebSocket)
-     * - If threshold not reached: VOTE_CAST event emitted (TODO: WebSocket)
+     * - If threshold reached: track is skipped, next track starts, TRACK_SKIPPED event published to /topic/room/{roomId}
+     * - If threshold not reached: VOTE_CAST event published to /topic/room/{roomId}
      *
      * @param roomId UUID of the room
      * @return ResponseEntity with status:
@@ -118,8 +118,8 @@ public class VoteController {
      *
      * On success:
      * - Vote is recorded
-     * - If threshold reached: user is kicked, USER_KICKED event emitted (TODO: WebSocket)
-     * - If threshold not reached: VOTE_CAST event emitted (TODO: WebSocket)
+     * - If threshold reached: user is kicked, USER_KICKED event published to /topic/room/{roomId}
+     * - If threshold not reached: VOTE_CAST event published to /topic/room/{roomId}
      *
      * @param roomId UUID of the room
      * @param request KickUserRequestDTO with target user ID
@@ -220,7 +220,7 @@ public class VoteController {
      * On success:
      * - Vote is removed
      * - Updated vote count is returned
-     * - VOTE_WITHDRAWN event emitted (TODO: WebSocket)
+     * - VOTE_WITHDRAWN event published to /topic/room/{roomId}
      *
      * @param roomId UUID of the room
      * @return ResponseEntity with status:
@@ -272,7 +272,7 @@ public class VoteController {
      * On success:
      * - Vote is removed
      * - Updated vote count is returned
-     * - VOTE_WITHDRAWN event emitted (TODO: WebSocket)
+     * - VOTE_WITHDRAWN event published to /topic/room/{roomId}
      *
      * @param roomId UUID of the room
      * @param request KickUserRequestDTO with target user ID
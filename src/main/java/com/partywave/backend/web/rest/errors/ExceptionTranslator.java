@@ -8,6 +8,7 @@ import com.partywave.backend.exception.InvalidInvitationException;
 import com.partywave.backend.exception.InvalidPkceException;
 import com.partywave.backend.exception.InvalidRequestException;
 import com.partywave.backend.exception.InvalidTokenException;
+import com.partywave.backend.exception.RateLimitExceededException;
 import com.partywave.backend.exception.ResourceNotFoundException;
 import com.partywave.backend.exception.RoomFullException;
 import com.partywave.backend.exception.RoomNotPublicException;
@@ -216,6 +217,7 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (err instanceof UnauthorizedRoomAccessException) return "Unauthorized Room Access";
         if (err instanceof InvalidPkceException) return "Invalid PKCE";
         if (err instanceof InvalidAuthorizationCodeException) return "Invalid Authorization Code";
+        if (err instanceof RateLimitExceededException) return "Rate Limit Exceeded";
         return null;
     }
 
@@ -234,7 +236,8 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
             err instanceof InvalidInvitationException ||
             err instanceof UnauthorizedRoomAccessException ||
             err instanceof InvalidPkceException ||
-            err instanceof InvalidAuthorizationCodeException
+            err instanceof InvalidAuthorizationCodeException ||
+            err instanceof RateLimitExceededException
         ) {
             return err.getMessage();
         }
@@ -267,6 +270,7 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
         if (err instanceof UnauthorizedRoomAccessException) return HttpStatus.FORBIDDEN;
         if (err instanceof InvalidPkceException) return HttpStatus.UNAUTHORIZED;
         if (err instanceof InvalidAuthorizationCodeException) return HttpStatus.UNAUTHORIZED;
+        if (err instanceof RateLimitExceededException) return HttpStatus.TOO_MANY_REQUESTS;
         if (err instanceof com.partywave.backend.exception.ForbiddenException) return HttpStatus.FORBIDDEN;
         return null;
     }
@@ -277,6 +281,13 @@ public class ExceptionTranslator extends ResponseEntityExceptionHandler {
     }
 
     private HttpHeaders buildHeaders(Throwable err) {
+        if (err instanceof RateLimitExceededException rateLimitExceededException) {
+            // Retry-After is whole seconds; round up so clients never retry before a permit is back
+            HttpHeaders headers = new HttpHeaders();
+            long retryAfterSeconds = Math.max(1, (rateLimitExceededException.getRetryAfterMs() + 999) / 1000);
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+            return headers;
+        }
         return err instanceof BadRequestAlertException badRequestAlertException
             ? HeaderUtil.createFailureAlert(
                 applicationName,
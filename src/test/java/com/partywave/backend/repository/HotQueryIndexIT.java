@@ -0,0 +1,237 @@
+package com.partywave.backend.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import liquibase.Contexts;
+import liquibase.LabelExpression;
+import liquibase.Liquibase;
+import liquibase.database.Database;
+import liquibase.database.DatabaseFactory;
+import liquibase.database.jvm.JdbcConnection;
+import liquibase.resource.ClassLoaderResourceAccessor;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * EXPLAIN regression test for the room_member, vote and chat_message hot queries
+ * (changelog 20251201110000_add_room_member_vote_chat_message_indexes.xml).
+ *
+ * The schema is created by the Liquibase changelog and the tables are filled with enough rows
+ * (many rooms, few rows per room) that a sequential scan is never the cheapest plan, so the
+ * planner runs with its default settings. The SQL mirrors what Hibernate generates for the
+ * repository queries; each plan must use the intended index and contain no Seq Scan.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class HotQueryIndexIT {
+
+    private static final int USERS = 10_000;
+    private static final int ROOMS = 1_000;
+    private static final int MEMBERS_PER_ROOM = 40;
+    private static final int VOTES_PER_ROOM = 40;
+    private static final int MESSAGES_PER_ROOM = 200;
+
+    private static final String ROOM_ID = "md5('room-1')::uuid";
+    private static final String USER_ID = "md5('user-1')::uuid";
+    private static final String PLAYLIST_ITEM_ID = "md5('item-1')";
+
+    @Container
+    private static final PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static Connection connection;
+
+    @BeforeAll
+    static void migrateAndSeed() throws Exception {
+        connection = DriverManager.getConnection(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        Database database = DatabaseFactory.getInstance().findCorrectDatabaseImplementation(new JdbcConnection(connection));
+        new Liquibase("config/liquibase/master.xml", new ClassLoaderResourceAccessor(), database).update(
+            new Contexts("test"),
+            new LabelExpression()
+        );
+        connection.setAutoCommit(true);
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(
+                "insert into app_user (id, spotify_user_id, display_name, email) " +
+                "select md5('user-' || u)::uuid, 'spotify-' || u, 'User ' || u, 'user' || u || '@example.com' " +
+                "from generate_series(1, " +
+                USERS +
+                ") u"
+            );
+            statement.execute(
+                "insert into room (id, name, max_participants, is_public, created_at) " +
+                "select md5('room-' || r)::uuid, 'Room ' || r, 50, true, now() from generate_series(1, " +
+                ROOMS +
+                ") r"
+            );
+            // Every 5th membership is inactive (left or kicked)
+            statement.execute(
+                "insert into room_member (id, joined_at, role, room_id, app_user_id, is_active) " +
+                "select gen_random_uuid(), now(), case when m = 1 then 'OWNER' else 'PARTICIPANT' end, " +
+                "md5('room-' || r)::uuid, md5('user-' || ((r * " +
+                MEMBERS_PER_ROOM +
+                " + m) % " +
+                USERS +
+                " + 1))::uuid, m % 5 <> 0 " +
+                "from generate_series(1, " +
+                ROOMS +
+                ") r, generate_series(1, " +
+                MEMBERS_PER_ROOM +
+                ") m"
+            );
+            // Half skip votes spread over 10 tracks per room, half kick votes spread over 10 targets per room
+            statement.execute(
+                "insert into vote (id, vote_type, playlist_item_id, created_at, room_id, voter_id, target_user_id) " +
+                "select gen_random_uuid(), case when v % 2 = 0 then 'SKIPTRACK' else 'KICKUSER' end, " +
+                "case when v % 2 = 0 then md5('item-' || (v % 10 + 1)) end, now(), md5('room-' || r)::uuid, " +
+                "md5('user-' || ((r + v) % " +
+                USERS +
+                " + 1))::uuid, case when v % 2 = 1 then md5('user-' || (v % 10 + 1))::uuid end " +
+                "from generate_series(1, " +
+                ROOMS +
+                ") r, generate_series(1, " +
+                VOTES_PER_ROOM +
+                ") v"
+            );
+            statement.execute(
+                "insert into chat_message (id, content, sent_at, room_id, sender_id) " +
+                "select gen_random_uuid(), 'Message ' || c, now() - c * interval '1 second', md5('room-' || r)::uuid, " +
+                "md5('user-' || ((r + c) % " +
+                USERS +
+                " + 1))::uuid " +
+                "from generate_series(1, " +
+                ROOMS +
+                ") r, generate_series(1, " +
+                MESSAGES_PER_ROOM +
+                ") c"
+            );
+            statement.execute("analyze");
+        }
+    }
+
+    @AfterAll
+    static void close() throws SQLException {
+        if (connection != null) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void activeMemberExistsUsesPartialIndex() throws SQLException {
+        assertIndexScan(
+            "select count(rm.id) > 0 from room_member rm where rm.room_id = " +
+            ROOM_ID +
+            " and rm.app_user_id = " +
+            USER_ID +
+            " and rm.is_active = true",
+            "ix_room_member__room_id_app_user_id_active"
+        );
+    }
+
+    @Test
+    void activeMemberRolesUsePartialIndex() throws SQLException {
+        assertIndexScan(
+            "select rm.app_user_id, rm.role from room_member rm where rm.room_id = " + ROOM_ID + " and rm.is_active = true",
+            "ix_room_member__room_id_app_user_id_active"
+        );
+    }
+
+    @Test
+    void skipVoteCountUsesIndex() throws SQLException {
+        assertIndexScan(
+            "select count(v.id) from vote v where v.room_id = " +
+            ROOM_ID +
+            " and v.vote_type = 'SKIPTRACK' and v.playlist_item_id = " +
+            PLAYLIST_ITEM_ID,
+            "ix_vote__room_id_playlist_item_id"
+        );
+    }
+
+    @Test
+    void skipVoteExistsUsesIndex() throws SQLException {
+        assertIndexScan(
+            "select count(v.id) > 0 from vote v where v.room_id = " +
+            ROOM_ID +
+            " and v.voter_id = " +
+            USER_ID +
+            " and v.vote_type = 'SKIPTRACK' and v.playlist_item_id = " +
+            PLAYLIST_ITEM_ID,
+            "ix_vote__room_id_playlist_item_id"
+        );
+    }
+
+    @Test
+    void kickVoteCountUsesIndex() throws SQLException {
+        assertIndexScan(
+            "select count(v.id) from vote v where v.room_id = " +
+            ROOM_ID +
+            " and v.vote_type = 'KICKUSER' and v.target_user_id = " +
+            USER_ID,
+            "ix_vote__room_id_target_user_id"
+        );
+    }
+
+    @Test
+    void kickVoteExistsUsesIndex() throws SQLException {
+        assertIndexScan(
+            "select count(v.id) > 0 from vote v where v.room_id = " +
+            ROOM_ID +
+            " and v.voter_id = " +
+            USER_ID +
+            " and v.vote_type = 'KICKUSER' and v.target_user_id = " +
+            USER_ID,
+            "ix_vote__room_id_target_user_id"
+        );
+    }
+
+    @Test
+    void newestChatMessagesUseIndex() throws SQLException {
+        assertIndexScan(
+            "select cm.id, cm.room_id, s.id, s.display_name, cm.content, cm.sent_at " +
+            "from chat_message cm join app_user s on s.id = cm.sender_id " +
+            "where cm.room_id = " +
+            ROOM_ID +
+            " order by cm.sent_at desc, cm.id desc fetch first 50 rows only",
+            "ix_chat_message__room_id_sent_at"
+        );
+    }
+
+    @Test
+    void chatMessagesBeforeCursorUseIndex() throws SQLException {
+        assertIndexScan(
+            "select cm.id, cm.room_id, s.id, s.display_name, cm.content, cm.sent_at " +
+            "from chat_message cm join app_user s on s.id = cm.sender_id " +
+            "where cm.room_id = " +
+            ROOM_ID +
+            " and cm.sent_at <= now() - interval '100 seconds' " +
+            "and (cm.sent_at < now() - interval '100 seconds' or cm.id < md5('message')::uuid) " +
+            "order by cm.sent_at desc, cm.id desc fetch first 50 rows only",
+            "ix_chat_message__room_id_sent_at"
+        );
+    }
+
+    private static void assertIndexScan(String sql, String indexName) throws SQLException {
+        String plan = explain(sql);
+        assertThat(plan).as("plan of %s", sql).doesNotContain("Seq Scan").contains(indexName);
+    }
+
+    private static String explain(String sql) throws SQLException {
+        List<String> lines = new ArrayList<>();
+        try (Statement statement = connection.createStatement(); ResultSet resultSet = statement.executeQuery("explain " + sql)) {
+            while (resultSet.next()) {
+                lines.add(resultSet.getString(1));
+            }
+        }
+        return String.join("\n", lines);
+    }
+}
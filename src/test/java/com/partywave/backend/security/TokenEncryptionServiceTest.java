@@ -0,0 +1,157 @@
+package com.partywave.backend.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Round-trip tests of TokenEncryptionService across its String, byte[] and ByteBuffer APIs.
+ */
+class TokenEncryptionServiceTest {
+
+    private static final String SECRET = "bXktc2VjcmV0LWtleS13aGljaC1zaG91bGQtYmUtY2hhbmdlZC1pbi1wcm9kdWN0aW9u";
+    private static final String TOKEN = "BQDx-spotify-access-token_é€😀";
+    private static final int GCM_OVERHEAD = 12 + 16;
+
+    private final TokenEncryptionService service = new TokenEncryptionService(SECRET);
+
+    @Test
+    void stringRoundTrip() {
+        String encrypted = service.encrypt(TOKEN);
+
+        assertThat(encrypted).isNotEqualTo(TOKEN);
+        assertThat(service.decrypt(encrypted)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    void stringApiPassesNullAndEmptyThrough() {
+        assertThat(service.encrypt((String) null)).isNull();
+        assertThat(service.encrypt("")).isEmpty();
+        assertThat(service.decrypt((String) null)).isNull();
+        assertThat(service.decrypt("")).isEmpty();
+    }
+
+    @Test
+    void byteArrayRoundTrip() {
+        byte[] plain = TOKEN.getBytes(StandardCharsets.UTF_8);
+
+        byte[] encrypted = service.encrypt(plain);
+
+        assertThat(encrypted).hasSize(plain.length + GCM_OVERHEAD);
+        assertThat(service.decrypt(encrypted)).isEqualTo(plain);
+    }
+
+    @Test
+    void byteArrayRoundTripOfEmptyInput() {
+        byte[] encrypted = service.encrypt(new byte[0]);
+
+        assertThat(encrypted).hasSize(GCM_OVERHEAD);
+        assertThat(service.decrypt(encrypted)).isEmpty();
+    }
+
+    @Test
+    void eachEncryptionUsesAFreshIv() {
+        assertThat(service.encrypt(TOKEN)).isNotEqualTo(service.encrypt(TOKEN));
+    }
+
+    @Test
+    void stringAndByteArrayFormatsAreInterchangeable() {
+        byte[] fromString = Base64.getDecoder().decode(service.encrypt(TOKEN));
+        assertThat(new String(service.decrypt(fromString), StandardCharsets.UTF_8)).isEqualTo(TOKEN);
+
+        String fromBytes = Base64.getEncoder().encodeToString(service.encrypt(TOKEN.getBytes(StandardCharsets.UTF_8)));
+        assertThat(service.decrypt(fromBytes)).isEqualTo(TOKEN);
+    }
+
+    @Test
+    void directByteBufferRoundTrip() {
+        byte[] plain = TOKEN.getBytes(StandardCharsets.UTF_8);
+        byte[] encrypted = service.encrypt(plain);
+
+        ByteBuffer input = ByteBuffer.allocateDirect(encrypted.length);
+        input.put(encrypted).flip();
+        ByteBuffer output = ByteBuffer.allocateDirect(encrypted.length - GCM_OVERHEAD);
+
+        int written = service.decrypt(input, output);
+
+        assertThat(written).isEqualTo(plain.length);
+        assertThat(input.hasRemaining()).isFalse();
+        byte[] decrypted = new byte[written];
+        output.flip().get(decrypted);
+        assertThat(decrypted).isEqualTo(plain);
+    }
+
+    @Test
+    void heapByteBufferRoundTripFromOffset() {
+        byte[] plain = TOKEN.getBytes(StandardCharsets.UTF_8);
+        byte[] encrypted = service.encrypt(plain);
+
+        // Token stored behind a 4-byte header, written behind a 2-byte prefix
+        ByteBuffer input = ByteBuffer.allocate(4 + encrypted.length);
+        input.position(4);
+        input.put(encrypted).position(4);
+        ByteBuffer output = ByteBuffer.allocate(2 + plain.length);
+        output.position(2);
+
+        int written = service.decrypt(input, output);
+
+        assertThat(written).isEqualTo(plain.length);
+        byte[] decrypted = new byte[written];
+        output.position(2);
+        output.get(decrypted);
+        assertThat(decrypted).isEqualTo(plain);
+    }
+
+    @Test
+    void tamperedCiphertextIsRejectedByEveryApi() {
+        byte[] encrypted = service.encrypt(TOKEN.getBytes(StandardCharsets.UTF_8));
+        encrypted[encrypted.length - 1] ^= 1;
+
+        assertThatThrownBy(() -> service.decrypt(encrypted)).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> service.decrypt(Base64.getEncoder().encodeToString(encrypted))).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> service.decrypt(ByteBuffer.wrap(encrypted), ByteBuffer.allocate(encrypted.length))).isInstanceOf(
+            RuntimeException.class
+        );
+    }
+
+    @Test
+    void tooShortInputIsRejected() {
+        assertThatThrownBy(() -> service.decrypt(new byte[GCM_OVERHEAD - 1])).isInstanceOf(RuntimeException.class);
+        assertThatThrownBy(() -> service.decrypt(ByteBuffer.allocate(GCM_OVERHEAD - 1), ByteBuffer.allocate(0))).isInstanceOf(
+            RuntimeException.class
+        );
+    }
+
+    @Test
+    void otherSecretCannotDecrypt() {
+        TokenEncryptionService other = new TokenEncryptionService(SECRET + "x");
+
+        assertThatThrownBy(() -> other.decrypt(service.encrypt(TOKEN))).isInstanceOf(RuntimeException.class);
+    }
+
+    @Test
+    void concurrentRoundTripsShareNoCipherState() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 200; i++) {
+                String token = TOKEN + i;
+                results.add(executor.submit(() -> token.equals(service.decrypt(service.encrypt(token)))));
+            }
+            for (Future<Boolean> result : results) {
+                assertThat(result.get()).isTrue();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.partywave.backend.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatNoException;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+
+import com.partywave.backend.config.ApplicationProperties;
+import com.partywave.backend.exception.RateLimitExceededException;
+import com.partywave.backend.service.redis.RateLimitRedisService;
+import com.partywave.backend.web.rest.errors.ExceptionTranslator;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * Integration test of the rate limit path against a real Redis: the GCRA script in
+ * RateLimitRedisService, the local pre-filter in RateLimiter and the 429 mapping in ExceptionTranslator.
+ *
+ * The chat policy is set to 5 requests per 5 seconds, i.e. one permit per second with a burst of 5.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class RateLimiterIT {
+
+    private static final int LIMIT = 5;
+    private static final long PERIOD_SECONDS = 5;
+    private static final long INTERVAL_MS = PERIOD_SECONDS * 1000 / LIMIT;
+
+    @Container
+    private static final GenericContainer<?> redis = new GenericContainer<>("redis:7-alpine").withExposedPorts(6379);
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimiter rateLimiter;
+    private UUID roomId;
+    private UUID userId;
+
+    @BeforeAll
+    static void connect() {
+        connectionFactory = new LettuceConnectionFactory(new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(6379)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        // Same serializers as CacheConfiguration.redisTemplate
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setHashKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.setHashValueSerializer(new GenericJackson2JsonRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void disconnect() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        ApplicationProperties applicationProperties = new ApplicationProperties();
+        applicationProperties.getRateLimit().getChat().setLimit(LIMIT);
+        applicationProperties.getRateLimit().getChat().setPeriodSeconds(PERIOD_SECONDS);
+
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimiter = new RateLimiter(new RateLimitRedisService(redisTemplate), applicationProperties, meterRegistry);
+        roomId = UUID.randomUUID();
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    void allowsLimitRequestsAndRejectsTheNextOne() {
+        for (int i = 0; i < LIMIT; i++) {
+            assertThatNoException().isThrownBy(() -> rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId));
+        }
+
+        RateLimitExceededException rejected = catchThrowableOfType(RateLimitExceededException.class, () ->
+            rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId)
+        );
+
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.getPolicy()).isEqualTo("chat");
+        assertThat(rejected.getRetryAfterMs()).isPositive().isLessThanOrEqualTo(INTERVAL_MS);
+        assertThat(rejectedCount("redis")).isEqualTo(1);
+    }
+
+    @Test
+    void rejectsLocallyUntilTheRetryTime() {
+        exhaustPermits();
+
+        RateLimitExceededException rejected = catchThrowableOfType(RateLimitExceededException.class, () ->
+            rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId)
+        );
+
+        assertThat(rejected).isNotNull();
+        assertThat(rejected.getRetryAfterMs()).isPositive().isLessThanOrEqualTo(INTERVAL_MS);
+        assertThat(rejectedCount("local")).isEqualTo(1);
+    }
+
+    @Test
+    void permitReturnsAfterOneInterval() throws InterruptedException {
+        long retryAfterMs = exhaustPermits();
+
+        Thread.sleep(retryAfterMs + 20);
+
+        assertThatNoException().isThrownBy(() -> rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId));
+        // Only one permit came back
+        assertThat(
+            catchThrowableOfType(RateLimitExceededException.class, () -> rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId))
+        ).isNotNull();
+    }
+
+    @Test
+    void rejectionIsMappedTo429WithRetryAfter() {
+        long retryAfterMs = exhaustPermits();
+        RateLimitExceededException rejected = new RateLimitExceededException("chat", LIMIT, PERIOD_SECONDS, retryAfterMs);
+
+        ResponseEntity<Object> response = new ExceptionTranslator(new MockEnvironment()).handleAnyException(
+            rejected,
+            new ServletWebRequest(new MockHttpServletRequest("POST", "/api/rooms/" + roomId + "/chat"))
+        );
+
+        assertThat(response).isNotNull();
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        // At most one interval (1000 ms) rounds up to one second
+        assertThat(response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+    }
+
+    /**
+     * Use up the burst and return the retry time of the first rejected request.
+     */
+    private long exhaustPermits() {
+        for (int i = 0; i < LIMIT; i++) {
+            rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId);
+        }
+        RateLimitExceededException rejected = catchThrowableOfType(RateLimitExceededException.class, () ->
+            rateLimiter.checkLimit(RateLimiter.Policy.CHAT, roomId, userId)
+        );
+        assertThat(rejected).isNotNull();
+        return rejected.getRetryAfterMs();
+    }
+
+    private double rejectedCount(String source) {
+        return meterRegistry.counter("partywave.ratelimit.rejected", "policy", "chat", "source", source).count();
+    }
+}